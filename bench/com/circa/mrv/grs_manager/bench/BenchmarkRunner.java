@@ -0,0 +1,200 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * BenchmarkRunner measures Workloads the way a JMH run does, without JMH: each workload is set up at each size, run
+ * for a number of warmup iterations that are not reported, and then for a number of measured iterations of a fixed
+ * length. The time per operation of each measured iteration is recorded, and the mean, the standard deviation and
+ * the fastest iteration are printed. The result of each operation is consumed so the JIT cannot drop the operation.
+ *
+ * The options are read from the command line:
+ * <pre>
+ * -wi n      warmup iterations (default 3)
+ * -i n       measured iterations (default 5)
+ * -r ms      length of an iteration in milliseconds (default 1000)
+ * -p sizes   comma separated sizes to measure at
+ * -o file    also write the results as CSV to the file, to compare one release with the next
+ * regex      only run workloads whose name contains a match of the regex
+ * </pre>
+ *
+ * Unlike JMH, every workload runs in the one JVM, so results of workloads run later can be affected by the code
+ * compiled for earlier ones. Run a single workload with a regex when a result needs to be checked, or run the
+ * hot path workloads with JMH through the jmh task of the Gradle build.
+ *
+ * @author Arthur Vargas
+ */
+public class BenchmarkRunner {
+	/** Consumes the result of each operation */
+	private static volatile int sink;
+
+	/** Number of warmup iterations */
+	private int warmupIterations = 3;
+	/** Number of measured iterations */
+	private int iterations = 5;
+	/** Length of an iteration in nanoseconds */
+	private long iterationNanos = 1000000000L;
+	/** The sizes to measure at */
+	private int[] sizes;
+	/** Workloads whose names contain a match are run, or all if null */
+	private Pattern include;
+	/** The CSV file the results are written to, or null */
+	private PrintStream csv;
+
+	/**
+	 * Creates a runner with the options on the command line.
+	 * @param args the command line
+	 * @param defaultSizes the sizes to measure at if no -p option is passed
+	 * @throws IllegalArgumentException if an option is not valid
+	 */
+	public BenchmarkRunner(String[] args, int[] defaultSizes) {
+		sizes = defaultSizes;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				String arg = args[i];
+				if ("-wi".equals(arg)) {
+					warmupIterations = Integer.parseInt(args[++i]);
+				} else if ("-i".equals(arg)) {
+					iterations = Integer.parseInt(args[++i]);
+				} else if ("-r".equals(arg)) {
+					iterationNanos = Long.parseLong(args[++i]) * 1000000L;
+				} else if ("-p".equals(arg)) {
+					String[] values = args[++i].split(",");
+					sizes = new int[values.length];
+					for (int s = 0; s < values.length; s++) {
+						sizes[s] = Integer.parseInt(values[s].trim());
+					}
+				} else if ("-o".equals(arg)) {
+					csv = new PrintStream(args[++i], "UTF-8");
+					csv.println("workload,size,mean_ns,stdev_ns,min_ns,iterations");
+				} else {
+					include = Pattern.compile(arg);
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid option " + e.getMessage());
+		} catch (FileNotFoundException | UnsupportedEncodingException e) {
+			throw new IllegalArgumentException("Unable to write file " + e.getMessage());
+		}
+		if (warmupIterations < 0 || iterations < 1 || iterationNanos <= 0)
+			throw new IllegalArgumentException("Invalid iterations");
+	}
+
+	/**
+	 * Measures each workload at each size and prints the results.
+	 * @param workloads the workloads
+	 * @throws Exception if a workload fails
+	 */
+	public void run(List<Workload> workloads) throws Exception {
+		System.out.println("# " + System.getProperty("java.vm.name") + " " + System.getProperty("java.version")
+				+ ", " + Runtime.getRuntime().availableProcessors() + " cpus, " + warmupIterations + " warmup, "
+				+ iterations + " x " + iterationNanos / 1000000 + " ms");
+		System.out.println("workload\tsize\tns/op\t+/- stdev\tmin\tops/s");
+		try {
+			for (Workload w : workloads) {
+				if (include != null && !include.matcher(w.getName()).find())
+					continue;
+				for (int size : sizes) {
+					measure(w, size);
+				}
+			}
+		} finally {
+			if (csv != null)
+				csv.close();
+		}
+	}
+
+	/**
+	 * Measures a workload at a size and prints the result.
+	 * @param w the workload
+	 * @param size the size
+	 * @throws Exception if the workload fails
+	 */
+	private void measure(Workload w, int size) throws Exception {
+		w.setUp(size);
+		double[] scores = new double[iterations];
+		try {
+			for (int i = 0; i < warmupIterations; i++) {
+				iteration(w);
+			}
+			for (int i = 0; i < iterations; i++) {
+				scores[i] = iteration(w);
+			}
+		} finally {
+			w.tearDown();
+		}
+		double mean = 0;
+		double min = Double.MAX_VALUE;
+		for (double s : scores) {
+			mean += s;
+			min = Math.min(min, s);
+		}
+		mean /= scores.length;
+		double variance = 0;
+		for (double s : scores) {
+			variance += (s - mean) * (s - mean);
+		}
+		double stdev = scores.length > 1 ? Math.sqrt(variance / (scores.length - 1)) : 0;
+		System.out.println(w.getName() + "\t" + size + "\t" + format(mean) + "\t+/- " + format(stdev) + "\t"
+				+ format(min) + "\t" + format(1e9 / mean));
+		if (csv != null)
+			csv.println(w.getName() + "," + size + "," + mean + "," + stdev + "," + min + "," + scores.length);
+	}
+
+	/**
+	 * Runs one iteration of a workload.
+	 * @param w the workload
+	 * @return the mean time of an operation in nanoseconds
+	 * @throws Exception if the workload fails
+	 */
+	private double iteration(Workload w) throws Exception {
+		long ops = 0;
+		long timed = 0;
+		long start = System.nanoTime();
+		if (w.isPreparedEachTime()) {
+			// only the operations are timed, but the iteration ends when its length of wall clock time has
+			// passed, preparation included
+			do {
+				w.prepare();
+				long t = System.nanoTime();
+				consume(w.run());
+				timed += System.nanoTime() - t;
+				ops++;
+			} while (System.nanoTime() - start < iterationNanos);
+		} else {
+			// operations are run in batches that double in size, so reading the clock does not add to fast ones
+			long batch = 1;
+			do {
+				for (long b = 0; b < batch; b++) {
+					consume(w.run());
+				}
+				ops += batch;
+				timed = System.nanoTime() - start;
+				if (batch < 1 << 20)
+					batch <<= 1;
+			} while (timed < iterationNanos);
+		}
+		return (double) timed / ops;
+	}
+
+	/**
+	 * Consumes the result of an operation so that the JIT cannot prove it unused.
+	 * @param result the result
+	 */
+	private static void consume(Object result) {
+		sink ^= System.identityHashCode(result);
+	}
+
+	/**
+	 * Formats a time or a rate with no more precision than it is measured to.
+	 * @param value the value
+	 * @return the formatted value
+	 */
+	private static String format(double value) {
+		return value >= 100 ? String.valueOf(Math.round(value)) : String.format("%.2f", value);
+	}
+}
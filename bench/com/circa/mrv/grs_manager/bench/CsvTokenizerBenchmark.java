@@ -0,0 +1,93 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+
+import com.circa.mrv.grs_manager.io.CsvTokenizer;
+
+/**
+ * Compares the time to tokenize a study export file with the time to read its characters without parsing them.
+ * The file to read may be passed as the first argument; the study export in test-files is used otherwise.
+ *
+ * Run from the project root with the src and bench folders on the classpath.
+ * @author Arthur Vargas
+ */
+public class CsvTokenizerBenchmark {
+	/** Default file to read */
+	private static final String STUDY_EXPORT = "test-files/006155  006156  006186.csv";
+	/** Number of times each read is repeated before it is measured */
+	private static final int WARMUP = 200;
+	/** Number of measured reads */
+	private static final int RUNS = 50;
+
+	/**
+	 * Runs the benchmark.
+	 * @param args the file to read, optional
+	 * @throws IOException if the file cannot be read
+	 */
+	public static void main(String[] args) throws IOException {
+		String fileName = args.length > 0 ? args[0] : STUDY_EXPORT;
+		long bytes = new File(fileName).length();
+		for (int i = 0; i < WARMUP; i++) {
+			readChars(fileName);
+			tokenize(fileName);
+		}
+		long read = 0;
+		long tokenize = 0;
+		int fields = 0;
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			readChars(fileName);
+			read += System.nanoTime() - start;
+			start = System.nanoTime();
+			fields = tokenize(fileName);
+			tokenize += System.nanoTime() - start;
+		}
+		System.out.println(fileName + ": " + bytes + " bytes, " + fields + " fields");
+		System.out.println("read only\t" + read / RUNS / 1000 + " us\t" + mbPerSecond(bytes, read / RUNS) + " MB/s");
+		System.out.println("tokenize\t" + tokenize / RUNS / 1000 + " us\t" + mbPerSecond(bytes, tokenize / RUNS) + " MB/s");
+	}
+
+	/**
+	 * Reads every character of the file into a buffer without looking at them.
+	 * @param fileName the file
+	 * @throws IOException if the file cannot be read
+	 */
+	private static void readChars(String fileName) throws IOException {
+		Reader reader = new FileReader(fileName);
+		char[] buffer = new char[8192];
+		while (reader.read(buffer, 0, buffer.length) != -1) {
+			// discard
+		}
+		reader.close();
+	}
+
+	/**
+	 * Splits the file into fields.
+	 * @param fileName the file
+	 * @return the number of fields
+	 * @throws IOException if the file cannot be read
+	 */
+	private static int tokenize(String fileName) throws IOException {
+		CsvTokenizer tokenizer = new CsvTokenizer(new FileReader(fileName));
+		int fields = 0;
+		while (tokenizer.hasNext()) {
+			tokenizer.nextField();
+			fields++;
+		}
+		tokenizer.close();
+		return fields;
+	}
+
+	/**
+	 * Returns the rate in megabytes per second.
+	 * @param bytes the number of bytes
+	 * @param nanos the time in nanoseconds
+	 * @return the rate
+	 */
+	private static long mbPerSecond(long bytes, long nanos) {
+		return bytes * 1000L / Math.max(nanos, 1);
+	}
+}
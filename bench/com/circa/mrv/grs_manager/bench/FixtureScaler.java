@@ -0,0 +1,218 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.circa.mrv.grs_manager.io.CsvTokenizer;
+
+/**
+ * Scales the order record and product fixtures in test-files up to the number of rows a benchmark needs, from ten
+ * thousand to a million or more. The fixture rows are repeated in order, and each repeat after the first is given
+ * its own purchase order numbers, or part numbers and descriptions, so that no two generated rows are duplicates.
+ * Everything else in a row, such as the studies, sites, addresses and dates, is kept as it is in the fixture, so
+ * the generated files parse the same way the real ones do.
+ *
+ * Run on its own, the scaler writes the scaled files to a folder: the arguments are the number of rows and the
+ * folder, which defaults to the current folder.
+ *
+ * @author Arthur Vargas
+ */
+public class FixtureScaler {
+	/** The order record fixture */
+	public static final String ORDER_RECORD = "test-files/order-record-test/order-record-all";
+	/** The order record titles fixture */
+	public static final String TITLES = "test-files/order-record-test/titles";
+	/** The product fixture */
+	public static final String PRODUCTS = "test-files/grs-manager-test/products";
+	/** Number of columns in an order record */
+	public static final int COLUMNS = 54;
+	/** The purchase order column of an order record */
+	private static final int PO_COLUMN = 48;
+	/** The part number field of a product line */
+	private static final int PART_NUMBER_FIELD = 1;
+	/** The description field of a product line */
+	private static final int DESCRIPTION_FIELD = 4;
+
+	/**
+	 * Writes scaled order record and product files.
+	 * @param args the number of rows and the folder to write to, optional
+	 * @throws IOException if a fixture cannot be read or a file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+		File folder = new File(args.length > 1 ? args[1] : ".");
+		File orders = new File(folder, "order-record-" + rows);
+		File products = new File(folder, "products-" + rows);
+		scaleOrderRecord(ORDER_RECORD, rows, orders);
+		scaleProducts(PRODUCTS, rows, products);
+		System.out.println(orders + "\t" + orders.length() / 1024 + " KB");
+		System.out.println(products + "\t" + products.length() / 1024 + " KB");
+	}
+
+	/**
+	 * Reads the records of an order record file. Each record is returned with COLUMNS columns.
+	 * @param fileName the order record file
+	 * @return the records
+	 * @throws IOException if the file cannot be read
+	 */
+	public static List<String[]> readRecords(String fileName) throws IOException {
+		List<String[]> records = new ArrayList<String[]>();
+		CsvTokenizer tokenizer = new CsvTokenizer(new FileReader(fileName));
+		try {
+			String[] record = new String[COLUMNS];
+			int col = 0;
+			while (tokenizer.hasNext()) {
+				String field = tokenizer.nextField();
+				boolean endOfRecord = tokenizer.isEndOfRecord();
+				if (col == 0 && field == null && endOfRecord)
+					continue;
+				if (col < COLUMNS)
+					record[col] = field;
+				col++;
+				if (endOfRecord) {
+					records.add(record);
+					record = new String[COLUMNS];
+					col = 0;
+				}
+			}
+			if (col > 0)
+				records.add(record);
+		} finally {
+			tokenizer.close();
+		}
+		if (records.isEmpty())
+			throw new IllegalArgumentException("No records in " + fileName);
+		return records;
+	}
+
+	/**
+	 * Returns the columns of a scaled order row.
+	 * @param fixture the fixture records
+	 * @param row the row number, starting at 0
+	 * @return the columns of the row
+	 */
+	private static String[] scaledRow(List<String[]> fixture, int row) {
+		String[] record = fixture.get(row % fixture.size());
+		int repeat = row / fixture.size();
+		if (repeat == 0)
+			return record;
+		String[] copy = record.clone();
+		copy[PO_COLUMN] = (record[PO_COLUMN] == null ? "PO" : record[PO_COLUMN]) + "-" + repeat;
+		return copy;
+	}
+
+	/**
+	 * Returns an order record array scaled from a fixture, laid out as OrderRecord.setRecord() expects: an empty
+	 * title row followed by the passed number of order rows.
+	 * @param fixture the order record fixture
+	 * @param rows the number of order rows
+	 * @return the order record array
+	 * @throws IOException if the fixture cannot be read
+	 */
+	public static String[][] scaleOrderRecord(String fixture, int rows) throws IOException {
+		List<String[]> records = readRecords(fixture);
+		String[][] record = new String[rows + 1][];
+		record[0] = new String[COLUMNS];
+		for (int row = 0; row < rows; row++) {
+			record[row + 1] = scaledRow(records, row);
+		}
+		return record;
+	}
+
+	/**
+	 * Writes an order record file scaled from a fixture. Fields holding commas, quotes or line breaks are quoted.
+	 * @param fixture the order record fixture
+	 * @param rows the number of order rows
+	 * @param file the file to write
+	 * @throws IOException if the fixture cannot be read or the file cannot be written
+	 */
+	public static void scaleOrderRecord(String fixture, int rows, File file) throws IOException {
+		List<String[]> records = readRecords(fixture);
+		PrintStream fileWriter = new PrintStream(file, "UTF-8");
+		StringBuilder line = new StringBuilder();
+		try {
+			for (int row = 0; row < rows; row++) {
+				String[] columns = scaledRow(records, row);
+				line.setLength(0);
+				for (int col = 0; col < columns.length; col++) {
+					if (col > 0)
+						line.append(',');
+					appendField(line, columns[col]);
+				}
+				fileWriter.println(line);
+			}
+		} finally {
+			fileWriter.close();
+		}
+	}
+
+	/**
+	 * Appends a field of a CSV record, quoting it if needed.
+	 * @param line the record being written
+	 * @param field the field, or null if it is empty
+	 */
+	private static void appendField(StringBuilder line, String field) {
+		if (field == null)
+			return;
+		if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+			line.append(field);
+			return;
+		}
+		line.append('"').append(field.replace("\"", "\"\"")).append('"');
+	}
+
+	/**
+	 * Writes a product file scaled from a fixture. Products without a part number are repeated as they are. Blanks
+	 * at the end of a fixture line are dropped, since ProductRecordIO reads them as an extra field and the product
+	 * as invalid, and repeats of an invalid product would be rejected as duplicates.
+	 * @param fixture the product fixture
+	 * @param rows the number of products
+	 * @param file the file to write
+	 * @return the part numbers of the products written, without the products that have none, for looking them up
+	 * @throws IOException if the fixture cannot be read or the file cannot be written
+	 */
+	public static String[] scaleProducts(String fixture, int rows, File file) throws IOException {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(new FileReader(fixture));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				int end = line.length();
+				while (end > 0 && Character.isWhitespace(line.charAt(end - 1)))
+					end--;
+				if (end > 0)
+					lines.add(line.substring(0, end));
+			}
+		} finally {
+			reader.close();
+		}
+		if (lines.isEmpty())
+			throw new IllegalArgumentException("No products in " + fixture);
+		List<String> partNumbers = new ArrayList<String>();
+		PrintStream fileWriter = new PrintStream(file, "UTF-8");
+		try {
+			for (int row = 0; row < rows; row++) {
+				String[] fields = lines.get(row % lines.size()).split(",", -1);
+				int repeat = row / lines.size();
+				String pn = fields[PART_NUMBER_FIELD];
+				boolean numbered = !pn.isEmpty() && !pn.startsWith("xxxx");
+				if (repeat > 0) {
+					if (numbered)
+						fields[PART_NUMBER_FIELD] = pn + "-" + repeat;
+					fields[DESCRIPTION_FIELD] = fields[DESCRIPTION_FIELD] + " " + repeat;
+				}
+				if (numbered)
+					partNumbers.add(fields[PART_NUMBER_FIELD]);
+				fileWriter.println(String.join(",", fields));
+			}
+		} finally {
+			fileWriter.close();
+		}
+		return partNumbers.toArray(new String[partNumbers.size()]);
+	}
+}
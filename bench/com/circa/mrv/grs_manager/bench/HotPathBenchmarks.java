@@ -0,0 +1,542 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.catalog.OrderRecordStore;
+import com.circa.mrv.grs_manager.catalog.ProductSearchIndex;
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.io.OrderRecordIO;
+import com.circa.mrv.grs_manager.io.RecordExporter;
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.manager.GRSManager;
+import com.circa.mrv.grs_manager.product.validator.InvalidTransitionException;
+import com.circa.mrv.grs_manager.product.validator.ProductNameValidatorFSM;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.util.LinkedAbstractList;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Measures the hot paths of GRS Manager with BenchmarkRunner at sizes from ten thousand to a million: reading an
+ * order record file, building orders and research sites from the record, looking products up in the catalog,
+ * logging in, the operations of the linked lists the model is stored in, and checking product names. The order
+ * records and products are scaled up from the fixtures in test-files with FixtureScaler.
+ *
+ * Pass the runner options to choose the sizes and workloads, and -o to keep the results as CSV so they can be
+ * compared from one release to the next. For example, to measure only the catalog at ten thousand products:
+ * <pre>
+ * java -cp bin com.circa.mrv.grs_manager.bench.HotPathBenchmarks -p 10000 NioxCatalog
+ * </pre>
+ * Run from the project root with the src and bench folders on the classpath. The million row sizes need a heap of
+ * about 4 GB. The same workloads are run with JMH, each in its own forked JVM, by HotPathJmhBenchmarks with
+ * the jmh task of the Gradle build.
+ *
+ * @author Arthur Vargas
+ */
+public class HotPathBenchmarks {
+	/** Default sizes */
+	private static final int[] SIZES = {10000, 100000, 1000000};
+
+	/**
+	 * Runs the benchmarks.
+	 * @param args the runner options
+	 * @throws Exception if a workload fails
+	 */
+	public static void main(String[] args) throws Exception {
+		new BenchmarkRunner(args, SIZES).run(workloads());
+	}
+
+	/**
+	 * Returns every workload.
+	 * @return the workloads
+	 */
+	public static List<Workload> workloads() {
+		List<Workload> workloads = new ArrayList<Workload>();
+		workloads.add(new ReadOrderRecord());
+		workloads.add(new UpdateOrdersAndSites());
+		workloads.add(new CatalogByPartNumber());
+		workloads.add(new CatalogSearch());
+		workloads.add(new Login());
+		workloads.add(new RecursiveListAdd());
+		workloads.add(new RecursiveListGet());
+		workloads.add(new RecursiveListIterate());
+		workloads.add(new AbstractListAdd());
+		workloads.add(new AbstractListGet());
+		workloads.add(new AbstractListContains());
+		workloads.add(new ValidateProductName());
+		return workloads;
+	}
+
+	/**
+	 * Returns the elements the list workloads store.
+	 * @param size the number of elements
+	 * @return the elements
+	 */
+	private static Integer[] elements(int size) {
+		Integer[] elements = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			elements[i] = Integer.valueOf(i);
+		}
+		return elements;
+	}
+
+	/**
+	 * Reads a scaled order record file into a new OrderRecordStore. One operation reads the whole file.
+	 */
+	static class ReadOrderRecord extends Workload {
+		/** The scaled order record file */
+		private File file;
+
+		/** Creates the workload. */
+		ReadOrderRecord() {
+			super("OrderRecordIO.readOrderRecord");
+		}
+
+		@Override
+		public void setUp(int size) throws Exception {
+			file = File.createTempFile("order-record", ".csv");
+			FixtureScaler.scaleOrderRecord(FixtureScaler.ORDER_RECORD, size, file);
+		}
+
+		@Override
+		public Object run() throws Exception {
+			OrderRecordStore store = new OrderRecordStore();
+			OrderRecordIO.readOrderRecord(file.getPath(), store, FixtureScaler.COLUMNS - 1);
+			return store;
+		}
+
+		@Override
+		public void tearDown() {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Builds the orders and research sites of a scaled order record. One operation builds every order; the record
+	 * is set on a new OrderRecord before each operation.
+	 */
+	static class UpdateOrdersAndSites extends Workload {
+		/** The scaled order record */
+		private String[][] record;
+		/** The order record the orders are built in */
+		private OrderRecord orderRecord;
+
+		/** Creates the workload. */
+		UpdateOrdersAndSites() {
+			super("OrderRecord.updateOrdersAndSites");
+		}
+
+		@Override
+		public void setUp(int size) throws Exception {
+			record = FixtureScaler.scaleOrderRecord(FixtureScaler.ORDER_RECORD, size);
+		}
+
+		@Override
+		public boolean isPreparedEachTime() {
+			return true;
+		}
+
+		@Override
+		public void prepare() {
+			orderRecord = null;
+			OrderRecord or = new OrderRecord();
+			or.setExportMode(RecordExporter.OFF);
+			or.loadTitlesFromFile(FixtureScaler.TITLES);
+			or.setRecord(record);
+			orderRecord = or;
+		}
+
+		@Override
+		public Object run() {
+			orderRecord.updateOrdersAndSites();
+			return orderRecord;
+		}
+
+		@Override
+		public void tearDown() {
+			record = null;
+			orderRecord = null;
+		}
+	}
+
+	/**
+	 * Looks up products of a scaled catalog by part number, in an order that jumps around the catalog.
+	 */
+	static class CatalogByPartNumber extends Workload {
+		/** The catalog */
+		private NioxCatalog catalog;
+		/** The part numbers to look up */
+		private String[] partNumbers;
+		/** The next part number to look up */
+		private int next;
+
+		/** Creates the workload. */
+		CatalogByPartNumber() {
+			super("NioxCatalog.getProductByPartNumber");
+		}
+
+		@Override
+		public void setUp(int size) throws Exception {
+			File file = File.createTempFile("products", ".txt");
+			try {
+				partNumbers = FixtureScaler.scaleProducts(FixtureScaler.PRODUCTS, size, file);
+				catalog = new NioxCatalog();
+				catalog.loadProductsFromFile(file.getPath());
+			} finally {
+				file.delete();
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = (next + 7919) % partNumbers.length;
+			return catalog.getProductByPartNumber(partNumbers[next]);
+		}
+
+		@Override
+		public void tearDown() {
+			catalog = null;
+			partNumbers = null;
+		}
+	}
+
+	/**
+	 * Searches a scaled catalog for the products matching a few typed words, as the catalog panel's search box does.
+	 */
+	static class CatalogSearch extends Workload {
+		/** The queries, as a user would type them */
+		private static final String[] QUERIES = {"test kit", "vero batt", "mino", "power", "12-18", "scrubber 2009"};
+		/** The catalog */
+		private NioxCatalog catalog;
+		/** The next query */
+		private int next;
+
+		/** Creates the workload. */
+		CatalogSearch() {
+			super("NioxCatalog.search");
+		}
+
+		@Override
+		public void setUp(int size) throws Exception {
+			File file = File.createTempFile("products", ".txt");
+			try {
+				FixtureScaler.scaleProducts(FixtureScaler.PRODUCTS, size, file);
+				catalog = new NioxCatalog();
+				catalog.loadProductsFromFile(file.getPath());
+			} finally {
+				file.delete();
+			}
+		}
+
+		@Override
+		public Object run() {
+			ProductSearchIndex index = catalog.getSearchIndex();
+			next = (next + 1) % QUERIES.length;
+			return index.search(QUERIES[next], 20);
+		}
+
+		@Override
+		public void tearDown() {
+			catalog = null;
+		}
+	}
+
+	/**
+	 * Logs employees of a large research company in and out through GRSManager. Every employee has the same
+	 * password hash, so after the first login each check is answered from the password cache and the operation
+	 * measures finding the employee and logging in and out.
+	 */
+	static class Login extends Workload {
+		/** Name of the company the employees work for */
+		private static final String COMPANY = Company.ert + " benchmark";
+		/** Password of every employee */
+		private static final String PASSWORD = "bench-password";
+		/** Number of employees at each site */
+		private static final int EMPLOYEES_PER_SITE = 10;
+		/** The manager */
+		private GRSManager gm;
+		/** The ids that log in */
+		private String[] ids;
+		/** The next id to log in */
+		private int next;
+
+		/** Creates the workload. */
+		Login() {
+			super("GRSManager.login");
+		}
+
+		@Override
+		public void setUp(int size) {
+			gm = GRSManager.getInstance();
+			String hash = gm.getPasswordService().hash(PASSWORD);
+			int sites = Math.max(1, size / EMPLOYEES_PER_SITE);
+			LinkedListRecursive<Location> locations = new LinkedListRecursive<Location>(true);
+			for (int s = 0; s < sites; s++) {
+				ResearchSite site = new ResearchSite(s + " Main St", "", "Durham", "NC", "27701", "USA", 6155L, s);
+				for (int e = 0; e < EMPLOYEES_PER_SITE; e++) {
+					String id = "emp" + s + "_" + e;
+					site.addEmployee(new Employee("First", "Last", id, id + "@example.com", hash));
+				}
+				locations.add(site);
+			}
+			// the company is added once, so the directory indexes every employee in one pass
+			gm.getCompanyDirectory().addResearchCompany(new ResearchCompany(locations, COMPANY, null));
+			ids = new String[Math.min(1000, sites * EMPLOYEES_PER_SITE)];
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = "emp" + (int) ((long) i * 7919 % sites) + "_" + i % EMPLOYEES_PER_SITE;
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = (next + 1) % ids.length;
+			gm.login(ids[next], PASSWORD);
+			Object user = gm.getCurrentUser();
+			gm.logout();
+			return user;
+		}
+
+		@Override
+		public void tearDown() {
+			gm.getCompanyDirectory().removeCompany(COMPANY);
+			ids = null;
+		}
+	}
+
+	/**
+	 * Builds an indexed LinkedListRecursive by adding each element to the end. One operation builds the whole list.
+	 */
+	static class RecursiveListAdd extends Workload {
+		/** The elements to add */
+		private Integer[] elements;
+
+		/** Creates the workload. */
+		RecursiveListAdd() {
+			super("LinkedListRecursive.add");
+		}
+
+		@Override
+		public void setUp(int size) {
+			elements = elements(size);
+		}
+
+		@Override
+		public Object run() {
+			LinkedListRecursive<Integer> list = new LinkedListRecursive<Integer>(true);
+			for (Integer e : elements) {
+				list.add(e);
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Gets elements of a LinkedListRecursive at indexes spread over the list.
+	 */
+	static class RecursiveListGet extends Workload {
+		/** The list */
+		private LinkedListRecursive<Integer> list;
+		/** The next index to get */
+		private int next;
+
+		/** Creates the workload. */
+		RecursiveListGet() {
+			super("LinkedListRecursive.get");
+		}
+
+		@Override
+		public void setUp(int size) {
+			list = new LinkedListRecursive<Integer>(true);
+			for (Integer e : elements(size)) {
+				list.add(e);
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = (next + 7919) % list.size();
+			return list.get(next);
+		}
+	}
+
+	/**
+	 * Iterates over every element of a LinkedListRecursive. One operation visits the whole list.
+	 */
+	static class RecursiveListIterate extends Workload {
+		/** The list */
+		private LinkedListRecursive<Integer> list;
+
+		/** Creates the workload. */
+		RecursiveListIterate() {
+			super("LinkedListRecursive.iterator");
+		}
+
+		@Override
+		public void setUp(int size) {
+			list = new LinkedListRecursive<Integer>(true);
+			for (Integer e : elements(size)) {
+				list.add(e);
+			}
+		}
+
+		@Override
+		public Object run() {
+			long sum = 0;
+			for (Iterator<Integer> it = list.iterator(); it.hasNext();) {
+				sum += it.next();
+			}
+			return sum;
+		}
+	}
+
+	/**
+	 * Builds an indexed LinkedAbstractList by adding each element to the end. One operation builds the whole list.
+	 */
+	static class AbstractListAdd extends Workload {
+		/** The elements to add */
+		private Integer[] elements;
+
+		/** Creates the workload. */
+		AbstractListAdd() {
+			super("LinkedAbstractList.add");
+		}
+
+		@Override
+		public void setUp(int size) {
+			elements = elements(size);
+		}
+
+		@Override
+		public Object run() {
+			LinkedAbstractList<Integer> list = new LinkedAbstractList<Integer>(elements.length, true);
+			for (Integer e : elements) {
+				list.add(e);
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Gets elements of a LinkedAbstractList at indexes spread over the list.
+	 */
+	static class AbstractListGet extends Workload {
+		/** The list */
+		private LinkedAbstractList<Integer> list;
+		/** The next index to get */
+		private int next;
+
+		/** Creates the workload. */
+		AbstractListGet() {
+			super("LinkedAbstractList.get");
+		}
+
+		@Override
+		public void setUp(int size) {
+			list = new LinkedAbstractList<Integer>(size, true);
+			for (Integer e : elements(size)) {
+				list.add(e);
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = (next + 7919) % list.size();
+			return list.get(next);
+		}
+	}
+
+	/**
+	 * Checks whether an indexed LinkedAbstractList contains elements, half of which it holds.
+	 */
+	static class AbstractListContains extends Workload {
+		/** The list */
+		private LinkedAbstractList<Integer> list;
+		/** The elements to look for */
+		private Integer[] lookups;
+		/** The next element to look for */
+		private int next;
+
+		/** Creates the workload. */
+		AbstractListContains() {
+			super("LinkedAbstractList.contains");
+		}
+
+		@Override
+		public void setUp(int size) {
+			list = new LinkedAbstractList<Integer>(size, true);
+			for (Integer e : elements(size)) {
+				list.add(e);
+			}
+			lookups = new Integer[1024];
+			for (int i = 0; i < lookups.length; i++) {
+				lookups[i] = Integer.valueOf(i % 2 == 0 ? i * 7919 % size : size + i);
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = (next + 1) & (lookups.length - 1);
+			return list.contains(lookups[next]);
+		}
+	}
+
+	/**
+	 * Checks product names with ProductNameValidatorFSM. The names are generated from a fixed seed, and about a
+	 * third of them are invalid so the failing transitions are measured too.
+	 */
+	static class ValidateProductName extends Workload {
+		/** Letters names are made of */
+		private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+		/** The validator */
+		private ProductNameValidatorFSM validator;
+		/** The names to check */
+		private String[] names;
+		/** The next name to check */
+		private int next;
+
+		/** Creates the workload. */
+		ValidateProductName() {
+			super("ProductNameValidatorFSM.isValid");
+		}
+
+		@Override
+		public void setUp(int size) {
+			validator = new ProductNameValidatorFSM();
+			Random random = new Random(size);
+			names = new String[size];
+			for (int i = 0; i < size; i++) {
+				StringBuilder name = new StringBuilder();
+				// one to five letters, three or four digits and sometimes a suffix; five letters and four
+				// digits are invalid
+				int letters = 1 + random.nextInt(5);
+				for (int l = 0; l < letters; l++) {
+					name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+				}
+				int digits = 3 + (random.nextInt(4) == 0 ? 1 : 0);
+				for (int d = 0; d < digits; d++) {
+					name.append((char) ('0' + random.nextInt(10)));
+				}
+				if (random.nextBoolean())
+					name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+				names[i] = name.toString();
+			}
+		}
+
+		@Override
+		public Object run() {
+			next = next + 1 == names.length ? 0 : next + 1;
+			try {
+				return validator.isValid(names[next]);
+			} catch (InvalidTransitionException e) {
+				return Boolean.FALSE;
+			}
+		}
+	}
+}
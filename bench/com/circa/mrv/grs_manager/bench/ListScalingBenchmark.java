@@ -0,0 +1,117 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.io.ProductRecordIO;
+
+/**
+ * Measures how loading order records and product records scales with the number of rows. Each load is run
+ * for an increasing number of generated rows and the time per row is printed. When the loads scale linearly
+ * the time per row stays about the same as the number of rows grows.
+ *
+ * Run from the project root with the src and bench folders on the classpath.
+ * @author Arthur Vargas
+ */
+public class ListScalingBenchmark {
+	/** Row counts to measure */
+	private static final int[] ROWS = {1000, 10000, 50000, 100000};
+	/** Number of columns in a generated order record */
+	private static final int COLUMNS = 54;
+	/** Number of times each load is repeated before it is measured */
+	private static final int WARMUP = 2;
+
+	/**
+	 * Runs the benchmark.
+	 * @param args not used
+	 * @throws IOException if the generated product file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		System.out.println("rows\torders ms\tns/row\tproducts ms\tns/row");
+		for (int rows : ROWS) {
+			String[][] record = generateOrderRecord(rows);
+			File products = generateProductFile(rows);
+			try {
+				for (int i = 0; i < WARMUP; i++) {
+					loadOrders(record);
+					ProductRecordIO.readProductRecords(products.getPath());
+				}
+				long orders = loadOrders(record);
+				long start = System.nanoTime();
+				ProductRecordIO.readProductRecords(products.getPath());
+				long productTime = System.nanoTime() - start;
+				System.out.println(rows + "\t" + orders / 1000000 + "\t" + orders / rows + "\t"
+						+ productTime / 1000000 + "\t" + productTime / rows);
+			} finally {
+				products.delete();
+			}
+		}
+	}
+
+	/**
+	 * Builds the orders and research sites of an order record from the passed record array.
+	 * @param record the order record array
+	 * @return the time in nanoseconds to build the orders
+	 */
+	private static long loadOrders(String[][] record) {
+		OrderRecord orderRecord = new OrderRecord();
+		orderRecord.setRecord(record);
+		long start = System.nanoTime();
+		orderRecord.updateOrdersAndSites();
+		return System.nanoTime() - start;
+	}
+
+	/**
+	 * Generates an order record array with a title row followed by the passed number of order rows. Each
+	 * order has a unique purchase order number and is spread over a handful of studies and sites.
+	 * @param rows the number of order rows
+	 * @return the order record array
+	 */
+	static String[][] generateOrderRecord(int rows) {
+		String[][] record = new String[rows + 1][];
+		record[0] = new String[COLUMNS];
+		for (int row = 1; row <= rows; row++) {
+			record[row] = generateOrderRow(row);
+		}
+		return record;
+	}
+
+	/**
+	 * Generates one order row of an order record. The row number decides the study, site and purchase order
+	 * number of the order.
+	 * @param row the row number
+	 * @return the columns of the row
+	 */
+	static String[] generateOrderRow(int row) {
+		String[] columns = new String[COLUMNS];
+		columns[0] = "00" + (6100 + row % 7);
+		columns[1] = String.valueOf(1000 + row % 600);
+		columns[30] = "Clinic " + row % 600;
+		columns[31] = row % 600 + " Main St";
+		columns[32] = "27606";
+		columns[33] = "Raleigh";
+		columns[34] = "USA";
+		columns[35] = "NC";
+		columns[41] = "01/15/2018";
+		columns[48] = String.valueOf(1800000 + row);
+		return columns;
+	}
+
+	/**
+	 * Writes a product record file with the passed number of products. Each product has a unique part number.
+	 * @param rows the number of products
+	 * @return the product record file
+	 * @throws IOException if the file cannot be written
+	 */
+	static File generateProductFile(int rows) throws IOException {
+		File file = File.createTempFile("products", ".txt");
+		PrintStream fileWriter = new PrintStream(file);
+		for (int i = 0; i < rows; i++) {
+			fileWriter.println((700000 + i) + ",12-" + i + ",NIOX,VERO,test kit " + i + ",810.00,(1 sensor)");
+		}
+		fileWriter.close();
+		return file;
+	}
+}
@@ -0,0 +1,128 @@
+package com.circa.mrv.grs_manager.bench;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.manager.GRSManager;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.user.PasswordService;
+import com.circa.mrv.grs_manager.user.Pbkdf2PasswordHasher;
+
+/**
+ * Measures how many password checks a second Pbkdf2PasswordHasher allows at several iteration counts, with and
+ * without the PasswordService cache, and then how many logins a second GRSManager handles with its own settings for
+ * a directory of research sites. Use the first table to choose an iteration count for the hardware GRS Manager runs
+ * on: a check should take long enough to slow down password guessing while the login rate stays above the rate
+ * users log in at.
+ *
+ * The iteration counts may be passed as arguments. Run from the project root with the src and bench folders on the
+ * classpath.
+ * @author Arthur Vargas
+ */
+public class LoginBenchmark {
+	/** Default iteration counts */
+	private static final int[] ITERATIONS = {10000, 50000, 100000, 200000};
+	/** Number of checks made before measuring each iteration count */
+	private static final int WARMUP = 5;
+	/** Number of checks measured for each iteration count */
+	private static final int CHECKS = 20;
+	/** Number of research sites in the directory */
+	private static final int SITES = 500;
+	/** Number of employees at each site */
+	private static final int EMPLOYEES_PER_SITE = 10;
+	/** Number of logins measured with GRSManager */
+	private static final int LOGINS = 200;
+	/** Password of every employee */
+	private static final String PASSWORD = "bench-password";
+
+	/**
+	 * Runs the benchmark.
+	 * @param args the iteration counts, optional
+	 */
+	public static void main(String[] args) {
+		int[] iterations = ITERATIONS;
+		if (args.length > 0) {
+			iterations = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				iterations[i] = Integer.parseInt(args[i]);
+			}
+		}
+		System.out.println("iterations\tcheck\tchecks/s\tcached checks/s");
+		for (int n : iterations) {
+			PasswordService uncached = new PasswordService(new Pbkdf2PasswordHasher(n), 0, 0);
+			PasswordService cached = new PasswordService(new Pbkdf2PasswordHasher(n), 1000, 60000);
+			String hash = uncached.hash(PASSWORD);
+			for (int i = 0; i < WARMUP; i++) {
+				uncached.verify(PASSWORD, hash);
+			}
+			long start = System.nanoTime();
+			for (int i = 0; i < CHECKS; i++) {
+				uncached.verify(PASSWORD, hash);
+			}
+			long check = (System.nanoTime() - start) / CHECKS;
+			cached.verify(PASSWORD, hash);
+			start = System.nanoTime();
+			for (int i = 0; i < CHECKS * 1000; i++) {
+				cached.verify(PASSWORD, hash);
+			}
+			long cachedCheck = (System.nanoTime() - start) / (CHECKS * 1000);
+			System.out.println(n + "\t" + check / 1000 + " us\t" + perSecond(check) + "\t" + perSecond(cachedCheck));
+		}
+		logins();
+	}
+
+	/**
+	 * Logs employees of a large directory in and out through GRSManager, first when each password has to be hashed
+	 * and then when each login is answered from the password cache.
+	 */
+	private static void logins() {
+		GRSManager gm = GRSManager.getInstance();
+		// the employees that log in get their own hash, and the rest share one so the directory can be built
+		// without hashing thousands of passwords
+		String[][] hashes = new String[SITES][EMPLOYEES_PER_SITE];
+		String[] ids = new String[LOGINS];
+		for (int i = 0; i < LOGINS; i++) {
+			int s = i * 7919 % SITES;
+			int e = i % EMPLOYEES_PER_SITE;
+			ids[i] = "emp" + s + "_" + e;
+			hashes[s][e] = gm.getPasswordService().hash(PASSWORD);
+		}
+		String shared = gm.getPasswordService().hash(PASSWORD);
+		for (int s = 0; s < SITES; s++) {
+			ResearchSite site = new ResearchSite(s + " Main St", "", "Durham", "NC", "27701", "USA", 6155L, s);
+			for (int e = 0; e < EMPLOYEES_PER_SITE; e++) {
+				String id = "emp" + s + "_" + e;
+				String hash = hashes[s][e] == null ? shared : hashes[s][e];
+				site.addEmployee(new Employee("First", "Last", id, id + "@example.com", hash));
+			}
+			gm.getCompanyDirectory().addResearchCompany(new ResearchCompany(site, Company.ert + " " + s));
+		}
+		long start = System.nanoTime();
+		for (String id : ids) {
+			gm.login(id, PASSWORD);
+			gm.logout();
+		}
+		long first = (System.nanoTime() - start) / LOGINS;
+		start = System.nanoTime();
+		for (int r = 0; r < 100; r++) {
+			for (String id : ids) {
+				gm.login(id, PASSWORD);
+				gm.logout();
+			}
+		}
+		long repeat = (System.nanoTime() - start) / (LOGINS * 100);
+		System.out.println((SITES * EMPLOYEES_PER_SITE) + " employees at " + SITES + " sites, "
+				+ Pbkdf2PasswordHasher.DEFAULT_ITERATIONS + " iterations");
+		System.out.println("first login\t" + first / 1000 + " us\t" + perSecond(first) + " logins/s");
+		System.out.println("repeat login\t" + repeat / 1000 + " us\t" + perSecond(repeat) + " logins/s");
+	}
+
+	/**
+	 * Returns the rate per second of an operation.
+	 * @param nanos the time of one operation in nanoseconds
+	 * @return the rate
+	 */
+	private static long perSecond(long nanos) {
+		return 1000000000L / Math.max(nanos, 1);
+	}
+}
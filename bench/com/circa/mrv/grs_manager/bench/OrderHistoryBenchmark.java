@@ -0,0 +1,98 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.io.OrderHistoryGenerator;
+
+/**
+ * Measures loading a large order history file with OrderRecord.loadOrderHistory(). An order history file with
+ * the passed number of rows is generated, loaded, and the load time and the heap in use after the load are
+ * printed. The number of rows may be passed as the first argument.
+ *
+ * The file is split into parts that are read on the common fork-join pool. To see how the load scales with the
+ * number of cores, compare a run with -Djava.util.concurrent.ForkJoinPool.common.parallelism=1 to a default run.
+ *
+ * Run from the project root with the src and bench folders on the classpath, for example with -Xmx2g.
+ * @author Arthur Vargas
+ */
+public class OrderHistoryBenchmark {
+	/** Default number of order rows */
+	private static final int ROWS = 500000;
+	/** The order record titles */
+	private static final String TITLES = "test-files/order-record-test/titles";
+	/** Seed the order history is generated from */
+	private static final long SEED = 2018;
+	/** Number of times the load is repeated before it is measured */
+	private static final int WARMUP = 2;
+
+	/**
+	 * Runs the benchmark.
+	 * @param args the number of rows, optional
+	 * @throws IOException if the generated file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : ROWS;
+		File file = generateOrderHistory(rows);
+		try {
+			for (int i = 0; i < WARMUP; i++) {
+				load(file);
+			}
+			long before = usedHeap();
+			long start = System.nanoTime();
+			OrderRecord orderRecord = load(file);
+			long time = System.nanoTime() - start;
+			long after = usedHeap();
+			System.out.println(rows + " rows, " + file.length() / (1024 * 1024) + " MB, "
+					+ orderRecord.getOrderRecordList().size() + " orders");
+			System.out.println("load\t" + time / 1000000 + " ms\t" + time / rows + " ns/row");
+			System.out.println("heap\t" + (after - before) / (1024 * 1024) + " MB\t" + (after - before) / rows
+					+ " bytes/row");
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Loads the order history file into a new order record.
+	 * @param file the order history file
+	 * @return the order record
+	 */
+	private static OrderRecord load(File file) {
+		OrderRecord orderRecord = new OrderRecord();
+		orderRecord.loadTitlesFromFile(TITLES);
+		orderRecord.loadOrderHistory(file.getPath(), Charset.forName("UTF-8"));
+		return orderRecord;
+	}
+
+	/**
+	 * Returns the heap in use after a garbage collection.
+	 * @return the bytes of heap in use
+	 */
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Writes an order history file with the passed number of order rows with OrderHistoryGenerator, spread over
+	 * 600 sites in each of 7 studies. Like the order record files, the file has no title row.
+	 * @param rows the number of order rows
+	 * @return the order history file
+	 * @throws IOException if the file cannot be written
+	 */
+	static File generateOrderHistory(int rows) throws IOException {
+		File file = File.createTempFile("orders", ".csv");
+		OrderHistoryGenerator generator = new OrderHistoryGenerator(SEED);
+		generator.setOrders(rows);
+		generator.setStudies(7);
+		generator.setSitesPerStudy(600);
+		generator.writeOrders(file.getPath(), Charset.forName("UTF-8"));
+		return file;
+	}
+}
@@ -0,0 +1,73 @@
+package com.circa.mrv.grs_manager.bench;
+
+/**
+ * A Workload is one operation measured by BenchmarkRunner together with the data it runs on, like a JMH benchmark
+ * method and its state class. The runner sets the workload up once for each size it is measured at, then calls run()
+ * over and over, and tears it down when it is done with that size.
+ *
+ * Operations that change their data so that it cannot be run on again, such as building the orders of an order
+ * record, return true from isPreparedEachTime(): the runner then calls prepare() before each call to run() and
+ * only times run().
+ *
+ * @author Arthur Vargas
+ */
+public abstract class Workload {
+	/** The name the results are reported under */
+	private final String name;
+
+	/**
+	 * Creates a workload.
+	 * @param name the name the results are reported under
+	 */
+	protected Workload(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name the results are reported under.
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Builds the data the operation runs on.
+	 * @param size the number of rows, products, employees or elements to build
+	 * @throws Exception if the data cannot be built
+	 */
+	public void setUp(int size) throws Exception {
+		// nothing to build
+	}
+
+	/**
+	 * Returns true if prepare() must be called before each call to run().
+	 * @return true if the data is prepared for each call
+	 */
+	public boolean isPreparedEachTime() {
+		return false;
+	}
+
+	/**
+	 * Prepares the data for the next call to run(). The time it takes is not measured.
+	 * @throws Exception if the data cannot be prepared
+	 */
+	public void prepare() throws Exception {
+		// nothing to prepare
+	}
+
+	/**
+	 * Runs the operation once.
+	 * @return the result of the operation, which the runner consumes so the operation cannot be optimized away
+	 * @throws Exception if the operation fails
+	 */
+	public abstract Object run() throws Exception;
+
+	/**
+	 * Releases the data the operation ran on.
+	 * @throws Exception if the data cannot be released
+	 */
+	public void tearDown() throws Exception {
+		// nothing to release
+	}
+}
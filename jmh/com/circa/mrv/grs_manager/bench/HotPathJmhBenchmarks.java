@@ -0,0 +1,316 @@
+package com.circa.mrv.grs_manager.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the HotPathBenchmarks workloads with JMH. Each workload has a @Benchmark method and a state that sets the
+ * workload up at each size, so a workload is measured in its own forked JVM and JMH consumes its results. The
+ * warmup and measured iterations are the same as BenchmarkRunner's defaults.
+ *
+ * Run every benchmark, or only those matching a regex at a comma separated list of sizes, with the jmh task of
+ * the Gradle build:
+ * <pre>
+ * gradle jmh
+ * gradle jmh -PjmhIncludes=NioxCatalog -PjmhSize=10000
+ * </pre>
+ * The million row sizes need a heap of about 4 GB.
+ *
+ * @author Arthur Vargas
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HotPathJmhBenchmarks {
+
+	/**
+	 * Reads a scaled order record file into a new OrderRecordStore.
+	 * @param state the workload
+	 * @return the store
+	 * @throws Exception if the file cannot be read
+	 */
+	@Benchmark
+	public Object readOrderRecord(ReadOrderRecord state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Builds the orders and research sites of a scaled order record.
+	 * @param state the workload
+	 * @return the order record
+	 * @throws Exception if the record cannot be read
+	 */
+	@Benchmark
+	public Object updateOrdersAndSites(UpdateOrdersAndSites state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Looks up a product of a scaled catalog by part number.
+	 * @param state the workload
+	 * @return the product
+	 * @throws Exception if the lookup fails
+	 */
+	@Benchmark
+	public Object catalogByPartNumber(CatalogByPartNumber state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Searches a scaled catalog for the products matching a few typed words.
+	 * @param state the workload
+	 * @return the matching products
+	 * @throws Exception if the search fails
+	 */
+	@Benchmark
+	public Object catalogSearch(CatalogSearch state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Logs an employee of a large research company in and out.
+	 * @param state the workload
+	 * @return the user that logged in
+	 * @throws Exception if the login fails
+	 */
+	@Benchmark
+	public Object login(Login state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Builds an indexed LinkedListRecursive by adding each element to the end.
+	 * @param state the workload
+	 * @return the list
+	 * @throws Exception if an add fails
+	 */
+	@Benchmark
+	public Object recursiveListAdd(RecursiveListAdd state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Gets an element of a LinkedListRecursive.
+	 * @param state the workload
+	 * @return the element
+	 * @throws Exception if the get fails
+	 */
+	@Benchmark
+	public Object recursiveListGet(RecursiveListGet state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Iterates over every element of a LinkedListRecursive.
+	 * @param state the workload
+	 * @return the sum of the elements
+	 * @throws Exception if the iteration fails
+	 */
+	@Benchmark
+	public Object recursiveListIterate(RecursiveListIterate state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Builds an indexed LinkedAbstractList by adding each element to the end.
+	 * @param state the workload
+	 * @return the list
+	 * @throws Exception if an add fails
+	 */
+	@Benchmark
+	public Object abstractListAdd(AbstractListAdd state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Gets an element of a LinkedAbstractList.
+	 * @param state the workload
+	 * @return the element
+	 * @throws Exception if the get fails
+	 */
+	@Benchmark
+	public Object abstractListGet(AbstractListGet state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Checks whether an indexed LinkedAbstractList contains an element.
+	 * @param state the workload
+	 * @return true if the list contains the element
+	 * @throws Exception if the check fails
+	 */
+	@Benchmark
+	public Object abstractListContains(AbstractListContains state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Checks a product name with ProductNameValidatorFSM.
+	 * @param state the workload
+	 * @return true if the name is valid
+	 * @throws Exception if the check fails
+	 */
+	@Benchmark
+	public Object validateProductName(ValidateProductName state) throws Exception {
+		return state.workload.run();
+	}
+
+	/**
+	 * Holds a workload and sets it up at the size of the trial.
+	 * @author Arthur Vargas
+	 */
+	@State(Scope.Thread)
+	public abstract static class WorkloadState {
+		/** The size to measure at */
+		@Param({"10000", "100000", "1000000"})
+		public int size;
+		/** The workload */
+		final Workload workload;
+
+		/**
+		 * Creates the state of a workload.
+		 * @param workload the workload
+		 */
+		WorkloadState(Workload workload) {
+			this.workload = workload;
+		}
+
+		/**
+		 * Sets the workload up at the size of the trial.
+		 * @throws Exception if the workload cannot be set up
+		 */
+		@Setup(Level.Trial)
+		public void setUp() throws Exception {
+			workload.setUp(size);
+		}
+
+		/**
+		 * Releases what the workload set up.
+		 * @throws Exception if the workload cannot be torn down
+		 */
+		@TearDown(Level.Trial)
+		public void tearDown() throws Exception {
+			workload.tearDown();
+		}
+	}
+
+	/** State of the OrderRecordIO.readOrderRecord workload */
+	public static class ReadOrderRecord extends WorkloadState {
+		/** Creates the state. */
+		public ReadOrderRecord() {
+			super(new HotPathBenchmarks.ReadOrderRecord());
+		}
+	}
+
+	/** State of the OrderRecord.updateOrdersAndSites workload, which is prepared before each operation */
+	public static class UpdateOrdersAndSites extends WorkloadState {
+		/** Creates the state. */
+		public UpdateOrdersAndSites() {
+			super(new HotPathBenchmarks.UpdateOrdersAndSites());
+		}
+
+		/**
+		 * Sets a new order record before each operation. It is not timed.
+		 * @throws Exception if the record cannot be set
+		 */
+		@Setup(Level.Invocation)
+		public void prepare() throws Exception {
+			workload.prepare();
+		}
+	}
+
+	/** State of the NioxCatalog.getProductByPartNumber workload */
+	public static class CatalogByPartNumber extends WorkloadState {
+		/** Creates the state. */
+		public CatalogByPartNumber() {
+			super(new HotPathBenchmarks.CatalogByPartNumber());
+		}
+	}
+
+	/** State of the NioxCatalog.search workload */
+	public static class CatalogSearch extends WorkloadState {
+		/** Creates the state. */
+		public CatalogSearch() {
+			super(new HotPathBenchmarks.CatalogSearch());
+		}
+	}
+
+	/** State of the GRSManager.login workload */
+	public static class Login extends WorkloadState {
+		/** Creates the state. */
+		public Login() {
+			super(new HotPathBenchmarks.Login());
+		}
+	}
+
+	/** State of the LinkedListRecursive.add workload */
+	public static class RecursiveListAdd extends WorkloadState {
+		/** Creates the state. */
+		public RecursiveListAdd() {
+			super(new HotPathBenchmarks.RecursiveListAdd());
+		}
+	}
+
+	/** State of the LinkedListRecursive.get workload */
+	public static class RecursiveListGet extends WorkloadState {
+		/** Creates the state. */
+		public RecursiveListGet() {
+			super(new HotPathBenchmarks.RecursiveListGet());
+		}
+	}
+
+	/** State of the LinkedListRecursive.iterator workload */
+	public static class RecursiveListIterate extends WorkloadState {
+		/** Creates the state. */
+		public RecursiveListIterate() {
+			super(new HotPathBenchmarks.RecursiveListIterate());
+		}
+	}
+
+	/** State of the LinkedAbstractList.add workload */
+	public static class AbstractListAdd extends WorkloadState {
+		/** Creates the state. */
+		public AbstractListAdd() {
+			super(new HotPathBenchmarks.AbstractListAdd());
+		}
+	}
+
+	/** State of the LinkedAbstractList.get workload */
+	public static class AbstractListGet extends WorkloadState {
+		/** Creates the state. */
+		public AbstractListGet() {
+			super(new HotPathBenchmarks.AbstractListGet());
+		}
+	}
+
+	/** State of the LinkedAbstractList.contains workload */
+	public static class AbstractListContains extends WorkloadState {
+		/** Creates the state. */
+		public AbstractListContains() {
+			super(new HotPathBenchmarks.AbstractListContains());
+		}
+	}
+
+	/** State of the ProductNameValidatorFSM.isValid workload */
+	public static class ValidateProductName extends WorkloadState {
+		/** Creates the state. */
+		public ValidateProductName() {
+			super(new HotPathBenchmarks.ValidateProductName());
+		}
+	}
+}
@@ -1,319 +1,705 @@
-/**
- * 
- */
-package com.circa.mrv.grs_manager.catalog;
-
-import java.io.FileNotFoundException;
-import java.io.IOException;
-
-import com.circa.mrv.grs_manager.io.ProductRecordIO;
-import com.circa.mrv.grs_manager.niox.Component;
-
-import com.circa.mrv.grs_manager.niox.Product;
-import com.circa.mrv.grs_manager.util.LinkedListRecursive;
-
-/**
- * The NioxCatalog is a list of Products. 
- *    
- * @author Arthur Vargas 
- */
-public class NioxCatalog {
-	/** Niox product family */
-	public static final String NIOX = "niox";
-	/** Mino product generation */
-	public static final String MINO = "mino";
-	/** Vero product generation */
-	public static final String VERO = "vero";
-	/** Product part numbers */
-	public static final String [] NUMBERS = {"12-1200","12-1806-US","12-1810-US","12-1010","12-1220","12-1009","12-1008","12-1230","12-1250","03-4002-US","03-4000-US","09-1300","09-1015","09-1005","Part-Number"};
-	/** Product names */
-	public static final String [] NAMES = {"NIOX VERO device","NIOX VERO test kit 60","NIOX VERO test kit 100","NIOX VERO breathing handle","NIOX VERO Power Adapter","NIOX VERO Handle Cap","NIOX VERO Battery Lid","NIOX VERO Power Cord","NIOX VERO Battery","NIOX VERO hardcase","NIOX VERO Boveda Bag for Hardcase","NIOX VERO Training device",
-			"NIOX MINO Unit Model 2009 US Aerocrine eNO System","NIOX MINO Test Kit 50","NIOX MINO Test Kit 100","NIOX MINO NO Scrubber 2009","NIOX MINO QC Plug Niox Mino Unit","NIOX MINO Power Supply NIOX MINO 2009"};
-	public static final String [] DESCRIPTIONS = {"device","test kit 60","test kit 100","breathing handle","power adapter","handle cap","battery lid","power cord","battery","hardcase","boveda bag","training device",
-			"unit model 2009","test kit 50","no scrubber","qc plug","power supply","no scrubber 2009","feno","expiration date","boveda bags"};
-	public static final String DEFAULT_GEN = "generation";
-	public static final String DEFAULT_FAM = "family";
-	public static final String TRAINING_DEVICE = "training device";
-	public static final String BREATHING_HANDLE = "breathing handle";
-	public static final String NO_SCRUBBER = "no scrubber";
-	/** The catalog for products */
-	private LinkedListRecursive<Product> catalog;
-	
-	/**
-	 * Null Constructor which calls the newNioxCatalog method
-	 */
-	public NioxCatalog() {
-		newNioxCatalog();
-	}
-	/**
-	 * Creates an empty product catalog
-	 */
-	public void newNioxCatalog() {
-		catalog = new LinkedListRecursive<Product>();
-	}
-	/**
-	 * Loads an input file of products into the catalog. If the file is unable to be found a IllegalArgumentException is thrown.
-	 * @throws IllegalArgumentException if the file is unable to be found.
-	 * @param fileName the filename for the file of products to be read in to create the catalog. 
-	 */
-	public void loadProductsFromFile(String fileName) throws IllegalArgumentException {
-		try {
-			catalog = ProductRecordIO.readProductRecords(fileName);
-		
-		} catch (FileNotFoundException e) {
-			throw new IllegalArgumentException("Unable to read file " + fileName);
-		}
-	}
-	
-	/**
-	 * Adds a product to the catalog if it does not already exist. 
-	 *  
-	 * @param family the product family
-	 * @param description the description of the product to add
-	 * @param partNumber the partNumber of the product to add
-	 * @param price the price of the product to add
-	 * @throws IllegalArgumentException if the catalog cannot be added
-	 */
-	public void addProductToCatalog(String fam, String description, String partNumber, double price) {
-		Product c = new Component(fam, description, partNumber, price);
-		if(!catalog.add(c)) {
-			throw new IllegalArgumentException("Invalid Element");
-		}
-	}
-	
-	/**
-	 * Adds a product to the catalog if it does not already exist. 
-	 * If the product exists on the catalog, product is not added at the method returns false.
-	 *  
-	 * @param family the product family
-	 * @param description the description of the product to add
-	 * @param partNumber the partNumber of the product to add
-	 * @param price the price of the product to add
-	 * @return true if the product is added to the catalog
-	 */
-	public boolean addProductToCatalog(String fam, String description, String partNumber, String price) {
-			
-		Product c = new Component(fam, description, partNumber, price);
-			
-		for (int i = 0 ; i < catalog.size(); i++) {
-			if( catalog.get(i).equals(c) )
-				return false;
-	
-		}
-		catalog.add(c);
-		return true;
-	}
-	
-	/**
-	 * Adds a product to the catalog if it is not already listed.
-	 * If the product exists on the catalog, the new course is not added and the method returns false.
-	 *  
-	 * @param product the product to add to the catalog
-	 * @return true if the product is added to the catalog
-	 */
-	public boolean addProductToCatalog(Product product) {
-		try {
-		catalog.add(product);
-		}catch(IllegalArgumentException iae) {
-			return false;
-		}
-		return true;
-	}
-	
-	
-	/**
-	 * Removes a product from the catalog if the product's name, description, and part number match the passed values.
-	 * @param name the name of the name of the product to remove
-	 * @param desc the description of the product to remove
-	 * @return True if the course was removed 
-	 */
-	public boolean removeProductFromCatalog(String family, String desc, String partNumber){
-		
-		for (int i = 0; i < catalog.size(); i++) {
-			if (catalog.get(i).getFamily().equals(family) && catalog.get(i).getDescription().equals(desc) && 
-					catalog.get(i).getPartNumber().equals(partNumber)) {
-				catalog.remove(i);
-				return true;
-			}
-		}
-		return false;
-	}
-	
-	/**
-	 * Returns the number of products contained in the catalog
-	 * @return int the number of products in the catalog
-	 */
-	public int allProducts() {
-		return catalog.size();
-	}
-	
-	/**
-	 * Removes a product from the catalog if the product's name and part number match the passed values.
-	 * @param name the name of the name of the product to remove
-	 * @param part number the part number of the product to remove
-	 * @return True if the course was removed 
-	 */
-	public boolean removeProductFromCatalog(String family, String partNumber){
-		
-		for (int i = 0; i < catalog.size(); i++) {
-			if (catalog.get(i).getFamily().equals(family) && catalog.get(i).getDescription().equals(partNumber) && 
-					catalog.get(i).getPartNumber().equals(partNumber)) {
-				catalog.remove(i);
-				return true;
-			}
-		}
-		return false;
-	}
-	/**
-	 * Gets a product from the catalog that is specified by the passed name, description, and part number. 
-	 * If the passed values match a product on the catalog, the product is returned. 
-	 * 
-	 * @param name the name of the product to get
-	 * @param desc the section of the product to get
-	 * @param pn the part number of the product to get
-	 * @return c the product that matches the passed name and section. Returns null if no match existed.
-	 */
-	public Product getProductFromCatalog(String family, String desc, String pn){	
-		for (int i = 0; i < catalog.size(); i++) {
-			//System.out.println(catalog.get(i).getFamily() + " " + catalog.get(i).getPartNumber());
-			if (catalog.get(i).getFamily().equals(family) && catalog.get(i).getDescription().equals(desc) &&
-					catalog.get(i).getPartNumber().equals(pn))
-				return catalog.get(i);
-		}
-		return null;
-	}
-	
-	/**
-	 * Gets a product from the catalog that is specified by the passed name and part number. 
-	 * If the passed values match a product on the catalog, the product is returned. 
-	 * 
-	 * @param name the name of the product to get
-	 * @param pn the part number of the product to get
-	 * @return c the product that matches the passed name and section. Returns null if no match existed.
-	 */
-	public Product getProductFromCatalog(String family, String pn){	
-		for (int i = 0; i < catalog.size(); i++) {
-			if (catalog.get(i).getFamily().equals(family) && catalog.get(i).getPartNumber().equals(pn) )
-				return catalog.get(i);
-		}
-		return null;
-	}
-	
-	/**
-	 * Searches the catalog for the product whose famiyl, generation, and description match the parameters.
-	 * @param family the product famiy
-	 * @param generation the product generation
-	 * @param description the product description
-	 * @return true if the catalog contains the product
-	 */
-	public boolean catalogContainsProduct(String family, String generation, String description) {
-		
-		return true;
-	}
-	
-	/**
-	 * Gets the full product catalog which is stored as a 2D array. The rows of the array are individual products and the 
-	 * columns of the array are the description and part number 
-	 * @return nioxCatalog a 2D String array representing the niox catalog. 
-	 */
-	public String[][] getNioxCatalog() {
-		String [][] nioxCatalog = new String[catalog.size()][6];
-		for (int i = 0; i < catalog.size(); i++) {
-			Component c = (Component) catalog.get(i);
-			nioxCatalog[i][0] = c.getPartNumber();
-			nioxCatalog[i][1] = c.getFamily();
-			nioxCatalog[i][2] = c.getGeneration();
-			nioxCatalog[i][3] = c.getDescription();
-			nioxCatalog[i][4] = Double.toString(c.getPrice());
-		}
-		
-		return nioxCatalog;
-	}
-	
-	/**
-	 * Saves the product catalog to the passed file name. Passes the filename and the catalog to the writeProducteRecords method
-	 * in the ProductRecordIO class.
-	 * @param fileName the name of the file to save the product records to. 
-	 * @throws IllegalArgumentException if the writeProductRecords method is unable to write to the file.
-	 */
-	public void saveProductCatalog(String fileName) {
-		try {
-			ProductRecordIO.writeProductRecords(fileName, catalog);
-		} catch (IOException e) {
-			throw new IllegalArgumentException("Unable to write to file " + fileName);
-		}
-	}
-	
-	/**
-	 * Returns an array of product part-numbers.
-	 * @return array the array of product part-numbers
-	 * @throws IllegalArgumentException if product pn array is empty or if catalog is null 
-	 */
-	public String[] getProductPartNumbers() {
-		String [] pn = null;
-		if(catalog.size() == 0) 
-			pn = new String[10];
-		else {
-			try {
-				pn = new String[catalog.size()];
-				for(int i = 0; i < catalog.size(); i++ ) {
-					pn[i] = catalog.get(i).getPartNumber();
-				}
-			} catch (NullPointerException e) {	
-				return pn;
-				
-			}
-		}
-		return pn;
-	}
-	
-	/**
-	 * Returns an array of product names. A product name is constructed by concatenating the product
-	 * family, generation, and description. For example, "Niox Mino test kit 100"
-	 * 
-	 * @return array the array of product names
-	 * @throws IllegalArgumentException if the product name array is empty or if catalog is null
-	 */
-	public String[] getProductNames() {
-		String[] names = null;
-		Component part = null;
-		if(catalog.size() == 0) names = new String[10];
-		try {
-			names = new String[catalog.size()];
-			for(int i = 0; i < catalog.size(); i++) {
-				part = (Component) catalog.get(i);
-				names[i] = part.getFamily() + " " + part.getGeneration() + " " + part.getDescription(); 
-			}
-		} catch (NullPointerException e) {
-			return names;
-		}
-		
-		return names;
-	}
-	
-	/**
-	 * Returns the array of default product numbers
-	 * @return the numbers
-	 */
-	public static String[] getDefaultProductPartNumbers() {
-		return NUMBERS;
-	}
-	
-	/**
-	 * Returns the array of default product names.
-	 * @return the names
-	 */
-	public static String[] getDefaultProductNames() {
-		return NAMES;
-	}
-	
-	/**
-	 * Returns the array of default product descriptions
-	 * @return the descriptions
-	 */
-	public static String[] getDescriptions() {
-		return DESCRIPTIONS;
-	}
-	
-	
-}
+/**
+ * 
+ */
+package com.circa.mrv.grs_manager.catalog;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+import com.circa.mrv.grs_manager.io.ProductRecordIO;
+import com.circa.mrv.grs_manager.io.SnapshotIO;
+import com.circa.mrv.grs_manager.io.SnapshotReader;
+import com.circa.mrv.grs_manager.io.SnapshotWriter;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
+import com.circa.mrv.grs_manager.niox.Component;
+
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * The NioxCatalog is a list of Products. 
+ * 
+ * The catalog keeps hash indexes of its products by part number, by family and part number, and by family, 
+ * generation and description, so products are looked up in constant time however many are in the catalog. The
+ * indexes are updated as products are added, removed and loaded. The family, generation, description and part 
+ * number of a product must not be changed while the product is in the catalog.
+ * 
+ * The arrays behind getNioxCatalog(), getProductPartNumbers() and getProductNames() are built once and kept
+ * until the catalog is next changed, so the UI can ask for them on every refresh without walking the catalog.
+ * Each call returns a copy of the kept arrays, so a caller that changes what it is given, such as an editable
+ * table, cannot change what other callers see.
+ * 
+ * The catalog can be read and changed by several threads at once. Changes hold the write lock of the catalog's
+ * RecordLock, and lookups are optimistic reads that take no lock unless the catalog changes while they run. The 
+ * cached arrays and the search index are built from a consistent view of the catalog without holding the write 
+ * lock and are then published together with the modification count they were built at.
+ *    
+ * @author Arthur Vargas 
+ */
+public class NioxCatalog {
+	/** Niox product family */
+	public static final String NIOX = "niox";
+	/** Mino product generation */
+	public static final String MINO = "mino";
+	/** Vero product generation */
+	public static final String VERO = "vero";
+	/** Product part numbers */
+	public static final String [] NUMBERS = {"12-1200","12-1806-US","12-1810-US","12-1010","12-1220","12-1009","12-1008","12-1230","12-1250","03-4002-US","03-4000-US","09-1300","09-1015","09-1005","Part-Number"};
+	/** Product names */
+	public static final String [] NAMES = {"NIOX VERO device","NIOX VERO test kit 60","NIOX VERO test kit 100","NIOX VERO breathing handle","NIOX VERO Power Adapter","NIOX VERO Handle Cap","NIOX VERO Battery Lid","NIOX VERO Power Cord","NIOX VERO Battery","NIOX VERO hardcase","NIOX VERO Boveda Bag for Hardcase","NIOX VERO Training device",
+			"NIOX MINO Unit Model 2009 US Aerocrine eNO System","NIOX MINO Test Kit 50","NIOX MINO Test Kit 100","NIOX MINO NO Scrubber 2009","NIOX MINO QC Plug Niox Mino Unit","NIOX MINO Power Supply NIOX MINO 2009"};
+	public static final String [] DESCRIPTIONS = {"device","test kit 60","test kit 100","breathing handle","power adapter","handle cap","battery lid","power cord","battery","hardcase","boveda bag","training device",
+			"unit model 2009","test kit 50","no scrubber","qc plug","power supply","no scrubber 2009","feno","expiration date","boveda bags"};
+	public static final String DEFAULT_GEN = "generation";
+	public static final String DEFAULT_FAM = "family";
+	public static final String TRAINING_DEVICE = "training device";
+	public static final String BREATHING_HANDLE = "breathing handle";
+	public static final String NO_SCRUBBER = "no scrubber";
+	/** The catalog for products */
+	private LinkedListRecursive<Product> catalog;
+	/** Index of the products by part number, each list in catalog order */
+	private final HashMap<String, ArrayList<Product>> partNumberIndex;
+	/** Index of the products by family and part number, each list in catalog order */
+	private final HashMap<String, ArrayList<Product>> familyPartNumberIndex;
+	/** Index of the products by family, generation and description, each list in catalog order */
+	private final HashMap<String, ArrayList<Product>> nameIndex;
+	/** Number of times products have been added to or removed from the catalog */
+	private int modCount;
+	/** Cached arrays for getNioxCatalog(), getProductPartNumbers() and getProductNames() */
+	private volatile Projection projection;
+	/** Cached typeahead index for getSearchIndex() */
+	private volatile CachedSearchIndex searchIndex;
+	/** Guards the catalog; changes hold the write lock and reads are optimistic */
+	private final RecordLock lock;
+	/** Separates the parts of a composite index key */
+	private static final char KEY_SEPARATOR = '\n';
+	/** Times loadProductsFromFile() */
+	private static final Timer LOAD_TIMER = MetricsRegistry.getInstance().timer("products.load");
+	/** Times product lookups by part number and name */
+	private static final Timer LOOKUP_TIMER = MetricsRegistry.getInstance().timer("catalog.lookup");
+	
+	/**
+	 * Null Constructor which calls the newNioxCatalog method
+	 */
+	public NioxCatalog() {
+		lock = new RecordLock();
+		partNumberIndex = new HashMap<String, ArrayList<Product>>();
+		familyPartNumberIndex = new HashMap<String, ArrayList<Product>>();
+		nameIndex = new HashMap<String, ArrayList<Product>>();
+		clear();
+	}
+	/**
+	 * Creates an empty product catalog
+	 */
+	public void newNioxCatalog() {
+		long stamp = lock.writeLock();
+		try {
+			clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Empties the catalog and its indexes. The write lock must be held.
+	 */
+	private void clear() {
+		catalog = new LinkedListRecursive<Product>(true);
+		partNumberIndex.clear();
+		familyPartNumberIndex.clear();
+		nameIndex.clear();
+		modCount++;
+	}
+	/**
+	 * Loads an input file of products into the catalog. If the file is unable to be found a IllegalArgumentException is thrown.
+	 * @throws IllegalArgumentException if the file is unable to be found.
+	 * @param fileName the filename for the file of products to be read in to create the catalog. 
+	 */
+	public void loadProductsFromFile(String fileName) throws IllegalArgumentException {
+		long start = LOAD_TIMER.start();
+		try {
+			LinkedListRecursive<Product> products;
+			try {
+				products = ProductRecordIO.readProductRecords(fileName);
+			
+			} catch (FileNotFoundException e) {
+				throw new IllegalArgumentException("Unable to read file " + fileName);
+			}
+			long stamp = lock.writeLock();
+			try {
+				clear();
+				for(Product p : products) {
+					catalog.add(p);
+					index(p);
+				}
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		} finally {
+			LOAD_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Writes the catalog section of a snapshot: a CATALOG record with the number of products, then a PRODUCT
+	 * record for each product in catalog order.
+	 * @param out the snapshot being written
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void writeSnapshot(SnapshotWriter out) throws IOException {
+		long stamp = lock.readLock();
+		try {
+			out.beginRecord(SnapshotIO.CATALOG);
+			out.writeInt(catalog.size());
+			out.endRecord();
+			for(Product p : catalog) {
+				out.beginRecord(SnapshotIO.PRODUCT);
+				out.writeProduct(p);
+				out.endRecord();
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+	
+	/**
+	 * Replaces the catalog with the catalog section of a snapshot. The products are all read before the catalog
+	 * is changed, so a section that cannot be read leaves the catalog as it was.
+	 * @param in the snapshot being read
+	 * @throws IllegalArgumentException if the section is missing or corrupt
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	public void readSnapshot(SnapshotReader in) throws IOException {
+		in.expect(SnapshotIO.CATALOG);
+		int count = in.readInt();
+		ArrayList<Product> products = new ArrayList<Product>();
+		for(int i = 0; i < count; i++) {
+			in.expect(SnapshotIO.PRODUCT);
+			products.add(in.readProduct());
+		}
+		long stamp = lock.writeLock();
+		try {
+			clear();
+			for(Product p : products) {
+				catalog.add(p);
+				index(p);
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Adds a product to the catalog if it does not already exist. 
+	 *  
+	 * @param family the product family
+	 * @param description the description of the product to add
+	 * @param partNumber the partNumber of the product to add
+	 * @param price the price of the product to add
+	 * @throws IllegalArgumentException if the catalog cannot be added
+	 */
+	public void addProductToCatalog(String fam, String description, String partNumber, double price) {
+		Product c = new Component(fam, description, partNumber, price);
+		long stamp = lock.writeLock();
+		try {
+			if(!catalog.add(c)) {
+				throw new IllegalArgumentException("Invalid Element");
+			}
+			index(c);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Adds a product to the catalog if it does not already exist. 
+	 * If the product exists on the catalog, product is not added at the method returns false.
+	 *  
+	 * @param family the product family
+	 * @param description the description of the product to add
+	 * @param partNumber the partNumber of the product to add
+	 * @param price the price of the product to add
+	 * @return true if the product is added to the catalog
+	 */
+	public boolean addProductToCatalog(String fam, String description, String partNumber, String price) {
+			
+		Product c = new Component(fam, description, partNumber, price);
+		long stamp = lock.writeLock();
+		try {
+			if( catalog.contains(c) )
+				return false;
+			catalog.add(c);
+			index(c);
+			return true;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Adds a product to the catalog if it is not already listed.
+	 * If the product exists on the catalog, the new course is not added and the method returns false.
+	 *  
+	 * @param product the product to add to the catalog
+	 * @return true if the product is added to the catalog
+	 */
+	public boolean addProductToCatalog(Product product) {
+		long stamp = lock.writeLock();
+		try {
+		if(catalog.add(product))
+			index(product);
+		}catch(IllegalArgumentException iae) {
+			return false;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+		return true;
+	}
+	
+	
+	/**
+	 * Removes a product from the catalog if the product's name, description, and part number match the passed values.
+	 * @param name the name of the name of the product to remove
+	 * @param desc the description of the product to remove
+	 * @return True if the course was removed 
+	 */
+	public boolean removeProductFromCatalog(String family, String desc, String partNumber){
+		long stamp = lock.writeLock();
+		try {
+			return remove(find(family, desc, partNumber));
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Returns the number of products contained in the catalog
+	 * @return int the number of products in the catalog
+	 */
+	public int allProducts() {
+		return lock.read(new Supplier<Integer>() {
+			@Override
+			public Integer get() {
+				return catalog.size();
+			}
+		});
+	}
+	
+	/**
+	 * Removes a product from the catalog if the product's family and part number match the passed values. If more
+	 * than one product matches, the first one in the catalog is removed.
+	 * @param family the family of the product to remove
+	 * @param partNumber the part number of the product to remove
+	 * @return True if the product was removed 
+	 */
+	public boolean removeProductFromCatalog(String family, String partNumber){
+		long stamp = lock.writeLock();
+		try {
+			return remove(first(familyPartNumberIndex.get(key(family, partNumber))));
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	/**
+	 * Gets a product from the catalog that is specified by the passed name, description, and part number. 
+	 * If the passed values match a product on the catalog, the product is returned. 
+	 * 
+	 * @param name the name of the product to get
+	 * @param desc the section of the product to get
+	 * @param pn the part number of the product to get
+	 * @return c the product that matches the passed name and section. Returns null if no match existed.
+	 */
+	public Product getProductFromCatalog(final String family, final String desc, final String pn){	
+		long start = LOOKUP_TIMER.start();
+		try {
+			return lock.read(new Supplier<Product>() {
+				@Override
+				public Product get() {
+					return find(family, desc, pn);
+				}
+			});
+		} finally {
+			LOOKUP_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Returns the product with the family, description and part number.
+	 * @param family the product family
+	 * @param desc the product description
+	 * @param pn the part number
+	 * @return the product, or null if there is none
+	 */
+	private Product find(String family, String desc, String pn) {
+		ArrayList<Product> products = familyPartNumberIndex.get(key(family, pn));
+		if (products == null)
+			return null;
+		for (Product p : products) {
+			if (p.getDescription().equals(desc))
+				return p;
+		}
+		return null;
+	}
+	
+	/**
+	 * Gets a product from the catalog that is specified by the passed name and part number. 
+	 * If the passed values match a product on the catalog, the product is returned. 
+	 * 
+	 * @param name the name of the product to get
+	 * @param pn the part number of the product to get
+	 * @return c the product that matches the passed name and section. Returns null if no match existed.
+	 */
+	public Product getProductFromCatalog(String family, String pn){	
+		return lookup(familyPartNumberIndex, key(family, pn));
+	}
+	
+	/**
+	 * Gets the product from the catalog with the passed part number. If more than one product has the part number,
+	 * the first one in the catalog is returned.
+	 * 
+	 * @param pn the part number of the product to get
+	 * @return the product with the part number, or null if there is none
+	 */
+	public Product getProductByPartNumber(String pn) {
+		return lookup(partNumberIndex, pn);
+	}
+	
+	/**
+	 * Gets the product from the catalog whose family, generation and description match the parameters. If more 
+	 * than one product matches, the first one in the catalog is returned.
+	 * 
+	 * @param family the product family
+	 * @param generation the product generation
+	 * @param description the product description
+	 * @return the matching product, or null if there is none
+	 */
+	public Product getProductByName(String family, String generation, String description) {
+		return lookup(nameIndex, key(family, generation, description));
+	}
+	
+	/**
+	 * Searches the catalog for the product whose famiyl, generation, and description match the parameters.
+	 * @param family the product famiy
+	 * @param generation the product generation
+	 * @param description the product description
+	 * @return true if the catalog contains the product
+	 */
+	public boolean catalogContainsProduct(String family, String generation, String description) {
+		return getProductByName(family, generation, description) != null;
+	}
+	
+	/**
+	 * Removes the product from the catalog and from its indexes.
+	 * @param product the product to remove, or null
+	 * @return true if the product was removed
+	 */
+	private boolean remove(Product product) {
+		if (product == null || !catalog.remove(product))
+			return false;
+		unindex(partNumberIndex, product.getPartNumber(), product);
+		unindex(familyPartNumberIndex, key(product.getFamily(), product.getPartNumber()), product);
+		unindex(nameIndex, key(product.getFamily(), getGeneration(product), product.getDescription()), product);
+		modCount++;
+		return true;
+	}
+	
+	/**
+	 * Adds a product that was just added to the end of the catalog to the indexes.
+	 * @param product the product
+	 */
+	private void index(Product product) {
+		index(partNumberIndex, product.getPartNumber(), product);
+		index(familyPartNumberIndex, key(product.getFamily(), product.getPartNumber()), product);
+		index(nameIndex, key(product.getFamily(), getGeneration(product), product.getDescription()), product);
+		modCount++;
+	}
+	
+	/**
+	 * Adds the product to the end of the list of products for the key.
+	 * @param index the index
+	 * @param key the key
+	 * @param product the product
+	 */
+	private static void index(HashMap<String, ArrayList<Product>> index, String key, Product product) {
+		ArrayList<Product> products = index.get(key);
+		if (products == null) {
+			products = new ArrayList<Product>(1);
+			index.put(key, products);
+		}
+		products.add(product);
+	}
+	
+	/**
+	 * Removes the product from the list of products for the key.
+	 * @param index the index
+	 * @param key the key
+	 * @param product the product
+	 */
+	private static void unindex(HashMap<String, ArrayList<Product>> index, String key, Product product) {
+		ArrayList<Product> products = index.get(key);
+		if (products == null)
+			return;
+		for (int i = 0; i < products.size(); i++) {
+			if (products.get(i) == product) {
+				products.remove(i);
+				break;
+			}
+		}
+		if (products.isEmpty())
+			index.remove(key);
+	}
+	
+	/**
+	 * Returns the first product for the key in one of the indexes.
+	 * @param index the index
+	 * @param key the key
+	 * @return the first product for the key, or null if there is none
+	 */
+	private Product lookup(final HashMap<String, ArrayList<Product>> index, final String key) {
+		long start = LOOKUP_TIMER.start();
+		try {
+			return lock.read(new Supplier<Product>() {
+				@Override
+				public Product get() {
+					return first(index.get(key));
+				}
+			});
+		} finally {
+			LOOKUP_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Returns the first product in the list.
+	 * @param products the products for a key, or null
+	 * @return the first product, or null if there are none
+	 */
+	private static Product first(ArrayList<Product> products) {
+		return products == null ? null : products.get(0);
+	}
+	
+	/**
+	 * Returns the generation of the product, or null if the product is not a Component.
+	 * @param product the product
+	 * @return the generation
+	 */
+	private static String getGeneration(Product product) {
+		return product instanceof Component ? ((Component) product).getGeneration() : null;
+	}
+	
+	/**
+	 * Returns the key for a composite index.
+	 * @param parts the parts of the key
+	 * @return the key
+	 */
+	private static String key(String... parts) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0)
+				sb.append(KEY_SEPARATOR);
+			sb.append(parts[i]);
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Gets the full product catalog which is stored as a 2D array. The rows of the array are individual products and the 
+	 * columns of the array are the description and part number. The rows are copied from the cached rows, so the
+	 * returned array may be modified.
+	 * @return nioxCatalog a 2D String array representing the niox catalog. 
+	 */
+	public String[][] getNioxCatalog() {
+		String[][] rows = getProjection().rows;
+		String[][] copy = new String[rows.length][];
+		for (int i = 0; i < rows.length; i++)
+			copy[i] = rows[i].clone();
+		return copy;
+	}
+	
+	/**
+	 * Returns the typeahead index of the products in the catalog. The index is built the first time it is asked for
+	 * and is shared until the catalog changes.
+	 * @return the search index
+	 */
+	public ProductSearchIndex getSearchIndex() {
+		CachedSearchIndex cached = searchIndex;
+		if (cached == null || cached.modCount != getModCount()) {
+			cached = lock.read(new Supplier<CachedSearchIndex>() {
+				@Override
+				public CachedSearchIndex get() {
+					return new CachedSearchIndex(modCount, new ProductSearchIndex(catalog));
+				}
+			});
+			searchIndex = cached;
+		}
+		return cached.index;
+	}
+	
+	/**
+	 * Returns the number of times products have been added to or removed from the catalog. Callers that keep data
+	 * built from the catalog, such as combo box models, can compare it with the value they last saw to tell if the
+	 * data needs to be rebuilt.
+	 * @return the modification count
+	 */
+	public int getModCount() {
+		return lock.read(new Supplier<Integer>() {
+			@Override
+			public Integer get() {
+				return modCount;
+			}
+		});
+	}
+	
+	/**
+	 * Saves the product catalog to the passed file name. Passes the filename and the catalog to the writeProducteRecords method
+	 * in the ProductRecordIO class.
+	 * @param fileName the name of the file to save the product records to. 
+	 * @throws IllegalArgumentException if the writeProductRecords method is unable to write to the file.
+	 */
+	public void saveProductCatalog(String fileName) {
+		long stamp = lock.readLock();
+		try {
+			ProductRecordIO.writeProductRecords(fileName, catalog);
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to write to file " + fileName);
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+	
+	/**
+	 * Returns an array of product part-numbers, copied from the cached part numbers.
+	 * @return array the array of product part-numbers
+	 */
+	public String[] getProductPartNumbers() {
+		return getProjection().partNumbers.clone();
+	}
+	
+	/**
+	 * Returns an array of product names. A product name is constructed by concatenating the product
+	 * family, generation, and description. For example, "Niox Mino test kit 100". The array is copied from the
+	 * cached names.
+	 * 
+	 * @return array the array of product names
+	 */
+	public String[] getProductNames() {
+		return getProjection().names.clone();
+	}
+	
+	/**
+	 * Returns the cached catalog rows, part numbers and product names, rebuilding them in one pass over the catalog
+	 * if products have been added or removed since they were last built. An empty catalog has 10 empty part 
+	 * numbers.
+	 * @return the cached arrays
+	 */
+	private Projection getProjection() {
+		Projection cached = projection;
+		if (cached != null && cached.modCount == getModCount())
+			return cached;
+		cached = lock.read(new Supplier<Projection>() {
+			@Override
+			public Projection get() {
+				String[][] rows = new String[catalog.size()][6];
+				String[] pn = new String[catalog.size() == 0 ? 10 : catalog.size()];
+				String[] names = new String[catalog.size()];
+				int i = 0;
+				for (Product p : catalog) {
+					Component c = (Component) p;
+					rows[i][0] = c.getPartNumber();
+					rows[i][1] = c.getFamily();
+					rows[i][2] = c.getGeneration();
+					rows[i][3] = c.getDescription();
+					rows[i][4] = Double.toString(c.getPrice());
+					pn[i] = c.getPartNumber();
+					names[i] = c.getFamily() + " " + c.getGeneration() + " " + c.getDescription();
+					i++;
+				}
+				return new Projection(modCount, rows, pn, names);
+			}
+		});
+		projection = cached;
+		return cached;
+	}
+	
+	/**
+	 * Returns the array of default product numbers
+	 * @return the numbers
+	 */
+	public static String[] getDefaultProductPartNumbers() {
+		return NUMBERS;
+	}
+	
+	/**
+	 * Returns the array of default product names.
+	 * @return the names
+	 */
+	public static String[] getDefaultProductNames() {
+		return NAMES;
+	}
+	
+	/**
+	 * Returns the array of default product descriptions
+	 * @return the descriptions
+	 */
+	public static String[] getDescriptions() {
+		return DESCRIPTIONS;
+	}
+	
+	/**
+	 * The arrays built from the catalog for getNioxCatalog(), getProductPartNumbers() and getProductNames(), with
+	 * the modification count they were built at.
+	 * 
+	 * @author Arthur Vargas
+	 */
+	private static class Projection {
+		/** The modification count the arrays were built at */
+		private final int modCount;
+		/** Rows of the catalog */
+		private final String[][] rows;
+		/** Part numbers */
+		private final String[] partNumbers;
+		/** Product names */
+		private final String[] names;
+
+		/**
+		 * Creates the projection.
+		 * @param modCount the modification count the arrays were built at
+		 * @param rows rows of the catalog
+		 * @param partNumbers part numbers
+		 * @param names product names
+		 */
+		private Projection(int modCount, String[][] rows, String[] partNumbers, String[] names) {
+			this.modCount = modCount;
+			this.rows = rows;
+			this.partNumbers = partNumbers;
+			this.names = names;
+		}
+	}
+	
+	/**
+	 * The search index built from the catalog, with the modification count it was built at.
+	 * 
+	 * @author Arthur Vargas
+	 */
+	private static class CachedSearchIndex {
+		/** The modification count the index was built at */
+		private final int modCount;
+		/** The index */
+		private final ProductSearchIndex index;
+
+		/**
+		 * Creates the cached index.
+		 * @param modCount the modification count the index was built at
+		 * @param index the index
+		 */
+		private CachedSearchIndex(int modCount, ProductSearchIndex index) {
+			this.modCount = modCount;
+			this.index = index;
+		}
+	}
+	
+}
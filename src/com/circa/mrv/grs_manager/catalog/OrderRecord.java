@@ -5,44 +5,89 @@ package com.circa.mrv.grs_manager.catalog;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.nio.charset.Charset;
 
 import java.util.Date;
-import java.util.Scanner;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 
+import com.circa.mrv.grs_manager.io.MappedRecordReader;
 import com.circa.mrv.grs_manager.io.OrderRecordIO;
 import com.circa.mrv.grs_manager.io.ProductTitle;
+import com.circa.mrv.grs_manager.io.RecordExporter;
+import com.circa.mrv.grs_manager.io.SnapshotIO;
+import com.circa.mrv.grs_manager.io.SnapshotReader;
+import com.circa.mrv.grs_manager.io.SnapshotWriter;
 import com.circa.mrv.grs_manager.location.Location;
 import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.metrics.EventRecorder;
+import com.circa.mrv.grs_manager.metrics.FlightEvent;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
 import com.circa.mrv.grs_manager.niox.Component;
 
 import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+import com.circa.mrv.grs_manager.util.LongHashMap;
 import com.circa.mrv.grs_manager.util.LinkedStack;
 import com.circa.mrv.grs_manager.document.Order;
 
 /**
  * Stores and manages all order data
  * 
+ * The record can be read and changed by several threads at once, such as the Swing panels, the file loaders and
+ * the threads of GRSServer. Every change holds the write lock of the record's RecordLock, and reads such as
+ * getOrderById(), getOpenOrderArray() and getShortOrderInfo() are optimistic, so they do not wait for each other or
+ * take a lock at all unless the record changes while they run. Loading order records parses the files without the
+ * lock and holds the write lock only while each parsed part is added, so reads are not held up by a long import.
+ * 
+ * Orders submitted with addNewOrder() or addOrder(), and status changes made with setOrderStatus(), also hold the
+ * lock of their study. Study locks are striped by the hash of the study, so a new order's purchase order can be
+ * checked without holding the write lock and without another order for the study being added in between, while
+ * orders for other studies are submitted at the same time.
+ * 
+ * The lists returned by getOrderRecordList() and getProductTitles() are the record's own lists and must only be
+ * iterated while no other thread changes the record.
+ * 
  * @author Arthur Vargas
  */
 public class OrderRecord {
-	/** The order record array */
-	private String [][] rArray;
+	/** The order record rows, stored by column; row 0 holds the titles */
+	private OrderRecordStore store;
 	/** An order record array with no product title columns */
 	private String [][] noPTColumns;
 	/** A list of order record titles which are products */
 	private LinkedListRecursive<ProductTitle> productTitlesList;
 	/** A list of all Orders */
 	private LinkedListRecursive<Order> orderRecordList;
-	/** A list of studies */
+	/** Index of the orders in orderRecordList by order number */
+	private LongHashMap<Order> orderIndex;
+	/** The largest order number in orderRecordList */
+	private long maxOrderNumber;
+	/** Index of the orders in orderRecordList by study and purchase order */
+	private HashMap<String, Order> studyPOIndex;
+	/** Index of research site name and address by study and site */
+	private HashMap<String, String[]> studySiteIndex;
+	/** Index of the sites for each study, in the order they were first seen */
+	private HashMap<String, LinkedHashSet<String>> studySitesIndex;
+	/** A list of studies, in the order they were first seen */
 	private ArrayList<String> studyList;
-	/** A list of research sites numbers*/
+	/** The studies in studyList, for constant time duplicate checks */
+	private HashSet<String> studySet;
+	/** A list of research sites numbers, in the order they were first seen */
 	private ArrayList<String> siteList;
+	/** The site numbers in siteList, for constant time duplicate checks */
+	private HashSet<String> siteSet;
 	/** A list of research site locations */
 	private ArrayList<Location> researchSiteNames;
 	/** The last column containing order data*/
@@ -51,8 +96,18 @@ public class OrderRecord {
 	private int first;
 	/** The last column that is a product title */
 	private int last;
-	/** PrintStream to output data to file */
-	private PrintStream fileWriter;
+	/** Writes the debug files produced when titles and order records are loaded; off unless setExportMode() is called */
+	private RecordExporter exporter;
+	/** Times loadOrdersFromFiles() */
+	private static final Timer LOAD_TIMER = MetricsRegistry.getInstance().timer("orders.load");
+	/** Times loadOrderHistory() */
+	private static final Timer HISTORY_TIMER = MetricsRegistry.getInstance().timer("orders.history.load");
+	/** Times loadTitlesFromFile() */
+	private static final Timer TITLES_TIMER = MetricsRegistry.getInstance().timer("titles.load");
+	/** Times addOrder() and addNewOrder() */
+	private static final Timer SUBMIT_TIMER = MetricsRegistry.getInstance().timer("order.submit");
+	/** Records an event for each phase of loading titles and order records */
+	private static final EventRecorder EVENTS = EventRecorder.getInstance();
 	/** The order records filename */
 	private static final String RECORDS_NO_PRODUCT_TITLES = "test-files/records_no_product_titles.txt";
 	/** The order records title filename */
@@ -73,19 +128,47 @@ public class OrderRecord {
 	private static final int STUDY_COUNT = 7;
 	/** Open order count */
 	private int open;
+	/** Number of columns in an order record row */
+	private static final int RECORD_COLUMNS = 54;
+	/** Columns other than product titles that are used to construct an Order and a ResearchSite */
+	private static final int[] ORDER_COLUMNS = {0, 1, 2, 30, 31, 32, 33, 34, 35, 41, 48};
+	/** Smallest part of a file, in bytes, that is given to its own import task */
+	private static final long MIN_PART_SIZE = 1 << 20;
+	/** Line separator used in the debug files */
+	private static final String LINE_SEPARATOR = System.getProperty("line.separator");
+	/** Separates the two parts of a composite index key */
+	private static final char KEY_SEPARATOR = '\n';
+	/** Number of study locks; a power of two */
+	private static final int STUDY_LOCKS = 16;
+	/** Guards the record; changes hold the write lock and reads are optimistic */
+	private final RecordLock lock;
+	/** Locks for the studies, which are held while an order is added or its status is changed */
+	private final ReentrantLock[] studyLocks;
 	
 
 	/**
-	 * Constructs the OrderRecord with a default number of row and columns, 500 and 70, respectively.
+	 * Constructs the OrderRecord with an empty record store, which grows as order records are loaded.
 	 * Sets the last column to 0.
 	 */
 	public OrderRecord() {
 		productTitlesList = new LinkedListRecursive<ProductTitle>();
-		orderRecordList = new LinkedListRecursive<Order>();
+		orderRecordList = new LinkedListRecursive<Order>(true);
+		orderIndex = new LongHashMap<Order>();
+		maxOrderNumber = 0;
+		studyPOIndex = new HashMap<String, Order>();
+		studySiteIndex = new HashMap<String, String[]>();
+		studySitesIndex = new HashMap<String, LinkedHashSet<String>>();
 		studyList = new ArrayList<String>(STUDY_LIST_SIZE);
+		studySet = new HashSet<String>();
 		siteList = new ArrayList<String>(RESEARCH_SITE_SIZE);
+		siteSet = new HashSet<String>();
 		researchSiteNames = new ArrayList<Location>(RESEARCH_SITE_SIZE);
-		rArray = new String [800][54];
+		store = new OrderRecordStore();
+		exporter = new RecordExporter(RecordExporter.OFF);
+		lock = new RecordLock();
+		studyLocks = new ReentrantLock[STUDY_LOCKS];
+		for(int i = 0; i < STUDY_LOCKS; i++)
+			studyLocks[i] = new ReentrantLock();
 		lastCol = 0;
 		first = 0;
 		last = 0;
@@ -106,59 +189,368 @@ public class OrderRecord {
 	 * @throws IllegalArgumentException if file cannot be found
 	 */
 	public void loadOrdersFromFile(String filename) throws IllegalArgumentException {
+		loadOrdersFromFiles(filename);
+	}
+	
+	/**
+	 * Loads one or more input files of order records, such as the exports of several studies, adding the rows and
+	 * their orders after those already in the record. The files are split into parts on record boundaries and the
+	 * parts are parsed, and their Orders and ResearchSites constructed, in parallel on the common fork-join pool.
+	 * The results are then added to the record in file order, so orders are numbered the same as if the files were
+	 * read one after another. If the titles have not been loaded, every column of each row is kept. The files are
+	 * read with the default character set. If a file is unable to be found an IllegalArgumentException is thrown
+	 * and nothing is added. Each phase of the load, from splitting the files to counting the open
+	 * orders, is recorded as an EventRecorder.ORDER_IMPORT event with the rows and bytes it handled.
+	 * 
+	 * @param filenames the names of the files
+	 * @throws IllegalArgumentException if a file cannot be found
+	 */
+	public void loadOrdersFromFiles(String... filenames) throws IllegalArgumentException {
+		long start = LOAD_TIMER.start();
 		try {
-			OrderRecordIO.readOrderRecord(filename,rArray,productTitlesList,lastCol);
-			writeUnFormattedToFile(RECORDS_NO_PRODUCT_TITLES);
-			printAllUnformattedToFile(RECORDS_PRODUCT_TITLES);
-			updateOrdersAndSites();
-			updateStudyList();
-			updateSiteList();
+			boolean[] used;
+			TitleColumns titles;
+			long stamp = lock.readLock();
+			try {
+				used = new boolean[Math.max(lastCol + 1, RECORD_COLUMNS)];
+				// without the titles the last column is not known, so every column is kept
+				int usedCol = lastCol == 0 ? used.length - 1 : lastCol;
+				for(int col = 0; col <= usedCol; col++)
+					used[col] = true;
+				titles = new TitleColumns();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+			importOrders(filenames, Charset.defaultCharset(), used, titles, true);
+			if(exporter.isEnabled())
+				exportRecords();
 			countOpenOrders();
+		} finally {
+			LOAD_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Exports the order records loaded by loadOrdersFromFiles() to the debug files. The exports are built while
+	 * holding the read lock, which is why the exporter is off unless it is turned on with setExportMode().
+	 * @throws IllegalArgumentException if a file cannot be written
+	 */
+	private void exportRecords() {
+		FlightEvent event = EVENTS.begin(EventRecorder.ORDER_IMPORT, "export");
+		long stamp = lock.readLock();
+		try {
+			event.setRows(store.size());
+			event.addBytes(writeUnFormattedToFile(RECORDS_NO_PRODUCT_TITLES));
+			event.addBytes(printAllUnformattedToFile(RECORDS_PRODUCT_TITLES));
 		} catch (IOException e) {
-			throw new IllegalArgumentException("Unable to read file " + filename);
+			throw new IllegalArgumentException("Unable to write file " + e.getMessage());
+		} finally {
+			lock.unlockRead(stamp);
+			event.commit();
 		}
 	}
 	
 	/**
-	 * Load the file containing order record titles.
+	 * Loads a large order history file by mapping it into memory. Unlike loadOrdersFromFile(), the rows are not
+	 * stored in the order record store and no debug files are written: each row is turned into an Order as soon as
+	 * it is read, and only the columns needed to construct the Order and its research site are read into Strings.
+	 * The titles should be loaded first so the product title columns are known. If the file cannot be read an
+	 * IllegalArgumentException is thrown.
+	 * 
+	 * @param filename the name of the file
+	 * @param charset the character set of the file, such as UTF-8 or ISO-8859-1
+	 * @throws IllegalArgumentException if file cannot be read
+	 */
+	public void loadOrderHistory(String filename, Charset charset) throws IllegalArgumentException {
+		long start = HISTORY_TIMER.start();
+		try {
+			boolean[] used;
+			TitleColumns titles;
+			long stamp = lock.readLock();
+			try {
+				used = new boolean[Math.max(lastCol + 1, RECORD_COLUMNS)];
+				for(int col : ORDER_COLUMNS)
+					used[col] = true;
+				for(ProductTitle pt : productTitlesList)
+					used[pt.getIndex()] = true;
+				titles = new TitleColumns();
+			} finally {
+				lock.unlockRead(stamp);
+			}
+			importOrders(new String[] {filename}, charset, used, titles, false);
+			countOpenOrders();
+		} finally {
+			HISTORY_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Load the file containing order record titles. Reading the titles and exporting them are recorded as
+	 * EventRecorder.TITLE_IMPORT events.
 	 * 
 	 * @param filename the filename
 	 * @throws IllegalArgumentException if there is a problem reading the file
 	 */
 	public void loadTitlesFromFile(String filename) throws IllegalArgumentException {
+		long start = TITLES_TIMER.start();
+		try {
+			long stamp = lock.writeLock();
+			try {
+				FlightEvent event = EVENTS.begin(EventRecorder.TITLE_IMPORT, "read");
+				try {
+					lastCol = OrderRecordIO.readOrderTitles(filename, store, productTitlesList);
+					setProductTitleRange();
+					if(!productTitlesList.isEmpty())
+						store.setSparseColumns(first, last);
+					event.setRows(productTitlesList.size());
+					event.setBytes(new File(filename).length());
+					event.setDetail(filename);
+				} finally {
+					event.commit();
+				}
+				if(exporter.isEnabled()) {
+					event = EVENTS.begin(EventRecorder.TITLE_IMPORT, "export");
+					try {
+						event.setRows(lastCol);
+						event.addBytes(writeTitlesToFile(ORDER_RECORD_TITLES));
+						event.addBytes(writeProductTitlesToFile(PRODUCT_TITLES));
+					} finally {
+						event.commit();
+					}
+				}
+			} catch(IOException e) {
+				throw new IllegalArgumentException(e.getMessage());
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		} finally {
+			TITLES_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Writes the order record section of a snapshot. An ORDER_RECORD record holds the column range, the product
+	 * title range and the number of each of the records that follow: the column titles, the product titles, one
+	 * ORDER_ROW record for each row of the record store holding the cells that have a value, one ORDER record for
+	 * each order, one STUDY_SITES record for each study with the name and address of each of its sites, and one
+	 * RESEARCH_SITE record for each research site. The study and site lists are not written, since they are 
+	 * rebuilt from the orders when the snapshot is read.
+	 * 
+	 * @param out the snapshot being written
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void writeSnapshot(SnapshotWriter out) throws IOException {
+		long stamp = lock.readLock();
+		try {
+			int columns = store.getColumnCount();
+			out.beginRecord(SnapshotIO.ORDER_RECORD);
+			out.writeInt(lastCol);
+			out.writeInt(first);
+			out.writeInt(last);
+			out.writeInt(productTitlesList.size());
+			out.writeInt(store.size());
+			out.writeInt(orderRecordList.size());
+			out.writeInt(studySitesIndex.size());
+			out.writeInt(researchSiteNames.size());
+			out.endRecord();
+			out.beginRecord(SnapshotIO.ORDER_TITLES);
+			out.writeInt(columns);
+			for(int col = 0; col < columns; col++)
+				out.writeString(store.get(0, col));
+			out.endRecord();
+			for(ProductTitle pt : productTitlesList) {
+				out.beginRecord(SnapshotIO.PRODUCT_TITLE);
+				out.writeString(pt.getGen());
+				out.writeString(pt.getFam());
+				out.writeString(pt.getDescription());
+				out.writeInt(pt.getIndex());
+				out.endRecord();
+			}
+			String[] row = new String[columns];
+			for(int r = 1; r <= store.size(); r++) {
+				store.getRow(r, row);
+				int cells = 0;
+				for(String value : row) {
+					if(value != null)
+						cells++;
+				}
+				out.beginRecord(SnapshotIO.ORDER_ROW);
+				out.writeInt(cells);
+				for(int col = 0; col < columns; col++) {
+					if(row[col] != null) {
+						out.writeInt(col);
+						out.writeString(row[col]);
+					}
+				}
+				out.endRecord();
+			}
+			for(Order o : orderRecordList) {
+				out.beginRecord(SnapshotIO.ORDER);
+				out.writeOrder(o);
+				out.endRecord();
+			}
+			for(String study : studySitesIndex.keySet()) {
+				LinkedHashSet<String> sites = studySitesIndex.get(study);
+				out.beginRecord(SnapshotIO.STUDY_SITES);
+				out.writeString(study);
+				out.writeInt(sites.size());
+				for(String site : sites) {
+					String[] address = studySiteIndex.get(key(study, site));
+					out.writeString(site);
+					out.writeInt(address.length);
+					for(String field : address)
+						out.writeString(field);
+				}
+				out.endRecord();
+			}
+			for(Location l : researchSiteNames) {
+				out.beginRecord(SnapshotIO.RESEARCH_SITE);
+				out.writeLocation(l);
+				out.endRecord();
+			}
+		} finally {
+			lock.unlockRead(stamp);
+		}
+	}
+	
+	/**
+	 * Replaces the titles, rows, orders and research sites of the record with the order record section of a
+	 * snapshot, and rebuilds the indexes, the study and site lists and the open order count from the orders. The
+	 * whole section is read before the record is changed, so a section that cannot be read leaves the record as
+	 * it was.
+	 * 
+	 * @param in the snapshot being read
+	 * @throws IllegalArgumentException if the section is missing or corrupt
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	public void readSnapshot(SnapshotReader in) throws IOException {
+		in.expect(SnapshotIO.ORDER_RECORD);
+		int newLastCol = in.readInt();
+		int newFirst = in.readInt();
+		int newLast = in.readInt();
+		int titles = in.readInt();
+		int rows = in.readInt();
+		int orders = in.readInt();
+		int studies = in.readInt();
+		int researchSites = in.readInt();
 		
+		OrderRecordStore newStore = new OrderRecordStore();
+		in.expect(SnapshotIO.ORDER_TITLES);
+		int columns = in.readInt();
+		for(int col = 0; col < columns; col++)
+			newStore.set(0, col, in.readString());
+		LinkedListRecursive<ProductTitle> newTitles = new LinkedListRecursive<ProductTitle>();
+		for(int i = 0; i < titles; i++) {
+			in.expect(SnapshotIO.PRODUCT_TITLE);
+			newTitles.add(new ProductTitle(in.readString(), in.readString(), in.readString(), in.readInt()));
+		}
+		if(!newTitles.isEmpty())
+			newStore.setSparseColumns(newFirst, newLast);
+		for(int i = 0; i < rows; i++) {
+			in.expect(SnapshotIO.ORDER_ROW);
+			int row = newStore.addRow();
+			int cells = in.readInt();
+			for(int c = 0; c < cells; c++)
+				newStore.set(row, in.readInt(), in.readString());
+		}
+		ArrayList<Order> newOrders = new ArrayList<Order>();
+		for(int i = 0; i < orders; i++) {
+			in.expect(SnapshotIO.ORDER);
+			newOrders.add(in.readOrder());
+		}
+		HashMap<String, String[]> newSiteIndex = new HashMap<String, String[]>();
+		HashMap<String, LinkedHashSet<String>> newSitesIndex = new HashMap<String, LinkedHashSet<String>>();
+		for(int i = 0; i < studies; i++) {
+			in.expect(SnapshotIO.STUDY_SITES);
+			String study = in.readString();
+			int count = in.readInt();
+			LinkedHashSet<String> sites = new LinkedHashSet<String>();
+			for(int s = 0; s < count; s++) {
+				String site = in.readString();
+				String[] address = new String[in.readInt()];
+				for(int f = 0; f < address.length; f++)
+					address[f] = in.readString();
+				sites.add(site);
+				newSiteIndex.put(key(study, site), address);
+			}
+			newSitesIndex.put(study, sites);
+		}
+		ArrayList<Location> newSiteNames = new ArrayList<Location>(RESEARCH_SITE_SIZE);
+		for(int i = 0; i < researchSites; i++) {
+			in.expect(SnapshotIO.RESEARCH_SITE);
+			newSiteNames.add(in.readLocation());
+		}
+		
+		long stamp = lock.writeLock();
 		try {
-			lastCol = OrderRecordIO.readOrderTitles(filename, rArray, productTitlesList);
-			setProductTitleRange();
-			writeTitlesToFile(ORDER_RECORD_TITLES);
-			writeProductTitlesToFile(PRODUCT_TITLES);
-		} catch(IOException e) {
-			throw new IllegalArgumentException(e.getMessage());
+			store = newStore;
+			productTitlesList = newTitles;
+			lastCol = newLastCol;
+			first = newFirst;
+			last = newLast;
+			orderRecordList = new LinkedListRecursive<Order>(true);
+			orderIndex = new LongHashMap<Order>(newOrders.size());
+			studyPOIndex = new HashMap<String, Order>();
+			maxOrderNumber = 0;
+			open = 0;
+			studyList.clear();
+			studySet.clear();
+			siteList.clear();
+			siteSet.clear();
+			for(Order o : newOrders)
+				addToRecord(o);
+			studySiteIndex = newSiteIndex;
+			studySitesIndex = newSitesIndex;
+			researchSiteNames = newSiteNames;
+		} finally {
+			lock.unlockWrite(stamp);
 		}
 	}
 
 	/**
-	 * Returns 2D String array representation of order records
+	 * Returns 2D String array representation of order records. Row 0 is left empty and each following row holds
+	 * the order data of one record, without the product title columns.
 	 * @return the record
 	 */
 	public String [][] getRecord() {
-		String [][] orderRecords = new String[500][70];
-		for(int row = 1; row < rArray.length; row++) {
-			for(int col = 0; col < lastCol; col++) {
-				if(!isProductTitle(col) && rArray[row][col] != null) {
-					orderRecords[row][col] = rArray[row][col];
+		return lock.read(new Supplier<String[][]>() {
+			@Override
+			public String[][] get() {
+				String [][] orderRecords = new String[store.size() + 1][Math.max(lastCol, RECORD_COLUMNS)];
+				for(int row = 1; row <= store.size(); row++) {
+					for(int col = 0; col < lastCol; col++) {
+						if(!isProductTitle(col)) {
+							orderRecords[row][col] = store.get(row, col);
+						}
+					}
 				}
+				return orderRecords;
 			}
-		}
-		return orderRecords;
+		});
 	}
 
 	/**
-	 * Sets the 
+	 * Sets the order record rows from an order record array. Row 0 of the array holds the titles and each 
+	 * following row holds one record.
 	 * @param record the record to set
 	 */
 	public void setRecord(String [][] record) {
-		this.rArray = record;
+		long stamp = lock.writeLock();
+		try {
+			store = new OrderRecordStore();
+			if(!productTitlesList.isEmpty())
+				store.setSparseColumns(first, last);
+			for(int row = 0; row < record.length; row++) {
+				if(row > 0)
+					store.addRow();
+				for(int col = 0; col < record[row].length; col++) {
+					if(record[row][col] != null)
+						store.set(row, col, record[row][col]);
+				}
+			}
+		} finally {
+			lock.unlockWrite(stamp);
+		}
 	}
 	
 	/**
@@ -167,13 +559,212 @@ public class OrderRecord {
 	 * @param id the order id
 	 * @return the Order to return or null if the order is not found
 	 */
-	public Order getOrderById(long id) {
-		for(int i = 0; i < orderRecordList.size(); i++) {
-			if(orderRecordList.get(i).getNumber() == id)
-				return orderRecordList.get(i);
+	public Order getOrderById(final long id) {
+		return lock.read(new Supplier<Order>() {
+			@Override
+			public Order get() {
+				return orderIndex.get(id);
+			}
+		});
+	}
+	
+	/**
+	 * Adds the order to the end of the order record list and indexes it by its order number.
+	 * @param order the order to add
+	 * @throws IllegalArgumentException if the order is null, is already in the record, or has the same number as
+	 * an order already in the record
+	 */
+	public void addOrder(Order order) {
+		if(order == null)
+			throw new IllegalArgumentException("Order is null");
+		long start = SUBMIT_TIMER.start();
+		ReentrantLock studyLock = getStudyLock(order.getStudy());
+		studyLock.lock();
+		try {
+			long stamp = lock.writeLock();
+			try {
+				addToRecord(order);
+				indexResearchSite(order.getStudy(), order.getSite(), new String[] {order.getSiteName(),
+						order.getStreetAdd(), order.getCity(), order.getState(), order.getZip()});
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		} finally {
+			studyLock.unlock();
+			SUBMIT_TIMER.stop(start);
 		}
-		return null;
-		
+	}
+	
+	/**
+	 * Adds a newly submitted order to the end of the order record list, giving it the next order number. The order
+	 * is not added if its study already has an order with the same purchase order. The purchase order is checked
+	 * while holding the lock of the study, so two orders with the same purchase order cannot both be added, but
+	 * without holding the write lock, which is only held while the order is numbered and added.
+	 * @param order the order to add
+	 * @return the number given to the order
+	 * @throws IllegalArgumentException if the order is null or its study already has an order with the same
+	 * purchase order
+	 */
+	public long addNewOrder(final Order order) {
+		if(order == null)
+			throw new IllegalArgumentException("Order is null");
+		long start = SUBMIT_TIMER.start();
+		ReentrantLock studyLock = getStudyLock(order.getStudy());
+		studyLock.lock();
+		try {
+			if(order.getPo() != null && getOrderByPOAndStudy(order.getPo(), order.getStudy()) != null)
+				throw new IllegalArgumentException("Purchase order " + order.getPo() + " already exists for study "
+						+ order.getStudy());
+			long stamp = lock.writeLock();
+			try {
+				order.setNumber(maxOrderNumber + 1);
+				addToRecord(order);
+				indexResearchSite(order.getStudy(), order.getSite(), new String[] {order.getSiteName(),
+						order.getStreetAdd(), order.getCity(), order.getState(), order.getZip()});
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+			return order.getNumber();
+		} finally {
+			studyLock.unlock();
+			SUBMIT_TIMER.stop(start);
+		}
+	}
+	
+	/**
+	 * Sets the status of the order with the number and records when it was changed. Status changes for a study are
+	 * made one at a time while holding the lock of the study.
+	 * @param number the order number
+	 * @param status the new status, one of Order.getOpen(), Order.getInProcess(), Order.getScheduled(),
+	 * Order.getShipped() and Order.getProcessed()
+	 * @return true if the status was set, false if there is no order with the number
+	 * @throws IllegalArgumentException if the status is not valid
+	 */
+	public boolean setOrderStatus(long number, String status) {
+		if(!Order.getOpen().equals(status) && !Order.getInProcess().equals(status)
+				&& !Order.getScheduled().equals(status) && !Order.getShipped().equals(status)
+				&& !Order.getProcessed().equals(status))
+			throw new IllegalArgumentException("Invalid status " + status);
+		Order o = getOrderById(number);
+		if(o == null)
+			return false;
+		ReentrantLock studyLock = getStudyLock(o.getStudy());
+		studyLock.lock();
+		try {
+			Calendar now = Calendar.getInstance();
+			long stamp = lock.writeLock();
+			try {
+				if(Order.getOpen().equals(o.getStatus()))
+					open--;
+				o.setStatus(status);
+				o.setStatusDate(now);
+				if(Order.getOpen().equals(status))
+					open++;
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		} finally {
+			studyLock.unlock();
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns the lock of the study.
+	 * @param study the study
+	 * @return the lock
+	 */
+	private ReentrantLock getStudyLock(String study) {
+		int h = study == null ? 0 : study.hashCode();
+		return studyLocks[(h ^ (h >>> 16)) & (STUDY_LOCKS - 1)];
+	}
+	
+	/**
+	 * Adds the order to the end of the order record list, indexes it by its order number and by its study
+	 * and purchase order, and counts it if it is open. The write lock must be held.
+	 * @param order the order to add
+	 * @throws IllegalArgumentException if the order is null, is already in the record, or has the same number as
+	 * an order already in the record
+	 */
+	private void addToRecord(Order order) {
+		if(order == null)
+			throw new IllegalArgumentException("Order is null");
+		if(orderIndex.containsKey(order.getNumber()))
+			throw new IllegalArgumentException("Order number " + order.getNumber() + " already exists");
+		orderRecordList.add(order);
+		orderIndex.put(order.getNumber(), order);
+		if(Order.getOpen().equals(order.getStatus()))
+			open++;
+		studyPOIndex.put(key(order.getStudy(), order.getPo()), order);
+		if(order.getNumber() > maxOrderNumber)
+			maxOrderNumber = order.getNumber();
+		addToDictionary(order.getStudy(), studySet, studyList);
+		addToDictionary(order.getSite(), siteSet, siteList);
+	}
+	
+	/**
+	 * Adds the first word of the value to the end of the list if it is not already in the list. Blank values are
+	 * skipped. The set holds the same values as the list so the check takes constant time.
+	 * @param value the study or site of an order
+	 * @param set the values already in the list
+	 * @param list the list of values in the order they were first seen
+	 */
+	private static void addToDictionary(String value, HashSet<String> set, ArrayList<String> list) {
+		if(value == null)
+			return;
+		int start = 0;
+		while(start < value.length() && Character.isWhitespace(value.charAt(start)))
+			start++;
+		if(start == value.length())
+			return;
+		int end = start;
+		while(end < value.length() && !Character.isWhitespace(value.charAt(end)))
+			end++;
+		String word = value.substring(start, end);
+		if(set.add(word))
+			list.add(word);
+	}
+	
+	/**
+	 * Records the name and address of the research site for the study and site, replacing any address already
+	 * recorded, and adds the site to the study's list of sites. Nothing is recorded if the study or site is missing.
+	 * @param study the study
+	 * @param site the site
+	 * @param address the site name, street address, city, state, and zip code
+	 */
+	private void indexResearchSite(String study, String site, String[] address) {
+		if(study == null || study.equals("") || site == null || site.equals(""))
+			return;
+		studySiteIndex.put(key(study, site), address);
+		LinkedHashSet<String> sites = studySitesIndex.get(study);
+		if(sites == null) {
+			sites = new LinkedHashSet<String>();
+			studySitesIndex.put(study, sites);
+		}
+		sites.add(site);
+	}
+	
+	/**
+	 * Returns the key for a composite index
+	 * @param first the first part of the key
+	 * @param second the second part of the key
+	 * @return the key
+	 */
+	private static String key(String first, String second) {
+		return first + KEY_SEPARATOR + second;
+	}
+	
+	/**
+	 * Returns the number to give the next new order, which is one more than the largest order number in the record.
+	 * @return the next order number
+	 */
+	public long getNextOrderNumber() {
+		return lock.read(new Supplier<Long>() {
+			@Override
+			public Long get() {
+				return maxOrderNumber + 1;
+			}
+		});
 	}
 	
 	/**
@@ -183,105 +774,92 @@ public class OrderRecord {
 	 * @throws IOException if there is a problem reading the file
 	 */
 	public String[][] getShortOrderInfo() throws NullPointerException, IOException {
-		//System.out.println("ENTER getShortOrderInfo" + '\n');
-		//BufferedReader br = new BufferedReader(new FileReader(RECORDS_NO_PRODUCT_TITLES));
-		//Scanner scan;
-		//String line = br.readLine(); //blank
-		//line = br.readLine(); //titles
-		//String record = "";
-		String[][] shortOrderRecord = new String[rArray.length][11];
-		int shortOrderRow = 0;
-		for(int row = 1; row < rArray.length; row++) {
-			shortOrderRecord[shortOrderRow][0] = rArray[row][0]; //study
-			shortOrderRecord[shortOrderRow][1] = rArray[row][1]; //site
-			shortOrderRecord[shortOrderRow][2] = rArray[row][33]; //city
-			shortOrderRecord[shortOrderRow][3] = rArray[row][34]; //country
-			shortOrderRecord[shortOrderRow][4] = rArray[row][48]; //PO Number
-			shortOrderRecord[shortOrderRow][5] = rArray[row][47]; //Note
-			shortOrderRecord[shortOrderRow][6] = rArray[row][39]; //Email
-			shortOrderRecord[shortOrderRow][7] = rArray[row][41]; //Date
-			shortOrderRecord[shortOrderRow][8] = rArray[row][35]; //State
-			shortOrderRecord[shortOrderRow][9] = rArray[row][36]; //Phone
-			shortOrderRecord[shortOrderRow][10] = rArray[row][37];//Fax
-			shortOrderRow++;
-		}
-		//br.close();
-		return shortOrderRecord;
-	}
-	
-	/**
-	 * Steps through the order record list and adding each new study number to the study stack.
-	 */
-	public void updateStudyList() {
-		Scanner scan;
-		String study = null;
-		if( !this.orderRecordList.isEmpty() ) {
-			for(int i = 0; i < this.orderRecordList.size(); i++) {
-				scan = new Scanner(this.orderRecordList.get(i).getStudy());
-				if(!scan.hasNext()) break;
-				study = scan.next();
-				scan.close();
-				if(this.studyList.isEmpty()) this.studyList.add(study);
-				else {
-					String s = null;
-					for(int j = 0; j < studyList.size(); j++) {
-						if(studyList.get(j).equals(study)) s = study;
-					}
-					try {
-					if(s == null) studyList.add(study);
-					}catch(IndexOutOfBoundsException ibe) {
-						throw new  IllegalArgumentException(ibe.getMessage());
-					}
-						
+		return lock.read(new Supplier<String[][]>() {
+			@Override
+			public String[][] get() {
+				String[][] shortOrderRecord = new String[store.size()][11];
+				int shortOrderRow = 0;
+				for(int row = 1; row <= store.size(); row++) {
+					shortOrderRecord[shortOrderRow][0] = store.get(row, 0); //study
+					shortOrderRecord[shortOrderRow][1] = store.get(row, 1); //site
+					shortOrderRecord[shortOrderRow][2] = store.get(row, 33); //city
+					shortOrderRecord[shortOrderRow][3] = store.get(row, 34); //country
+					shortOrderRecord[shortOrderRow][4] = store.get(row, 48); //PO Number
+					shortOrderRecord[shortOrderRow][5] = store.get(row, 47); //Note
+					shortOrderRecord[shortOrderRow][6] = store.get(row, 39); //Email
+					shortOrderRecord[shortOrderRow][7] = store.get(row, 41); //Date
+					shortOrderRecord[shortOrderRow][8] = store.get(row, 35); //State
+					shortOrderRecord[shortOrderRow][9] = store.get(row, 36); //Phone
+					shortOrderRecord[shortOrderRow][10] = store.get(row, 37);//Fax
+					shortOrderRow++;
 				}
+				return shortOrderRecord;
 			}
+		});
+	}
+	
+	/**
+	 * Rebuilds the list of studies from the order record list, in the order each study is first seen. The list is
+	 * kept up to date as orders are added, so this is only needed if the studies of orders in the list are changed.
+	 */
+	public void updateStudyList() {
+		long stamp = lock.writeLock();
+		try {
+			rebuildStudyList();
+		} finally {
+			lock.unlockWrite(stamp);
 		}
 	}
 	
 	/**
-	 * Steps through order record list and adds each research site number to the list.
+	 * Rebuilds the list of studies from the order record list. The write lock must be held.
+	 */
+	private void rebuildStudyList() {
+		studyList.clear();
+		studySet.clear();
+		for(Order o : this.orderRecordList)
+			addToDictionary(o.getStudy(), studySet, studyList);
+	}
+	
+	/**
+	 * Rebuilds the list of research site numbers from the order record list, in the order each site is first seen.
+	 * The list is kept up to date as orders are added, so this is only needed if the sites of orders in the list
+	 * are changed.
 	 */
 	public void updateSiteList() {
-		Scanner scan;
-		String site = null;
-		if( !this.orderRecordList.isEmpty() ) {
-			for(int i = 0; i < this.orderRecordList.size(); i++) {
-				//System.out.println(this.orderRecordList.get(i).getSite());
-				scan = new Scanner(this.orderRecordList.get(i).getSite());
-				if(!scan.hasNext()) break;
-				site = scan.next();
-				scan.close();
-				if(this.siteList.isEmpty()) this.siteList.add(site);
-				else {
-					String s = null;
-					for(int j = 0; j < siteList.size(); j++) {
-						if(siteList.get(j).equals(site)) s = site;
-					}
-					try {
-					if(s == null) siteList.add(site);
-					}catch(IndexOutOfBoundsException ibe) {
-						throw new  IllegalArgumentException(ibe.getMessage());
-					}
-						
-				}
-			}
+		long stamp = lock.writeLock();
+		try {
+			rebuildSiteList();
+		} finally {
+			lock.unlockWrite(stamp);
 		}
 	}
+	
+	/**
+	 * Rebuilds the list of research site numbers from the order record list. The write lock must be held.
+	 */
+	private void rebuildSiteList() {
+		siteList.clear();
+		siteSet.clear();
+		for(Order o : this.orderRecordList)
+			addToDictionary(o.getSite(), siteSet, siteList);
+	}
 	 
 	/**
 	 * Returns the order whose purchase order and study match the parameters
-	 * for purchase order and study.
+	 * for purchase order and study. If more than one order matches, the last one added is returned.
 	 * @param po the purchase order
 	 * @param study the study
 	 * @return the order to return
 	 */
 	public Order getOrderByPOAndStudy(String po, String study) {
-		Order o = null;
-		for(int i = 0;i < orderRecordList.size(); i++) {
-			if(orderRecordList.get(i).getPo().equals(po) && orderRecordList.get(i).getStudy().equals(study))
-				o = orderRecordList.get(i);
-		}
-		return o;
+		final String key = key(study, po);
+		return lock.read(new Supplier<Order>() {
+			@Override
+			public Order get() {
+				return studyPOIndex.get(key);
+			}
+		});
 	}
 	
 	/**
@@ -290,8 +868,8 @@ public class OrderRecord {
 	 * Sets the minProductTitle and maxProductTitle instance variables.
 	 */
 	private void setProductTitleRange() {
-		for(int i = 0; i < productTitlesList.size(); i++) {
-			int titleIdx = productTitlesList.get(i).getIndex();
+		for(ProductTitle pt : productTitlesList) {
+			int titleIdx = pt.getIndex();
 			if( first == last ) {
 				first = titleIdx;
 				last = titleIdx + 1;
@@ -329,64 +907,84 @@ public class OrderRecord {
 	}
 	
 	/**
-	 * Initializes the PrintWriter instance variable with a file to write output to
+	 * Exports the order records, without the product title columns, to the output file. Empty cells are 
+	 * written as "no record". Nothing is written if exports are off.
 	 * @param output the filename 
+	 * @return the number of characters exported
 	 * @throws IOException if there is a problem writing to the output file
 	 */
-	private void writeUnFormattedToFile(String output) throws IOException {
-		fileWriter = new PrintStream(new File(output));
-		for(int row = 0; row < rArray.length; row++) {
-			fileWriter.println();
+	private int writeUnFormattedToFile(String output) throws IOException {
+		if(!exporter.isEnabled()) return 0;
+		StringBuilder sb = new StringBuilder();
+		for(int row = 0; row <= store.size(); row++) {
+			sb.append(LINE_SEPARATOR);
 			for(int col = 0; col < lastCol; col++) {
 				if(isProductTitle(col)) continue;
-				if(rArray[row][col] == null)
-					fileWriter.print("no record" + ",");
+				String value = store.get(row, col);
+				if(value == null)
+					sb.append("no record").append(',');
 				else 
-					fileWriter.print(rArray[row][col] + ",");
+					sb.append(value).append(',');
 			}
 		}
+		exporter.export(output, sb);
+		return sb.length();
 	}
 
 	/**
-	 * Initializes the PrintWriter instance variable with a file to write order record titles.
-	 * Writes the order record titles to the file specified by the filename
+	 * Exports the order record titles that are not product titles to the file specified by the filename.
+	 * Nothing is written if exports are off.
 	 * @param output the filename 
+	 * @return the number of characters exported
 	 * @throws IOException if there is a problem writing to the output file
 	 */
-	private void writeTitlesToFile(String output) throws IOException {
-		fileWriter = new PrintStream(output);
+	private int writeTitlesToFile(String output) throws IOException {
+		if(!exporter.isEnabled()) return 0;
+		StringBuilder sb = new StringBuilder();
 		for(int col = 0; col < lastCol; col++) {
 			if(!isProductTitle(col)) {
-				fileWriter.print(rArray[0][col] + " ");
+				sb.append(store.get(0, col)).append(' ');
 			}
 		}
-		
+		exporter.export(output, sb);
+		return sb.length();
 	}
 	
 	/**
-	 * Writes the column titles that have been identified to be products along with their index in the array 
-	 * title row. throws an IOException if there is a problem writing to the file.
+	 * Exports the column titles that have been identified to be products along with their index in the array 
+	 * title row. Nothing is written if exports are off. throws an IOException if there is a problem writing to 
+	 * the file.
+	 * @return the number of characters exported
 	 * @throws IOException
 	 */
-	private void writeProductTitlesToFile(String productTitles) throws IOException {
-		fileWriter = new PrintStream(productTitles);
-		fileWriter.println("Product Title Min: " + first + '\t' + "Product Title Max: " + last);
-		for(int i = 0; i < this.productTitlesList.size(); i++) {
-			fileWriter.println(this.productTitlesList.get(i).getFam() + " " + this.productTitlesList.get(i).getGen() + 
-					" " + this.productTitlesList.get(i).getDescription() + " index: " + this.productTitlesList.get(i).getIndex());
+	private int writeProductTitlesToFile(String productTitles) throws IOException {
+		if(!exporter.isEnabled()) return 0;
+		StringBuilder sb = new StringBuilder();
+		sb.append("Product Title Min: ").append(first).append('\t').append("Product Title Max: ").append(last);
+		sb.append(LINE_SEPARATOR);
+		for(ProductTitle pt : this.productTitlesList) {
+			sb.append(pt.getFam()).append(' ').append(pt.getGen()).append(' ').append(pt.getDescription())
+					.append(" index: ").append(pt.getIndex()).append(LINE_SEPARATOR);
 		}
+		exporter.export(productTitles, sb);
+		return sb.length();
 	}
 	
 	/** 
-	 * Prints all data in the unformatted records array to the output file.
+	 * Exports all data in the order records, including empty cells and product title columns, to the output
+	 * file. Nothing is written if exports are off.
+	 * @return the number of characters exported
 	 */
-	private void printAllUnformattedToFile(String output) throws IOException {
-		fileWriter = new PrintStream(output);
-		for(int row = 0; row < rArray.length; row++) {
+	private int printAllUnformattedToFile(String output) throws IOException {
+		if(!exporter.isEnabled()) return 0;
+		StringBuilder sb = new StringBuilder();
+		for(int row = 0; row <= store.size(); row++) {
 			for(int col = 0; col < lastCol; col++) 
-				fileWriter.print(rArray[row][col] + ",");
-			fileWriter.print('\n');
+				sb.append(store.get(row, col)).append(',');
+			sb.append('\n');
 		}
+		exporter.export(output, sb);
+		return sb.length();
 	}
 	
 	/**
@@ -401,98 +999,227 @@ public class OrderRecord {
 	 * @throws IlleglArgumentException if date strings cannot be parsed
 	 */
 	public void updateOrdersAndSites() {
-		Order o = null;		
-		ResearchSite rs = null;
-		// loop for rows in the record array
-		for(int row = 1; row < rArray.length; row++) {
-			// rows without study numbers, site numbers, and location are skipped
-			if(rArray[row][0] == null && rArray[row][1] == null && rArray[row][2] == null)
-				continue;
-			
-			if(row == 1) {
-				o = new Order(00001);
-			} else {
-				o = new Order(getLastOrder().getNumber() + 1 ); 
+		long stamp = lock.writeLock();
+		try {
+			String[] record = new String[Math.max(store.getColumnCount(), RECORD_COLUMNS)];
+			TitleColumns titles = new TitleColumns();
+			// loop for rows in the record store
+			for(int row = 1; row <= store.size(); row++) {
+				store.getRow(row, record);
+				ImportedRow imported = importRow(record, titles, false);
+				// rows without study numbers, site numbers, and location are skipped
+				if(imported.order != null)
+					addImportedRow(imported);
 			}
-			
-			// loop for the product title range to see which products were ordered
-			for(int col = first; col <= last; col++) {
-				
-				if(rArray[row][col] != null) {
-					int prodTitle = 0;
-					String family = null;
-					String gen = null;
-					String desc = null;
-					while(prodTitle < productTitlesList.size()) {
-						
-						if(productTitlesList.get(prodTitle).getIndex() == col) {
-							family = productTitlesList.get(prodTitle).getFam();
-							gen = productTitlesList.get(prodTitle).getGen();
-							desc = productTitlesList.get(prodTitle).getDescription();
-							o.addProduct(new Component(family,gen,desc),1);
-						}
-						prodTitle++;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+	
+	/**
+	 * Reads the order record files in parallel and adds the rows and orders they contain to the record. Each 
+	 * file is split into parts of at least MIN_PART_SIZE bytes, up to one part per thread of the common fork-join
+	 * pool, and each part is read by its own ImportTask. The files are read without holding any lock, into rows
+	 * local to each task. When every task is done, the rows of all the parts are added to the record in file order
+	 * under a single write lock, so the orders are numbered in the order they appear in the files and readers see
+	 * either none of the files or all of them. If the rows are kept, they are added after the rows already in the
+	 * store.
+	 * 
+	 * @param filenames the names of the files
+	 * @param charset the character set of the files
+	 * @param used the columns to read; other columns are left null
+	 * @param titles the product title columns, taken while the lock was held
+	 * @param keepRows true if the rows should be added to the record store
+	 * @throws IllegalArgumentException if a file cannot be read or a date cannot be parsed
+	 */
+	private void importOrders(String[] filenames, Charset charset, boolean[] used, TitleColumns titles,
+			boolean keepRows) {
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		ArrayList<MappedRecordReader> readers = new ArrayList<MappedRecordReader>();
+		ArrayList<ImportTask> tasks = new ArrayList<ImportTask>();
+		long bytes = 0;
+		try {
+			FlightEvent event = EVENTS.begin(EventRecorder.ORDER_IMPORT, "split");
+			try {
+				for(String filename : filenames) {
+					MappedRecordReader reader;
+					try {
+						reader = new MappedRecordReader(filename, charset);
+					} catch (IOException e) {
+						throw new IllegalArgumentException("Unable to read file " + filename);
 					}
-					
+					readers.add(reader);
+					long length = new File(filename).length();
+					bytes += length;
+					long parts = Math.max(1, Math.min(parallelism, length / MIN_PART_SIZE));
+					for(MappedRecordReader part : reader.split((int) parts))
+						tasks.add(new ImportTask(part, used, titles, keepRows));
 				}
-					
+				event.setBytes(bytes);
+				event.setDetail(tasks.size() + " parts of " + String.join(", ", filenames));
+			} finally {
+				event.commit();
 			}
-			
+			event = EVENTS.begin(EventRecorder.ORDER_IMPORT, "parse");
 			try {
-				o.setStudy(rArray[row][0]);
-				o.setSite(rArray[row][1]);
-				o.setPo(rArray[row][48]);
-				o.setSiteName(rArray[row][30]);
-				o.setStreetAdd(rArray[row][31]);
-				o.setCity(rArray[row][33]);
-				o.setState(rArray[row][35]);
-				o.setCountry(rArray[row][34]);
-				o.setZip(rArray[row][32]);
-				if(rArray[row][41] != null)
-					o.setCreation(getCalendarFromString(rArray[row][41]));
-				rs = new ResearchSite(rArray[row][31]," ",rArray[row][33],rArray[row][34],rArray[row][35],rArray[row][32],Long.parseLong(rArray[row][1]),rArray[row][30],0);
-				
-			} catch (ParseException e) {
-				throw new IllegalArgumentException(e.getMessage() + " OrderRecord.updateOrderList()");
-			} catch (NullPointerException npe) {
-				System.out.println("NPE thrown OrderRecord.updateOrdersAndSites()");
-				rs = new ResearchSite(rArray[row][31],"add2","city","state","zip","country",Long.parseLong(rArray[row][1]),rArray[row][30],0);
-			} catch (IllegalArgumentException iae) {
-				if(rs == null) rs = new ResearchSite("","","","","","",Long.parseLong(rArray[row][1]),"",0);
-				if(rArray[row][30] == null || rArray[row][30].equals("")) {
-					o.setSiteName("Clinic Name Missing");
-					rs.setName("Clinic Name Missing");
-				}
-				if(rArray[row][31] == null || rArray[row][31].equals("")) {
-					o.setStreetAdd("Street address missing");
-					rs.setAddress1("Street address missing");
-				}
-				if(rArray[row][33] == null || rArray[row][33].equals("")) {
-					o.setCity("Missing City");
-					rs.setCity("Missing City");
-				}
-				if(rArray[row][35] == null || rArray[row][35].equals("")) {
-					o.setState("XX");
-					rs.setState("XX");
-				}
-				if(rArray[row][32] == null || rArray[row][32].equals("")) {
-					o.setZip("XXXXX");
-					rs.setZip("XXXXX");
-				}
-				if(rArray[row][48] == null || rArray[row][48].equals("")) {
-					o.setPo("MISSING PO");
+				ForkJoinTask.invokeAll(tasks);
+				for(ImportTask task : tasks)
+					event.addRows(task.rows.size());
+				event.setBytes(bytes);
+			} finally {
+				event.commit();
+			}
+		} finally {
+			for(MappedRecordReader reader : readers) {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// the file has been read, so there is nothing left to release
 				}
-				if(rArray[row][0] == null || rArray[row][0].equals("")) {
-					o.setStudy("MISSING STUDY");
+			}
+		}
+		FlightEvent event = EVENTS.begin(EventRecorder.ORDER_IMPORT, "add");
+		long stamp = lock.writeLock();
+		try {
+			for(ImportTask task : tasks) {
+				for(ImportedRow imported : task.rows) {
+					if(keepRows) {
+						int row = store.addRow();
+						for(int col = 0; col < imported.record.length; col++) {
+							if(imported.record[col] != null)
+								store.set(row, col, imported.record[col]);
+						}
+					}
+					if(imported.order != null) {
+						addImportedRow(imported);
+						event.addRows(1);
+					}
 				}
-				if(rArray[row][1] == null || rArray[row][1].equals("")) {
-					o.setSite("MISSING SITE");
+			}
+			event.setBytes(bytes);
+		} finally {
+			lock.unlockWrite(stamp);
+			event.commit();
+		}
+	}
+	
+	/**
+	 * Adds an imported order to the record with the next order number, along with its research site. The write
+	 * lock must be held.
+	 * 
+	 * @param imported the imported row
+	 */
+	private void addImportedRow(ImportedRow imported) {
+		imported.order.setNumber(maxOrderNumber + 1);
+		addToRecord(imported.order);
+		indexResearchSite(imported.study, imported.site, imported.address);
+		researchSiteNames.add(imported.researchSite);
+	}
+	
+	/**
+	 * Constructs an Order and a ResearchSite from one row of order record data. The Order is numbered when it is
+	 * added to the record. No fields of the order record are read, only the product title columns copied while
+	 * the lock was held, so rows can be imported by several threads at once without the lock. Rows without study 
+	 * numbers, site numbers, and location have no Order.
+	 * 
+	 * @param record the columns of one order record row
+	 * @param titles the product title columns
+	 * @param keepRecord true if the record array should be kept with the imported row
+	 * @return the imported row
+	 * @throws IllegalArgumentException if date strings cannot be parsed
+	 */
+	private ImportedRow importRow(String[] record, TitleColumns titles, boolean keepRecord) {
+		ImportedRow imported = new ImportedRow();
+		if(keepRecord)
+			imported.record = record;
+		if(record[0] == null && record[1] == null && record[2] == null)
+			return imported;
+		Order o = new Order(0);
+		ResearchSite rs = null;
+		
+		// loop for the product title range to see which products were ordered
+		for(int col = titles.first; col <= titles.last; col++) {
+			
+			if(record[col] != null) {
+				for(ProductTitle pt : titles.titles) {
+					if(pt.getIndex() == col) {
+						o.addProduct(new Component(pt.getFam(),pt.getGen(),pt.getDescription()),1);
+					}
 				}
+				
 			}
-			orderRecordList.add(o);
-			researchSiteNames.add(rs);
+				
 		}
 		
+		try {
+			o.setStudy(record[0]);
+			o.setSite(record[1]);
+			o.setPo(record[48]);
+			o.setSiteName(record[30]);
+			o.setStreetAdd(record[31]);
+			o.setCity(record[33]);
+			o.setState(record[35]);
+			o.setCountry(record[34]);
+			o.setZip(record[32]);
+			if(record[41] != null)
+				o.setCreation(getCalendarFromString(record[41]));
+			rs = new ResearchSite(record[31]," ",record[33],record[34],record[35],record[32],Long.parseLong(record[1]),record[30],0);
+			
+		} catch (ParseException e) {
+			throw new IllegalArgumentException(e.getMessage() + " OrderRecord.updateOrderList()");
+		} catch (NullPointerException npe) {
+			rs = new ResearchSite(record[31],"add2","city","state","zip","country",Long.parseLong(record[1]),record[30],0);
+		} catch (IllegalArgumentException iae) {
+			if(rs == null) rs = new ResearchSite("","","","","","",parseSiteNumber(record[1]),"",0);
+			if(record[30] == null || record[30].equals("")) {
+				o.setSiteName("Clinic Name Missing");
+				rs.setName("Clinic Name Missing");
+			}
+			if(record[31] == null || record[31].equals("")) {
+				o.setStreetAdd("Street address missing");
+				rs.setAddress1("Street address missing");
+			}
+			if(record[33] == null || record[33].equals("")) {
+				o.setCity("Missing City");
+				rs.setCity("Missing City");
+			}
+			if(record[35] == null || record[35].equals("")) {
+				o.setState("XX");
+				rs.setState("XX");
+			}
+			if(record[32] == null || record[32].equals("")) {
+				o.setZip("XXXXX");
+				rs.setZip("XXXXX");
+			}
+			if(record[48] == null || record[48].equals("")) {
+				o.setPo("MISSING PO");
+			}
+			if(record[0] == null || record[0].equals("")) {
+				o.setStudy("MISSING STUDY");
+			}
+			if(record[1] == null || record[1].equals("")) {
+				o.setSite("MISSING SITE");
+			}
+		}
+		imported.order = o;
+		imported.researchSite = rs;
+		imported.study = record[0];
+		imported.site = record[1];
+		imported.address = new String[] {record[30], record[31], record[33], record[35], record[32]};
+		return imported;
+	}
+	
+	/**
+	 * Returns the site number as a long, or 0 if the site is missing or is not a number.
+	 * @param site the site number
+	 * @return the site number as a long
+	 */
+	private static long parseSiteNumber(String site) {
+		try {
+			return Long.parseLong(site);
+		} catch (NumberFormatException e) {
+			return 0;
+		}
 	}
 	
 	/**
@@ -500,13 +1227,12 @@ public class OrderRecord {
 	 * @return order the most recently created order
 	 */
 	public Order getLastOrder() {
-		long id = 0;
-		for(int i = 0; i < orderRecordList.size(); i++) {
-			if(id < orderRecordList.get(i).getNumber())
-				id = orderRecordList.get(i).getNumber();
-		}
-		return getOrderById(id);
-		
+		return lock.read(new Supplier<Order>() {
+			@Override
+			public Order get() {
+				return orderIndex.get(maxOrderNumber);
+			}
+		});
 	}
 	
 	/**
@@ -537,26 +1263,32 @@ public class OrderRecord {
 	 * @throws IllegalArgumentException if records are null or empty or if the study number array is null or empty.
 	 */
 	public String[] getStudyNumbers() {
-		String[] studies = null;
-		try {
-		  ArrayList<String> studyList = new ArrayList<String>();
-		  studyList.add(rArray[1][0]);
-		  String study = rArray[1][0];
-		  for(int row = 2; row < rArray.length; row++) {
-			  if(!study.equals(rArray[row][0])) {
-				  studyList.add(rArray[row][0]);
-				  study = rArray[row][0];
-			  }
-		  }
-		  studies = new String[studyList.size()];
-		  for(int i = 0; i < studies.length; i++) {
-			  studies[i] = studyList.get(i);
-		  }
-		} catch (NullPointerException e) {
-			throw new IllegalArgumentException();
-		}
-		if( studies.length == 0 || studies == null ) throw new IllegalArgumentException();
-		return studies;
+		return lock.read(new Supplier<String[]>() {
+			@Override
+			public String[] get() {
+				String[] studies = null;
+				try {
+				  ArrayList<String> studyList = new ArrayList<String>();
+				  if(store.size() == 0) throw new IllegalArgumentException();
+				  studyList.add(store.get(1, 0));
+				  String study = store.get(1, 0);
+				  for(int row = 2; row <= store.size(); row++) {
+					  if(!study.equals(store.get(row, 0))) {
+						  studyList.add(store.get(row, 0));
+						  study = store.get(row, 0);
+					  }
+				  }
+				  studies = new String[studyList.size()];
+				  for(int i = 0; i < studies.length; i++) {
+					  studies[i] = studyList.get(i);
+				  }
+				} catch (NullPointerException e) {
+					throw new IllegalArgumentException();
+				}
+				if( studies.length == 0 || studies == null ) throw new IllegalArgumentException();
+				return studies;
+			}
+		});
  	}
 
 	/**
@@ -574,7 +1306,8 @@ public class OrderRecord {
 	}
 
 	/**
-	 * Returns the list of order records.
+	 * Returns the list of order records. The list is the record's own list, so it must only be iterated while no
+	 * other thread changes the record; getOpenOrders() returns a copy that can be used at any time.
 	 * @return the orderRecordList
 	 */
 	public LinkedListRecursive<Order> getOrderRecordList() {
@@ -586,38 +1319,90 @@ public class OrderRecord {
 	 * @param orderRecordList the orderRecordList to set
 	 */
 	public void setOrderRecordList(LinkedListRecursive<Order> orderRecordList) {
-		this.orderRecordList = orderRecordList;
+		long stamp = lock.writeLock();
+		try {
+			this.orderRecordList = orderRecordList;
+			orderIndex = new LongHashMap<Order>(orderRecordList.size());
+			studyPOIndex = new HashMap<String, Order>();
+			maxOrderNumber = 0;
+			for(Order o : orderRecordList) {
+				orderIndex.put(o.getNumber(), o);
+				studyPOIndex.put(key(o.getStudy(), o.getPo()), o);
+				if(o.getNumber() > maxOrderNumber)
+					maxOrderNumber = o.getNumber();
+			}
+			rebuildStudyList();
+			rebuildSiteList();
+			countOpen();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
 	}
 	
 	/**
 	 * Returns an array of the open orders
 	 */
 	public String[][] getOpenOrderArray() {
-		countOpenOrders();
-		String [][] open = new String[getOpenOrderCount()][7];
-		for(int i = 0; i < orderRecordList.size(); i++) {
-			if(orderRecordList.get(i).getStatus().equals(Order.getOpen())) {
-				open[i][0] = orderRecordList.get(i).getPo();
-				open[i][1] = orderRecordList.get(i).getStudy();
-				open[i][2] = orderRecordList.get(i).getSite();
-				open[i][3] = orderRecordList.get(i).getCity();
-				open[i][4] = orderRecordList.get(i).getState();
-				open[i][5] = orderRecordList.get(i).getZip();
-				open[i][6] = orderRecordList.get(i).getStatus();
+		return lock.read(new Supplier<String[][]>() {
+			@Override
+			public String[][] get() {
+				ArrayList<String[]> open = new ArrayList<String[]>(Math.max(OrderRecord.this.open, 0));
+				for(Order o : orderRecordList) {
+					if(Order.getOpen().equals(o.getStatus())) {
+						open.add(new String[] {o.getPo(), o.getStudy(), o.getSite(), o.getCity(), o.getState(),
+								o.getZip(), o.getStatus()});
+					}
+				}
+				return open.toArray(new String[open.size()][]);
 			}
-		}
-		return open;
+		});
 	}
 	
 	/**
-	 * Counts open orders in the order record list.
+	 * Returns the open orders, in the order they were added to the record.
+	 * @param study the study whose open orders are returned, or null for the open orders of every study
+	 * @return a copy of the open orders
+	 */
+	public ArrayList<Order> getOpenOrders(final String study) {
+		return lock.read(new Supplier<ArrayList<Order>>() {
+			@Override
+			public ArrayList<Order> get() {
+				ArrayList<Order> orders = new ArrayList<Order>();
+				for(Order o : orderRecordList) {
+					if(Order.getOpen().equals(o.getStatus()) && (study == null || study.equals(o.getStudy())))
+						orders.add(o);
+				}
+				return orders;
+			}
+		});
+	}
+	
+	/**
+	 * Counts open orders in the order record list. Orders without a status are given the shipped status.
 	 */
 	public void countOpenOrders() {
-		for(int i = 0; i < orderRecordList.size(); i++) {
+		FlightEvent event = EVENTS.begin(EventRecorder.ORDER_IMPORT, "count");
+		long stamp = lock.writeLock();
+		try {
+			countOpen();
+			event.setRows(orderRecordList.size());
+			event.setDetail(open + " open");
+		} finally {
+			lock.unlockWrite(stamp);
+			event.commit();
+		}
+	}
+	
+	/**
+	 * Counts open orders in the order record list. The write lock must be held.
+	 */
+	private void countOpen() {
+		open = 0;
+		for(Order o : orderRecordList) {
 			try {
-			if(orderRecordList.get(i).getStatus().equals(Order.getOpen())) open++;
+			if(o.getStatus().equals(Order.getOpen())) open++;
 			}catch(NullPointerException npe) {
-				getOrderRecordList().get(i).setStatus(Order.getShipped());
+				o.setStatus(Order.getShipped());
 			}
 		}
 	}
@@ -627,7 +1412,12 @@ public class OrderRecord {
 	 * @return open the current number of open orders
 	 */
 	public int getOpenOrderCount() {
-		return open;
+		return lock.read(new Supplier<Integer>() {
+			@Override
+			public Integer get() {
+				return open;
+			}
+		});
 	}
 	
 	/**
@@ -638,12 +1428,36 @@ public class OrderRecord {
 		return productTitlesList;
 	}
 	
+	/**
+	 * Returns how the debug files are written when titles and order records are loaded.
+	 * @return RecordExporter.OFF, RecordExporter.ASYNC or RecordExporter.SYNC
+	 */
+	public int getExportMode() {
+		return exporter.getMode();
+	}
+	
+	/**
+	 * Sets how the debug files are written when titles and order records are loaded. The files are not written
+	 * when the mode is RecordExporter.OFF, the default, are written by a background thread when it is RecordExporter.ASYNC, and
+	 * are written before loading returns when it is RecordExporter.SYNC.
+	 * @param mode RecordExporter.OFF, RecordExporter.ASYNC or RecordExporter.SYNC
+	 * @throws IllegalArgumentException if the mode is not valid
+	 */
+	public void setExportMode(int mode) {
+		exporter.setMode(mode);
+	}
+	
 	/**
 	 * Returns an array-based list with study numbers
 	 * @return studyList the list of studies
 	 */
 	public ArrayList<String> getStudyList() {
-		return studyList;
+		return lock.read(new Supplier<ArrayList<String>>() {
+			@Override
+			public ArrayList<String> get() {
+				return new ArrayList<String>(studyList);
+			}
+		});
 	}
 	
 	/**
@@ -651,7 +1465,12 @@ public class OrderRecord {
 	 * @return studyList the list of sites
 	 */
 	public ArrayList<String> getSiteList() {
-		return siteList;
+		return lock.read(new Supplier<ArrayList<String>>() {
+			@Override
+			public ArrayList<String> get() {
+				return new ArrayList<String>(siteList);
+			}
+		});
 	}
 	
 	/**
@@ -662,32 +1481,133 @@ public class OrderRecord {
 	 * @return rschSite the array containing research site address data
 	 */
 	public String[] getThisResearchSite(String study, String site) {
-		String[] rschSite = new String[5];
-		for(int i = 0; i < rArray.length; i++) {
-			if(rArray[i][0] == null || rArray[i][0].equals("") || 
-				rArray[i][1] == null || rArray[i][1].equals(""))
-					continue;
-			if(rArray[i][0].equals(study) && rArray[i][1].equals(site)) {
-				rschSite[0] = rArray[i][30]; rschSite[1] = rArray[i][31];
-				rschSite[2] = rArray[i][33]; rschSite[3] = rArray[i][35];
-				rschSite[4] = rArray[i][32];
+		final String key = key(study, site);
+		return lock.read(new Supplier<String[]>() {
+			@Override
+			public String[] get() {
+				String[] rschSite = studySiteIndex.get(key);
+				if(rschSite == null)
+					return new String[5];
+				return rschSite.clone();
 			}
-		}
-		return rschSite;
+		});
 	}
 	
 	/**
-	 * Returns a list of sites for the study passed into parameter study
+	 * Returns the sites for the study passed into parameter study. Each site is listed once, in the order it was
+	 * first seen in the order record.
 	 * @param study the study id
+	 * @return the sites for the study
+	 */
+	public Object[] getTheseStudySites(final String study) {
+		return lock.read(new Supplier<Object[]>() {
+			@Override
+			public Object[] get() {
+				LinkedHashSet<String> sites = studySitesIndex.get(study);
+				if(sites == null)
+					return new Object[0];
+				return sites.toArray();
+			}
+		});
+	}
+	
+	/**
+	 * The Order, ResearchSite and research site address constructed from one row of order record data.
+	 * @author Arthur Vargas
+	 */
+	private static class ImportedRow {
+		/** The columns of the row, or null if they are not kept */
+		private String[] record;
+		/** The order, or null if the row has no study number, site number, or location */
+		private Order order;
+		/** The research site the order ships to */
+		private ResearchSite researchSite;
+		/** The study number of the row */
+		private String study;
+		/** The site number of the row */
+		private String site;
+		/** The research site name, street address, city, state, and zip code of the row */
+		private String[] address;
+	}
+	
+	/**
+	 * The product titles and the first and last product title columns, copied while the lock is held so that
+	 * ImportTasks can import rows without reading the fields of the record.
+	 * @author Arthur Vargas
 	 */
-	public Object[] getTheseStudySites(String study) {
-		ArrayList<String> sites = new ArrayList<String>();
-		for(int i = 0; i < rArray.length; i++) {
-			if(rArray[i][0] != null && !rArray[i][0].equals("") && rArray[i][0].equals(study))
-				sites.add(rArray[i][1]);
+	private class TitleColumns {
+		/** The first column that is a product title */
+		private final int first;
+		/** The last column that is a product title */
+		private final int last;
+		/** The product titles */
+		private final ProductTitle[] titles;
+		
+		/**
+		 * Copies the product title columns of the record. The read or write lock must be held.
+		 */
+		public TitleColumns() {
+			first = OrderRecord.this.first;
+			last = OrderRecord.this.last;
+			titles = new ProductTitle[productTitlesList.size()];
+			int i = 0;
+			for(ProductTitle pt : productTitlesList)
+				titles[i++] = pt;
 		}
-		return sites.toArray();
 	}
 	
-			
+	/**
+	 * Reads the records of one part of an order record file and imports each record. Tasks for the parts of 
+	 * the files run in parallel on the common fork-join pool.
+	 * @author Arthur Vargas
+	 */
+	private class ImportTask extends RecursiveAction {
+		/** ID number used for object serialization. */
+		private static final long serialVersionUID = 1L;
+		/** Reader for the part of the file */
+		private MappedRecordReader reader;
+		/** The columns to read */
+		private boolean[] used;
+		/** The product title columns */
+		private TitleColumns titles;
+		/** True if the columns of each row should be kept */
+		private boolean keepRows;
+		/** The imported rows, in the order they appear in the part */
+		private ArrayList<ImportedRow> rows;
+		
+		/**
+		 * Constructs a task to import the records read by the reader.
+		 * @param reader the reader for the part of the file
+		 * @param used the columns to read
+		 * @param titles the product title columns
+		 * @param keepRows true if the columns of each row should be kept
+		 */
+		public ImportTask(MappedRecordReader reader, boolean[] used, TitleColumns titles, boolean keepRows) {
+			this.reader = reader;
+			this.used = used;
+			this.titles = titles;
+			this.keepRows = keepRows;
+		}
+		
+		/**
+		 * Reads and imports every record of the part.
+		 */
+		@Override
+		protected void compute() {
+			rows = new ArrayList<ImportedRow>();
+			while(reader.nextRecord()) {
+				// a line with nothing on it is not a record
+				if(reader.getFieldCount() == 1 && reader.getField(0) == null)
+					continue;
+				String[] record = new String[used.length];
+				for(int col = 0; col < record.length; col++) {
+					if(used[col])
+						record[col] = reader.getField(col);
+				}
+				ImportedRow imported = importRow(record, titles, keepRows);
+				if(keepRows || imported.order != null)
+					rows.add(imported);
+			}
+		}
+	}
 }
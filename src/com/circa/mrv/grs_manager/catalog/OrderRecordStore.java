@@ -0,0 +1,418 @@
+package com.circa.mrv.grs_manager.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * OrderRecordStore holds the rows of an order record by column rather than by row. Rows are numbered the same way
+ * as the rows of an order record array: row 0 holds the column titles and the data rows are numbered from 1 to
+ * size(). The store grows as rows are added, so it is not limited to a fixed number of rows.
+ *
+ * Most columns repeat a small number of values, such as the study, site, country or carrier of an order. These
+ * columns are dictionary encoded: each distinct value is stored once and each row holds an int code for its value.
+ * A column whose values turn out to be mostly distinct, such as the purchase order number, gains nothing from the
+ * dictionary and is changed to store its values directly. Product title columns are empty for most rows, so they
+ * are stored sparsely: only the rows that have a value take up space.
+ *
+ * @author Arthur Vargas
+ */
+public class OrderRecordStore {
+	/** Initial number of rows the columns can hold before they grow */
+	private static final int INIT_ROWS = 64;
+	/** Number of rows a column must have before it is checked for mostly distinct values */
+	private static final int MIN_DICTIONARY_ROWS = 64;
+	/** The column titles */
+	private ArrayList<String> titles;
+	/** The columns of the record; a column is null until a value is set in it */
+	private ArrayList<Column> columns;
+	/** The first product title column, or -1 if there are no product title columns */
+	private int firstSparse;
+	/** The last product title column, or -1 if there are no product title columns */
+	private int lastSparse;
+	/** The number of data rows */
+	private int size;
+
+	/**
+	 * Constructs an empty store with no titles and no rows.
+	 */
+	public OrderRecordStore() {
+		titles = new ArrayList<String>();
+		columns = new ArrayList<Column>();
+		firstSparse = -1;
+		lastSparse = -1;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of data rows in the store.
+	 * @return the number of data rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of columns in the store, which is one more than the last column that has a title or a value.
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return Math.max(titles.size(), columns.size());
+	}
+
+	/**
+	 * Adds an empty data row to the end of the store.
+	 * @return the number of the new row
+	 */
+	public int addRow() {
+		return ++size;
+	}
+
+	/**
+	 * Removes every data row from the store. The titles are kept.
+	 */
+	public void clearRows() {
+		columns.clear();
+		size = 0;
+	}
+
+	/**
+	 * Sets the columns from first to last, inclusive, to be stored sparsely. These are the product title columns,
+	 * which hold a value in only a few rows. Values already stored in the columns are kept.
+	 * @param first the first product title column
+	 * @param last the last product title column
+	 * @throws IllegalArgumentException if first is less than 0 or last is less than first
+	 */
+	public void setSparseColumns(int first, int last) {
+		if (first < 0 || last < first)
+			throw new IllegalArgumentException("Invalid column range");
+		int oldFirst = firstSparse;
+		int oldLast = lastSparse;
+		firstSparse = first;
+		lastSparse = last;
+		int end = Math.min(columns.size() - 1, Math.max(last, oldLast));
+		for (int col = Math.min(first, oldFirst < 0 ? first : oldFirst); col <= end; col++) {
+			Column old = columns.get(col);
+			if (old == null || old.isSparse() == isSparse(col))
+				continue;
+			Column column = newColumn(col);
+			for (int row = 1; row <= size; row++) {
+				String value = old.get(row);
+				if (value != null)
+					column.set(row, value);
+			}
+			columns.set(col, column);
+		}
+	}
+
+	/**
+	 * Returns the value at the row and column. Row 0 holds the column titles.
+	 * @param row the row
+	 * @param col the column
+	 * @return the value, or null if the cell is empty
+	 * @throws IndexOutOfBoundsException if the row is less than 0 or greater than size() or the column is less than 0
+	 */
+	public String get(int row, int col) {
+		if (row < 0 || row > size || col < 0)
+			throw new IndexOutOfBoundsException("Invalid cell " + row + ", " + col);
+		if (row == 0)
+			return col < titles.size() ? titles.get(col) : null;
+		if (col >= columns.size() || columns.get(col) == null)
+			return null;
+		return columns.get(col).get(row);
+	}
+
+	/**
+	 * Sets the value at the row and column. Row 0 holds the column titles.
+	 * @param row the row
+	 * @param col the column
+	 * @param value the value, or null to empty the cell
+	 * @throws IndexOutOfBoundsException if the row is less than 0 or greater than size() or the column is less than 0
+	 */
+	public void set(int row, int col, String value) {
+		if (row < 0 || row > size || col < 0)
+			throw new IndexOutOfBoundsException("Invalid cell " + row + ", " + col);
+		if (row == 0) {
+			while (titles.size() <= col)
+				titles.add(null);
+			titles.set(col, value);
+			return;
+		}
+		while (columns.size() <= col)
+			columns.add(null);
+		Column column = columns.get(col);
+		if (column == null) {
+			if (value == null)
+				return;
+			column = newColumn(col);
+			columns.set(col, column);
+		}
+		column.set(row, value);
+		if (column.isTooDistinct(size))
+			columns.set(col, new PlainColumn(column, size));
+	}
+
+	/**
+	 * Copies the values of a row into the passed array. Columns past the end of the array are not copied and
+	 * elements past the last column are set to null.
+	 * @param row the row
+	 * @param values the array to fill
+	 * @return the filled array
+	 * @throws IndexOutOfBoundsException if the row is less than 0 or greater than size()
+	 */
+	public String[] getRow(int row, String[] values) {
+		for (int col = 0; col < values.length; col++) {
+			values[col] = get(row, col);
+		}
+		return values;
+	}
+
+	/**
+	 * Returns true if the column is a product title column, which is stored sparsely.
+	 * @param col the column
+	 * @return true if the column is stored sparsely
+	 */
+	private boolean isSparse(int col) {
+		return firstSparse <= col && col <= lastSparse;
+	}
+
+	/**
+	 * Creates an empty column of the kind used for the column index.
+	 * @param col the column index
+	 * @return the new column
+	 */
+	private Column newColumn(int col) {
+		if (isSparse(col))
+			return new SparseColumn();
+		return new DictionaryColumn();
+	}
+
+	/**
+	 * A column of string values indexed by row.
+	 * @author Arthur Vargas
+	 */
+	private abstract static class Column {
+
+		/**
+		 * Returns the value in the row.
+		 * @param row the row, from 1
+		 * @return the value or null if the cell is empty
+		 */
+		abstract String get(int row);
+
+		/**
+		 * Sets the value in the row.
+		 * @param row the row, from 1
+		 * @param value the value or null to empty the cell
+		 */
+		abstract void set(int row, String value);
+
+		/**
+		 * Returns true if the column only stores the rows that have a value.
+		 * @return true if the column is sparse
+		 */
+		abstract boolean isSparse();
+
+		/**
+		 * Returns true if the column is dictionary encoded and most of its values are distinct, so it would take
+		 * less space if the values were stored directly.
+		 * @param rows the number of rows in the store
+		 * @return true if the column should store its values directly
+		 */
+		boolean isTooDistinct(int rows) {
+			return false;
+		}
+	}
+
+	/**
+	 * A column that stores the value of each row directly.
+	 * @author Arthur Vargas
+	 */
+	private static class PlainColumn extends Column {
+		/** The value in each row, indexed by row */
+		private String[] values;
+
+		/**
+		 * Constructs a column holding the values of the rows of another column.
+		 * @param column the column to copy
+		 * @param rows the number of rows to copy
+		 */
+		PlainColumn(Column column, int rows) {
+			values = new String[Math.max(INIT_ROWS, rows * 2)];
+			for (int row = 1; row <= rows; row++) {
+				values[row] = column.get(row);
+			}
+		}
+
+		@Override
+		String get(int row) {
+			return row < values.length ? values[row] : null;
+		}
+
+		@Override
+		void set(int row, String value) {
+			if (row >= values.length) {
+				if (value == null)
+					return;
+				String[] larger = new String[Math.max(values.length * 2, row + 1)];
+				System.arraycopy(values, 0, larger, 0, values.length);
+				values = larger;
+			}
+			values[row] = value;
+		}
+
+		@Override
+		boolean isSparse() {
+			return false;
+		}
+	}
+
+	/**
+	 * A column that stores each distinct value once. Each row holds the code of its value: 0 for an empty cell, or
+	 * one more than the index of the value in the dictionary.
+	 * @author Arthur Vargas
+	 */
+	private static class DictionaryColumn extends Column {
+		/** The code of the value in each row, indexed by row */
+		private int[] codes;
+		/** The distinct values of the column in the order they were first set */
+		private ArrayList<String> dictionary;
+		/** The code of each distinct value */
+		private HashMap<String, Integer> lookup;
+
+		/**
+		 * Constructs an empty column.
+		 */
+		DictionaryColumn() {
+			codes = new int[INIT_ROWS];
+			dictionary = new ArrayList<String>();
+			lookup = new HashMap<String, Integer>();
+		}
+
+		@Override
+		String get(int row) {
+			if (row >= codes.length || codes[row] == 0)
+				return null;
+			return dictionary.get(codes[row] - 1);
+		}
+
+		@Override
+		void set(int row, String value) {
+			if (row >= codes.length) {
+				if (value == null)
+					return;
+				int[] larger = new int[Math.max(codes.length * 2, row + 1)];
+				System.arraycopy(codes, 0, larger, 0, codes.length);
+				codes = larger;
+			}
+			if (value == null) {
+				codes[row] = 0;
+				return;
+			}
+			Integer code = lookup.get(value);
+			if (code == null) {
+				dictionary.add(value);
+				code = dictionary.size();
+				lookup.put(value, code);
+			}
+			codes[row] = code;
+		}
+
+		@Override
+		boolean isSparse() {
+			return false;
+		}
+
+		@Override
+		boolean isTooDistinct(int rows) {
+			return rows >= MIN_DICTIONARY_ROWS && dictionary.size() > rows / 2;
+		}
+	}
+
+	/**
+	 * A column that stores only the rows that have a value. The rows are kept in ascending order so a row is found
+	 * by binary search, and appending rows in order takes constant time.
+	 * @author Arthur Vargas
+	 */
+	private static class SparseColumn extends Column {
+		/** The rows that have a value, in ascending order */
+		private int[] rows;
+		/** The value of each row in rows */
+		private String[] values;
+		/** The number of rows that have a value */
+		private int count;
+
+		/**
+		 * Constructs an empty column.
+		 */
+		SparseColumn() {
+			rows = new int[8];
+			values = new String[8];
+			count = 0;
+		}
+
+		@Override
+		String get(int row) {
+			int i = find(row);
+			return i < 0 ? null : values[i];
+		}
+
+		@Override
+		void set(int row, String value) {
+			int i = find(row);
+			if (i >= 0) {
+				if (value != null) {
+					values[i] = value;
+				} else {
+					count--;
+					System.arraycopy(rows, i + 1, rows, i, count - i);
+					System.arraycopy(values, i + 1, values, i, count - i);
+					values[count] = null;
+				}
+				return;
+			}
+			if (value == null)
+				return;
+			i = -(i + 1);
+			if (count == rows.length) {
+				int[] largerRows = new int[rows.length * 2];
+				System.arraycopy(rows, 0, largerRows, 0, count);
+				rows = largerRows;
+				String[] largerValues = new String[values.length * 2];
+				System.arraycopy(values, 0, largerValues, 0, count);
+				values = largerValues;
+			}
+			System.arraycopy(rows, i, rows, i + 1, count - i);
+			System.arraycopy(values, i, values, i + 1, count - i);
+			rows[i] = row;
+			values[i] = value;
+			count++;
+		}
+
+		@Override
+		boolean isSparse() {
+			return true;
+		}
+
+		/**
+		 * Finds the position of the row in rows.
+		 * @param row the row
+		 * @return the position of the row, or -(insertion point + 1) if the row has no value
+		 */
+		private int find(int row) {
+			if (count > 0 && rows[count - 1] < row)
+				return -(count + 1);
+			int low = 0;
+			int high = count - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (rows[mid] < row)
+					low = mid + 1;
+				else if (rows[mid] > row)
+					high = mid - 1;
+				else
+					return mid;
+			}
+			return -(low + 1);
+		}
+	}
+}
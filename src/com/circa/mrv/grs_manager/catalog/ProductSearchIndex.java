@@ -0,0 +1,320 @@
+package com.circa.mrv.grs_manager.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.TreeMap;
+
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Product;
+
+/**
+ * ProductSearchIndex finds catalog products as the user types. A product's part number and name (family, generation
+ * and description, as shown in the order entry combo boxes) are split into words at every character that is not a
+ * letter or digit, so "12-1810-US" gives the words "12", "1810" and "us". The words of every product are kept in one
+ * array sorted alphabetically, and all the words that begin with a prefix are found with a binary search followed by
+ * a scan of the words that share the prefix. Searches ignore case.
+ *
+ * search() returns the products that have a word beginning with each word of the query, best matches first: a
+ * product whose part number or name equals the query, then one whose part number begins with the query, then one
+ * whose name begins with the query, then the rest, each group in catalog order. complete() returns the part numbers,
+ * names and descriptions, including the NioxCatalog.DESCRIPTIONS vocabulary, that begin with a prefix.
+ *
+ * An index is a snapshot of the products it was built from. NioxCatalog.getSearchIndex() returns an index that is
+ * rebuilt when the catalog changes.
+ *
+ * @author Arthur Vargas
+ */
+public class ProductSearchIndex {
+	/** Rank of a product whose part number or name equals the query */
+	private static final int EXACT = 0;
+	/** Rank of a product whose part number begins with the query */
+	private static final int PART_NUMBER_PREFIX = 1;
+	/** Rank of a product whose name begins with the query */
+	private static final int NAME_PREFIX = 2;
+	/** Rank of a product whose words begin with the words of the query */
+	private static final int WORD_PREFIX = 3;
+	/** Times search() */
+	private static final Timer SEARCH_TIMER = MetricsRegistry.getInstance().timer("catalog.search");
+	/** The indexed products in catalog order */
+	private Product[] products;
+	/** The lower case part number of each product */
+	private String[] partNumbers;
+	/** The lower case name of each product */
+	private String[] names;
+	/** The words of every product, sorted */
+	private String[] words;
+	/** The position in products of the product each word in words came from */
+	private int[] wordProducts;
+	/** The lower case form of each completion, sorted */
+	private String[] completionKeys;
+	/** The completions, in the same order as completionKeys */
+	private String[] completions;
+
+	/**
+	 * Builds an index of the products.
+	 * @param products the products in catalog order
+	 * @throws IllegalArgumentException if products is null
+	 */
+	public ProductSearchIndex(Iterable<Product> products) {
+		if (products == null)
+			throw new IllegalArgumentException("Products are null");
+		ArrayList<Product> list = new ArrayList<Product>();
+		for (Product p : products) {
+			list.add(p);
+		}
+		this.products = list.toArray(new Product[list.size()]);
+		partNumbers = new String[this.products.length];
+		names = new String[this.products.length];
+		final ArrayList<String> allWords = new ArrayList<String>();
+		ArrayList<Integer> allProducts = new ArrayList<Integer>();
+		TreeMap<String, String> vocabulary = new TreeMap<String, String>();
+		for (String description : NioxCatalog.DESCRIPTIONS) {
+			addCompletion(vocabulary, description);
+		}
+		for (int i = 0; i < this.products.length; i++) {
+			Product p = this.products[i];
+			String name = getName(p);
+			partNumbers[i] = normalize(p.getPartNumber());
+			names[i] = normalize(name);
+			for (String word : split(partNumbers[i] + " " + names[i])) {
+				allWords.add(word);
+				allProducts.add(i);
+			}
+			addCompletion(vocabulary, p.getPartNumber());
+			addCompletion(vocabulary, name);
+			addCompletion(vocabulary, p.getDescription());
+		}
+		Integer[] order = new Integer[allWords.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+		// sorting is stable, so the products of each word stay in catalog order
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return allWords.get(a).compareTo(allWords.get(b));
+			}
+		});
+		words = new String[order.length];
+		wordProducts = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			words[i] = allWords.get(order[i]);
+			wordProducts[i] = allProducts.get(order[i]);
+		}
+		completionKeys = vocabulary.keySet().toArray(new String[vocabulary.size()]);
+		completions = vocabulary.values().toArray(new String[vocabulary.size()]);
+	}
+
+	/**
+	 * Returns the number of products in the index.
+	 * @return the number of products
+	 */
+	public int size() {
+		return products.length;
+	}
+
+	/**
+	 * Finds the products that have a word beginning with each word of the query, best matches first.
+	 * @param query the text typed so far
+	 * @param limit the largest number of products to return
+	 * @return the matching products, or an empty array if the query is null or blank or nothing matches
+	 * @throws IllegalArgumentException if limit is less than 1
+	 */
+	public Product[] search(String query, int limit) {
+		if (limit < 1)
+			throw new IllegalArgumentException("Invalid limit");
+		long start = SEARCH_TIMER.start();
+		try {
+			return match(query, limit);
+		} finally {
+			SEARCH_TIMER.stop(start);
+		}
+	}
+
+	/**
+	 * Finds the products that have a word beginning with each word of the query, best matches first.
+	 * @param query the text typed so far
+	 * @param limit the largest number of products to return, at least 1
+	 * @return the matching products
+	 */
+	private Product[] match(String query, int limit) {
+		String q = normalize(query);
+		String[] queryWords = split(q);
+		if (queryWords.length == 0)
+			return new Product[0];
+		BitSet matches = null;
+		for (String word : queryWords) {
+			BitSet found = new BitSet(products.length);
+			for (int i = lowerBound(words, word); i < words.length && words[i].startsWith(word); i++) {
+				found.set(wordProducts[i]);
+			}
+			if (matches == null)
+				matches = found;
+			else
+				matches.and(found);
+			if (matches.isEmpty())
+				return new Product[0];
+		}
+		// products are put in one list per rank in catalog order, and the lists are joined until the limit is reached
+		int[][] ranked = new int[WORD_PREFIX + 1][];
+		int[] counts = new int[WORD_PREFIX + 1];
+		for (int i = 0; i < ranked.length; i++) {
+			ranked[i] = new int[Math.min(limit, matches.cardinality())];
+		}
+		for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+			int rank = rank(i, q);
+			if (counts[rank] < ranked[rank].length)
+				ranked[rank][counts[rank]++] = i;
+		}
+		ArrayList<Product> result = new ArrayList<Product>(ranked[0].length);
+		for (int rank = 0; rank < ranked.length && result.size() < limit; rank++) {
+			for (int i = 0; i < counts[rank] && result.size() < limit; i++) {
+				result.add(products[ranked[rank][i]]);
+			}
+		}
+		return result.toArray(new Product[result.size()]);
+	}
+
+	/**
+	 * Finds the product whose part number or name equals the text, ignoring case and extra whitespace. This is how
+	 * a value chosen from the part number or product name combo box is turned back into a product.
+	 * @param text the part number or name
+	 * @return the first product in catalog order with that part number or name, or null if there is none
+	 */
+	public Product find(String text) {
+		Product[] best = search(text, 1);
+		if (best.length == 0)
+			return null;
+		String t = normalize(text);
+		if (normalize(best[0].getPartNumber()).equals(t) || normalize(getName(best[0])).equals(t))
+			return best[0];
+		return null;
+	}
+
+	/**
+	 * Returns the part numbers, product names and descriptions that begin with the prefix, in alphabetical order.
+	 * @param prefix the text typed so far
+	 * @param limit the largest number of completions to return
+	 * @return the completions, or an empty array if the prefix is null or blank or nothing matches
+	 * @throws IllegalArgumentException if limit is less than 1
+	 */
+	public String[] complete(String prefix, int limit) {
+		if (limit < 1)
+			throw new IllegalArgumentException("Invalid limit");
+		String p = normalize(prefix);
+		if (p.isEmpty())
+			return new String[0];
+		int start = lowerBound(completionKeys, p);
+		int end = start;
+		while (end < completionKeys.length && end - start < limit && completionKeys[end].startsWith(p)) {
+			end++;
+		}
+		return Arrays.copyOfRange(completions, start, end);
+	}
+
+	/**
+	 * Returns how well the product matches the query.
+	 * @param product the position of the product
+	 * @param query the normalized query
+	 * @return EXACT, PART_NUMBER_PREFIX, NAME_PREFIX or WORD_PREFIX
+	 */
+	private int rank(int product, String query) {
+		if (partNumbers[product].equals(query) || names[product].equals(query))
+			return EXACT;
+		if (partNumbers[product].startsWith(query))
+			return PART_NUMBER_PREFIX;
+		if (names[product].startsWith(query))
+			return NAME_PREFIX;
+		return WORD_PREFIX;
+	}
+
+	/**
+	 * Returns the name of the product as it is shown in the order entry combo boxes.
+	 * @param product the product
+	 * @return the family, generation and description of the product separated by spaces
+	 */
+	static String getName(Product product) {
+		if (product instanceof Component)
+			return product.getFamily() + " " + ((Component) product).getGeneration() + " " + product.getDescription();
+		return product.getFamily() + " " + product.getDescription();
+	}
+
+	/**
+	 * Adds the text to the completions if it is not blank. The first text seen for each lower case form is kept.
+	 * @param vocabulary the completions by lower case form
+	 * @param text the text
+	 */
+	private static void addCompletion(TreeMap<String, String> vocabulary, String text) {
+		String key = normalize(text);
+		if (!key.isEmpty() && !vocabulary.containsKey(key))
+			vocabulary.put(key, text.trim());
+	}
+
+	/**
+	 * Returns the text in lower case with whitespace collapsed to single spaces and trimmed.
+	 * @param text the text, or null
+	 * @return the normalized text, or an empty string if the text is null
+	 */
+	private static String normalize(String text) {
+		if (text == null)
+			return "";
+		StringBuilder sb = new StringBuilder(text.length());
+		boolean space = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) {
+				space = sb.length() > 0;
+			} else {
+				if (space)
+					sb.append(' ');
+				sb.append(c);
+				space = false;
+			}
+		}
+		return sb.toString().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Splits normalized text into words at every character that is not a letter or digit.
+	 * @param text the normalized text
+	 * @return the words
+	 */
+	private static String[] split(String text) {
+		ArrayList<String> result = new ArrayList<String>();
+		int start = -1;
+		for (int i = 0; i <= text.length(); i++) {
+			boolean letter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+			if (letter && start < 0) {
+				start = i;
+			} else if (!letter && start >= 0) {
+				result.add(text.substring(start, i));
+				start = -1;
+			}
+		}
+		return result.toArray(new String[result.size()]);
+	}
+
+	/**
+	 * Returns the position of the first element of the sorted array that is not less than the key.
+	 * @param sorted the sorted array
+	 * @param key the key
+	 * @return the position, or the length of the array if every element is less than the key
+	 */
+	private static int lowerBound(String[] sorted, String key) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid].compareTo(key) < 0)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+}
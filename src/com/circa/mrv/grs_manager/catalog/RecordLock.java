@@ -0,0 +1,46 @@
+package com.circa.mrv.grs_manager.catalog;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * RecordLock guards the OrderRecord and the NioxCatalog. Changes are made while holding the write lock. Reads are
+ * first tried optimistically, without taking any lock: the reader runs, and if no change was made while it ran its
+ * result is returned. Only if a change was made while it ran, or it failed because it saw a change half made, is it
+ * run again while holding the read lock. Most reads therefore never wait, and never make a writer wait.
+ *
+ * A reader run optimistically may see fields in the middle of being changed, so it must only read and must not
+ * keep or publish anything it reads before the result is returned. The lock is not reentrant: a method holding it
+ * must not call a method that takes it.
+ *
+ * @author Arthur Vargas
+ */
+class RecordLock extends StampedLock {
+	/** ID used for object serialization */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Runs the reader optimistically, or while holding the read lock if a change was made while it ran.
+	 * @param reader the reader
+	 * @param <T> the type of the result
+	 * @return the result of the reader
+	 */
+	<T> T read(Supplier<T> reader) {
+		long stamp = tryOptimisticRead();
+		if (stamp != 0) {
+			try {
+				T result = reader.get();
+				if (validate(stamp))
+					return result;
+			} catch (RuntimeException e) {
+				// the reader saw a change half made; it is run again below
+			}
+		}
+		stamp = readLock();
+		try {
+			return reader.get();
+		} finally {
+			unlockRead(stamp);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.circa.mrv.grs_manager.directory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.user.Employee;
+
+/**
+ * DirectorySnapshot is a copy of the companies in a CompanyDirectory and of the employees at their locations, taken
+ * after a change to the directory. A snapshot is never changed once it is made: the directory makes a new one after
+ * each change and publishes it in a single write, so readers such as the employee directory tables can
+ * use the snapshot they are given on any thread without locks and without walking the directory's linked lists.
+ *
+ * The companies, locations and employees in a snapshot are the directory's own objects, not copies; only the lists
+ * holding them and the rows of the employee tables are copied.
+ *
+ * @author Arthur Vargas
+ */
+public class DirectorySnapshot {
+	/** The number of columns in the employee tables: first name, last name, id and email */
+	private static final int COLUMNS = 4;
+
+	/** The employee index modification count the snapshot was taken at */
+	private final int modCount;
+	/** The companies in the directory in directory order */
+	private final List<Company> companies;
+	/** The employees of research companies in directory order */
+	private final List<EmployeeIndex.Entry> researchEmployees;
+	/** The employees of vendor companies in directory order */
+	private final List<EmployeeIndex.Entry> vendorEmployees;
+	/** The indexed employees by user id */
+	private final Map<String, EmployeeIndex.Entry> byId;
+	/** The rows of the research employee table */
+	private final String[][] researchData;
+	/** The rows of the vendor employee table */
+	private final String[][] vendorData;
+
+	/**
+	 * Takes a snapshot of the companies and of the employees at their locations. An employee is found by id in the
+	 * snapshot only if the index holds that employee under the id.
+	 * @param companies the companies in the directory
+	 * @param index the employee index of the directory
+	 * @param modCount the index modification count the snapshot is taken at
+	 */
+	DirectorySnapshot(Iterable<Company> companies, EmployeeIndex index, int modCount) {
+		this.modCount = modCount;
+		List<Company> all = new ArrayList<Company>();
+		List<EmployeeIndex.Entry> research = new ArrayList<EmployeeIndex.Entry>();
+		List<EmployeeIndex.Entry> vendor = new ArrayList<EmployeeIndex.Entry>();
+		Map<String, EmployeeIndex.Entry> ids = new HashMap<String, EmployeeIndex.Entry>();
+		for (Company c : companies) {
+			all.add(c);
+			if (c.getLocations() == null)
+				continue;
+			for (Location l : c.getLocations()) {
+				if (l.getEmployees() == null)
+					continue;
+				for (Employee e : l.getEmployees()) {
+					EmployeeIndex.Entry entry = index.get(e.getId());
+					if (entry != null && entry.getEmployee() == e)
+						ids.put(e.getId(), entry);
+					else
+						entry = new EmployeeIndex.Entry(e, c, l);
+					if (c instanceof ResearchCompany)
+						research.add(entry);
+					else if (c instanceof VendorCompany)
+						vendor.add(entry);
+				}
+			}
+		}
+		this.companies = Collections.unmodifiableList(all);
+		this.researchEmployees = Collections.unmodifiableList(research);
+		this.vendorEmployees = Collections.unmodifiableList(vendor);
+		this.byId = ids;
+		this.researchData = rows(research);
+		this.vendorData = rows(vendor);
+	}
+
+	/**
+	 * Returns the rows of an employee table.
+	 * @param employees the employees in the table
+	 * @return a row of first name, last name, id and email for each employee
+	 */
+	private static String[][] rows(List<EmployeeIndex.Entry> employees) {
+		String[][] rows = new String[employees.size()][COLUMNS];
+		for (int i = 0; i < rows.length; i++) {
+			Employee e = employees.get(i).getEmployee();
+			rows[i][0] = e.getFirstName();
+			rows[i][1] = e.getLastName();
+			rows[i][2] = e.getId();
+			rows[i][3] = e.getEmail();
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns a copy of the rows of an employee table, so that a table that edits its rows cannot change the snapshot.
+	 * @param rows the rows
+	 * @return the copy
+	 */
+	private static String[][] copy(String[][] rows) {
+		String[][] copy = new String[rows.length][];
+		for (int i = 0; i < rows.length; i++) {
+			copy[i] = rows[i].clone();
+		}
+		return copy;
+	}
+
+	/**
+	 * Returns the employee index modification count the snapshot was taken at.
+	 * @return the modification count
+	 */
+	int getModCount() {
+		return modCount;
+	}
+
+	/**
+	 * Returns the companies in the directory.
+	 * @return an unmodifiable list of the companies in directory order
+	 */
+	public List<Company> getCompanies() {
+		return companies;
+	}
+
+	/**
+	 * Returns the employees of the research companies in the directory with the company and location each works at.
+	 * @return an unmodifiable list of the employees in directory order
+	 */
+	public List<EmployeeIndex.Entry> getResearchEmployees() {
+		return researchEmployees;
+	}
+
+	/**
+	 * Returns the employees of the vendor companies in the directory with the company and location each works at.
+	 * @return an unmodifiable list of the employees in directory order
+	 */
+	public List<EmployeeIndex.Entry> getVendorEmployees() {
+		return vendorEmployees;
+	}
+
+	/**
+	 * Returns the employee with the user id together with the company and location the employee works at.
+	 * @param id the user id
+	 * @return the employee's entry, or null if no employee in the snapshot has the id
+	 */
+	public EmployeeIndex.Entry getEmployee(String id) {
+		if (id == null)
+			return null;
+		return byId.get(id);
+	}
+
+	/**
+	 * Returns the number of employees that can be found by id.
+	 * @return the number of employees
+	 */
+	public int getEmployeeCount() {
+		return byId.size();
+	}
+
+	/**
+	 * Returns the research employee table: a row of first name, last name, id and email for each employee of a
+	 * research company.
+	 * @return a copy of the rows
+	 */
+	public String[][] getResearchEmployeeData() {
+		return copy(researchData);
+	}
+
+	/**
+	 * Returns the vendor employee table: a row of first name, last name, id and email for each employee of a vendor
+	 * company.
+	 * @return a copy of the rows
+	 */
+	public String[][] getVendorEmployeeData() {
+		return copy(vendorData);
+	}
+}
@@ -0,0 +1,184 @@
+package com.circa.mrv.grs_manager.directory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.user.Employee;
+
+/**
+ * EmployeeIndex finds the employee with a user id, and the company and location the employee works at, without
+ * searching every location of every company. The CompanyDirectory keeps one index for all of its companies: when a
+ * company is added to the directory the employees at its locations are indexed and each location is attached to the
+ * index, so that employees added to or removed from the location later with Location.addEmployee() and
+ * Location.removeEmployee() are added to or removed from the index as well.
+ *
+ * User ids are unique across the directory. If two locations list an employee with the same id, the employee indexed
+ * first is kept. Lookups may run on several threads while employees are added and removed.
+ *
+ * @author Arthur Vargas
+ */
+public class EmployeeIndex {
+	/** The entry for each indexed user id */
+	private ConcurrentHashMap<String, Entry> entries;
+	/** The number of changes made to the index, used to tell whether a DirectorySnapshot is out of date */
+	private final AtomicInteger modCount = new AtomicInteger();
+
+	/**
+	 * Creates an empty index.
+	 */
+	public EmployeeIndex() {
+		entries = new ConcurrentHashMap<String, Entry>();
+	}
+
+	/**
+	 * Returns the entry for the user id.
+	 * @param id the user id
+	 * @return the employee with the id and where they work, or null if no employee has the id
+	 */
+	public Entry get(String id) {
+		if (id == null)
+			return null;
+		return entries.get(id);
+	}
+
+	/**
+	 * Returns the number of indexed employees.
+	 * @return the number of employees
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Returns the number of changes made to the index. The count changes whenever an employee is added or removed.
+	 * @return the modification count
+	 */
+	public int getModCount() {
+		return modCount.get();
+	}
+
+	/**
+	 * Indexes the employee at the location of the company. Does nothing if an employee with the same id is already
+	 * indexed.
+	 * @param employee the employee
+	 * @param company the company the employee works for
+	 * @param location the location the employee works at
+	 * @throws IllegalArgumentException if the employee, its id, the company or the location is null
+	 */
+	public void add(Employee employee, Company company, Location location) {
+		if (employee == null || employee.getId() == null || company == null || location == null)
+			throw new IllegalArgumentException("Invalid employee");
+		if (entries.putIfAbsent(employee.getId(), new Entry(employee, company, location)) == null)
+			modCount.incrementAndGet();
+	}
+
+	/**
+	 * Removes the employee from the index. Does nothing if a different employee is indexed under the same id.
+	 * @param employee the employee
+	 * @return true if the employee was removed
+	 */
+	public boolean remove(Employee employee) {
+		if (employee == null || employee.getId() == null)
+			return false;
+		Entry e = entries.get(employee.getId());
+		if (e == null || e.getEmployee() != employee)
+			return false;
+		if (!entries.remove(employee.getId(), e))
+			return false;
+		modCount.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Indexes the employees at every location of the company and attaches the locations to this index.
+	 * @param company the company
+	 */
+	public void addCompany(Company company) {
+		if (company == null || company.getLocations() == null)
+			return;
+		for (Location l : company.getLocations()) {
+			l.attach(this, company);
+			if (l.getEmployees() == null)
+				continue;
+			for (Employee e : l.getEmployees()) {
+				add(e, company, l);
+			}
+		}
+	}
+
+	/**
+	 * Removes the employees at every location of the company and detaches the locations from this index.
+	 * @param company the company
+	 */
+	public void removeCompany(Company company) {
+		if (company == null || company.getLocations() == null)
+			return;
+		for (Location l : company.getLocations()) {
+			l.attach(null, null);
+			if (l.getEmployees() == null)
+				continue;
+			for (Employee e : l.getEmployees()) {
+				remove(e);
+			}
+		}
+	}
+
+	/**
+	 * Removes every employee from the index.
+	 */
+	public void clear() {
+		entries.clear();
+		modCount.incrementAndGet();
+	}
+
+	/**
+	 * An indexed employee together with the company and location the employee works at.
+	 *
+	 * @author Arthur Vargas
+	 */
+	public static class Entry {
+		/** The employee */
+		private final Employee employee;
+		/** The company the employee works for */
+		private final Company company;
+		/** The location the employee works at */
+		private final Location location;
+
+		/**
+		 * Creates an entry.
+		 * @param employee the employee
+		 * @param company the company
+		 * @param location the location
+		 */
+		Entry(Employee employee, Company company, Location location) {
+			this.employee = employee;
+			this.company = company;
+			this.location = location;
+		}
+
+		/**
+		 * Returns the employee.
+		 * @return the employee
+		 */
+		public Employee getEmployee() {
+			return employee;
+		}
+
+		/**
+		 * Returns the company the employee works for.
+		 * @return the company
+		 */
+		public Company getCompany() {
+			return company;
+		}
+
+		/**
+		 * Returns the location the employee works at.
+		 * @return the location
+		 */
+		public Location getLocation() {
+			return location;
+		}
+	}
+}
@@ -5,10 +5,13 @@ package com.circa.mrv.grs_manager.directory;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
+import com.circa.mrv.grs_manager.io.SnapshotIO;
+import com.circa.mrv.grs_manager.io.SnapshotReader;
+import com.circa.mrv.grs_manager.io.SnapshotWriter;
 import com.circa.mrv.grs_manager.io.UserRecordIO;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
 import com.circa.mrv.grs_manager.util.LinkedAbstractList;
 import com.circa.mrv.grs_manager.user.Employee;
 import com.circa.mrv.grs_manager.user.User;
@@ -21,15 +24,16 @@ import com.circa.mrv.grs_manager.user.User;
 public class UserDirectory {
     /** A list of users */
 	LinkedAbstractList<User> users;
-	
-	/** Hashing algorithm */
-	private static final String HASH_ALGORITHM = "SHA-256";
+	/** Times loadUsersFromFile() */
+	private static final Timer LOAD_TIMER = MetricsRegistry.getInstance().timer("users.load");
+	/** The number of users the directory can hold unless more are read from a snapshot */
+	private static final int CAPACITY = 100;
 	
 	/**
 	 * Constructs an empty userDirectory
 	*/ 
 	public UserDirectory() {
-		users = new LinkedAbstractList<User>(100);
+		users = new LinkedAbstractList<User>(CAPACITY);
 	}
 	
 	/**
@@ -37,7 +41,7 @@ public class UserDirectory {
 	 * list are lost unless saved by the user.
 	 */
 	public void newUserDirectory() {
-		users = new LinkedAbstractList<User>(100);
+		users = new LinkedAbstractList<User>(CAPACITY);
 	}
 	
 	/**
@@ -47,14 +51,52 @@ public class UserDirectory {
 	 * @param fileName file containing list of users
 	 */
 	public void loadUsersFromFile(String fileName) {
+		long start = LOAD_TIMER.start();
 		try {
 			users = UserRecordIO.readUserRecords(fileName);
 		} catch (FileNotFoundException e) {
 			throw new IllegalArgumentException("Unable to read file " + fileName);
+		} finally {
+			LOAD_TIMER.stop(start);
 		}
 	}
 	
 	
+	/**
+	 * Writes the user directory section of a snapshot: a USERS record with the number of users, then a USER
+	 * record for each user.
+	 * @param out the snapshot being written
+	 * @throws IOException if the snapshot cannot be written
+	 */
+	public void writeSnapshot(SnapshotWriter out) throws IOException {
+		out.beginRecord(SnapshotIO.USERS);
+		out.writeInt(users.size());
+		out.endRecord();
+		for (User u : users) {
+			out.beginRecord(SnapshotIO.USER);
+			out.writeUser(u);
+			out.endRecord();
+		}
+	}
+	
+	/**
+	 * Replaces the users in the directory with the user directory section of a snapshot. Every user is read as
+	 * an employee.
+	 * @param in the snapshot being read
+	 * @throws IllegalArgumentException if the section is missing or corrupt
+	 * @throws IOException if the snapshot cannot be read
+	 */
+	public void readSnapshot(SnapshotReader in) throws IOException {
+		in.expect(SnapshotIO.USERS);
+		int count = in.readInt();
+		LinkedAbstractList<User> list = new LinkedAbstractList<User>(Math.max(CAPACITY, count));
+		for (int i = 0; i < count; i++) {
+			in.expect(SnapshotIO.USER);
+			list.add(in.readUser());
+		}
+		users = list;
+	}
+	
 	/**
 	 * Gets the user, specified by Id, from the directory if the user id matches one in the directory. 
 	 * @param id the id of the user to get. 
@@ -74,14 +116,13 @@ public class UserDirectory {
 	 * Adds a user to the directory.  Returns true if the user is added and false if
 	 * the user is unable to be added because their id matches another user id.
 	 * 
-	 * This method also hashes the employee password for internal storage.
+	 * The password must already be hashed with GRSManager's password service.
 	 * 
 	 * @param firstName employee first name
 	 * @param lastName employee last name
 	 * @param id employee id
 	 * @param email employee email
-	 * @param password employee password
-	 * @param repeatPassword employee repeated password
+	 * @param hashPW employee password hash
 	 * @return true if added
 	 */
 	public boolean addUser(String firstName, String lastName, String id, String email, String hashPW) {
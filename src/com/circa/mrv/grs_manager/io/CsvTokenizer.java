@@ -0,0 +1,201 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * CsvTokenizer splits comma separated text into fields in a single pass over the input. Fields follow RFC 4180:
+ * a field may be enclosed in quotation marks, a quoted field may contain commas and line breaks, and two
+ * quotation marks inside a quoted field stand for one quotation mark. Records end with a line feed, a carriage
+ * return, or a carriage return followed by a line feed.
+ *
+ * Whitespace in each field is normalized as the field is read: leading and trailing whitespace is dropped and
+ * every run of whitespace inside the field, including line breaks inside quotes, becomes a single space. Fields
+ * that are empty after normalizing are returned as null.
+ *
+ * The input is read into a char buffer that is reused for the life of the tokenizer, and field characters are
+ * collected in a second reused buffer, so the only object created for each field is the returned String.
+ *
+ * @author Arthur Vargas
+ */
+public class CsvTokenizer {
+	/** Number of characters read from the input at a time */
+	private static final int BUFFER_SIZE = 8192;
+	/** The ASCII delete character; every character between space and delete is printable */
+	private static final char DEL = 127;
+	/** Initial length of the field buffer */
+	private static final int FIELD_SIZE = 128;
+	/** The input */
+	private Reader reader;
+	/** Characters read from the input */
+	private char[] buffer;
+	/** Index of the next character in buffer */
+	private int pos;
+	/** Number of valid characters in buffer */
+	private int limit;
+	/** Characters of the field being read */
+	private char[] field;
+	/** Number of characters in field */
+	private int length;
+	/** True if the last field read was the last field of its record */
+	private boolean endOfRecord;
+
+	/**
+	 * Constructs a tokenizer over the reader. The tokenizer does its own buffering so the reader does not need
+	 * to be buffered.
+	 * @param reader the input
+	 */
+	public CsvTokenizer(Reader reader) {
+		this.reader = reader;
+		buffer = new char[BUFFER_SIZE];
+		field = new char[FIELD_SIZE];
+		pos = 0;
+		limit = 0;
+		endOfRecord = false;
+	}
+
+	/**
+	 * Returns true if there is more input to read.
+	 * @return true if there is another field to read
+	 * @throws IOException if the input cannot be read
+	 */
+	public boolean hasNext() throws IOException {
+		return peek() != -1;
+	}
+
+	/**
+	 * Reads the next field. After the field is read, isEndOfRecord() tells whether it was the last field of its
+	 * record.
+	 * @return the field with its whitespace normalized, or null if the field is empty
+	 * @throws IOException if the input cannot be read
+	 */
+	public String nextField() throws IOException {
+		length = 0;
+		endOfRecord = false;
+		boolean quoted = false;
+		boolean space = false;
+		int x;
+		while ((x = read()) != -1) {
+			char c = (char) x;
+			if (c > ' ' && c < DEL && c != ',' && c != '"') {
+				// printable ASCII is by far the most common case
+				space = append(c, space);
+			} else if (quoted) {
+				if (c == '"') {
+					if (peek() == '"') {
+						pos++;
+						space = append(c, space);
+					} else {
+						quoted = false;
+					}
+				} else if (Character.isWhitespace(c)) {
+					space = length > 0;
+				} else {
+					space = append(c, space);
+				}
+			} else if (c == ',') {
+				return value();
+			} else if (c == '\n') {
+				endOfRecord = true;
+				return value();
+			} else if (c == '\r') {
+				if (peek() == '\n')
+					pos++;
+				endOfRecord = true;
+				return value();
+			} else if (c == '"') {
+				quoted = true;
+			} else if (Character.isWhitespace(c)) {
+				space = length > 0;
+			} else {
+				space = append(c, space);
+			}
+		}
+		endOfRecord = true;
+		return value();
+	}
+
+	/**
+	 * Returns true if the last field read was the last field of its record.
+	 * @return true if the last field ended its record
+	 */
+	public boolean isEndOfRecord() {
+		return endOfRecord;
+	}
+
+	/**
+	 * Closes the input.
+	 * @throws IOException if the input cannot be closed
+	 */
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	/**
+	 * Adds the character to the field, preceded by a single space if whitespace was seen since the last
+	 * character added.
+	 * @param c the character to add
+	 * @param space true if a space should be added before the character
+	 * @return false, since no whitespace is pending after the character is added
+	 */
+	private boolean append(char c, boolean space) {
+		if (length + 2 > field.length) {
+			char[] larger = new char[field.length * 2];
+			System.arraycopy(field, 0, larger, 0, length);
+			field = larger;
+		}
+		if (space)
+			field[length++] = ' ';
+		field[length++] = c;
+		return false;
+	}
+
+	/**
+	 * Returns the field that was read.
+	 * @return the field, or null if it is empty
+	 */
+	private String value() {
+		if (length == 0)
+			return null;
+		return new String(field, 0, length);
+	}
+
+	/**
+	 * Returns the next character of the input and moves past it.
+	 * @return the next character or -1 at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private int read() throws IOException {
+		if (pos == limit && !fill())
+			return -1;
+		return buffer[pos++];
+	}
+
+	/**
+	 * Returns the next character of the input without moving past it.
+	 * @return the next character or -1 at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private int peek() throws IOException {
+		if (pos == limit && !fill())
+			return -1;
+		return buffer[pos];
+	}
+
+	/**
+	 * Reads the next block of input into the buffer.
+	 * @return false if the end of the input has been reached
+	 * @throws IOException if the input cannot be read
+	 */
+	private boolean fill() throws IOException {
+		int n;
+		do {
+			n = reader.read(buffer, 0, buffer.length);
+		} while (n == 0);
+		if (n < 0)
+			return false;
+		pos = 0;
+		limit = n;
+		return true;
+	}
+}
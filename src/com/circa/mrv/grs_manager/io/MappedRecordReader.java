@@ -0,0 +1,352 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+
+/**
+ * MappedRecordReader reads comma separated records from a file that is mapped into memory. Each call to
+ * nextRecord() finds where the fields of the next record begin and end in the mapped bytes without copying them,
+ * and a String is only created when getField() is called for a column. Callers that need only some of the columns
+ * of a wide file therefore pay only for those columns.
+ *
+ * Fields are read the same way as CsvTokenizer reads them: fields may be quoted, quoted fields may contain commas,
+ * line breaks and doubled quotation marks, whitespace is collapsed to single spaces and trimmed, and empty fields are
+ * returned as null. The file must use a character set in which every ASCII character is encoded as the same single
+ * byte, such as UTF-8, ISO-8859-1 or windows-1252, so that commas, quotes and line breaks can be found without decoding.
+ *
+ * The file is mapped in windows of at most WINDOW_SIZE bytes, so files larger than a single mapping can be read.
+ * When a record runs past the end of a window, the next window is mapped beginning at the start of that record, so
+ * a record is never split between two windows. A record must therefore be shorter than a window.
+ *
+ * A reader can be split into several readers over consecutive parts of the file, each beginning at the start of a
+ * record, so the parts can be read by different threads.
+ *
+ * @author Arthur Vargas
+ */
+public class MappedRecordReader {
+	/** Initial number of fields a record can hold before the field arrays grow */
+	private static final int INIT_FIELDS = 64;
+	/** Initial length of the buffer for the bytes of a field */
+	private static final int FIELD_SIZE = 128;
+	/** Largest number of bytes mapped at once */
+	private static final int WINDOW_SIZE = Integer.MAX_VALUE;
+	/** The mapped file, or null if this reader reads part of a file mapped by another reader */
+	private RandomAccessFile file;
+	/** The channel of the mapped file */
+	private FileChannel channel;
+	/** Largest number of bytes this reader maps at once */
+	private int windowSize;
+	/** Offset in the file of the first byte of the window */
+	private long base;
+	/** Offset in the file of the byte after the last byte this reader reads */
+	private long end;
+	/** The bytes of the window of the file being read */
+	private ByteBuffer buffer;
+	/** The character set of the file */
+	private Charset charset;
+	/** Position in the window of the first byte after the current record */
+	private int pos;
+	/** Offset of the first byte of each field of the current record */
+	private int[] fieldStart;
+	/** Offset of the byte after the last byte of each field of the current record */
+	private int[] fieldEnd;
+	/** Number of fields in the current record */
+	private int fieldCount;
+	/** The bytes of the field being materialized, after quotes are removed and whitespace is collapsed */
+	private byte[] field;
+
+	/**
+	 * Maps the file into memory, in windows of WINDOW_SIZE bytes.
+	 * @param filename the file to read
+	 * @param charset the character set of the file
+	 * @throws IllegalArgumentException if the character set does not encode ASCII as single bytes
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public MappedRecordReader(String filename, Charset charset) throws IOException {
+		this(filename, charset, WINDOW_SIZE);
+	}
+
+	/**
+	 * Maps the file into memory in windows of the passed size.
+	 * @param filename the file to read
+	 * @param charset the character set of the file
+	 * @param windowSize the largest number of bytes to map at once
+	 * @throws IllegalArgumentException if the character set does not encode ASCII as single bytes or the window
+	 * size is less than 1
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	MappedRecordReader(String filename, Charset charset, int windowSize) throws IOException {
+		if (!isAsciiCompatible(charset))
+			throw new IllegalArgumentException(charset.name() + " is not supported");
+		if (windowSize < 1)
+			throw new IllegalArgumentException("Invalid window size");
+		this.charset = charset;
+		this.windowSize = windowSize;
+		file = new RandomAccessFile(filename, "r");
+		try {
+			channel = file.getChannel();
+			end = channel.size();
+			map(0);
+		} catch (IOException e) {
+			file.close();
+			throw e;
+		}
+		fieldStart = new int[INIT_FIELDS];
+		fieldEnd = new int[INIT_FIELDS];
+		fieldCount = 0;
+		field = new byte[FIELD_SIZE];
+	}
+
+	/**
+	 * Constructs a reader over part of a mapped file. If the part lies inside the window of the reader that was
+	 * split, the part shares that mapping.
+	 * @param whole the reader that was split
+	 * @param start offset in the file of the first byte of the part
+	 * @param end offset in the file of the byte after the last byte of the part
+	 * @throws IOException if the part cannot be mapped
+	 */
+	private MappedRecordReader(MappedRecordReader whole, long start, long end) throws IOException {
+		this.charset = whole.charset;
+		this.channel = whole.channel;
+		this.windowSize = whole.windowSize;
+		this.end = end;
+		file = null;
+		if (start >= whole.base && end <= whole.base + whole.buffer.limit()) {
+			ByteBuffer part = whole.buffer.duplicate();
+			part.limit((int) (end - whole.base));
+			part.position((int) (start - whole.base));
+			buffer = part.slice();
+			base = start;
+			pos = 0;
+		} else {
+			map(start);
+		}
+		fieldStart = new int[INIT_FIELDS];
+		fieldEnd = new int[INIT_FIELDS];
+		fieldCount = 0;
+		field = new byte[FIELD_SIZE];
+	}
+
+	/**
+	 * Splits the records that have not been read yet into about the passed number of parts of about equal size.
+	 * Each part begins at the start of a record, so every record is read by exactly one of the returned readers.
+	 * Finding the starts of the records takes one pass over the bytes that only looks for quotes and line breaks.
+	 * The returned readers share the file, and the mapping when their part lies in the window of this reader, so
+	 * this reader must stay open until they are done.
+	 * @param parts the number of parts
+	 * @return readers over consecutive parts of the file; fewer than parts if the file has few records
+	 * @throws IllegalArgumentException if parts is less than 1 or the file cannot be mapped
+	 */
+	public MappedRecordReader[] split(int parts) {
+		if (parts < 1)
+			throw new IllegalArgumentException("Invalid number of parts");
+		long from = base + pos;
+		long[] bounds = new long[parts + 1];
+		bounds[0] = from;
+		int count = 1;
+		long target = from + (end - from) / parts;
+		boolean quoted = false;
+		try {
+			ByteBuffer window = buffer;
+			long windowBase = base;
+			for (long i = from; i < end && count < parts; i++) {
+				if (i - windowBase == window.limit()) {
+					window = channel.map(FileChannel.MapMode.READ_ONLY, i, Math.min(windowSize, end - i));
+					windowBase = i;
+				}
+				int at = (int) (i - windowBase);
+				byte b = window.get(at);
+				// a \r whose \n is in the next window ends the part, and the \n is then read as a blank line
+				if (b == '"') {
+					quoted = !quoted;
+				} else if (!quoted && i + 1 >= target
+						&& (b == '\n' || (b == '\r' && (at + 1 == window.limit() || window.get(at + 1) != '\n')))) {
+					bounds[count++] = i + 1;
+					target = from + (end - from) * count / parts;
+				}
+			}
+			bounds[count] = end;
+			MappedRecordReader[] readers = new MappedRecordReader[count];
+			for (int i = 0; i < count; i++) {
+				readers[i] = new MappedRecordReader(this, bounds[i], bounds[i + 1]);
+			}
+			return readers;
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Unable to map file " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Moves to the next record in the file. Blank lines are skipped.
+	 * @return false if there are no more records
+	 * @throws IllegalArgumentException if a record is longer than a window or the next window cannot be mapped
+	 */
+	public boolean nextRecord() {
+		while (true) {
+			int limit = buffer.limit();
+			boolean lastWindow = base + limit == end;
+			int record = pos;
+			fieldCount = 0;
+			while (pos < limit) {
+				int start = pos;
+				boolean quoted = false;
+				while (pos < limit) {
+					byte b = buffer.get(pos);
+					if (b == '"') {
+						quoted = !quoted;
+					} else if (!quoted && (b == ',' || b == '\n' || b == '\r')) {
+						break;
+					}
+					pos++;
+				}
+				if (pos == limit && !lastWindow)
+					break;
+				addField(start, pos);
+				if (pos == limit)
+					return true;
+				byte b = buffer.get(pos++);
+				if (b == ',')
+					continue;
+				if (b == '\r' && pos < limit && buffer.get(pos) == '\n')
+					pos++;
+				if (fieldCount == 1 && fieldStart[0] == fieldEnd[0]) {
+					// blank line
+					fieldCount = 0;
+					record = pos;
+					continue;
+				}
+				return true;
+			}
+			if (lastWindow)
+				return fieldCount > 0;
+			// the record runs past the end of the window, so it is read again from the start of the next window
+			if (record == 0)
+				throw new IllegalArgumentException("Record at " + base + " is longer than the window");
+			try {
+				map(base + record);
+			} catch (IOException e) {
+				throw new IllegalArgumentException("Unable to map file " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of fields in the current record.
+	 * @return the number of fields
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Creates the String for a field of the current record.
+	 * @param col the column of the field
+	 * @return the field with quotes removed and whitespace collapsed, or null if the field is empty or the record
+	 * has no such column
+	 */
+	public String getField(int col) {
+		if (col < 0 || col >= fieldCount)
+			return null;
+		int end = fieldEnd[col];
+		if (field.length < end - fieldStart[col])
+			field = new byte[end - fieldStart[col]];
+		int length = 0;
+		boolean quoted = false;
+		boolean space = false;
+		for (int i = fieldStart[col]; i < end; i++) {
+			byte b = buffer.get(i);
+			if (b == '"') {
+				if (quoted && i + 1 < end && buffer.get(i + 1) == '"') {
+					i++;
+				} else {
+					quoted = !quoted;
+					continue;
+				}
+			} else if (isWhitespace(b)) {
+				space = length > 0;
+				continue;
+			}
+			if (space) {
+				field[length++] = ' ';
+				space = false;
+			}
+			field[length++] = b;
+		}
+		if (length == 0)
+			return null;
+		return new String(field, 0, length, charset);
+	}
+
+	/**
+	 * Releases the file. The reader cannot be used after it is closed. Closing a reader returned by split() does
+	 * not close the file.
+	 * @throws IOException if the file cannot be closed
+	 */
+	public void close() throws IOException {
+		buffer = null;
+		if (file != null)
+			file.close();
+	}
+
+	/**
+	 * Maps the window of the file beginning at the passed offset and moves to its first byte.
+	 * @param offset offset in the file of the first byte of the window
+	 * @throws IOException if the window cannot be mapped
+	 */
+	private void map(long offset) throws IOException {
+		buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(windowSize, end - offset));
+		base = offset;
+		pos = 0;
+	}
+
+	/**
+	 * Records the bounds of a field of the current record.
+	 * @param start offset of the first byte of the field
+	 * @param end offset of the byte after the field
+	 */
+	private void addField(int start, int end) {
+		if (fieldCount == fieldStart.length) {
+			int[] larger = new int[fieldStart.length * 2];
+			System.arraycopy(fieldStart, 0, larger, 0, fieldCount);
+			fieldStart = larger;
+			larger = new int[fieldEnd.length * 2];
+			System.arraycopy(fieldEnd, 0, larger, 0, fieldCount);
+			fieldEnd = larger;
+		}
+		fieldStart[fieldCount] = start;
+		fieldEnd[fieldCount] = end;
+		fieldCount++;
+	}
+
+	/**
+	 * Returns true if the byte is an ASCII character that Character.isWhitespace() treats as whitespace.
+	 * @param b the byte
+	 * @return true if the byte is whitespace
+	 */
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+	}
+
+	/**
+	 * Returns true if the character set encodes every ASCII character as the same single byte.
+	 * @param charset the character set
+	 * @return true if the character set can be read without decoding to find commas, quotes and line breaks
+	 */
+	private static boolean isAsciiCompatible(Charset charset) {
+		byte[] ascii = new byte[128];
+		for (int i = 0; i < ascii.length; i++) {
+			ascii[i] = (byte) i;
+		}
+		byte[] encoded = new String(ascii, 0, ascii.length, Charset.forName("US-ASCII")).getBytes(charset);
+		if (encoded.length != ascii.length)
+			return false;
+		for (int i = 0; i < ascii.length; i++) {
+			if (encoded[i] != ascii[i])
+				return false;
+		}
+		return true;
+	}
+}
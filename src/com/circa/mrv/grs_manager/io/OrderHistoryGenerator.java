@@ -0,0 +1,351 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+/**
+ * OrderHistoryGenerator writes synthetic order record files for load and scale testing. The titles file holds the
+ * title row of a study export, with the multi-line product titles readOrderTitles() recognizes, and the orders file
+ * holds one record per order in the same 54 column layout readOrderRecord() and OrderRecord.loadOrderHistory()
+ * read: studies and sites, products ordered in the product title columns, site addresses, some of which are quoted
+ * and run over two lines, shipping dates in both the mm/dd/yyyy and dd-MMM-yy formats getCalendarFromString()
+ * accepts, and a unique purchase order number.
+ *
+ * The output is decided by the seed and the counts alone, so a file can be generated again rather than kept. Orders
+ * are written one at a time as they are generated, so files of any size can be written without holding them in
+ * memory. Each site always has the same address and investigator, however many orders it has.
+ *
+ * Run on its own, the generator writes a titles file and an orders file. The arguments are the number of orders,
+ * studies and sites per study, the seed, and the names of the two files.
+ *
+ * @author Arthur Vargas
+ */
+public class OrderHistoryGenerator {
+	/** Number of columns in an order record */
+	public static final int COLUMNS = 54;
+	/** The title row of a study export */
+	private static final String[] TITLES = {
+		"study", "Site ID", "Country",
+		"992040\nNIOX VERO device\n\n(Device handle handle cap power adapter power cord battery manual)",
+		"707170 NIOX VERO test kit 60\n\n\n(1 sensor for 60 tests 100 filters)",
+		"707171 NIOX VERO test kit 100\n\n(1 sensor for 100 tests 140 filters)",
+		"992045 NIOX VERO breathing handle\n\nincludes NO scrubber for 1000 measurements; expires after one year",
+		"992046\nNIOX VERO Power Adapter", "992044 NIOX VERO Handle Cap", "992043 NIOX VERO Battery Lid",
+		"992047\nNIOX VERO Power Cord", "992048\nNIOX VERO Battery",
+		"841620 NIOX VERO hardcase\n\n(incl 3 Boveda bags; shipped automatically with every VERO; free of charge - ORDER ONLY when hardcase is lost) ",
+		"841630       NIOX Boveda Bag for Hardcase\n\n",
+		"992040\nNIOX VERO  TRAINING device\n\n\nincl Testkit\n(free of charge)",
+		"992030\nNIOX MINO Unit Model 2009\nUS Aerocrine eNO system", "Expiration Date FeNO device",
+		"707167\nNIOX MINO Test Kit \n50", "NIOX MINO Expiration Date Test Kit 50", "707168\nNIOX MINO Test Kit \n100",
+		"NIOX MINO Expiration Date Test Kit 100", "992029\nNO scrubber\nNIOX MINO\n2009",
+		"NIOX MINO Expiration Date NO scrubber", "992032        QC Plug NIOX Mino Unit",
+		"992031        Power Supply NIOX MINO 2009", "One World Number", "Site number", "Prim. Inv. Title",
+		"Prim. Inv. Last Name", "Prim. Inv. First Name", "Institution / Hospital / Organisation", "Street", "Zip Code",
+		"City", "Country", "State (USA and CAN only)", "Telephone", "Fax", "Mobile", "email",
+		"Additional Contact Info (such as Study Nurse; shipping contact at site", "Date of Shipping Order",
+		"Planned Delivery Date", "AWB", "Date Shipping", "Date Received", "Forwarder", "Comment", "PO",
+		"CIRCASSIA COMMENTS", "ERT Comment (e.g. ticket number)", "billing month (invoice/month)",
+		"Customer Care ticket ID", "Warranty exchange Yes/No?"
+	};
+	/** The product title columns an ordered quantity is written to; the expiration date columns are left empty */
+	private static final int[] PRODUCT_COLUMNS = {3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 17, 19, 21, 23, 24};
+	/** The first study number */
+	private static final int FIRST_STUDY = 6155;
+	/** The first site number of each study */
+	private static final int FIRST_SITE = 5000;
+	/** The first purchase order number */
+	private static final long FIRST_PO = 15000000L;
+	/** The records are separated by line feeds, as in the exports; line breaks within fields are line feeds too */
+	private static final char RECORD_SEPARATOR = '\n';
+	/** Month abbreviations used in the dd-MMM-yy dates */
+	private static final String[] MONTHS = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct",
+			"Nov", "Dec"};
+	/** Cities of the sites, with the state each is in at the same index of STATES */
+	private static final String[] CITIES = {"Gastonia", "Hawaiian Gardens", "Sunset", "Charlotte", "Canton",
+			"Belzoni", "Raleigh", "Durham", "Philadelphia", "Boston", "Denver", "Austin"};
+	/** States of the cities */
+	private static final String[] STATES = {"NC", "CA", "LA", "NC", "OH", "MS", "NC", "NC", "PA", "MA", "CO", "TX"};
+	/** Kinds of research institution */
+	private static final String[] INSTITUTIONS = {"Clinical Research", "Allergy and Respiratory Center",
+			"Medical Research", "Asthma Clinic", "Pulmonary Associates"};
+	/** Street names */
+	private static final String[] STREETS = {"Xray Dr", "E Carson Blvd", "Napoleon Avenue", "Providence Rd",
+			"Dressler Road NW", "Church St", "Market St", "Main St"};
+	/** Investigator first names */
+	private static final String[] FIRST_NAMES = {"Mikell", "Mercedes", "Scott", "Douglas", "John", "Sidney", "Ana",
+			"Priya"};
+	/** Investigator last names */
+	private static final String[] LAST_NAMES = {"Jarratt", "Samson", "Sibille", "Johnston", "Given", "Gorton",
+			"Lopez", "Patel"};
+	/** Shipping companies */
+	private static final String[] FORWARDERS = {"FedEx", "UPS", "DHL"};
+	/** Shipping comments */
+	private static final String[] COMMENTS = {"initial shipment", "resupply", "replacement"};
+
+	/** The seed the records are generated from */
+	private final long seed;
+	/** Number of studies */
+	private int studies;
+	/** Number of sites in each study */
+	private int sitesPerStudy;
+	/** Number of orders */
+	private long orders;
+
+	/**
+	 * Creates a generator of 10,000 orders for 50 sites in each of 3 studies.
+	 * @param seed the seed the records are generated from
+	 */
+	public OrderHistoryGenerator(long seed) {
+		this.seed = seed;
+		setStudies(3);
+		setSitesPerStudy(50);
+		setOrders(10000);
+	}
+
+	/**
+	 * Writes a titles file and an orders file.
+	 * @param args the number of orders, studies and sites per study, the seed, and the titles and orders files
+	 * @throws IOException if a file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 6) {
+			System.out.println("usage: OrderHistoryGenerator orders studies sites-per-study seed titles-file orders-file");
+			return;
+		}
+		OrderHistoryGenerator generator = new OrderHistoryGenerator(Long.parseLong(args[3]));
+		generator.setOrders(Long.parseLong(args[0]));
+		generator.setStudies(Integer.parseInt(args[1]));
+		generator.setSitesPerStudy(Integer.parseInt(args[2]));
+		generator.writeTitles(args[4], Charset.defaultCharset());
+		generator.writeOrders(args[5], Charset.defaultCharset());
+	}
+
+	/**
+	 * Returns the number of studies.
+	 * @return the number of studies
+	 */
+	public int getStudies() {
+		return studies;
+	}
+
+	/**
+	 * Sets the number of studies the orders are spread over.
+	 * @param studies the number of studies
+	 * @throws IllegalArgumentException if the number is less than 1
+	 */
+	public void setStudies(int studies) {
+		if (studies < 1)
+			throw new IllegalArgumentException("Invalid study count");
+		this.studies = studies;
+	}
+
+	/**
+	 * Returns the number of sites in each study.
+	 * @return the number of sites
+	 */
+	public int getSitesPerStudy() {
+		return sitesPerStudy;
+	}
+
+	/**
+	 * Sets the number of sites in each study the orders are spread over.
+	 * @param sitesPerStudy the number of sites
+	 * @throws IllegalArgumentException if the number is less than 1
+	 */
+	public void setSitesPerStudy(int sitesPerStudy) {
+		if (sitesPerStudy < 1)
+			throw new IllegalArgumentException("Invalid site count");
+		this.sitesPerStudy = sitesPerStudy;
+	}
+
+	/**
+	 * Returns the number of orders.
+	 * @return the number of orders
+	 */
+	public long getOrders() {
+		return orders;
+	}
+
+	/**
+	 * Sets the number of orders to write.
+	 * @param orders the number of orders
+	 * @throws IllegalArgumentException if the number is negative
+	 */
+	public void setOrders(long orders) {
+		if (orders < 0)
+			throw new IllegalArgumentException("Invalid order count");
+		this.orders = orders;
+	}
+
+	/**
+	 * Writes the title row to a file.
+	 * @param filename the name of the file
+	 * @param charset the character set to write the file in
+	 * @throws IOException if the file cannot be written
+	 */
+	public void writeTitles(String filename, Charset charset) throws IOException {
+		Writer out = open(filename, charset);
+		try {
+			writeTitles(out);
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Writes the title row.
+	 * @param out the writer to write to
+	 * @throws IOException if the row cannot be written
+	 */
+	public void writeTitles(Writer out) throws IOException {
+		StringBuilder line = new StringBuilder();
+		appendRecord(line, TITLES);
+		out.append(line);
+		out.flush();
+	}
+
+	/**
+	 * Writes the orders to a file. The file has no title row.
+	 * @param filename the name of the file
+	 * @param charset the character set to write the file in
+	 * @throws IOException if the file cannot be written
+	 */
+	public void writeOrders(String filename, Charset charset) throws IOException {
+		Writer out = open(filename, charset);
+		try {
+			writeOrders(out);
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * Writes the orders, one record at a time.
+	 * @param out the writer to write to
+	 * @throws IOException if an order cannot be written
+	 */
+	public void writeOrders(Writer out) throws IOException {
+		Random random = new Random(seed);
+		String[] studyNumbers = new String[studies];
+		for (int s = 0; s < studies; s++) {
+			studyNumbers[s] = String.format("%06d", FIRST_STUDY + s);
+		}
+		String[] columns = new String[COLUMNS];
+		StringBuilder line = new StringBuilder(512);
+		for (long n = 0; n < orders; n++) {
+			int study = random.nextInt(studies);
+			int site = random.nextInt(sitesPerStudy);
+			fillOrder(columns, random, n, studyNumbers[study], study, site);
+			line.setLength(0);
+			appendRecord(line, columns);
+			out.append(line);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Opens a buffered writer on a file.
+	 * @param filename the name of the file
+	 * @param charset the character set to write the file in
+	 * @return the writer
+	 * @throws IOException if the file cannot be opened
+	 */
+	private static Writer open(String filename, Charset charset) throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(filename), charset), 1 << 16);
+	}
+
+	/**
+	 * Fills the columns of an order record.
+	 * @param columns the columns to fill
+	 * @param random the generator of the orders
+	 * @param n the number of the order, starting at 0
+	 * @param studyNumber the study number
+	 * @param study the index of the study
+	 * @param site the index of the site in the study
+	 */
+	private void fillOrder(String[] columns, Random random, long n, String studyNumber, int study, int site) {
+		for (int col = 0; col < COLUMNS; col++) {
+			columns[col] = null;
+		}
+		String siteNumber = String.valueOf(FIRST_SITE + site);
+		columns[0] = studyNumber;
+		columns[1] = siteNumber;
+		columns[2] = "US";
+
+		// one to three products, most of them a single unit
+		int products = 1 + random.nextInt(3);
+		for (int p = 0; p < products; p++) {
+			int col = PRODUCT_COLUMNS[random.nextInt(PRODUCT_COLUMNS.length)];
+			columns[col] = String.valueOf(random.nextInt(4) == 0 ? 2 : 1);
+		}
+
+		// the site is generated from its own seed so every order of the site has the same address
+		Random siteRandom = new Random(seed * 31 + (long) study * 1000003 + site);
+		int city = siteRandom.nextInt(CITIES.length);
+		String first = FIRST_NAMES[siteRandom.nextInt(FIRST_NAMES.length)];
+		String last = LAST_NAMES[siteRandom.nextInt(LAST_NAMES.length)];
+		String street = (100 + siteRandom.nextInt(9900)) + " " + STREETS[siteRandom.nextInt(STREETS.length)];
+		// a quarter of the sites have a suite on a second line, which is written quoted
+		if (siteRandom.nextInt(4) == 0)
+			street = street + ",\n Suite " + (100 + siteRandom.nextInt(900));
+		columns[25] = String.valueOf(140000 + (long) study * sitesPerStudy + site);
+		columns[26] = siteNumber;
+		columns[27] = "Dr.";
+		columns[28] = last;
+		columns[29] = first;
+		columns[30] = INSTITUTIONS[siteRandom.nextInt(INSTITUTIONS.length)] + " of " + CITIES[city];
+		columns[31] = street;
+		columns[32] = String.valueOf(10000 + siteRandom.nextInt(90000));
+		columns[33] = CITIES[city];
+		columns[34] = "US";
+		columns[35] = STATES[city];
+		columns[36] = "001" + (2000000000L + siteRandom.nextInt(1000000000));
+		columns[39] = Character.toLowerCase(first.charAt(0)) + last.toLowerCase() + "@example.com";
+
+		int year = 15 + random.nextInt(4);
+		int month = random.nextInt(12);
+		int day = 1 + random.nextInt(28);
+		// half of the orders are dated mm/dd/yyyy and half dd-MMM-yy
+		if (random.nextBoolean())
+			columns[41] = (month < 9 ? "0" : "") + (month + 1) + "/" + (day < 10 ? "0" : "") + day + "/20" + year;
+		else
+			columns[41] = day + "-" + MONTHS[month] + "-" + year;
+		columns[42] = Math.min(day + 3, 28) + "-" + MONTHS[month] + "-" + year;
+		columns[43] = String.valueOf(586400000000L + (random.nextLong() & 0xfffffffL));
+		columns[46] = FORWARDERS[random.nextInt(FORWARDERS.length)];
+		columns[47] = COMMENTS[random.nextInt(COMMENTS.length)];
+		columns[48] = (FIRST_PO + n) + " OD";
+		columns[51] = MONTHS[month] + "-" + year;
+	}
+
+	/**
+	 * Appends a record and its separator. Fields holding commas, quotes or line breaks are quoted, and empty fields
+	 * are left empty.
+	 * @param line the text to append to
+	 * @param fields the fields of the record
+	 */
+	private static void appendRecord(StringBuilder line, String[] fields) {
+		for (int col = 0; col < fields.length; col++) {
+			if (col > 0)
+				line.append(',');
+			String field = fields[col];
+			if (field == null)
+				continue;
+			boolean quote = false;
+			for (int i = 0; i < field.length() && !quote; i++) {
+				char c = field.charAt(i);
+				quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+			}
+			if (quote)
+				line.append('"').append(field.replace("\"", "\"\"")).append('"');
+			else
+				line.append(field);
+		}
+		line.append(RECORD_SEPARATOR);
+	}
+}
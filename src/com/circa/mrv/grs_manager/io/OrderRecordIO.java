@@ -3,14 +3,13 @@
  */
 package com.circa.mrv.grs_manager.io;
 
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.StringReader;
-import java.util.Scanner;
+import java.nio.charset.Charset;
 
-import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+import com.circa.mrv.grs_manager.catalog.OrderRecordStore;
 
 import com.circa.mrv.grs_manager.manager.GRSManager;
 
@@ -27,100 +26,74 @@ import com.circa.mrv.grs_manager.util.LinkedListRecursive;
 public class OrderRecordIO {
 	
 	/**
-	 * Reads in a master file containing all data for a particular GRS customer. 
-	 * students.
+	 * Reads in a master file containing all data for a particular GRS customer. Each record in the file is
+	 * written to a row of the orders array, starting at row 1, with one field in each column up to and including
+	 * lastCol. Fields past lastCol are ignored and blank lines are skipped. Whitespace in each field is 
+	 * normalized and empty fields are stored as null.
 	 * 
-	 * @param fileName file name
-	 * @return students a list of 
+	 * @param filename file name
+	 * @param orders the array to fill with order data
+	 * @param pt the list of product titles
+	 * @param lastCol the last column containing order data
 	 * @throws FileNotFoundException if the file is not found at given location
+	 * @throws IOException if there is a problem reading the file
 	 */
 	public static void readOrderRecord(String filename, String [][] orders,LinkedListRecursive<ProductTitle> pt, int lastCol) throws FileNotFoundException, IOException {
 		
-		char delim = ',';
-    	StringBuilder segment = new StringBuilder();
-    	FileReader fr = new FileReader(filename);
-    	BufferedReader reader = new BufferedReader(fr);
+		CsvTokenizer tokenizer = new CsvTokenizer(new FileReader(filename));
     	
     	int col = 0; // current column 
     	int row = 1; // current row
-    	int x; 
-    	char c; // current character
-    	//System.out.print("row: " + row + " ");
-    	while( (x = reader.read()) != -1 ) {
-    		c = (char)x;
-    		
-    		if(col == lastCol) {
-    			while( !Character.isWhitespace(c)) {
-    				x = reader.read(); 
-    				c = (char)x;
-        			segment.append(c);
-    			}
-    			if(0 < segment.length()) {
-    				Scanner scan = new Scanner(segment.toString());
-    				while(scan.hasNext()) {
-    					if(orders[row][col] == null) orders[row][col] = scan.next();
-    					else orders[row][col] = orders[row][col] + " " + scan.next();
-    				}
-    				scan.close();
-        		} else orders[row][col] = null;
-    			//System.out.print(col + "   " + orders[row][col] + '\n');
-    	    	col = 0;
-    	    	row++;
-    	    	//System.out.print("row: " + row + " ");
-    	    	continue;
-    		} 
-    		
-    	    if(Character.isWhitespace(c)) {
-    	    	segment.append(' ');
-    	    	continue;
-    	    }
-    	    	
-    	    /** ending comma for a segment. print line, clear builder, clear delimiter */
-        	if( c == ',' && delim == ',' && 0 < segment.length()) {  
-        		Scanner scan = new Scanner(segment.toString());
-        		while(scan.hasNext()) {
-        			if(orders[row][col] == null) orders[row][col] = scan.next();
-        			else orders[row][col] = orders[row][col] + " " + scan.next();
-        		}
-        		//System.out.print(col + "   " + orders[row][col] + " ");
-        		segment = OrderRecordIO.clearStringBuilder(segment);
-        		col++;
-        		scan.close();
-    			
-        	/** quoted information within a comma separate segment. */
-    		} else if ( c == '"' && delim == ',' ) { 
-    			delim = c;
-    			
-    		/** all characters between quotation marks or commas are part of the segment */
-    		} else if ( (delim == '"' && c != '"') || (delim == ',' && c != '"' && c != ',') ) { 
-    		    
-    			segment.append(c);
-    			
-    		/** the end of a segment between quotation marks. print line, clear builder, clear delim list. 
-    		won't increment current until reading ending comma */
-    		} else if ( delim == '"' && c == '"') { 
-    			Scanner scan = new Scanner(segment.toString());
-    			while(scan.hasNext()) {
-        			if(orders[row][col] == null) orders[row][col] = scan.next();
-        			else orders[row][col] = orders[row][col] + " " + scan.next();
-        		}
-    			//System.out.print(col + "   " + orders[row][col] + " ");
-    			segment = OrderRecordIO.clearStringBuilder(segment);
-    			delim = ','; // a comma always follows ending quotation
-    			reader.read();
+    	try {
+    		while( tokenizer.hasNext() ) {
+    			String field = tokenizer.nextField();
+    			boolean endOfRecord = tokenizer.isEndOfRecord();
+    			/** a line with nothing on it is not a record */
+    			if(col == 0 && field == null && endOfRecord)
+    				continue;
+    			if(col <= lastCol)
+    				orders[row][col] = field;
     			col++;
-    			scan.close();
-    			
-    			/** double commas describe empty column condition */
-    		} else if ( c == ',' && delim == ',' ) {
-    			orders[row][col] = null;
-    			//System.out.print(col + "  " + orders[row][col] + " ");
-    			col++;
-    		} 
-        	
+    			if(endOfRecord) {
+    				col = 0;
+    				row++;
+    			}
+    		}
+    	} finally {
+    		tokenizer.close();
     	}
     	
-    	reader.close();
+    }
+	
+	/**
+	 * Reads in a master file containing all data for a particular GRS customer. Each record in the file is added
+	 * to the end of the orders store as a new row, with one field in each column up to and including lastCol.
+	 * Fields past lastCol are ignored and blank lines are skipped. Whitespace in each field is normalized and
+	 * empty fields are not stored. The file is read in the default character set with a MappedRecordReader, the
+	 * same reader OrderRecord.loadOrdersFromFiles() uses, and only the columns up to lastCol are materialized.
+	 * 
+	 * @param filename file name
+	 * @param orders the store to add order data to
+	 * @param lastCol the last column containing order data
+	 * @throws FileNotFoundException if the file is not found at given location
+	 * @throws IOException if there is a problem reading the file
+	 */
+	public static void readOrderRecord(String filename, OrderRecordStore orders, int lastCol) throws FileNotFoundException, IOException {
+		
+		MappedRecordReader reader = new MappedRecordReader(filename, Charset.defaultCharset());
+    	try {
+    		while( reader.nextRecord() ) {
+    			int row = orders.addRow();
+    			int cols = Math.min(reader.getFieldCount() - 1, lastCol);
+    			for(int col = 0; col <= cols; col++) {
+    				String field = reader.getField(col);
+    				if(field != null)
+    					orders.set(row, col, field);
+    			}
+    		}
+    	} finally {
+    		reader.close();
+    	}
     	
     }
 	
@@ -131,8 +104,7 @@ public class OrderRecordIO {
 	 * @return an empty StringBuilder
 	 */
 	public static StringBuilder clearStringBuilder( StringBuilder sb ) {
-    	while(sb.length() != 0)
-    		sb.deleteCharAt(sb.length() - 1);
+    	sb.setLength(0);
     	return sb;
     }
 	
@@ -141,153 +113,86 @@ public class OrderRecordIO {
 	 * references each title with the product names to identify product titles. The title must contain a 
 	 * valid product family, generation, and description to be considered a product title. If the title is 
 	 * identified as a product title, then it is added to the list of product titles passed into the productTitles parameter. 
-	 * All titles are assigned to the corresponding column in row 0 of the string array named records.
+	 * All titles are assigned to the corresponding column in row 0 of the string array named records. Only the
+	 * first record in the file is read.
 	 *  
 	 * @param filename the filename
 	 * @param records the order records
 	 * @param productTitles the list of product titles
+	 * @return lastCol the index of the last title
 	 * @throws IOException if there is a problem reading the file
 	 */
 	public static int readOrderTitles(String filename, String [][] records, LinkedListRecursive<ProductTitle> productTitles) throws IOException {
-		char delim = ',';
-    	StringBuilder segment = new StringBuilder();
 		ProductTitle pt = null;
-		FileReader fr = new FileReader(filename);
-    	BufferedReader reader = new BufferedReader(fr);
+		CsvTokenizer tokenizer = new CsvTokenizer(new FileReader(filename));
     	int lastCol = 0;
-    	int x;
-    	char c;
-    	while( (x = reader.read()) != -1 ) {
-    		c = (char)x;
-    		
-    		if(lastCol == 53) {
-    			if(Character.isWhitespace(c)) segment.append(' ');
-    			else segment.append(c);
-    			while( (x = reader.read()) != -1) {
-    				c = (char)x;
-    				if(Character.isWhitespace(c)) segment.append(' ');
-        			else segment.append(c);
-    			}
-    			Scanner scan = new Scanner(segment.toString());
-    	    	while(scan.hasNext()) {
-        			if(records[0][lastCol] == null) records[0][lastCol] = scan.next();
-        			else records[0][lastCol] = records[0][lastCol] + " " + scan.next();
-        		}
-    	    	
-    	    	scan.close();
-    	    	break;
-    		} 
-    		
-    		if(Character.isWhitespace(c) ) {
-    	    	segment.append(' ');
-    	    	continue;
-    	    } 
-
-    	    /** ending comma for a segment. add a ProductTitle if matched, assign to title array, clear builder, clear delimiter */
-        	if( c == ',' && delim == ',' && 0 < segment.length() ) {  
-        		Scanner scan = new Scanner(segment.toString());
-        		while(scan.hasNext()) {
-        			if(records[0][lastCol] == null) records[0][lastCol] = scan.next();
-        			else records[0][lastCol] = records[0][lastCol] + " " + scan.next();
-        		}
-        		//System.out.println(records[0][lastCol]);
-        		pt = OrderRecordIO.matchProductTitle(records[0][lastCol]);
-        		if( pt != null) {
-        			//System.out.println("product title: " + pt.getDescription() + " " + lastCol);
-        			pt.setIndex(lastCol);
-        			productTitles.add(pt);
-        		}
-        		segment = OrderRecordIO.clearStringBuilder(segment);
-        		delim = ','; 
-        		lastCol++;
-    			scan.close();
-        	/** quoted information within a comma separate segment. clear delim list and assign starting quotation character */
-    		} else if ( c == '"' && delim == ',' ) { 
-    			
-    			delim = c;
-    			
-    		/** all characters between quotation marks are valid characters to be added to the segment */
-    		} else if ( (delim == '"' && c != '"') || (delim == ',' && c != '"' && c != ',') ) { 
-    		    
-    			segment.append(c);
-    			
-    		/** the end of a segment between quotation marks. look for product matches, assign to title array, clear builder, 
-    			clear delim list. skip the next character which is always a comma */
-    		} else if ( delim == '"' && x == '"') { 
-    			Scanner scan = new Scanner(segment.toString());
-        		while(scan.hasNext()) {
-        			if(records[0][lastCol] == null) records[0][lastCol] = scan.next();
-        			else records[0][lastCol] = records[0][lastCol] + " " + scan.next();
-        		}
-        		//System.out.println(records[0][lastCol]);
-    			pt = OrderRecordIO.matchProductTitle(records[0][lastCol]);
-    			if(  pt != null ) {
-    				//System.out.println("product title: " + pt.getDescription() + " " + lastCol);
-    				pt.setIndex(lastCol);
-    				productTitles.add(pt);
+    	try {
+    		while( tokenizer.hasNext() ) {
+    			records[0][lastCol] = tokenizer.nextField();
+    			if(records[0][lastCol] != null) {
+    				pt = OrderRecordIO.matchProductTitle(records[0][lastCol]);
+    				if( pt != null) {
+    					pt.setIndex(lastCol);
+    					productTitles.add(pt);
+    				}
     			}
-    			segment = OrderRecordIO.clearStringBuilder(segment);
-    			delim = ',';
-    			reader.read();
+    			if(tokenizer.isEndOfRecord())
+    				break;
     			lastCol++;
-    			scan.close();
     		}
-        	
-        	
+    	} finally {
+    		tokenizer.close();
     	}
-    	reader.close();
     	return lastCol;
 	}
 	
 	/**
-	 * Searches the product catalog for a match. To be a match the title must contain the product family, generation,
-	 * and the description. Returns an unordered ProductTitle, meaning the index of the returned ProductTitle within the
-	 * list of order record titles has not been set, so its position within the list of order record titles
-	 * is unknown. The index is set when matchProductTitle() returns control to readOrderTitles(). 
-	 * 
-	 * @param title the order record title
-	 * @return pt the ProductTitle
-	 * @throws IOException 
+	 * Reads the order record titles in the same way as readOrderTitles(String, String[][], LinkedListRecursive), 
+	 * assigning each title to the corresponding column in row 0 of the records store.
+	 *  
+	 * @param filename the filename
+	 * @param records the order record store
+	 * @param productTitles the list of product titles
+	 * @return lastCol the index of the last title
+	 * @throws IOException if there is a problem reading the file
 	 */
-	private static ProductTitle matchProductTitle(String title) throws IOException {
-		String gen = null; String desc = null; String fam = null;
-		String noWSTitle = OrderRecordIO.removeWhiteSpace(title);
-		noWSTitle = noWSTitle.toLowerCase();
-		//System.out.println(noWSTitle);
-		if(noWSTitle.contains(NioxCatalog.NIOX)) fam = NioxCatalog.NIOX;
-		if(noWSTitle.contains(NioxCatalog.VERO)) gen = NioxCatalog.VERO;
-		else if(noWSTitle.contains(NioxCatalog.MINO)) gen = NioxCatalog.MINO;
-		
-		for(int i = 0;i < NioxCatalog.DESCRIPTIONS.length;i++) {
-	
-			if(noWSTitle.contains(NioxCatalog.DESCRIPTIONS[i])) {
-				if(desc == null) 
-					desc = NioxCatalog.DESCRIPTIONS[i] + " ";
-				else 
-					desc = desc + NioxCatalog.DESCRIPTIONS[i] + " "; 
-			}
-	
-		}
+	public static int readOrderTitles(String filename, OrderRecordStore records, LinkedListRecursive<ProductTitle> productTitles) throws IOException {
 		ProductTitle pt = null;
-		//System.out.println(fam + " " + gen + " " + desc);
-		if(desc != null)
-			pt = new ProductTitle(gen,fam,desc);
-		return pt;
-		
+		CsvTokenizer tokenizer = new CsvTokenizer(new FileReader(filename));
+    	int lastCol = 0;
+    	try {
+    		while( tokenizer.hasNext() ) {
+    			String title = tokenizer.nextField();
+    			records.set(0, lastCol, title);
+    			if(title != null) {
+    				pt = OrderRecordIO.matchProductTitle(title);
+    				if( pt != null) {
+    					pt.setIndex(lastCol);
+    					productTitles.add(pt);
+    				}
+    			}
+    			if(tokenizer.isEndOfRecord())
+    				break;
+    			lastCol++;
+    		}
+    	} finally {
+    		tokenizer.close();
+    	}
+    	return lastCol;
 	}
 	
-	
-	private static String removeWhiteSpace(String title) throws IOException {
-		//System.out.println("NEW TITLE" + '\n');
-		Scanner scan = new Scanner(title);
-		String newTitle = "";
-		while(scan.hasNext())
-			if(newTitle.isEmpty()) newTitle = scan.next() + " ";
-			else newTitle = newTitle + scan.next() + " ";
-		//System.out.println(newTitle);
-		//System.out.println(newTitle.length() + '\n');
-		scan.close();
-		return newTitle;
+	/**
+	 * Searches the product catalog for a match. To be a match the title must contain a product description; the
+	 * product family and generation are recorded if the title contains them. Returns an unordered ProductTitle, 
+	 * meaning the index of the returned ProductTitle within the list of order record titles has not been set, so its
+	 * position within the list of order record titles is unknown. The index is set when matchProductTitle() returns
+	 * control to readOrderTitles(). The title is classified in one pass by ProductTitleMatcher.
+	 * 
+	 * @param title the order record title
+	 * @return pt the ProductTitle, or null if the title is not a product
+	 */
+	private static ProductTitle matchProductTitle(String title) {
+		return ProductTitleMatcher.getNioxMatcher().match(title);
 	}
 
 }
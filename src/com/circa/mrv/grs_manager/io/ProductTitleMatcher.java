@@ -0,0 +1,384 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+
+/**
+ * ProductTitleMatcher decides whether an order record column title names a product by finding the product family,
+ * generation and description keywords the title contains. The keywords are compiled into an Aho-Corasick automaton,
+ * so a title is classified in one pass over its characters and every keyword it contains, including keywords that
+ * overlap, is found in that pass. The work done for each character is a single table lookup, so the cost of
+ * classifying a title does not grow as keywords are added for new product lines.
+ *
+ * Titles are matched ignoring case, with each run of whitespace treated as a single space.
+ *
+ * @author Arthur Vargas
+ */
+public class ProductTitleMatcher {
+	/** Kind of a product family keyword */
+	public static final int FAMILY = 0;
+	/** Kind of a product generation keyword */
+	public static final int GENERATION = 1;
+	/** Kind of a product description keyword */
+	public static final int DESCRIPTION = 2;
+	/** Matcher for the NIOX family, the VERO and MINO generations and the catalog descriptions */
+	private static final ProductTitleMatcher NIOX_MATCHER = new ProductTitleMatcher(new String[] {NioxCatalog.NIOX},
+			new String[] {NioxCatalog.VERO, NioxCatalog.MINO}, NioxCatalog.DESCRIPTIONS);
+	/** The keywords, in lower case */
+	private String[] keywords;
+	/** The kind of each keyword */
+	private int[] kinds;
+	/** The alphabet position of each ASCII character; characters in no keyword are at position 0 */
+	private int[] asciiClass;
+	/** The alphabet position of each non-ASCII character that is in a keyword */
+	private HashMap<Character, Integer> otherClass;
+	/** The number of alphabet positions */
+	private int alphabetSize;
+	/** The state reached from each state on each alphabet position */
+	private int[][] next;
+	/** The keywords that end at each state, including those that are suffixes of longer keywords */
+	private int[][] output;
+
+	/**
+	 * Compiles a matcher for the keywords. Keywords are numbered in the order they are passed: families first, then
+	 * generations, then descriptions.
+	 * @param families the product family keywords, in order of preference
+	 * @param generations the product generation keywords, in order of preference
+	 * @param descriptions the product description keywords, in the order they are listed in a matched title
+	 * @throws IllegalArgumentException if an array is null or a keyword is null or empty
+	 */
+	public ProductTitleMatcher(String[] families, String[] generations, String[] descriptions) {
+		if (families == null || generations == null || descriptions == null)
+			throw new IllegalArgumentException("Keywords are null");
+		int count = families.length + generations.length + descriptions.length;
+		keywords = new String[count];
+		kinds = new int[count];
+		String[][] lists = {families, generations, descriptions};
+		int k = 0;
+		for (int kind = FAMILY; kind <= DESCRIPTION; kind++) {
+			for (String keyword : lists[kind]) {
+				if (keyword == null || keyword.isEmpty())
+					throw new IllegalArgumentException("Invalid keyword");
+				keywords[k] = keyword.toLowerCase();
+				kinds[k++] = kind;
+			}
+		}
+		buildAlphabet();
+		buildAutomaton();
+	}
+
+	/**
+	 * Returns the matcher for the NIOX product family, the VERO and MINO generations and NioxCatalog.DESCRIPTIONS.
+	 * @return the NIOX matcher
+	 */
+	public static ProductTitleMatcher getNioxMatcher() {
+		return NIOX_MATCHER;
+	}
+
+	/**
+	 * Classifies an order record title. A title names a product if it contains at least one description keyword.
+	 * The returned ProductTitle has the first family and the first generation, in order of preference, that the title
+	 * contains, or null for either if it contains none. Its description is every description keyword the title
+	 * contains, each followed by a space, in the order the descriptions were passed to the constructor. The index of
+	 * the returned ProductTitle is not set.
+	 * @param title the order record title
+	 * @return the product title, or null if the title is null or contains no description keyword
+	 */
+	public ProductTitle match(String title) {
+		if (title == null)
+			return null;
+		int[] found = new int[8];
+		int count = 0;
+		int state = 0;
+		int length = title.length();
+		boolean started = false;
+		boolean space = false;
+		for (int i = 0; i <= length; i++) {
+			if (i < length && Character.isWhitespace(title.charAt(i))) {
+				space = started;
+				continue;
+			}
+			// a run of whitespace is read as one space, and the title is read as if it ended with a space
+			if (space || (i == length && started)) {
+				state = next[state][classOf(' ')];
+				found = ensureCapacity(found, count + output[state].length);
+				count = addOutput(state, found, count);
+				space = false;
+			}
+			if (i == length)
+				break;
+			state = next[state][classOf(Character.toLowerCase(title.charAt(i)))];
+			found = ensureCapacity(found, count + output[state].length);
+			count = addOutput(state, found, count);
+			started = true;
+		}
+		// keyword numbers are in constructor order, so sorting the matched numbers orders each kind by preference
+		Arrays.sort(found, 0, count);
+		String fam = null;
+		String gen = null;
+		StringBuilder desc = null;
+		for (int i = 0; i < count; i++) {
+			int keyword = found[i];
+			if (i > 0 && found[i - 1] == keyword)
+				continue;
+			if (kinds[keyword] == FAMILY && fam == null) {
+				fam = keywords[keyword];
+			} else if (kinds[keyword] == GENERATION && gen == null) {
+				gen = keywords[keyword];
+			} else if (kinds[keyword] == DESCRIPTION) {
+				if (desc == null)
+					desc = new StringBuilder();
+				desc.append(keywords[keyword]).append(' ');
+			}
+		}
+		if (desc == null)
+			return null;
+		return new ProductTitle(gen, fam, desc.toString());
+	}
+
+	/**
+	 * Finds every keyword in the title, including keywords that overlap. The spans are reported in the order the
+	 * keywords end in the title, and for keywords that end at the same character, longest first.
+	 * @param title the order record title
+	 * @return the matches, or an empty list if the title is null or contains no keyword
+	 */
+	public ArrayList<Match> findMatches(String title) {
+		ArrayList<Match> matches = new ArrayList<Match>();
+		if (title == null)
+			return matches;
+		// the position in the title of each character read by the automaton
+		int[] positions = new int[title.length() + 1];
+		int read = 0;
+		int state = 0;
+		boolean started = false;
+		int space = -1;
+		for (int i = 0; i <= title.length(); i++) {
+			if (i < title.length() && Character.isWhitespace(title.charAt(i))) {
+				if (started && space < 0)
+					space = i;
+				continue;
+			}
+			if (space >= 0 || (i == title.length() && started)) {
+				positions[read++] = space >= 0 ? space : i;
+				state = next[state][classOf(' ')];
+				addMatches(state, title, positions, read, matches);
+				space = -1;
+			}
+			if (i == title.length())
+				break;
+			positions[read++] = i;
+			state = next[state][classOf(Character.toLowerCase(title.charAt(i)))];
+			addMatches(state, title, positions, read, matches);
+			started = true;
+		}
+		return matches;
+	}
+
+	/**
+	 * Returns the number of keywords in the matcher.
+	 * @return the number of keywords
+	 */
+	public int getKeywordCount() {
+		return keywords.length;
+	}
+
+	/**
+	 * Returns the array, or a larger copy of it if it is shorter than the capacity.
+	 * @param found the keyword numbers found so far
+	 * @param capacity the length needed
+	 * @return an array of at least the capacity
+	 */
+	private static int[] ensureCapacity(int[] found, int capacity) {
+		if (capacity <= found.length)
+			return found;
+		return Arrays.copyOf(found, Math.max(capacity, found.length * 2));
+	}
+
+	/**
+	 * Copies the numbers of the keywords that end at the state into found.
+	 * @param state the state
+	 * @param found the keyword numbers found so far, which has room for the keywords of the state
+	 * @param count the number of keyword numbers in found
+	 * @return the new number of keyword numbers in found
+	 */
+	private int addOutput(int state, int[] found, int count) {
+		for (int keyword : output[state]) {
+			found[count++] = keyword;
+		}
+		return count;
+	}
+
+	/**
+	 * Adds a match for each keyword that ends at the state.
+	 * @param state the state
+	 * @param title the title
+	 * @param positions the position in the title of each character read so far
+	 * @param read the number of characters read so far
+	 * @param matches the matches found so far
+	 */
+	private void addMatches(int state, String title, int[] positions, int read, ArrayList<Match> matches) {
+		for (int keyword : output[state]) {
+			int start = positions[read - keywords[keyword].length()];
+			int end = Math.min(positions[read - 1] + 1, title.length());
+			matches.add(new Match(keywords[keyword], kinds[keyword], start, end));
+		}
+	}
+
+	/**
+	 * Returns the alphabet position of a lower case character.
+	 * @param c the character
+	 * @return the alphabet position, or 0 if the character is in no keyword
+	 */
+	private int classOf(char c) {
+		if (c < asciiClass.length)
+			return asciiClass[c];
+		Integer position = otherClass.get(c);
+		return position == null ? 0 : position;
+	}
+
+	/**
+	 * Numbers the distinct characters of the keywords from 1. Every character that is in no keyword shares
+	 * position 0, which keeps the transition table as small as the keywords allow.
+	 */
+	private void buildAlphabet() {
+		asciiClass = new int[128];
+		otherClass = new HashMap<Character, Integer>();
+		int size = 1;
+		for (String keyword : keywords) {
+			for (int i = 0; i < keyword.length(); i++) {
+				char c = keyword.charAt(i);
+				if (c < asciiClass.length) {
+					if (asciiClass[c] == 0)
+						asciiClass[c] = size++;
+				} else if (!otherClass.containsKey(c)) {
+					otherClass.put(c, size++);
+				}
+			}
+		}
+		// a space is always in the alphabet so runs of whitespace can be read as one
+		if (asciiClass[' '] == 0)
+			asciiClass[' '] = size++;
+		alphabetSize = size;
+	}
+
+	/**
+	 * Builds the trie of the keywords, then completes it into an automaton by following failure links in breadth
+	 * first order, so every state has a transition on every alphabet position and the output of each state includes
+	 * the keywords that end at its failure state.
+	 */
+	private void buildAutomaton() {
+		int alphabet = alphabetSize;
+		ArrayList<int[]> trie = new ArrayList<int[]>();
+		ArrayList<int[]> ends = new ArrayList<int[]>();
+		trie.add(new int[alphabet]);
+		ends.add(new int[0]);
+		for (int k = 0; k < keywords.length; k++) {
+			int state = 0;
+			for (int i = 0; i < keywords[k].length(); i++) {
+				int c = classOf(keywords[k].charAt(i));
+				if (trie.get(state)[c] == 0) {
+					trie.get(state)[c] = trie.size();
+					trie.add(new int[alphabet]);
+					ends.add(new int[0]);
+				}
+				state = trie.get(state)[c];
+			}
+			int[] e = ends.get(state);
+			int[] larger = Arrays.copyOf(e, e.length + 1);
+			larger[e.length] = k;
+			ends.set(state, larger);
+		}
+		next = trie.toArray(new int[trie.size()][]);
+		output = ends.toArray(new int[ends.size()][]);
+		int[] fail = new int[next.length];
+		ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+		for (int c = 0; c < alphabet; c++) {
+			if (next[0][c] != 0)
+				queue.add(next[0][c]);
+		}
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			int[] inherited = output[fail[state]];
+			if (inherited.length > 0) {
+				int[] merged = Arrays.copyOf(output[state], output[state].length + inherited.length);
+				System.arraycopy(inherited, 0, merged, output[state].length, inherited.length);
+				output[state] = merged;
+			}
+			for (int c = 0; c < alphabet; c++) {
+				int child = next[state][c];
+				if (child != 0) {
+					fail[child] = next[fail[state]][c];
+					queue.add(child);
+				} else {
+					next[state][c] = next[fail[state]][c];
+				}
+			}
+		}
+	}
+
+	/**
+	 * A keyword found in a title.
+	 * @author Arthur Vargas
+	 */
+	public static class Match {
+		/** The keyword, in lower case */
+		private String keyword;
+		/** FAMILY, GENERATION or DESCRIPTION */
+		private int kind;
+		/** Position in the title of the first character of the keyword */
+		private int start;
+		/** Position in the title after the last character of the keyword */
+		private int end;
+
+		/**
+		 * Constructs a match.
+		 * @param keyword the keyword
+		 * @param kind the kind of keyword
+		 * @param start position of the first character
+		 * @param end position after the last character
+		 */
+		Match(String keyword, int kind, int start, int end) {
+			this.keyword = keyword;
+			this.kind = kind;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Returns the keyword that was found, in lower case.
+		 * @return the keyword
+		 */
+		public String getKeyword() {
+			return keyword;
+		}
+
+		/**
+		 * Returns the kind of keyword that was found.
+		 * @return FAMILY, GENERATION or DESCRIPTION
+		 */
+		public int getKind() {
+			return kind;
+		}
+
+		/**
+		 * Returns the position in the title of the first character of the keyword.
+		 * @return the start of the span
+		 */
+		public int getStart() {
+			return start;
+		}
+
+		/**
+		 * Returns the position in the title after the last character of the keyword. A keyword that contains a
+		 * space matches any run of whitespace in the title, so the span can be longer than the keyword.
+		 * @return the end of the span
+		 */
+		public int getEnd() {
+			return end;
+		}
+	}
+}
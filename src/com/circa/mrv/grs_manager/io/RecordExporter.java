@@ -0,0 +1,187 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RecordExporter writes text exports of order record data, such as the debug files written when order records
+ * are loaded. Depending on its mode, an exporter skips the exports, writes each export before returning, or
+ * queues the exports for a background thread that writes them one at a time in the order they were queued.
+ *
+ * Exports are encoded with the default character set in blocks through a fixed-size byte buffer and written
+ * through a FileChannel, which is closed when the export is written.
+ *
+ * @author Arthur Vargas
+ */
+public class RecordExporter {
+	/** Mode in which exports are skipped */
+	public static final int OFF = 0;
+	/** Mode in which exports are written by a background thread */
+	public static final int ASYNC = 1;
+	/** Mode in which exports are written before export() returns */
+	public static final int SYNC = 2;
+	/** Size of the buffer encoded text is written from */
+	private static final int BUFFER_SIZE = 64 * 1024;
+	/** Seconds the background thread waits for another export before it ends */
+	private static final long KEEP_ALIVE_SECONDS = 1;
+	/** The current mode; volatile because it is set and checked without holding the exporter's lock */
+	private volatile int mode;
+	/** Writes queued exports; created when the first export is queued */
+	private ThreadPoolExecutor executor;
+
+	/**
+	 * Constructs an exporter in the passed mode.
+	 * @param mode OFF, ASYNC or SYNC
+	 * @throws IllegalArgumentException if the mode is not valid
+	 */
+	public RecordExporter(int mode) {
+		setMode(mode);
+	}
+
+	/**
+	 * Returns the current mode.
+	 * @return OFF, ASYNC or SYNC
+	 */
+	public int getMode() {
+		return mode;
+	}
+
+	/**
+	 * Sets the mode. Exports that are already queued are still written.
+	 * @param mode OFF, ASYNC or SYNC
+	 * @throws IllegalArgumentException if the mode is not valid
+	 */
+	public void setMode(int mode) {
+		if (mode != OFF && mode != ASYNC && mode != SYNC)
+			throw new IllegalArgumentException("Invalid export mode");
+		this.mode = mode;
+	}
+
+	/**
+	 * Returns true if exports are written. Callers can skip building the contents of an export when it is not.
+	 * @return true if the mode is not OFF
+	 */
+	public boolean isEnabled() {
+		return mode != OFF;
+	}
+
+	/**
+	 * Writes the contents to the file, replacing the file if it exists. In ASYNC mode the contents are queued and
+	 * written later, so they must not be changed after they are passed in. Failures to write a queued export are
+	 * printed to the standard error stream.
+	 * @param filename the file to write
+	 * @param contents the text to write
+	 * @throws IOException if the mode is SYNC and the file cannot be written
+	 */
+	public synchronized void export(final String filename, final CharSequence contents) throws IOException {
+		int mode = this.mode;
+		if (mode == SYNC) {
+			write(filename, contents);
+		} else if (mode == ASYNC) {
+			if (executor == null)
+				executor = newExecutor();
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						write(filename, contents);
+					} catch (IOException e) {
+						System.err.println("Unable to write file " + filename + ": " + e.getMessage());
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * Waits until every export queued so far has been written.
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void awaitExports() throws InterruptedException {
+		Future<?> done;
+		synchronized (this) {
+			if (executor == null)
+				return;
+			done = executor.submit(new Runnable() {
+				@Override
+				public void run() {
+					// exports are written in the order they are queued, so this runs after every earlier export
+				}
+			});
+		}
+		try {
+			done.get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Creates the executor for queued exports. It has at most one thread, so exports are written in the order they
+	 * are queued, and the thread ends when no exports are left so it does not keep the program running.
+	 * @return the executor
+	 */
+	private static ThreadPoolExecutor newExecutor() {
+		return new ThreadPoolExecutor(0, 1, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						return new Thread(r, "record-exporter");
+					}
+				});
+	}
+
+	/**
+	 * Encodes the contents with the default character set and writes them to the file. Characters the character
+	 * set cannot encode are replaced, as PrintStream does.
+	 * @param filename the file to write
+	 * @param contents the text to write
+	 * @throws IOException if the file cannot be written
+	 */
+	private static void write(String filename, CharSequence contents) throws IOException {
+		CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		CharBuffer in = CharBuffer.wrap(contents);
+		ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			CoderResult result;
+			do {
+				result = encoder.encode(in, out, true);
+				drain(out, channel);
+			} while (result.isOverflow());
+			do {
+				result = encoder.flush(out);
+				drain(out, channel);
+			} while (result.isOverflow());
+		}
+	}
+
+	/**
+	 * Writes the bytes in the buffer to the channel and empties the buffer.
+	 * @param out the buffer
+	 * @param channel the channel
+	 * @throws IOException if the bytes cannot be written
+	 */
+	private static void drain(ByteBuffer out, FileChannel channel) throws IOException {
+		out.flip();
+		while (out.hasRemaining()) {
+			channel.write(out);
+		}
+		out.clear();
+	}
+}
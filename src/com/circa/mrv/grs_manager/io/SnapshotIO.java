@@ -0,0 +1,140 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.directory.CompanyDirectory;
+import com.circa.mrv.grs_manager.directory.UserDirectory;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
+
+/**
+ * SnapshotIO writes the state of GRS Manager, the product catalog, the order record, the company directory and the
+ * user directory, to one binary snapshot file and reads it back, so the program can start from a single sequential
+ * read instead of parsing the product, title, order, company and user files again.
+ *
+ * A snapshot begins with the 4 bytes "GRSS" and the version of the format as a 4 byte int. The rest of the file
+ * is a sequence of records, each of which is its type and the length of its payload as variable length ints,
+ * followed by the payload. Ints and longs in a payload are written as zigzag variable length ints, so small values
+ * take one byte whatever their sign. Every distinct String is written once, in a STRINGS record placed just
+ * before the first record that uses it, and is then written as its number in the order Strings were first written.
+ * A snapshot ends with an END record.
+ *
+ * The sections follow one another in the order catalog, order record, company directory, user directory. Each
+ * section is a record giving the number of records that follow it, then one record for each product, order,
+ * company or user. Each owner writes and reads its own section with writeSnapshot() and readSnapshot().
+ *
+ * @author Arthur Vargas
+ */
+public class SnapshotIO {
+	/** The first 4 bytes of a snapshot, "GRSS" */
+	public static final int MAGIC = 0x47525353;
+	/** The version of the format written */
+	public static final int VERSION = 1;
+
+	/** A record of Strings used by the records that follow it */
+	public static final int STRINGS = 1;
+	/** The last record of a snapshot */
+	public static final int END = 2;
+	/** The start of the catalog section: the number of products */
+	public static final int CATALOG = 16;
+	/** A product of the catalog */
+	public static final int PRODUCT = 17;
+	/** The start of the order record section: the columns, product title range and the number of each record */
+	public static final int ORDER_RECORD = 32;
+	/** The column titles of the order record */
+	public static final int ORDER_TITLES = 33;
+	/** A product title */
+	public static final int PRODUCT_TITLE = 34;
+	/** The cells of one row of the order record that have a value */
+	public static final int ORDER_ROW = 35;
+	/** An order */
+	public static final int ORDER = 36;
+	/** The research sites of a study with the name and address of each */
+	public static final int STUDY_SITES = 37;
+	/** A research site read from the order record */
+	public static final int RESEARCH_SITE = 38;
+	/** The start of the company directory section: the number of companies */
+	public static final int COMPANIES = 48;
+	/** A company with its locations and their employees */
+	public static final int COMPANY = 49;
+	/** The start of the user directory section: the number of users */
+	public static final int USERS = 64;
+	/** A user */
+	public static final int USER = 65;
+
+	/** Times writeSnapshot() */
+	private static final Timer WRITE_TIMER = MetricsRegistry.getInstance().timer("snapshot.write");
+	/** Times readSnapshot() */
+	private static final Timer READ_TIMER = MetricsRegistry.getInstance().timer("snapshot.read");
+
+	/**
+	 * Writes a snapshot of the catalog, order record, company directory and user directory to a file, replacing
+	 * the file if it exists.
+	 * @param fileName the file to write
+	 * @param catalog the product catalog
+	 * @param orders the order record
+	 * @param companies the company directory
+	 * @param users the user directory
+	 * @return the number of bytes written
+	 * @throws IOException if the file cannot be written
+	 */
+	public static long writeSnapshot(String fileName, NioxCatalog catalog, OrderRecord orders,
+			CompanyDirectory companies, UserDirectory users) throws IOException {
+		long start = WRITE_TIMER.start();
+		FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		try {
+			SnapshotWriter out = new SnapshotWriter(channel);
+			catalog.writeSnapshot(out);
+			orders.writeSnapshot(out);
+			companies.writeSnapshot(out);
+			users.writeSnapshot(out);
+			out.finish();
+			return out.getBytesWritten();
+		} finally {
+			channel.close();
+			WRITE_TIMER.stop(start);
+		}
+	}
+
+	/**
+	 * Reads a snapshot written by writeSnapshot() into the catalog, order record, company directory and user
+	 * directory, replacing what they hold. Each of them is replaced only once its whole section has been read, so
+	 * a snapshot that is cut short leaves the owners whose sections were not read unchanged.
+	 * @param fileName the file to read
+	 * @param catalog the product catalog
+	 * @param orders the order record
+	 * @param companies the company directory
+	 * @param users the user directory
+	 * @throws IllegalArgumentException if the file cannot be found or is not a snapshot of a supported version
+	 * @throws IOException if the file cannot be read
+	 */
+	public static void readSnapshot(String fileName, NioxCatalog catalog, OrderRecord orders,
+			CompanyDirectory companies, UserDirectory users) throws IOException {
+		long start = READ_TIMER.start();
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+		} catch (NoSuchFileException e) {
+			READ_TIMER.stop(start);
+			throw new IllegalArgumentException("Unable to read file " + fileName);
+		}
+		try {
+			SnapshotReader in = new SnapshotReader(channel);
+			catalog.readSnapshot(in);
+			orders.readSnapshot(in);
+			companies.readSnapshot(in);
+			users.readSnapshot(in);
+			in.expect(END);
+		} finally {
+			channel.close();
+			READ_TIMER.stop(start);
+		}
+	}
+}
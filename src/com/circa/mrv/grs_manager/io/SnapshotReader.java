@@ -0,0 +1,464 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Calendar;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.directory.VendorCompany;
+import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.location.ShipTo;
+import com.circa.mrv.grs_manager.niox.Accessory;
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Kit;
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * SnapshotReader reads the records of a snapshot written by SnapshotWriter from a channel, in one pass from the
+ * start of the channel to its end. nextRecord() moves to the next record and reads its whole payload into memory,
+ * and the read methods then read the fields of the record in the order they were written. STRINGS records are
+ * read by nextRecord() itself, and any fields of a record left unread are skipped when the next record is read.
+ *
+ * A snapshot that does not begin with the snapshot header, was written by a later version of the format, or ends
+ * or is corrupt part way through a record causes an IllegalArgumentException.
+ *
+ * @author Arthur Vargas
+ */
+public class SnapshotReader {
+	/** Size of the buffer of bytes read from the channel */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/** Initial size of the buffer of the current record */
+	private static final int RECORD_SIZE = 256;
+
+	/** The channel the snapshot is read from */
+	private final ReadableByteChannel channel;
+	/** Bytes read from the channel and not yet used */
+	private final ByteBuffer in;
+	/** The payload of the current record */
+	private ByteBuffer record;
+	/** The Strings read so far; String n is at index n - 1 */
+	private final ArrayList<String> strings;
+	/** The version of the format of the snapshot */
+	private final int version;
+	/** The type of the current record, or 0 before the first record */
+	private int type;
+
+	/**
+	 * Creates a reader and reads the start of the snapshot.
+	 * @param channel the channel to read from
+	 * @throws IllegalArgumentException if the channel does not hold a snapshot of a supported version
+	 * @throws IOException if the channel cannot be read
+	 */
+	public SnapshotReader(ReadableByteChannel channel) throws IOException {
+		this.channel = channel;
+		in = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		in.flip();
+		record = ByteBuffer.allocate(RECORD_SIZE);
+		record.flip();
+		strings = new ArrayList<String>();
+		if (!fill(8) || in.getInt() != SnapshotIO.MAGIC)
+			throw new IllegalArgumentException("Not a snapshot");
+		version = in.getInt();
+		if (version < 1 || version > SnapshotIO.VERSION)
+			throw new IllegalArgumentException("Unsupported snapshot version " + version);
+	}
+
+	/**
+	 * Returns the version of the format of the snapshot.
+	 * @return the version
+	 */
+	public int getVersion() {
+		return version;
+	}
+
+	/**
+	 * Moves to the next record, reading any STRINGS records before it. Once the END record has been read, END is
+	 * returned by every call.
+	 * @return the type of the record
+	 * @throws IllegalArgumentException if the snapshot ends before its END record
+	 * @throws IOException if the channel cannot be read
+	 */
+	public int nextRecord() throws IOException {
+		if (type == SnapshotIO.END)
+			return type;
+		do {
+			int recordType = (int) readHeaderVarint();
+			long length = readHeaderVarint();
+			if (length > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Snapshot record is too long");
+			readPayload((int) length);
+			type = recordType;
+			if (type == SnapshotIO.STRINGS)
+				readStrings();
+		} while (type == SnapshotIO.STRINGS);
+		return type;
+	}
+
+	/**
+	 * Moves to the next record and checks its type.
+	 * @param expected the type the record must have
+	 * @throws IllegalArgumentException if the record has another type
+	 * @throws IOException if the channel cannot be read
+	 */
+	public void expect(int expected) throws IOException {
+		int found = nextRecord();
+		if (found != expected)
+			throw new IllegalArgumentException("Expected snapshot record " + expected + " but found " + found);
+	}
+
+	/**
+	 * Returns the type of the current record.
+	 * @return the type, or 0 before the first record
+	 */
+	public int getType() {
+		return type;
+	}
+
+	/**
+	 * Returns true if fields of the current record are left to read.
+	 * @return true if fields are left
+	 */
+	public boolean hasRemaining() {
+		return record.hasRemaining();
+	}
+
+	/**
+	 * Reads an int from the current record.
+	 * @return the value
+	 * @throws IllegalArgumentException if the record has no int left
+	 */
+	public int readInt() {
+		long value = readLong();
+		if (value != (int) value)
+			throw new IllegalArgumentException("Snapshot record is corrupt");
+		return (int) value;
+	}
+
+	/**
+	 * Reads a long from the current record.
+	 * @return the value
+	 * @throws IllegalArgumentException if the record has no long left
+	 */
+	public long readLong() {
+		long value = readVarint();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads a double from the current record.
+	 * @return the value
+	 * @throws IllegalArgumentException if the record has no double left
+	 */
+	public double readDouble() {
+		if (record.remaining() < 8)
+			throw new IllegalArgumentException("Snapshot record is corrupt");
+		return record.getDouble();
+	}
+
+	/**
+	 * Reads a boolean from the current record.
+	 * @return the value
+	 * @throws IllegalArgumentException if the record has no boolean left
+	 */
+	public boolean readBoolean() {
+		return nextByte() != 0;
+	}
+
+	/**
+	 * Reads a String from the current record.
+	 * @return the String, or null
+	 * @throws IllegalArgumentException if the record has no String left or the String has not been read
+	 */
+	public String readString() {
+		int id = readInt();
+		if (id == 0)
+			return null;
+		if (id < 0 || id > strings.size())
+			throw new IllegalArgumentException("Snapshot record is corrupt");
+		return strings.get(id - 1);
+	}
+
+	/**
+	 * Reads a date from the current record. The date is in the default time zone.
+	 * @return the date, or null
+	 * @throws IllegalArgumentException if the record has no date left
+	 */
+	public Calendar readCalendar() {
+		if (!readBoolean())
+			return null;
+		Calendar c = Calendar.getInstance();
+		c.setTimeInMillis(readLong());
+		return c;
+	}
+
+	/**
+	 * Reads a product written by SnapshotWriter.writeProduct().
+	 * @return the product, or null
+	 * @throws IllegalArgumentException if the record has no product left
+	 */
+	public Product readProduct() {
+		int kind = readInt();
+		if (kind == SnapshotWriter.NO_PRODUCT)
+			return null;
+		String family = readString();
+		String description = readString();
+		String partNumber = readString();
+		double price = readDouble();
+		if (kind == SnapshotWriter.KIT) {
+			int count = readInt();
+			LinkedListRecursive<Component> cmps = new LinkedListRecursive<Component>();
+			for (int i = 0; i < count; i++) {
+				Product p = readProduct();
+				if (!(p instanceof Component))
+					throw new IllegalArgumentException("Snapshot record is corrupt");
+				cmps.add((Component) p);
+			}
+			Kit k = new Kit(family, description, partNumber, cmps);
+			k.setPrice(price);
+			return k;
+		}
+		if (kind != SnapshotWriter.COMPONENT && kind != SnapshotWriter.ACCESSORY)
+			throw new IllegalArgumentException("Unknown product kind " + kind);
+		String generation = readString();
+		long miscID = readLong();
+		long serial = readLong();
+		Calendar packageDate = readCalendar();
+		String note = readString();
+		Component c;
+		if (kind == SnapshotWriter.ACCESSORY) {
+			int size = readInt();
+			Calendar install = readCalendar();
+			Accessory a = new Accessory(family, description, partNumber, price, serial, packageDate, install,
+					generation, size);
+			a.setInstall(install);
+			c = a;
+		} else {
+			c = new Component(family, description, partNumber, price, generation, serial, packageDate);
+		}
+		c.setMiscIDNumber(miscID);
+		c.setNote(note);
+		return c;
+	}
+
+	/**
+	 * Reads a location written by SnapshotWriter.writeLocation(), with its employees.
+	 * @return the location, or null
+	 * @throws IllegalArgumentException if the record has no location left
+	 */
+	public Location readLocation() {
+		int kind = readInt();
+		if (kind == SnapshotWriter.NO_LOCATION)
+			return null;
+		String address1 = readString();
+		String address2 = readString();
+		String city = readString();
+		String state = readString();
+		String zip = readString();
+		String country = readString();
+		Location l;
+		if (kind == SnapshotWriter.BILL_TO) {
+			BillTo b = new BillTo(address1, city, state, zip, country);
+			b.setBillingContact(readString());
+			l = b;
+		} else if (kind == SnapshotWriter.SHIP_TO) {
+			ShipTo s = new ShipTo(address1, city, state, zip, country);
+			s.setShippingContact(readString());
+			l = s;
+		} else if (kind == SnapshotWriter.RESEARCH_SITE) {
+			String contact = readString();
+			long num = readLong();
+			String name = readString();
+			int devices = readInt();
+			ResearchSite rs = new ResearchSite(address1, address2, city, state, zip, country, num, name, devices);
+			rs.setShippingContact(contact);
+			l = rs;
+		} else {
+			throw new IllegalArgumentException("Unknown location kind " + kind);
+		}
+		l.setAddress2(address2);
+		int count = readInt();
+		for (int i = 0; i < count; i++)
+			l.addEmployee(readUser());
+		return l;
+	}
+
+	/**
+	 * Reads a company written by SnapshotWriter.writeCompany(), with its locations.
+	 * @return the company
+	 * @throws IllegalArgumentException if the record has no company left
+	 */
+	public Company readCompany() {
+		int kind = readInt();
+		String name = readString();
+		int count = readInt();
+		LinkedListRecursive<Location> locations = new LinkedListRecursive<Location>();
+		for (int i = 0; i < count; i++)
+			locations.add(readLocation());
+		if (kind == SnapshotWriter.VENDOR_COMPANY)
+			return new VendorCompany(locations, name);
+		if (kind == SnapshotWriter.RESEARCH_COMPANY)
+			return new ResearchCompany(locations, name, null);
+		throw new IllegalArgumentException("Unknown company kind " + kind);
+	}
+
+	/**
+	 * Reads a user written by SnapshotWriter.writeUser().
+	 * @return the user, as an employee
+	 * @throws IllegalArgumentException if the record has no user left
+	 */
+	public Employee readUser() {
+		Employee e = new Employee(readString(), readString(), readString(), readString(), readString());
+		int maxOrders = readInt();
+		if (maxOrders != 0)
+			e.setMaxOrders(maxOrders);
+		return e;
+	}
+
+	/**
+	 * Reads an order written by SnapshotWriter.writeOrder(), with its products.
+	 * @return the order
+	 * @throws IllegalArgumentException if the record has no order left
+	 */
+	public Order readOrder() {
+		Order o = new Order(readLong());
+		o.setUserId(readString());
+		o.setCreation(readCalendar());
+		o.setDelieryDate(readCalendar());
+		o.setStatusDate(readCalendar());
+		o.setTrackingNum(readLong());
+		o.setStatus(readString());
+		o.setPo(readString());
+		o.setStudy(readString());
+		o.setSite(readString());
+		String siteName = readString();
+		if (siteName != null)
+			o.setSiteName(siteName);
+		String streetAdd = readString();
+		if (streetAdd != null)
+			o.setStreetAdd(streetAdd);
+		o.setCity(readString());
+		o.setState(readString());
+		o.setZip(readString());
+		o.setCountry(readString());
+		o.setAmount(readDouble());
+		int count = readInt();
+		for (int i = 0; i < count; i++) {
+			Product p = readProduct();
+			if (p != null)
+				o.addProduct(p, 1);
+		}
+		return o;
+	}
+
+	/**
+	 * Reads the Strings of a STRINGS record, giving them the next numbers.
+	 */
+	private void readStrings() {
+		int count = (int) readVarint();
+		for (int i = 0; i < count; i++) {
+			int length = (int) readVarint();
+			if (length < 0 || length > record.remaining())
+				throw new IllegalArgumentException("Snapshot record is corrupt");
+			strings.add(new String(record.array(), record.arrayOffset() + record.position(), length,
+					StandardCharsets.UTF_8));
+			record.position(record.position() + length);
+		}
+	}
+
+	/**
+	 * Reads the payload of a record into the record buffer, skipping what is left of the current record.
+	 * @param length the length of the payload
+	 * @throws IllegalArgumentException if the snapshot ends before the payload does
+	 * @throws IOException if the channel cannot be read
+	 */
+	private void readPayload(int length) throws IOException {
+		if (record.capacity() < length)
+			record = ByteBuffer.allocate(Math.max(2 * record.capacity(), length));
+		record.clear();
+		record.limit(length);
+		while (record.hasRemaining()) {
+			if (!in.hasRemaining() && !fill(1))
+				throw new IllegalArgumentException("Snapshot is truncated");
+			int n = Math.min(in.remaining(), record.remaining());
+			int limit = in.limit();
+			in.limit(in.position() + n);
+			record.put(in);
+			in.limit(limit);
+		}
+		record.flip();
+	}
+
+	/**
+	 * Reads a variable length int of a record header from the channel.
+	 * @return the value
+	 * @throws IllegalArgumentException if the snapshot ends before the value does
+	 * @throws IOException if the channel cannot be read
+	 */
+	private long readHeaderVarint() throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			if (!in.hasRemaining() && !fill(1))
+				throw new IllegalArgumentException("Snapshot is truncated");
+			byte b = in.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0)
+				return value;
+		}
+		throw new IllegalArgumentException("Snapshot is corrupt");
+	}
+
+	/**
+	 * Reads a variable length int from the current record.
+	 * @return the value
+	 * @throws IllegalArgumentException if the record ends before the value does
+	 */
+	private long readVarint() {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = nextByte();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0)
+				return value;
+		}
+		throw new IllegalArgumentException("Snapshot record is corrupt");
+	}
+
+	/**
+	 * Reads the next byte of the current record.
+	 * @return the byte
+	 * @throws IllegalArgumentException if the record has no bytes left
+	 */
+	private byte nextByte() {
+		if (!record.hasRemaining())
+			throw new IllegalArgumentException("Snapshot record is corrupt");
+		return record.get();
+	}
+
+	/**
+	 * Reads from the channel until the input buffer holds at least the number of bytes, or the channel ends.
+	 * @param needed the number of bytes
+	 * @return true if the buffer holds the bytes
+	 * @throws IOException if the channel cannot be read
+	 */
+	private boolean fill(int needed) throws IOException {
+		in.compact();
+		try {
+			while (in.position() < needed) {
+				if (channel.read(in) < 0)
+					return false;
+			}
+			return true;
+		} finally {
+			in.flip();
+		}
+	}
+}
@@ -0,0 +1,449 @@
+package com.circa.mrv.grs_manager.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Calendar;
+import java.util.HashMap;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.directory.VendorCompany;
+import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.location.ShipTo;
+import com.circa.mrv.grs_manager.niox.Accessory;
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Kit;
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.user.User;
+
+/**
+ * SnapshotWriter writes the records of a snapshot, in the format described by SnapshotIO, to a channel. A record
+ * is written by calling beginRecord(), the write methods for its fields, and endRecord(). The payload of a record
+ * is built in memory so its length can be written before it, and records are gathered into a buffer that is
+ * written to the channel when it fills, so the channel sees a few large sequential writes.
+ *
+ * Each String is given a number the first time it is written. The Strings first written in a record are written
+ * in a STRINGS record just before it, so that a reader can skip any record without losing track of the numbers.
+ *
+ * @author Arthur Vargas
+ */
+public class SnapshotWriter {
+	/** Size of the buffer of bytes waiting to be written to the channel */
+	private static final int BUFFER_SIZE = 1 << 16;
+	/** Initial size of the buffers of the current record */
+	private static final int RECORD_SIZE = 256;
+	/** Most bytes a variable length long takes */
+	private static final int MAX_VARINT = 10;
+
+	/** Product kinds, written before the fields of a product */
+	static final int NO_PRODUCT = 0;
+	/** A Component */
+	static final int COMPONENT = 1;
+	/** An Accessory */
+	static final int ACCESSORY = 2;
+	/** A Kit */
+	static final int KIT = 3;
+	/** Location kinds, written before the fields of a location */
+	static final int NO_LOCATION = 0;
+	/** A BillTo */
+	static final int BILL_TO = 1;
+	/** A ShipTo */
+	static final int SHIP_TO = 2;
+	/** A ResearchSite */
+	static final int RESEARCH_SITE = 3;
+	/** Company kinds, written before the fields of a company */
+	static final int VENDOR_COMPANY = 1;
+	/** A ResearchCompany */
+	static final int RESEARCH_COMPANY = 2;
+
+	/** The channel the snapshot is written to */
+	private final WritableByteChannel channel;
+	/** Bytes waiting to be written to the channel */
+	private final ByteBuffer out;
+	/** The payload of the current record */
+	private ByteBuffer record;
+	/** The Strings first written in the current record */
+	private ByteBuffer strings;
+	/** The number of Strings first written in the current record */
+	private int newStrings;
+	/** The number of each String written so far, counting from 1 */
+	private final HashMap<String, Integer> ids;
+	/** The type of the current record, or 0 if no record is begun */
+	private int type;
+	/** The number of bytes written to the channel */
+	private long written;
+	/** True once the END record has been written */
+	private boolean finished;
+
+	/**
+	 * Creates a writer and writes the start of the snapshot.
+	 * @param channel the channel to write to
+	 * @throws IOException if the channel cannot be written
+	 */
+	public SnapshotWriter(WritableByteChannel channel) throws IOException {
+		this.channel = channel;
+		out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		record = ByteBuffer.allocate(RECORD_SIZE);
+		strings = ByteBuffer.allocate(RECORD_SIZE);
+		ids = new HashMap<String, Integer>();
+		out.putInt(SnapshotIO.MAGIC);
+		out.putInt(SnapshotIO.VERSION);
+	}
+
+	/**
+	 * Begins a record.
+	 * @param type the type of the record, one of the SnapshotIO record types
+	 * @throws IllegalArgumentException if a record is already begun, the type is not a data record type, or the
+	 * snapshot is finished
+	 */
+	public void beginRecord(int type) {
+		if (this.type != 0 || finished)
+			throw new IllegalArgumentException("Record already begun");
+		if (type <= SnapshotIO.END)
+			throw new IllegalArgumentException("Invalid record type " + type);
+		this.type = type;
+		record.clear();
+	}
+
+	/**
+	 * Ends the current record, writing the Strings it used first and then the record.
+	 * @throws IllegalArgumentException if no record is begun
+	 * @throws IOException if the channel cannot be written
+	 */
+	public void endRecord() throws IOException {
+		if (type == 0)
+			throw new IllegalArgumentException("No record begun");
+		if (newStrings > 0) {
+			ByteBuffer count = ByteBuffer.allocate(MAX_VARINT);
+			putVarint(count, newStrings);
+			count.flip();
+			strings.flip();
+			writeHeader(SnapshotIO.STRINGS, count.remaining() + strings.remaining());
+			write(count);
+			write(strings);
+			strings.clear();
+			newStrings = 0;
+		}
+		record.flip();
+		writeHeader(type, record.remaining());
+		write(record);
+		type = 0;
+	}
+
+	/**
+	 * Writes the END record and writes every buffered byte to the channel. The channel is not closed.
+	 * @throws IllegalArgumentException if a record is begun
+	 * @throws IOException if the channel cannot be written
+	 */
+	public void finish() throws IOException {
+		if (type != 0)
+			throw new IllegalArgumentException("Record not ended");
+		if (finished)
+			return;
+		writeHeader(SnapshotIO.END, 0);
+		flush();
+		finished = true;
+	}
+
+	/**
+	 * Returns the number of bytes written to the channel so far.
+	 * @return the number of bytes
+	 */
+	public long getBytesWritten() {
+		return written;
+	}
+
+	/**
+	 * Writes an int to the current record.
+	 * @param value the value
+	 */
+	public void writeInt(int value) {
+		writeLong(value);
+	}
+
+	/**
+	 * Writes a long to the current record.
+	 * @param value the value
+	 */
+	public void writeLong(long value) {
+		record = ensure(record, MAX_VARINT);
+		putVarint(record, (value << 1) ^ (value >> 63));
+	}
+
+	/**
+	 * Writes a double to the current record.
+	 * @param value the value
+	 */
+	public void writeDouble(double value) {
+		record = ensure(record, 8);
+		record.putDouble(value);
+	}
+
+	/**
+	 * Writes a boolean to the current record.
+	 * @param value the value
+	 */
+	public void writeBoolean(boolean value) {
+		record = ensure(record, 1);
+		record.put((byte) (value ? 1 : 0));
+	}
+
+	/**
+	 * Writes a String to the current record as its number, giving it the next number if it has not been written.
+	 * @param value the String, or null
+	 */
+	public void writeString(String value) {
+		if (value == null) {
+			writeInt(0);
+			return;
+		}
+		Integer id = ids.get(value);
+		if (id == null) {
+			id = ids.size() + 1;
+			ids.put(value, id);
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			strings = ensure(strings, MAX_VARINT + bytes.length);
+			putVarint(strings, bytes.length);
+			strings.put(bytes);
+			newStrings++;
+		}
+		writeInt(id);
+	}
+
+	/**
+	 * Writes a date to the current record as milliseconds since the epoch.
+	 * @param value the date, or null
+	 */
+	public void writeCalendar(Calendar value) {
+		writeBoolean(value != null);
+		if (value != null)
+			writeLong(value.getTimeInMillis());
+	}
+
+	/**
+	 * Writes a product to the current record: its kind, the fields of Product, and the fields of its kind. The
+	 * components of a kit are written after its own fields.
+	 * @param p the product, or null
+	 * @throws IllegalArgumentException if the product is not a Component, Accessory or Kit
+	 */
+	public void writeProduct(Product p) {
+		if (p == null) {
+			writeInt(NO_PRODUCT);
+			return;
+		}
+		if (p instanceof Accessory)
+			writeInt(ACCESSORY);
+		else if (p instanceof Component)
+			writeInt(COMPONENT);
+		else if (p instanceof Kit)
+			writeInt(KIT);
+		else
+			throw new IllegalArgumentException("Unknown product " + p.getClass().getName());
+		writeString(p.getFamily());
+		writeString(p.getDescription());
+		writeString(p.getPartNumber());
+		writeDouble(p.getPrice());
+		if (p instanceof Component) {
+			Component c = (Component) p;
+			writeString(c.getGeneration());
+			writeLong(c.getMiscIDNumber());
+			writeLong(c.getSerial());
+			writeCalendar(c.getPackageDate());
+			writeString(c.getNote());
+		}
+		if (p instanceof Accessory) {
+			Accessory a = (Accessory) p;
+			writeInt(a.getSize());
+			writeCalendar(a.getInstall());
+		}
+		if (p instanceof Kit) {
+			Kit k = (Kit) p;
+			writeInt(k.getCmps() == null ? 0 : k.getCmps().size());
+			if (k.getCmps() != null) {
+				for (Component c : k.getCmps())
+					writeProduct(c);
+			}
+		}
+	}
+
+	/**
+	 * Writes a location to the current record: its kind, its address, the fields of its kind, and its employees.
+	 * @param l the location, or null
+	 * @throws IllegalArgumentException if the location is not a BillTo, ShipTo or ResearchSite
+	 */
+	public void writeLocation(Location l) {
+		if (l == null) {
+			writeInt(NO_LOCATION);
+			return;
+		}
+		if (l instanceof ResearchSite)
+			writeInt(RESEARCH_SITE);
+		else if (l instanceof ShipTo)
+			writeInt(SHIP_TO);
+		else if (l instanceof BillTo)
+			writeInt(BILL_TO);
+		else
+			throw new IllegalArgumentException("Unknown location " + l.getClass().getName());
+		writeString(l.getAddress1());
+		writeString(l.getAddress2());
+		writeString(l.getCity());
+		writeString(l.getState());
+		writeString(l.getZip());
+		writeString(l.getCountry());
+		if (l instanceof BillTo)
+			writeString(((BillTo) l).getBillingContact());
+		if (l instanceof ShipTo)
+			writeString(((ShipTo) l).getShippingContact());
+		if (l instanceof ResearchSite) {
+			ResearchSite rs = (ResearchSite) l;
+			writeLong(rs.getNum());
+			writeString(rs.getName());
+			writeInt(rs.getDevices());
+		}
+		writeInt(l.getEmployees() == null ? 0 : l.getEmployees().size());
+		if (l.getEmployees() != null) {
+			for (Employee e : l.getEmployees())
+				writeUser(e);
+		}
+	}
+
+	/**
+	 * Writes a company to the current record: its kind, its name and its locations. The studies of a research
+	 * company are not written.
+	 * @param c the company
+	 * @throws IllegalArgumentException if the company is not a VendorCompany or ResearchCompany
+	 */
+	public void writeCompany(Company c) {
+		if (c instanceof VendorCompany)
+			writeInt(VENDOR_COMPANY);
+		else if (c instanceof ResearchCompany)
+			writeInt(RESEARCH_COMPANY);
+		else
+			throw new IllegalArgumentException("Unknown company " + (c == null ? null : c.getClass().getName()));
+		writeString(c.getName());
+		writeInt(c.getLocations() == null ? 0 : c.getLocations().size());
+		if (c.getLocations() != null) {
+			for (Location l : c.getLocations())
+				writeLocation(l);
+		}
+	}
+
+	/**
+	 * Writes a user to the current record: the name, id, email, password hash and, for an employee, the most
+	 * orders the employee may place.
+	 * @param u the user
+	 */
+	public void writeUser(User u) {
+		writeString(u.getFirstName());
+		writeString(u.getLastName());
+		writeString(u.getId());
+		writeString(u.getEmail());
+		writeString(u.getPassword());
+		writeInt(u instanceof Employee ? ((Employee) u).getMaxOrders() : 0);
+	}
+
+	/**
+	 * Writes an order to the current record: its number, dates, status, study and site, the address of its
+	 * research site, its amount, and its products.
+	 * @param o the order
+	 */
+	public void writeOrder(Order o) {
+		writeLong(o.getNumber());
+		writeString(o.getUserId());
+		writeCalendar(o.getCreation());
+		writeCalendar(o.getDelieryDate());
+		writeCalendar(o.getStatusDate());
+		writeLong(o.getTrackingNum());
+		writeString(o.getStatus());
+		writeString(o.getPo());
+		writeString(o.getStudy());
+		writeString(o.getSite());
+		writeString(o.getSiteName());
+		writeString(o.getStreetAdd());
+		writeString(o.getCity());
+		writeString(o.getState());
+		writeString(o.getZip());
+		writeString(o.getCountry());
+		writeDouble(o.getAmount());
+		writeInt(o.getProductCount());
+		Product[] products = o.getProduct();
+		for (int i = 0; i < o.getProductCount(); i++)
+			writeProduct(products[i]);
+	}
+
+	/**
+	 * Writes the type and payload length of a record.
+	 * @param recordType the type
+	 * @param length the length of the payload
+	 * @throws IOException if the channel cannot be written
+	 */
+	private void writeHeader(int recordType, int length) throws IOException {
+		if (out.remaining() < 2 * MAX_VARINT)
+			flush();
+		putVarint(out, recordType);
+		putVarint(out, length);
+	}
+
+	/**
+	 * Adds bytes to the buffer, writing the buffer to the channel when it fills. Bytes that do not fit in an
+	 * empty buffer are written to the channel directly.
+	 * @param src the bytes
+	 * @throws IOException if the channel cannot be written
+	 */
+	private void write(ByteBuffer src) throws IOException {
+		if (src.remaining() > out.remaining())
+			flush();
+		if (src.remaining() > out.remaining()) {
+			while (src.hasRemaining())
+				written += channel.write(src);
+		} else {
+			out.put(src);
+		}
+	}
+
+	/**
+	 * Writes the buffered bytes to the channel.
+	 * @throws IOException if the channel cannot be written
+	 */
+	private void flush() throws IOException {
+		out.flip();
+		while (out.hasRemaining())
+			written += channel.write(out);
+		out.clear();
+	}
+
+	/**
+	 * Returns a buffer with room for more bytes, replacing the buffer with one twice as large if it is full.
+	 * @param b the buffer
+	 * @param needed the number of bytes to make room for
+	 * @return the buffer, or a larger copy of it
+	 */
+	private static ByteBuffer ensure(ByteBuffer b, int needed) {
+		if (b.remaining() >= needed)
+			return b;
+		ByteBuffer bigger = ByteBuffer.allocate(Math.max(2 * b.capacity(), b.position() + needed));
+		b.flip();
+		bigger.put(b);
+		return bigger;
+	}
+
+	/**
+	 * Puts a non-negative value, or a zigzag encoded one, as a variable length int: 7 bits to a byte, low bits
+	 * first, with the high bit set on every byte but the last.
+	 * @param b the buffer, with room for MAX_VARINT bytes
+	 * @param value the value
+	 */
+	private static void putVarint(ByteBuffer b, long value) {
+		while ((value & ~0x7FL) != 0) {
+			b.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		b.put((byte) value);
+	}
+}
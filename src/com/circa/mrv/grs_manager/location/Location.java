@@ -2,6 +2,10 @@
  * 
  */
 package com.circa.mrv.grs_manager.location;
+import java.util.Iterator;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.EmployeeIndex;
 import com.circa.mrv.grs_manager.user.*;
 import com.circa.mrv.grs_manager.util.LinkedListRecursive;
 
@@ -26,6 +30,10 @@ public abstract class Location {
 	private String country;
 	/** A list of employees at this location */
 	private LinkedListRecursive<Employee> employees;
+	/** The index of the company directory this location's company belongs to, or null if it is not in a directory */
+	private EmployeeIndex index;
+	/** The company this location belongs to in the company directory */
+	private Company company;
 	
 	/**
 	 * Assigns the parameters to Location's appropriate instance variables.
@@ -170,7 +178,27 @@ public abstract class Location {
 	 * @param employees the employees to set
 	 */
 	public void setEmployees(LinkedListRecursive<Employee> employees) {
+		if (index != null && this.employees != null) {
+			for (Employee e : this.employees)
+				index.remove(e);
+		}
 		this.employees = employees;
+		if (index != null && employees != null) {
+			for (Employee e : employees)
+				index.add(e, company, this);
+		}
+	}
+	
+	/**
+	 * Attaches this location to the employee index of a company directory. Employees added to or removed from the
+	 * location are added to or removed from the index until the location is detached by passing null.
+	 * 
+	 * @param index the employee index, or null to detach the location
+	 * @param company the company this location belongs to
+	 */
+	public void attach(EmployeeIndex index, Company company) {
+		this.index = index;
+		this.company = index == null ? null : company;
 	}
 	
 	/**
@@ -204,7 +232,42 @@ public abstract class Location {
 		if(userid == null || userid.equals("") || first == null || first.equals("") || last == null || last.equals("") )
 			throw new IllegalArgumentException("Employee name or id is invalid.");
 		Employee ee = new Employee(first,last,userid,email,hashPW);
-		employees.add(ee);
+		addEmployee(ee);
+	}
+	
+	/**
+	 * Adds the employee to this location and to the employee index of the company directory, if the location
+	 * belongs to a company in a directory.
+	 * 
+	 * @param employee the employee to add
+	 * @return true if the employee is added, false if the employee is null
+	 * @throws IllegalArgumentException if the employee is already at this location
+	 */
+	public boolean addEmployee(Employee employee) {
+		boolean added = employees.add(employee);
+		if (added && index != null)
+			index.add(employee, company, this);
+		return added;
+	}
+	
+	/**
+	 * Removes the employee whose unique id matches the userID parameter from this location and from the employee
+	 * index of the company directory.
+	 * 
+	 * @param userID the unique id for the employee
+	 * @return the removed employee, or null if no employee at this location has the id
+	 */
+	public Employee removeEmployee(String userID) {
+		for (Iterator<Employee> it = employees.iterator(); it.hasNext();) {
+			Employee e = it.next();
+			if (e.getId().equals(userID)) {
+				it.remove();
+				if (index != null)
+					index.remove(e);
+				return e;
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -0,0 +1,121 @@
+package com.circa.mrv.grs_manager.manager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.user.User;
+
+/**
+ * A Session is one logged in user of GRS Manager. It is identified by a random token that the client presents with
+ * each request, and holds the user, the company the user works for and any state the client keeps between requests.
+ * Sessions are created by GRSManager.openSession() and looked up with GRSManager.getSession().
+ *
+ * The state of a session may be read and changed from several threads at once.
+ *
+ * @author Arthur Vargas
+ */
+public class Session {
+	/** The token that identifies the session */
+	private final String token;
+	/** The logged in user */
+	private final User user;
+	/** The company the user works for, or null for the administrator */
+	private final Company company;
+	/** When the session was opened, from System.currentTimeMillis() */
+	private final long created;
+	/** When the session was last used, from System.currentTimeMillis() */
+	private volatile long lastAccessed;
+	/** State kept by the client between requests */
+	private final ConcurrentHashMap<String, Object> attributes;
+
+	/**
+	 * Creates a session.
+	 * @param token the token that identifies the session
+	 * @param user the logged in user
+	 * @param company the company the user works for, or null for the administrator
+	 * @throws IllegalArgumentException if token or user is null
+	 */
+	Session(String token, User user, Company company) {
+		if (token == null || user == null)
+			throw new IllegalArgumentException("Invalid session");
+		this.token = token;
+		this.user = user;
+		this.company = company;
+		this.created = System.currentTimeMillis();
+		this.lastAccessed = created;
+		this.attributes = new ConcurrentHashMap<String, Object>();
+	}
+
+	/**
+	 * Returns the token that identifies the session.
+	 * @return the token
+	 */
+	public String getToken() {
+		return token;
+	}
+
+	/**
+	 * Returns the logged in user.
+	 * @return the user
+	 */
+	public User getUser() {
+		return user;
+	}
+
+	/**
+	 * Returns the company the user works for.
+	 * @return the company, or null for the administrator
+	 */
+	public Company getCompany() {
+		return company;
+	}
+
+	/**
+	 * Returns when the session was opened.
+	 * @return the time in milliseconds since the epoch
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * Returns when the session was last used.
+	 * @return the time in milliseconds since the epoch
+	 */
+	public long getLastAccessed() {
+		return lastAccessed;
+	}
+
+	/**
+	 * Records that the session was used now.
+	 */
+	void touch() {
+		lastAccessed = System.currentTimeMillis();
+	}
+
+	/**
+	 * Returns the value stored under the name.
+	 * @param name the name
+	 * @return the value, or null if nothing is stored under the name
+	 */
+	public Object getAttribute(String name) {
+		if (name == null)
+			return null;
+		return attributes.get(name);
+	}
+
+	/**
+	 * Stores the value under the name, replacing any value already stored. A null value removes the name.
+	 * @param name the name
+	 * @param value the value
+	 * @throws IllegalArgumentException if name is null
+	 */
+	public void setAttribute(String name, Object value) {
+		if (name == null)
+			throw new IllegalArgumentException("Invalid attribute");
+		if (value == null)
+			attributes.remove(name);
+		else
+			attributes.put(name, value);
+	}
+}
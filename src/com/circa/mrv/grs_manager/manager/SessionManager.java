@@ -0,0 +1,148 @@
+package com.circa.mrv.grs_manager.manager;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.user.User;
+
+/**
+ * SessionManager keeps the open sessions of GRS Manager in a concurrent map from token to session, so that many
+ * users can log in, make requests and log out at the same time without waiting on each other. A token is 32 random
+ * bytes in URL-safe Base64. A session that has not been used for longer than the timeout is closed the next time it
+ * is looked up, or by expireSessions(). open() calls expireSessions() at most once per timeout, so sessions that
+ * are never used again do not stay open for as long as the program runs.
+ *
+ * @author Arthur Vargas
+ */
+public class SessionManager {
+	/** Number of random bytes in a token */
+	private static final int TOKEN_LENGTH = 32;
+	/** Source of tokens */
+	private final SecureRandom random;
+	/** The open sessions by token */
+	private final ConcurrentHashMap<String, Session> sessions;
+	/** How long a session may go unused before it is closed, in milliseconds */
+	private final long timeout;
+	/** The time in milliseconds after which the next call to open() closes the sessions that have timed out */
+	private final AtomicLong nextSweep;
+
+	/**
+	 * Creates a session manager with no open sessions.
+	 * @param timeoutMillis how long a session may go unused before it is closed, in milliseconds
+	 * @throws IllegalArgumentException if timeoutMillis is less than 1
+	 */
+	public SessionManager(long timeoutMillis) {
+		if (timeoutMillis < 1)
+			throw new IllegalArgumentException("Invalid timeout");
+		this.timeout = timeoutMillis;
+		this.random = new SecureRandom();
+		this.sessions = new ConcurrentHashMap<String, Session>();
+		this.nextSweep = new AtomicLong(System.currentTimeMillis() + timeoutMillis);
+	}
+
+	/**
+	 * Opens a session for the user. If the timeout has passed since sessions were last swept, the sessions that
+	 * have timed out are closed first.
+	 * @param user the logged in user
+	 * @param company the company the user works for, or null for the administrator
+	 * @return the new session
+	 * @throws IllegalArgumentException if user is null
+	 */
+	public Session open(User user, Company company) {
+		long now = System.currentTimeMillis();
+		long sweep = nextSweep.get();
+		if (now >= sweep && nextSweep.compareAndSet(sweep, now + timeout))
+			expireSessions();
+		byte[] bytes = new byte[TOKEN_LENGTH];
+		while (true) {
+			random.nextBytes(bytes);
+			Session s = new Session(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), user, company);
+			if (sessions.putIfAbsent(s.getToken(), s) == null)
+				return s;
+		}
+	}
+
+	/**
+	 * Returns the open session with the token and records that it was used.
+	 * @param token the token
+	 * @return the session, or null if no open session has the token or it has timed out
+	 */
+	public Session get(String token) {
+		if (token == null)
+			return null;
+		Session s = sessions.get(token);
+		if (s == null)
+			return null;
+		if (isExpired(s, System.currentTimeMillis())) {
+			sessions.remove(token, s);
+			return null;
+		}
+		s.touch();
+		return s;
+	}
+
+	/**
+	 * Closes the session with the token.
+	 * @param token the token
+	 * @return true if a session was closed
+	 */
+	public boolean close(String token) {
+		if (token == null)
+			return false;
+		return sessions.remove(token) != null;
+	}
+
+	/**
+	 * Closes every session of the user.
+	 * @param user the user
+	 * @return the number of sessions closed
+	 */
+	public int closeAll(User user) {
+		int closed = 0;
+		for (Iterator<Session> it = sessions.values().iterator(); it.hasNext();) {
+			if (it.next().getUser() == user) {
+				it.remove();
+				closed++;
+			}
+		}
+		return closed;
+	}
+
+	/**
+	 * Closes every session that has timed out.
+	 * @return the number of sessions closed
+	 */
+	public int expireSessions() {
+		long now = System.currentTimeMillis();
+		int closed = 0;
+		for (Iterator<Session> it = sessions.values().iterator(); it.hasNext();) {
+			if (isExpired(it.next(), now)) {
+				it.remove();
+				closed++;
+			}
+		}
+		return closed;
+	}
+
+	/**
+	 * Returns the number of open sessions, including any that have timed out but not yet been closed.
+	 * @return the number of sessions
+	 */
+	public int size() {
+		return sessions.size();
+	}
+
+	/**
+	 * Returns true if the session has gone unused for longer than the timeout.
+	 * @param s the session
+	 * @param now the current time in milliseconds
+	 * @return true if the session has timed out
+	 */
+	private boolean isExpired(Session s, long now) {
+		return now - s.getLastAccessed() > timeout;
+	}
+}
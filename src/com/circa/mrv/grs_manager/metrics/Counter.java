@@ -0,0 +1,61 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter counts events, such as failed logins. The count is kept in a LongAdder, so threads counting at the same
+ * time do not contend on one value.
+ *
+ * @author Arthur Vargas
+ */
+public class Counter extends Metric implements CounterMBean {
+	/** The count */
+	private final LongAdder count;
+
+	/**
+	 * Creates a counter.
+	 * @param name the name of the counter
+	 * @param registry the registry the counter belongs to
+	 */
+	Counter(String name, MetricsRegistry registry) {
+		super(name, registry);
+		count = new LongAdder();
+	}
+
+	/**
+	 * Adds one to the count if the registry is enabled.
+	 */
+	public void increment() {
+		if (registry.enabled)
+			count.increment();
+	}
+
+	/**
+	 * Adds to the count if the registry is enabled.
+	 * @param n the number to add
+	 */
+	public void add(long n) {
+		if (registry.enabled)
+			count.add(n);
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public void reset() {
+		count.reset();
+	}
+
+	@Override
+	String getType() {
+		return "Counter";
+	}
+
+	@Override
+	void dump(StringBuilder sb) {
+		sb.append(getName()).append(" count=").append(getCount());
+	}
+}
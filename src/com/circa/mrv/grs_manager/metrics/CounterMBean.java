@@ -0,0 +1,19 @@
+package com.circa.mrv.grs_manager.metrics;
+
+/**
+ * The JMX view of a Counter.
+ *
+ * @author Arthur Vargas
+ */
+public interface CounterMBean {
+	/**
+	 * Returns the count.
+	 * @return the count
+	 */
+	long getCount();
+
+	/**
+	 * Sets the count back to zero.
+	 */
+	void reset();
+}
@@ -0,0 +1,154 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EventRecorder keeps the FlightEvents of GRS Manager: one event for each phase of an order or title import, for
+ * each login attempt, and for each change of an order's status. Where the metrics give totals and percentiles,
+ * the events give the rows, bytes and time of each single step, so a slow import can be traced to the phase that
+ * slowed down.
+ *
+ * The most recent events are kept in memory and returned by getEvents(). On Java 11 and later every event is also
+ * written to Java Flight Recorder as a custom event in the "GRS Manager" category, named after its type, so a
+ * flight recording shows the events next to the garbage collections and file reads they overlap. A recording is
+ * started as usual, with -XX:StartFlightRecording or jcmd JFR.start.
+ *
+ * The recorder is enabled unless the system property grs.events is false. While it is disabled, begin() returns
+ * an event that records nothing.
+ *
+ * @author Arthur Vargas
+ */
+public class EventRecorder {
+	/** The type of the events of the phases of an order import */
+	public static final String ORDER_IMPORT = "com.circa.mrv.grs_manager.OrderImport";
+	/** The type of the events of the phases of a title import */
+	public static final String TITLE_IMPORT = "com.circa.mrv.grs_manager.TitleImport";
+	/** The type of the events of login attempts */
+	public static final String LOGIN = "com.circa.mrv.grs_manager.Login";
+	/** The type of the events of order status changes */
+	public static final String ORDER_STATUS = "com.circa.mrv.grs_manager.OrderStatus";
+	/** The number of events kept in memory */
+	public static final int CAPACITY = 1024;
+
+	/** True if events are recorded */
+	private volatile boolean enabled;
+	/** Writes the events to JFR, or null if JFR is not available */
+	private final JfrEvents jfr;
+	/** The most recent events, used as a ring */
+	private final FlightEvent[] events;
+	/** The number of events committed since the recorder was created or cleared */
+	private long count;
+
+	/**
+	 * Creates a recorder that writes its events to JFR if the Java runtime allows it.
+	 * @param enabled true if events should be recorded
+	 */
+	public EventRecorder(boolean enabled) {
+		this.enabled = enabled;
+		jfr = JfrEvents.create();
+		events = new FlightEvent[CAPACITY];
+	}
+
+	/**
+	 * Holds the recorder of the program, created the first time getInstance() reads the field.
+	 */
+	private static class InstanceHolder {
+		/** The recorder of the program */
+		private static final EventRecorder INSTANCE =
+				new EventRecorder(!"false".equalsIgnoreCase(System.getProperty("grs.events")));
+	}
+
+	/**
+	 * Returns the recorder of the program.
+	 * @return the recorder
+	 */
+	public static EventRecorder getInstance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	/**
+	 * Returns true if events are recorded.
+	 * @return true if enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Turns recording of events on or off.
+	 * @param enabled true to record
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns true if events are also written to Java Flight Recorder.
+	 * @return true if JFR is available
+	 */
+	public boolean isJfrAvailable() {
+		return jfr != null;
+	}
+
+	/**
+	 * Begins an event. The event must be committed when the step it times is done.
+	 * @param type the type of the event, such as ORDER_IMPORT
+	 * @param phase the step of the work the event times
+	 * @return the event, or an event that records nothing if the recorder is disabled
+	 */
+	public FlightEvent begin(String type, String phase) {
+		if (!enabled)
+			return FlightEvent.DISABLED;
+		Object jfrEvent = jfr == null ? null : jfr.begin(type, label(type));
+		return new FlightEvent(this, type, phase, jfrEvent);
+	}
+
+	/**
+	 * Keeps a committed event and writes it to JFR.
+	 * @param e the event
+	 */
+	void commit(FlightEvent e) {
+		if (jfr != null)
+			jfr.commit(e);
+		synchronized (events) {
+			events[(int) (count++ % CAPACITY)] = e;
+		}
+	}
+
+	/**
+	 * Returns the events kept in memory.
+	 * @return up to CAPACITY of the most recent events, oldest first
+	 */
+	public List<FlightEvent> getEvents() {
+		synchronized (events) {
+			int size = (int) Math.min(count, CAPACITY);
+			List<FlightEvent> list = new ArrayList<FlightEvent>(size);
+			for (long i = count - size; i < count; i++) {
+				list.add(events[(int) (i % CAPACITY)]);
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Removes the events kept in memory. Events already written to JFR are not affected.
+	 */
+	public void clear() {
+		synchronized (events) {
+			for (int i = 0; i < events.length; i++) {
+				events[i] = null;
+			}
+			count = 0;
+		}
+	}
+
+	/**
+	 * Returns the label of an event type, its name without the package.
+	 * @param type the type
+	 * @return the label
+	 */
+	private static String label(String type) {
+		return type.substring(type.lastIndexOf('.') + 1);
+	}
+}
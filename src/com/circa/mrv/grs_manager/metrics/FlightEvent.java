@@ -0,0 +1,199 @@
+package com.circa.mrv.grs_manager.metrics;
+
+/**
+ * A FlightEvent is one timed step of GRS Manager, such as a phase of an order import or a login attempt, with the
+ * number of rows and bytes it handled. An event is started with EventRecorder.begin(), filled in, and then
+ * committed, which ends it and hands it to the recorder:
+ * <pre>
+ * FlightEvent event = EventRecorder.getInstance().begin(EventRecorder.ORDER_IMPORT, "parse");
+ * try {
+ *     ...
+ *     event.setRows(rows);
+ *     event.setBytes(bytes);
+ * } finally {
+ *     event.commit();
+ * }
+ * </pre>
+ * While the recorder is disabled, begin() returns DISABLED, which ignores everything done to it. An event belongs
+ * to the thread that began it and must not be shared.
+ *
+ * @author Arthur Vargas
+ */
+public class FlightEvent {
+	/** The event returned by a disabled recorder; it records nothing */
+	static final FlightEvent DISABLED = new FlightEvent(null, null, null, null);
+
+	/** The recorder the event is committed to, or null if the event is DISABLED */
+	private final EventRecorder recorder;
+	/** The type of the event, one of the EventRecorder event types */
+	private final String type;
+	/** The step of the work the event times */
+	private final String phase;
+	/** The name of the thread that began the event */
+	private final String thread;
+	/** The JFR event written alongside this event, or null if JFR is not available */
+	private final Object jfrEvent;
+	/** The time the event began, from System.currentTimeMillis() */
+	private final long startMillis;
+	/** The time the event began, from System.nanoTime() */
+	private final long startNanos;
+	/** The length of the event in nanoseconds, or -1 until it is committed */
+	private long durationNanos;
+	/** The number of rows handled */
+	private long rows;
+	/** The number of bytes read or written */
+	private long bytes;
+	/** A short description of the outcome, or null */
+	private String detail;
+
+	/**
+	 * Begins an event.
+	 * @param recorder the recorder the event is committed to
+	 * @param type the type of the event
+	 * @param phase the step of the work the event times
+	 * @param jfrEvent the JFR event written alongside this event, already begun, or null
+	 */
+	FlightEvent(EventRecorder recorder, String type, String phase, Object jfrEvent) {
+		this.recorder = recorder;
+		this.type = type;
+		this.phase = phase;
+		this.jfrEvent = jfrEvent;
+		thread = recorder == null ? null : Thread.currentThread().getName();
+		startMillis = recorder == null ? 0 : System.currentTimeMillis();
+		startNanos = recorder == null ? 0 : System.nanoTime();
+		durationNanos = -1;
+	}
+
+	/**
+	 * Sets the number of rows handled, such as the rows parsed or the orders changed.
+	 * @param rows the number of rows
+	 */
+	public void setRows(long rows) {
+		this.rows = rows;
+	}
+
+	/**
+	 * Adds to the number of rows handled.
+	 * @param rows the number of rows to add
+	 */
+	public void addRows(long rows) {
+		this.rows += rows;
+	}
+
+	/**
+	 * Sets the number of bytes read or written.
+	 * @param bytes the number of bytes
+	 */
+	public void setBytes(long bytes) {
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Adds to the number of bytes read or written.
+	 * @param bytes the number of bytes to add
+	 */
+	public void addBytes(long bytes) {
+		this.bytes += bytes;
+	}
+
+	/**
+	 * Sets a short description of the outcome, such as the file read or the status an order moved to. The
+	 * description must not hold passwords or other secrets.
+	 * @param detail the description
+	 */
+	public void setDetail(String detail) {
+		this.detail = detail;
+	}
+
+	/**
+	 * Ends the event and hands it to its recorder. Committing an event more than once has no effect.
+	 */
+	public void commit() {
+		if (recorder == null || durationNanos >= 0)
+			return;
+		durationNanos = System.nanoTime() - startNanos;
+		recorder.commit(this);
+	}
+
+	/**
+	 * Returns the type of the event.
+	 * @return the type, one of the EventRecorder event types
+	 */
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the step of the work the event timed.
+	 * @return the phase
+	 */
+	public String getPhase() {
+		return phase;
+	}
+
+	/**
+	 * Returns the name of the thread that began the event.
+	 * @return the thread name
+	 */
+	public String getThread() {
+		return thread;
+	}
+
+	/**
+	 * Returns the time the event began.
+	 * @return the time in milliseconds since the epoch
+	 */
+	public long getStartMillis() {
+		return startMillis;
+	}
+
+	/**
+	 * Returns the length of the event.
+	 * @return the length in nanoseconds, or -1 if the event has not been committed
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Returns the number of rows handled.
+	 * @return the number of rows
+	 */
+	public long getRows() {
+		return rows;
+	}
+
+	/**
+	 * Returns the number of bytes read or written.
+	 * @return the number of bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Returns the description of the outcome.
+	 * @return the description, or null
+	 */
+	public String getDetail() {
+		return detail;
+	}
+
+	/**
+	 * Returns the JFR event written alongside this event.
+	 * @return the JFR event, or null if JFR is not available
+	 */
+	Object getJfrEvent() {
+		return jfrEvent;
+	}
+
+	/**
+	 * Returns a line describing the event.
+	 * @return the description
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s %s rows=%d bytes=%d duration=%.3fms thread=%s%s", type, phase, rows, bytes,
+				durationNanos / 1000000.0, thread, detail == null ? "" : " " + detail);
+	}
+}
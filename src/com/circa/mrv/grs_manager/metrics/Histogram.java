@@ -0,0 +1,126 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram counts recorded values, such as latencies in nanoseconds, in buckets whose width grows with the value,
+ * in the way an HDR histogram does, so that any percentile can be read back to within about 3 percent however
+ * large the values are. Values below 64 have a bucket each. Above that, each power of two range is split into 32
+ * buckets of equal width: a value is kept to its top 6 bits.
+ *
+ * Recording a value takes a few shifts and one atomic increment, so values can be recorded on any number of
+ * threads at once. The counts read while values are being recorded may be a few values behind.
+ *
+ * @author Arthur Vargas
+ */
+public class Histogram {
+	/** Number of buckets in each power of two range */
+	private static final int SUB_BUCKETS = 32;
+	/** Number of bits a value is kept to */
+	private static final int PRECISION_BITS = 6;
+	/** Number of buckets, enough for any non-negative long */
+	private static final int BUCKETS = SUB_BUCKETS * (Long.SIZE - PRECISION_BITS + 1);
+
+	/** The count of each bucket */
+	private final AtomicLongArray counts;
+
+	/**
+	 * Creates an empty histogram.
+	 */
+	public Histogram() {
+		counts = new AtomicLongArray(BUCKETS);
+	}
+
+	/**
+	 * Records a value. Negative values are recorded as 0.
+	 * @param value the value
+	 */
+	public void record(long value) {
+		counts.incrementAndGet(bucket(Math.max(value, 0)));
+	}
+
+	/**
+	 * Returns the bucket a value is counted in.
+	 * @param value the value, not negative
+	 * @return the index of the bucket
+	 */
+	static int bucket(long value) {
+		int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - PRECISION_BITS);
+		if (shift == 0)
+			return (int) value;
+		return SUB_BUCKETS * shift + (int) (value >>> shift);
+	}
+
+	/**
+	 * Returns the smallest value counted in a bucket.
+	 * @param bucket the index of the bucket
+	 * @return the smallest value of the bucket
+	 */
+	static long lowestValue(int bucket) {
+		if (bucket < 2 * SUB_BUCKETS)
+			return bucket;
+		int shift = bucket / SUB_BUCKETS - 1;
+		return (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+	}
+
+	/**
+	 * Returns the largest value counted in a bucket.
+	 * @param bucket the index of the bucket
+	 * @return the largest value of the bucket
+	 */
+	static long highestValue(int bucket) {
+		if (bucket < 2 * SUB_BUCKETS)
+			return bucket;
+		int shift = bucket / SUB_BUCKETS - 1;
+		return lowestValue(bucket) + (1L << shift) - 1;
+	}
+
+	/**
+	 * Returns the number of values recorded.
+	 * @return the number of values
+	 */
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			count += counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the value below which the passed percentage of the recorded values fall. The value returned is the
+	 * middle of the bucket the percentile falls in.
+	 * @param percentile the percentage, from 0 to 100
+	 * @return the value at the percentile, or 0 if no values are recorded
+	 * @throws IllegalArgumentException if the percentage is not between 0 and 100
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (!(percentile >= 0 && percentile <= 100))
+			throw new IllegalArgumentException("Invalid percentile");
+		long[] snapshot = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			count += snapshot[i];
+		}
+		if (count == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= rank)
+				return lowestValue(i) + (highestValue(i) - lowestValue(i)) / 2;
+		}
+		return highestValue(BUCKETS - 1);
+	}
+
+	/**
+	 * Removes every recorded value.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JfrEvents writes FlightEvents to Java Flight Recorder as custom event types, so a flight recording shows them
+ * next to the garbage collections, safepoints and file reads they overlap. GRS Manager is built for Java 8, which
+ * has no jdk.jfr API to extend, so the event types are made at run time with jdk.jfr.EventFactory, which Java 11
+ * and later provide, and every call into JFR is made through reflection. On a Java runtime without EventFactory,
+ * create() returns null and the events are only kept by the EventRecorder.
+ *
+ * Each event type is named after its EventRecorder type, is in the "GRS Manager" category, and has the fields
+ * phase, rows, bytes and detail, in that order. JFR adds the start time, duration and thread of each event.
+ *
+ * @author Arthur Vargas
+ */
+class JfrEvents {
+	/** The JFR category of the event types */
+	private static final String CATEGORY = "GRS Manager";
+	/** The names of the fields of each event type, in the order they are set */
+	private static final String[] FIELDS = {"phase", "rows", "bytes", "detail"};
+	/** The labels of the fields, shown by JDK Mission Control */
+	private static final String[] LABELS = {"Phase", "Rows", "Bytes", "Detail"};
+	/** The types of the fields */
+	private static final Class<?>[] TYPES = {String.class, long.class, long.class, String.class};
+
+	/** The EventFactory of each event type by name */
+	private final ConcurrentHashMap<String, Object> factories;
+	/** jdk.jfr.EventFactory.create(List, List) */
+	private final Method create;
+	/** jdk.jfr.EventFactory.newEvent() */
+	private final Method newEvent;
+	/** jdk.jfr.Event.begin() */
+	private final Method begin;
+	/** jdk.jfr.Event.set(int, Object) */
+	private final Method set;
+	/** jdk.jfr.Event.commit() */
+	private final Method commit;
+	/** new jdk.jfr.AnnotationElement(Class, Object) */
+	private final Constructor<?> annotation;
+	/** new jdk.jfr.ValueDescriptor(Class, String, List) */
+	private final Constructor<?> field;
+	/** jdk.jfr.Name */
+	private final Class<? extends Annotation> name;
+	/** jdk.jfr.Label */
+	private final Class<? extends Annotation> label;
+	/** jdk.jfr.Category */
+	private final Class<? extends Annotation> category;
+
+	/**
+	 * Looks up the jdk.jfr API.
+	 * @throws ReflectiveOperationException if the Java runtime has no jdk.jfr.EventFactory
+	 */
+	private JfrEvents() throws ReflectiveOperationException {
+		factories = new ConcurrentHashMap<String, Object>();
+		Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+		Class<?> event = Class.forName("jdk.jfr.Event");
+		create = factory.getMethod("create", List.class, List.class);
+		newEvent = factory.getMethod("newEvent");
+		begin = event.getMethod("begin");
+		set = event.getMethod("set", int.class, Object.class);
+		commit = event.getMethod("commit");
+		annotation = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+		field = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+		name = Class.forName("jdk.jfr.Name").asSubclass(Annotation.class);
+		label = Class.forName("jdk.jfr.Label").asSubclass(Annotation.class);
+		category = Class.forName("jdk.jfr.Category").asSubclass(Annotation.class);
+	}
+
+	/**
+	 * Returns the bridge to JFR, or null if the Java runtime cannot make event types at run time.
+	 * @return the bridge, or null
+	 */
+	static JfrEvents create() {
+		try {
+			return new JfrEvents();
+		} catch (ReflectiveOperationException e) {
+			return null;
+		} catch (LinkageError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Begins a JFR event of the type.
+	 * @param type the EventRecorder type of the event, used as the name of the JFR event type
+	 * @param label the label of the JFR event type
+	 * @return the JFR event, or null if it could not be made
+	 */
+	Object begin(String type, String label) {
+		try {
+			Object event = newEvent.invoke(factory(type, label));
+			begin.invoke(event);
+			return event;
+		} catch (ReflectiveOperationException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Sets the fields of the JFR event written alongside a flight event and commits it. JFR ends the event and
+	 * writes it if a recording has its type enabled.
+	 * @param e the flight event, with its JFR event
+	 */
+	void commit(FlightEvent e) {
+		Object event = e.getJfrEvent();
+		if (event == null)
+			return;
+		try {
+			set.invoke(event, 0, e.getPhase());
+			set.invoke(event, 1, e.getRows());
+			set.invoke(event, 2, e.getBytes());
+			set.invoke(event, 3, e.getDetail());
+			commit.invoke(event);
+		} catch (ReflectiveOperationException ex) {
+			// the event is still kept by the recorder, so only the copy in the flight recording is lost
+		}
+	}
+
+	/**
+	 * Returns the EventFactory of an event type, making it the first time the type is used.
+	 * @param type the name of the event type
+	 * @param typeLabel the label of the event type
+	 * @return the factory
+	 * @throws ReflectiveOperationException if the factory cannot be made
+	 */
+	private Object factory(String type, String typeLabel) throws ReflectiveOperationException {
+		Object f = factories.get(type);
+		if (f != null)
+			return f;
+		List<Object> annotations = Arrays.asList(annotation.newInstance(name, type),
+				annotation.newInstance(label, typeLabel),
+				annotation.newInstance(category, new String[] {CATEGORY}));
+		List<Object> fields = new ArrayList<Object>();
+		for (int i = 0; i < FIELDS.length; i++) {
+			fields.add(field.newInstance(TYPES[i], FIELDS[i],
+					Collections.singletonList(annotation.newInstance(label, LABELS[i]))));
+		}
+		f = create.invoke(null, annotations, fields);
+		Object existing = factories.putIfAbsent(type, f);
+		return existing == null ? f : existing;
+	}
+}
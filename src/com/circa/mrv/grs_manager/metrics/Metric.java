@@ -0,0 +1,49 @@
+package com.circa.mrv.grs_manager.metrics;
+
+/**
+ * A Metric is a named measurement kept by a MetricsRegistry. A metric records nothing while its registry is
+ * disabled.
+ *
+ * @author Arthur Vargas
+ */
+public abstract class Metric {
+	/** The name of the metric */
+	private final String name;
+	/** The registry the metric belongs to */
+	final MetricsRegistry registry;
+
+	/**
+	 * Creates a metric.
+	 * @param name the name of the metric
+	 * @param registry the registry the metric belongs to
+	 */
+	Metric(String name, MetricsRegistry registry) {
+		this.name = name;
+		this.registry = registry;
+	}
+
+	/**
+	 * Returns the name of the metric.
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the type of the metric, used in its JMX name.
+	 * @return the type
+	 */
+	abstract String getType();
+
+	/**
+	 * Appends a line describing the current values of the metric, without a line separator.
+	 * @param sb the text to append to
+	 */
+	abstract void dump(StringBuilder sb);
+
+	/**
+	 * Sets the values of the metric back to zero.
+	 */
+	public abstract void reset();
+}
@@ -0,0 +1,294 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * MetricsRegistry keeps the counters and timers GRS Manager records where its time goes with: file loads, logins,
+ * order submissions, catalog lookups and table refreshes. Each metric is created the first time it is asked for by
+ * name and kept for the life of the program, so classes look their metrics up once and keep them in static fields.
+ *
+ * Recording can be turned off for every metric at once. The registry is enabled unless the system property
+ * grs.metrics is false; while it is disabled a metric costs one field read where it is recorded. The metrics can
+ * be read through JMX once registerMBeans() has been called, under the domain com.circa.mrv.grs_manager, and can
+ * be written as text to a stream at a fixed period with startDump(). The programs call publish() when they start,
+ * which registers the MBeans and, if the system property grs.metrics.dump is set to a number of seconds, writes
+ * the dump to standard error at that period.
+ *
+ * @author Arthur Vargas
+ */
+public class MetricsRegistry implements MetricsRegistryMBean {
+	/** The JMX domain of the metrics */
+	public static final String DOMAIN = "com.circa.mrv.grs_manager";
+
+	/** True if metrics are recording; read on every recording, so kept in a plain volatile field */
+	volatile boolean enabled;
+	/** The metrics by name */
+	private final ConcurrentHashMap<String, Metric> metrics;
+	/** The server the metrics are registered with, or null if they are not registered */
+	private MBeanServer server;
+	/** Writes the periodic dump, or null if no dump is running */
+	private ScheduledExecutorService dumper;
+
+	/**
+	 * Creates an empty registry.
+	 * @param enabled true if the metrics should record
+	 */
+	public MetricsRegistry(boolean enabled) {
+		this.enabled = enabled;
+		metrics = new ConcurrentHashMap<String, Metric>();
+	}
+
+	/**
+	 * Holds the registry of the program, created the first time getInstance() reads the field.
+	 */
+	private static class InstanceHolder {
+		/** The registry of the program */
+		private static final MetricsRegistry INSTANCE =
+				new MetricsRegistry(!"false".equalsIgnoreCase(System.getProperty("grs.metrics")));
+	}
+
+	/**
+	 * Returns the registry of the program.
+	 * @return the registry
+	 */
+	public static MetricsRegistry getInstance() {
+		return InstanceHolder.INSTANCE;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the counter with the name, creating it if there is none.
+	 * @param name the name of the counter
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is null or empty or belongs to a metric that is not a counter
+	 */
+	public Counter counter(String name) {
+		Metric m = metrics.get(checkName(name));
+		if (m == null)
+			m = add(new Counter(name, this));
+		if (!(m instanceof Counter))
+			throw new IllegalArgumentException("Metric " + name + " is not a counter");
+		return (Counter) m;
+	}
+
+	/**
+	 * Returns the timer with the name, creating it if there is none.
+	 * @param name the name of the timer
+	 * @return the timer
+	 * @throws IllegalArgumentException if the name is null or empty or belongs to a metric that is not a timer
+	 */
+	public Timer timer(String name) {
+		Metric m = metrics.get(checkName(name));
+		if (m == null)
+			m = add(new Timer(name, this));
+		if (!(m instanceof Timer))
+			throw new IllegalArgumentException("Metric " + name + " is not a timer");
+		return (Timer) m;
+	}
+
+	/**
+	 * Checks the name of a metric.
+	 * @param name the name
+	 * @return the name
+	 * @throws IllegalArgumentException if the name is null or empty
+	 */
+	private static String checkName(String name) {
+		if (name == null || name.isEmpty())
+			throw new IllegalArgumentException("Invalid metric name");
+		return name;
+	}
+
+	/**
+	 * Adds a metric unless another thread added one with the same name first, and registers it with JMX if the
+	 * registry is registered.
+	 * @param m the metric
+	 * @return the metric with the name
+	 */
+	private Metric add(Metric m) {
+		Metric existing = metrics.putIfAbsent(m.getName(), m);
+		if (existing != null)
+			return existing;
+		synchronized (this) {
+			if (server != null)
+				register(server, m);
+		}
+		return m;
+	}
+
+	/**
+	 * Returns every metric.
+	 * @return the metrics sorted by name
+	 */
+	public List<Metric> getMetrics() {
+		List<Metric> list = new ArrayList<Metric>(metrics.values());
+		Collections.sort(list, new Comparator<Metric>() {
+			@Override
+			public int compare(Metric a, Metric b) {
+				return a.getName().compareTo(b.getName());
+			}
+		});
+		return list;
+	}
+
+	@Override
+	public String dump() {
+		StringBuilder sb = new StringBuilder();
+		for (Metric m : getMetrics()) {
+			m.dump(sb);
+			sb.append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public void reset() {
+		for (Metric m : metrics.values()) {
+			m.reset();
+		}
+	}
+
+	/**
+	 * Registers the registry and every metric, now and to come, with the platform MBean server.
+	 * @throws IllegalArgumentException if the registry cannot be registered
+	 */
+	public synchronized void registerMBeans() {
+		if (server != null)
+			return;
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		try {
+			mbs.registerMBean(this, new ObjectName(DOMAIN + ":type=MetricsRegistry"));
+		} catch (JMException e) {
+			throw new IllegalArgumentException("Unable to register metrics " + e.getMessage());
+		}
+		server = mbs;
+		for (Metric m : metrics.values()) {
+			register(server, m);
+		}
+	}
+
+	/**
+	 * Removes the registry and every metric from the platform MBean server.
+	 */
+	public synchronized void unregisterMBeans() {
+		if (server == null)
+			return;
+		try {
+			server.unregisterMBean(new ObjectName(DOMAIN + ":type=MetricsRegistry"));
+		} catch (JMException e) {
+			// the registry was already removed
+		}
+		for (Metric m : metrics.values()) {
+			try {
+				server.unregisterMBean(objectName(m));
+			} catch (JMException e) {
+				// the metric was never registered or was already removed
+			}
+		}
+		server = null;
+	}
+
+	/**
+	 * Registers the MBeans of the registry of the program and starts the periodic dump if the system property
+	 * grs.metrics.dump gives its period in seconds. Does nothing if the registry is disabled.
+	 * @throws IllegalArgumentException if grs.metrics.dump is not a number of seconds
+	 */
+	public static void publish() {
+		MetricsRegistry registry = getInstance();
+		if (!registry.enabled)
+			return;
+		registry.registerMBeans();
+		String period = System.getProperty("grs.metrics.dump");
+		if (period != null) {
+			try {
+				registry.startDump(System.err, Long.parseLong(period.trim()));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Invalid dump period " + period);
+			}
+		}
+	}
+
+	/**
+	 * Returns the JMX name of a metric.
+	 * @param m the metric
+	 * @return the name
+	 * @throws JMException if the name is not a valid JMX name
+	 */
+	public static ObjectName objectName(Metric m) throws JMException {
+		return new ObjectName(DOMAIN + ":type=" + m.getType() + ",name=" + ObjectName.quote(m.getName()));
+	}
+
+	/**
+	 * Registers a metric with an MBean server. A metric that cannot be registered is left out of JMX but still
+	 * records and is still dumped.
+	 * @param mbs the server
+	 * @param m the metric
+	 */
+	private static void register(MBeanServer mbs, Metric m) {
+		try {
+			mbs.registerMBean(m, objectName(m));
+		} catch (JMException e) {
+			System.err.println("Unable to register metric " + m.getName() + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Writes the dump to the stream at a fixed period on a background thread, until stopDump() is called. A dump
+	 * already running is stopped first.
+	 * @param out the stream to write to
+	 * @param periodSeconds the seconds between dumps
+	 * @throws IllegalArgumentException if the stream is null or the period is less than 1
+	 */
+	public synchronized void startDump(final PrintStream out, long periodSeconds) {
+		if (out == null || periodSeconds < 1)
+			throw new IllegalArgumentException("Invalid dump");
+		stopDump();
+		dumper = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread t = new Thread(r, "grs-metrics-dump");
+				t.setDaemon(true);
+				return t;
+			}
+		});
+		dumper.scheduleAtFixedRate(new Runnable() {
+			@Override
+			public void run() {
+				out.print(dump());
+				out.flush();
+			}
+		}, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Stops the periodic dump, if one is running.
+	 */
+	public synchronized void stopDump() {
+		if (dumper != null) {
+			dumper.shutdownNow();
+			dumper = null;
+		}
+	}
+}
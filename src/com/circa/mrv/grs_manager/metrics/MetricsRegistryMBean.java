@@ -0,0 +1,31 @@
+package com.circa.mrv.grs_manager.metrics;
+
+/**
+ * The JMX view of the MetricsRegistry.
+ *
+ * @author Arthur Vargas
+ */
+public interface MetricsRegistryMBean {
+	/**
+	 * Returns true if the metrics are recording.
+	 * @return true if enabled
+	 */
+	boolean isEnabled();
+
+	/**
+	 * Turns recording of every metric on or off.
+	 * @param enabled true to record
+	 */
+	void setEnabled(boolean enabled);
+
+	/**
+	 * Returns the current values of every metric, one metric to a line.
+	 * @return the values
+	 */
+	String dump();
+
+	/**
+	 * Sets every metric back to zero.
+	 */
+	void reset();
+}
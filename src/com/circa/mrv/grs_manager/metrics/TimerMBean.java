@@ -0,0 +1,55 @@
+package com.circa.mrv.grs_manager.metrics;
+
+/**
+ * The JMX view of a Timer. Times are in milliseconds.
+ *
+ * @author Arthur Vargas
+ */
+public interface TimerMBean {
+	/**
+	 * Returns the number of timed calls.
+	 * @return the number of calls
+	 */
+	long getCount();
+
+	/**
+	 * Returns the total time of the timed calls.
+	 * @return the total time in milliseconds
+	 */
+	double getTotalMillis();
+
+	/**
+	 * Returns the mean time of a timed call.
+	 * @return the mean time in milliseconds
+	 */
+	double getMeanMillis();
+
+	/**
+	 * Returns the longest time of a timed call.
+	 * @return the longest time in milliseconds
+	 */
+	double getMaxMillis();
+
+	/**
+	 * Returns the median time of a timed call.
+	 * @return the median time in milliseconds
+	 */
+	double get50thPercentileMillis();
+
+	/**
+	 * Returns the time 99 percent of timed calls take less than.
+	 * @return the 99th percentile time in milliseconds
+	 */
+	double get99thPercentileMillis();
+
+	/**
+	 * Returns the time 99.9 percent of timed calls take less than.
+	 * @return the 99.9th percentile time in milliseconds
+	 */
+	double get999thPercentileMillis();
+
+	/**
+	 * Sets the count and times back to zero.
+	 */
+	void reset();
+}
@@ -266,7 +266,7 @@ public class Component extends Product implements Consumable {
 	@Override
 	public int hashCode() {
 		final int prime = 31;
-		int result = 1;
+		int result = super.hashCode();
 		result = prime * result + ((generation == null) ? 0 : generation.hashCode());
 		result = prime * result + ((packageDate == null) ? 0 : packageDate.hashCode());
 		result = prime * result + (int) (serial ^ (serial >>> 32));
@@ -0,0 +1,793 @@
+package com.circa.mrv.grs_manager.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.directory.Study;
+import com.circa.mrv.grs_manager.directory.VendorCompany;
+import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.manager.GRSManager;
+import com.circa.mrv.grs_manager.manager.Session;
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.user.schedule.OrderSchedule;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * GRSServer runs GRS Manager without the Swing interface and serves a JSON API over HTTP with the JDK's HttpServer,
+ * so an ordering portal can log users in, look up products, submit orders, list open orders and change their status.
+ * Each request is handled on a thread of a fixed pool, and the users of the portal each have their own GRSManager
+ * session.
+ *
+ * Every request except login must carry the session token in an "Authorization: Bearer token" header. The API is:
+ * <ul>
+ * <li>POST /api/login with {"id", "password"} opens a session and returns its token</li>
+ * <li>POST /api/logout closes the session</li>
+ * <li>GET /api/catalog?q=text&amp;limit=n searches the NioxCatalog, and GET /api/catalog/partNumber returns one
+ * product</li>
+ * <li>POST /api/orders with {"study", "site", "po", "delivery", "products": [{"partNumber", "quantity"}]} submits an
+ * order for a research company employee, adds it to the OrderRecord and to the employee's OrderSchedule. The order is
+ * shipped to the address the OrderRecord has for the study's site, unless the request gives "siteName", "street",
+ * "city", "state" or "zip"</li>
+ * <li>GET /api/orders/open?study=s&amp;limit=n lists open orders: a vendor employee or the administrator sees every open
+ * order, and a research company employee sees the open orders in their schedule</li>
+ * <li>GET /api/orders/number returns an order, and POST /api/orders/number/status with {"status"} changes its status
+ * for a vendor employee or the administrator</li>
+ * </ul>
+ * Errors are returned as {"error": message} with status 400 for a bad request, 401 without a valid session, 403 if the
+ * user may not make the request, 404 if the product or order does not exist and 405 for an unsupported method.
+ *
+ * OrderRecord and NioxCatalog can be read and changed by several requests at once, so requests use them without
+ * any locking of their own. An employee's OrderSchedule is changed and read while synchronized on the schedule.
+ *
+ * @author Arthur Vargas
+ */
+public class GRSServer {
+	/** Default port */
+	public static final int DEFAULT_PORT = 8080;
+	/** Default number of request threads */
+	public static final int DEFAULT_THREADS = 64;
+	/** Largest number of results a search or listing returns */
+	private static final int MAX_LIMIT = 1000;
+	/** Largest request body in bytes */
+	private static final int MAX_BODY = 1 << 20;
+	/** The most product lines an order may have */
+	private static final int MAX_LINES = 100;
+	/** The most products, counting every unit of every line, an order may have */
+	private static final int MAX_QUANTITY = 1000;
+	/** Date format of delivery and creation dates */
+	private static final String DATE_FORMAT = "yyyy-MM-dd";
+	/** Names of the address members of an order, in the order OrderRecord keeps a research site's address */
+	private static final String[] ADDRESS = {"siteName", "street", "city", "state", "zip"};
+	/** Prefix of the authorization header */
+	private static final String BEARER = "Bearer ";
+	/** The manager the API is served from */
+	private final GRSManager manager;
+	/** The HTTP server */
+	private final HttpServer server;
+	/** The request threads */
+	private final ExecutorService executor;
+
+	/**
+	 * Creates a server for the manager. The server does not accept requests until it is started.
+	 * @param manager the manager to serve
+	 * @param address the address to listen on, with port 0 for any free port
+	 * @param threads the number of request threads
+	 * @throws IOException if the address cannot be bound
+	 * @throws IllegalArgumentException if manager or address is null or threads is less than 1
+	 */
+	public GRSServer(GRSManager manager, InetSocketAddress address, int threads) throws IOException {
+		if (manager == null || address == null)
+			throw new IllegalArgumentException("Invalid server");
+		if (threads < 1)
+			throw new IllegalArgumentException("Invalid thread count");
+		this.manager = manager;
+		this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+					private final AtomicInteger count = new AtomicInteger();
+
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "grs-http-" + count.incrementAndGet());
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		this.server = HttpServer.create(address, 0);
+		server.setExecutor(executor);
+		server.createContext("/api/login", new LoginHandler());
+		server.createContext("/api/logout", new LogoutHandler());
+		server.createContext("/api/catalog", new CatalogHandler());
+		server.createContext("/api/orders", new OrderHandler());
+	}
+
+	/**
+	 * Starts accepting requests.
+	 */
+	public void start() {
+		server.start();
+	}
+
+	/**
+	 * Stops accepting requests, waits up to the delay for requests being handled to finish and stops the request
+	 * threads.
+	 * @param delaySeconds the longest time to wait in seconds
+	 */
+	public void stop(int delaySeconds) {
+		server.stop(delaySeconds);
+		executor.shutdown();
+	}
+
+	/**
+	 * Returns the port the server listens on.
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Runs GRS Manager as a server. The arguments are the port, which defaults to 8080, followed by any of
+	 * "-snapshot file", "-products file", "-titles file", "-orders file" and "-threads n". A snapshot replaces
+	 * the catalog, order record and directories, so it should come before any other files.
+	 * @param args the command line arguments
+	 * @throws IOException if the port cannot be bound
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = DEFAULT_PORT;
+		int threads = DEFAULT_THREADS;
+		GRSManager manager = GRSManager.getInstance();
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if (arg.startsWith("-") && i + 1 == args.length)
+				throw new IllegalArgumentException("Missing value for " + arg);
+			if (arg.equals("-snapshot")) {
+				manager.loadSnapshot(args[++i]);
+			} else if (arg.equals("-products")) {
+				manager.getNioxCatalog().loadProductsFromFile(args[++i]);
+			} else if (arg.equals("-titles")) {
+				manager.getOrderRecord().loadTitlesFromFile(args[++i]);
+			} else if (arg.equals("-orders")) {
+				manager.getOrderRecord().loadOrdersFromFile(args[++i]);
+			} else if (arg.equals("-threads")) {
+				threads = Integer.parseInt(args[++i]);
+			} else {
+				port = Integer.parseInt(arg);
+			}
+		}
+		MetricsRegistry.publish();
+		GRSServer server = new GRSServer(manager, new InetSocketAddress(port), threads);
+		server.start();
+		System.out.println("GRS Manager listening on port " + server.getPort());
+	}
+
+	/**
+	 * Signals that a request cannot be answered, and carries the HTTP status to return.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private static class ApiException extends RuntimeException {
+		/** ID used for object serialization */
+		private static final long serialVersionUID = 1L;
+		/** The HTTP status */
+		private final int status;
+
+		/**
+		 * Creates the exception.
+		 * @param status the HTTP status
+		 * @param message the error message
+		 */
+		private ApiException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Handles the requests to one path of the API. Subclasses return the response document, and this class writes
+	 * it, or the error, as JSON. Every request is answered and its exchange closed, even if answering it throws an
+	 * Error, so a client is never left waiting.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private abstract class ApiHandler implements HttpHandler {
+
+		@Override
+		public void handle(HttpExchange exchange) throws IOException {
+			int status = 200;
+			Object response;
+			Error failure = null;
+			try {
+				response = respond(exchange);
+				if ("POST".equals(exchange.getRequestMethod()) && response instanceof Created) {
+					status = 201;
+					response = ((Created) response).body;
+				}
+			} catch (ApiException e) {
+				status = e.status;
+				response = error(e.getMessage());
+			} catch (IllegalArgumentException e) {
+				status = 400;
+				response = error(e.getMessage());
+			} catch (RuntimeException e) {
+				status = 500;
+				response = error("Internal error");
+			} catch (Error e) {
+				status = 500;
+				response = error("Internal error");
+				failure = e;
+			}
+			try {
+				byte[] body = Json.write(response).getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+				exchange.sendResponseHeaders(status, body.length);
+				OutputStream out = exchange.getResponseBody();
+				out.write(body);
+				out.close();
+			} finally {
+				exchange.close();
+			}
+			if (failure != null)
+				throw failure;
+		}
+
+		/**
+		 * Answers the request.
+		 * @param exchange the request
+		 * @return the response document, or a Created wrapping it if something was created
+		 * @throws IOException if the request cannot be read
+		 */
+		protected abstract Object respond(HttpExchange exchange) throws IOException;
+	}
+
+	/**
+	 * A response document for a request that created something, returned with status 201.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private static class Created {
+		/** The response document */
+		private final Object body;
+
+		/**
+		 * Wraps the response document.
+		 * @param body the response document
+		 */
+		private Created(Object body) {
+			this.body = body;
+		}
+	}
+
+	/**
+	 * Opens sessions.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private class LoginHandler extends ApiHandler {
+
+		@Override
+		protected Object respond(HttpExchange exchange) throws IOException {
+			requireMethod(exchange, "POST");
+			Map<String, Object> request = readObject(exchange);
+			Session s;
+			try {
+				s = manager.openSession(getString(request, "id", true), getString(request, "password", true));
+			} catch (IllegalArgumentException e) {
+				throw new ApiException(401, e.getMessage());
+			}
+			Map<String, Object> response = new LinkedHashMap<String, Object>();
+			response.put("token", s.getToken());
+			response.put("id", s.getUser().getId());
+			response.put("firstName", s.getUser().getFirstName());
+			response.put("lastName", s.getUser().getLastName());
+			response.put("company", s.getCompany() == null ? null : s.getCompany().getName());
+			return new Created(response);
+		}
+	}
+
+	/**
+	 * Closes sessions.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private class LogoutHandler extends ApiHandler {
+
+		@Override
+		protected Object respond(HttpExchange exchange) throws IOException {
+			requireMethod(exchange, "POST");
+			Session s = requireSession(exchange);
+			manager.closeSession(s.getToken());
+			Map<String, Object> response = new LinkedHashMap<String, Object>();
+			response.put("closed", Boolean.TRUE);
+			return response;
+		}
+	}
+
+	/**
+	 * Searches the catalog and returns products.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private class CatalogHandler extends ApiHandler {
+
+		@Override
+		protected Object respond(HttpExchange exchange) throws IOException {
+			requireMethod(exchange, "GET");
+			requireSession(exchange);
+			String[] path = path(exchange, "/api/catalog");
+			NioxCatalog catalog = manager.getNioxCatalog();
+			if (path.length == 1) {
+				Product p = catalog.getProductByPartNumber(path[0]);
+				if (p == null)
+					throw new ApiException(404, "No product " + path[0]);
+				return toJson(p);
+			}
+			if (path.length > 1)
+				throw new ApiException(404, "Not found");
+			Map<String, String> query = query(exchange);
+			List<Object> products = new ArrayList<Object>();
+			for (Product p : catalog.getSearchIndex().search(query.get("q"), limit(query))) {
+				products.add(toJson(p));
+			}
+			Map<String, Object> response = new LinkedHashMap<String, Object>();
+			response.put("products", products);
+			return response;
+		}
+	}
+
+	/**
+	 * Submits, lists and changes the status of orders.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private class OrderHandler extends ApiHandler {
+
+		@Override
+		protected Object respond(HttpExchange exchange) throws IOException {
+			Session s = requireSession(exchange);
+			String[] path = path(exchange, "/api/orders");
+			if (path.length == 0) {
+				requireMethod(exchange, "POST");
+				return new Created(submit(s, readObject(exchange)));
+			}
+			if (path.length == 1 && path[0].equals("open")) {
+				requireMethod(exchange, "GET");
+				return listOpen(s, query(exchange));
+			}
+			long number;
+			try {
+				number = Long.parseLong(path[0]);
+			} catch (NumberFormatException e) {
+				throw new ApiException(404, "Not found");
+			}
+			if (path.length == 1) {
+				requireMethod(exchange, "GET");
+				return toJson(requireOrder(s, number));
+			}
+			if (path.length == 2 && path[1].equals("status")) {
+				requireMethod(exchange, "POST");
+				return changeStatus(s, number, readObject(exchange));
+			}
+			throw new ApiException(404, "Not found");
+		}
+
+		/**
+		 * Submits an order for the research company employee of the session.
+		 * @param s the session
+		 * @param request the order
+		 * @return the new order
+		 */
+		private Object submit(Session s, Map<String, Object> request) {
+			if (!(s.getCompany() instanceof ResearchCompany) || !(s.getUser() instanceof Employee))
+				throw new ApiException(403, "Only research company employees can submit orders");
+			Employee employee = (Employee) s.getUser();
+			String study = getString(request, "study", true);
+			String site = getString(request, "site", true);
+			String po = getString(request, "po", false);
+			Calendar delivery = null;
+			String date = getString(request, "delivery", false);
+			if (date != null) {
+				try {
+					SimpleDateFormat format = new SimpleDateFormat(DATE_FORMAT);
+					format.setLenient(false);
+					delivery = Calendar.getInstance();
+					delivery.setTime(format.parse(date));
+				} catch (ParseException e) {
+					throw new IllegalArgumentException("Invalid delivery date");
+				}
+			}
+			Object items = request.get("products");
+			if (!(items instanceof List) || ((List<?>) items).isEmpty())
+				throw new IllegalArgumentException("Invalid products");
+			if (((List<?>) items).size() > MAX_LINES)
+				throw new IllegalArgumentException("An order may have at most " + MAX_LINES + " products");
+
+			OrderRecord record = manager.getOrderRecord();
+			List<Product> products = new ArrayList<Product>();
+			List<Integer> quantities = new ArrayList<Integer>();
+			int total = 0;
+			for (Object item : (List<?>) items) {
+				if (!(item instanceof Map))
+					throw new IllegalArgumentException("Invalid products");
+				@SuppressWarnings("unchecked")
+				Map<String, Object> line = (Map<String, Object>) item;
+				String pn = getString(line, "partNumber", true);
+				Product p = manager.getNioxCatalog().getProductByPartNumber(pn);
+				if (p == null)
+					throw new IllegalArgumentException("No product " + pn);
+				Object qty = line.get("quantity");
+				if (qty != null && (!(qty instanceof Long) || (Long) qty < 1 || (Long) qty > MAX_QUANTITY))
+					throw new IllegalArgumentException("Invalid quantity for " + pn);
+				int quantity = qty == null ? 1 : ((Long) qty).intValue();
+				products.add(p);
+				quantities.add(quantity);
+				total += quantity;
+				if (total > MAX_QUANTITY)
+					throw new IllegalArgumentException("An order may have at most " + MAX_QUANTITY + " units");
+			}
+			Order order = new Order(0, null, study, site, po, Calendar.getInstance(), delivery, new Product[total]);
+			double amount = 0;
+			for (int i = 0; i < products.size(); i++) {
+				order.addProduct(products.get(i), quantities.get(i));
+				if (products.get(i).getPrice() != null)
+					amount += products.get(i).getPrice() * quantities.get(i);
+			}
+			String[] address = record.getThisResearchSite(study, site);
+			for (int i = 0; i < ADDRESS.length; i++) {
+				String value = getString(request, ADDRESS[i], false);
+				if (value != null)
+					address[i] = value;
+			}
+			if (address[0] == null || address[1] == null)
+				throw new IllegalArgumentException("Unknown site " + site + " for study " + study);
+			order.setSiteName(address[0]);
+			order.setStreetAdd(address[1]);
+			order.setCity(address[2]);
+			order.setState(address[3]);
+			order.setZip(address[4]);
+			order.setAmount(amount);
+			order.setStatus(Order.getOpen());
+			order.setStatusDate(Calendar.getInstance());
+			record.addNewOrder(order);
+			synchronized (employee.getSchedule()) {
+				employee.getSchedule().addOrderToSchedule(order);
+			}
+			return toJson(order);
+		}
+
+		/**
+		 * Lists the open orders the user of the session may see.
+		 * @param s the session
+		 * @param query the study to list and the largest number of orders to return
+		 * @return the open orders
+		 */
+		private Object listOpen(Session s, Map<String, String> query) {
+			String study = query.get("study");
+			int limit = limit(query);
+			List<Order> orders;
+			if (s.getCompany() instanceof ResearchCompany && s.getUser() instanceof Employee) {
+				OrderSchedule schedule = ((Employee) s.getUser()).getSchedule();
+				orders = new ArrayList<Order>();
+				synchronized (schedule) {
+					for (Order o : schedule.getOrderSchedule()) {
+						if (Order.getOpen().equals(o.getStatus()) && (study == null || study.equals(o.getStudy())))
+							orders.add(o);
+					}
+				}
+			} else if (s.getCompany() instanceof VendorCompany || s.getCompany() == null) {
+				orders = manager.getOrderRecord().getOpenOrders(study);
+			} else {
+				throw new ApiException(403, "Illegal Action");
+			}
+			List<Object> open = new ArrayList<Object>();
+			for (int i = 0; i < orders.size() && i < limit; i++) {
+				open.add(toJson(orders.get(i)));
+			}
+			Map<String, Object> response = new LinkedHashMap<String, Object>();
+			response.put("orders", open);
+			return response;
+		}
+
+		/**
+		 * Changes the status of an order for a vendor employee or the administrator.
+		 * @param s the session
+		 * @param number the order number
+		 * @param request the new status
+		 * @return the order
+		 */
+		private Object changeStatus(Session s, long number, Map<String, Object> request) {
+			if (!(s.getCompany() instanceof VendorCompany) && s.getCompany() != null) {
+				requireOrder(s, number);
+				throw new ApiException(403, "Only vendor employees can change the status of an order");
+			}
+			String status = getString(request, "status", true);
+			if (!manager.getOrderRecord().setOrderStatus(number, status))
+				throw new ApiException(404, "No order " + number);
+			return toJson(requireOrder(s, number));
+		}
+
+		/**
+		 * Returns the order with the number if the user of the session may see it. An order the user may not see
+		 * is reported as missing, so the response does not tell which order numbers exist.
+		 * @param s the session
+		 * @param number the order number
+		 * @return the order
+		 * @throws ApiException if there is no order with the number or the user may not see it
+		 */
+		private Order requireOrder(Session s, long number) {
+			Order o = manager.getOrderRecord().getOrderById(number);
+			if (o == null || !maySee(s, o))
+				throw new ApiException(404, "No order " + number);
+			return o;
+		}
+
+		/**
+		 * Returns true if the user of the session may see the order. Vendor employees and the administrator may see
+		 * every order. A research company employee may see the orders for the studies of their company: the studies
+		 * the company lists and the studies of the orders on the schedules of the company's employees.
+		 * @param s the session
+		 * @param o the order
+		 * @return true if the user may see the order
+		 */
+		private boolean maySee(Session s, Order o) {
+			if (s.getCompany() == null || s.getCompany() instanceof VendorCompany)
+				return true;
+			if (!(s.getCompany() instanceof ResearchCompany) || o.getStudy() == null)
+				return false;
+			ResearchCompany rc = (ResearchCompany) s.getCompany();
+			if (rc.getStudies() != null) {
+				for (Study study : rc.getStudies()) {
+					if (o.getStudy().equals(Long.toString(study.getNum())))
+						return true;
+				}
+			}
+			for (Location l : rc.getLocations()) {
+				if (l.getEmployees() == null)
+					continue;
+				for (Employee e : l.getEmployees()) {
+					OrderSchedule schedule = e.getSchedule();
+					synchronized (schedule) {
+						for (Order mine : schedule.getOrderSchedule()) {
+							if (o.getStudy().equals(mine.getStudy()))
+								return true;
+						}
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the session of the request's bearer token.
+	 * @param exchange the request
+	 * @return the session
+	 * @throws ApiException if the request has no token or the session is closed
+	 */
+	private Session requireSession(HttpExchange exchange) {
+		String header = exchange.getRequestHeaders().getFirst("Authorization");
+		if (header == null || !header.startsWith(BEARER))
+			throw new ApiException(401, "Not logged in");
+		Session s = manager.getSession(header.substring(BEARER.length()).trim());
+		if (s == null)
+			throw new ApiException(401, "Session expired");
+		return s;
+	}
+
+	/**
+	 * Checks the method of the request.
+	 * @param exchange the request
+	 * @param method the method the path supports
+	 * @throws ApiException if the request uses another method
+	 */
+	private static void requireMethod(HttpExchange exchange, String method) {
+		if (!method.equals(exchange.getRequestMethod()))
+			throw new ApiException(405, "Method not allowed");
+	}
+
+	/**
+	 * Returns the parts of the request path after the context path.
+	 * @param exchange the request
+	 * @param context the context path
+	 * @return the decoded parts, or an empty array if the request is for the context path itself
+	 */
+	private static String[] path(HttpExchange exchange, String context) {
+		String rest = exchange.getRequestURI().getPath().substring(context.length());
+		List<String> parts = new ArrayList<String>();
+		for (String part : rest.split("/")) {
+			if (!part.isEmpty())
+				parts.add(decode(part));
+		}
+		return parts.toArray(new String[parts.size()]);
+	}
+
+	/**
+	 * Returns the parameters of the request's query string.
+	 * @param exchange the request
+	 * @return the decoded parameters by name
+	 */
+	private static Map<String, String> query(HttpExchange exchange) {
+		Map<String, String> query = new LinkedHashMap<String, String>();
+		String raw = exchange.getRequestURI().getRawQuery();
+		if (raw == null)
+			return query;
+		for (String pair : raw.split("&")) {
+			int eq = pair.indexOf('=');
+			if (eq > 0)
+				query.put(decode(pair.substring(0, eq)), decode(pair.substring(eq + 1)));
+			else if (!pair.isEmpty())
+				query.put(decode(pair), "");
+		}
+		return query;
+	}
+
+	/**
+	 * Returns the limit parameter of a query.
+	 * @param query the query parameters
+	 * @return the limit, 50 if there is none
+	 * @throws IllegalArgumentException if the limit is not a number from 1 to 1000
+	 */
+	private static int limit(Map<String, String> query) {
+		String limit = query.get("limit");
+		if (limit == null)
+			return 50;
+		try {
+			int n = Integer.parseInt(limit);
+			if (n >= 1 && n <= MAX_LIMIT)
+				return n;
+		} catch (NumberFormatException e) {
+			// fall through
+		}
+		throw new IllegalArgumentException("Invalid limit");
+	}
+
+	/**
+	 * Decodes a URL encoded string.
+	 * @param s the encoded string
+	 * @return the decoded string
+	 */
+	private static String decode(String s) {
+		try {
+			return URLDecoder.decode(s, "UTF-8");
+		} catch (IOException e) {
+			throw new IllegalArgumentException("Invalid URL");
+		}
+	}
+
+	/**
+	 * Reads the request body as a JSON object.
+	 * @param exchange the request
+	 * @return the members of the object
+	 * @throws IOException if the body cannot be read
+	 * @throws IllegalArgumentException if the body is too large or is not a JSON object
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> readObject(HttpExchange exchange) throws IOException {
+		InputStream in = exchange.getRequestBody();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			if (bytes.size() + n > MAX_BODY)
+				throw new IllegalArgumentException("Request too large");
+			bytes.write(buffer, 0, n);
+		}
+		in.close();
+		Object value = Json.parse(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+		if (!(value instanceof Map))
+			throw new IllegalArgumentException("Expected a JSON object");
+		return (Map<String, Object>) value;
+	}
+
+	/**
+	 * Returns a string member of a request.
+	 * @param request the request
+	 * @param name the member name
+	 * @param required true if the member must be present and not blank
+	 * @return the value, or null if it is missing and not required
+	 * @throws IllegalArgumentException if the member is not a string, or is required and missing or blank
+	 */
+	private static String getString(Map<String, Object> request, String name, boolean required) {
+		Object value = request.get(name);
+		if (value == null || (value instanceof String && ((String) value).trim().isEmpty())) {
+			if (required)
+				throw new IllegalArgumentException("Missing " + name);
+			return null;
+		}
+		if (!(value instanceof String))
+			throw new IllegalArgumentException("Invalid " + name);
+		return (String) value;
+	}
+
+	/**
+	 * Returns the response document for an error.
+	 * @param message the error message
+	 * @return the document
+	 */
+	private static Map<String, Object> error(String message) {
+		Map<String, Object> response = new LinkedHashMap<String, Object>();
+		response.put("error", message);
+		return response;
+	}
+
+	/**
+	 * Returns the response document for a product.
+	 * @param p the product
+	 * @return the document
+	 */
+	private static Map<String, Object> toJson(Product p) {
+		Map<String, Object> json = new LinkedHashMap<String, Object>();
+		json.put("partNumber", p.getPartNumber());
+		json.put("family", p.getFamily());
+		json.put("generation", p instanceof Component ? ((Component) p).getGeneration() : null);
+		json.put("description", p.getDescription());
+		json.put("price", p.getPrice());
+		return json;
+	}
+
+	/**
+	 * Returns the response document for an order.
+	 * @param o the order
+	 * @return the document
+	 */
+	private static Map<String, Object> toJson(Order o) {
+		Map<String, Object> json = new LinkedHashMap<String, Object>();
+		json.put("number", o.getNumber());
+		json.put("userId", o.getUserId());
+		json.put("study", o.getStudy());
+		json.put("site", o.getSite());
+		json.put("po", o.getPo());
+		json.put("siteName", o.getSiteName());
+		json.put("city", o.getCity());
+		json.put("state", o.getState());
+		json.put("zip", o.getZip());
+		json.put("status", o.getStatus());
+		json.put("created", format(o.getCreation()));
+		json.put("delivery", format(o.getDelieryDate()));
+		json.put("amount", o.getAmount());
+		List<Object> products = new ArrayList<Object>();
+		Product[] product = o.getProduct();
+		for (int i = 0; product != null && i < o.getProductCount(); i++) {
+			products.add(product[i].getPartNumber());
+		}
+		json.put("products", products);
+		return json;
+	}
+
+	/**
+	 * Formats a date.
+	 * @param c the date, or null
+	 * @return the date as year-month-day, or null
+	 */
+	private static String format(Calendar c) {
+		if (c == null)
+			return null;
+		return new SimpleDateFormat(DATE_FORMAT).format(c.getTime());
+	}
+}
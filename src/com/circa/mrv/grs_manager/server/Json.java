@@ -0,0 +1,375 @@
+package com.circa.mrv.grs_manager.server;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Json reads and writes the JSON documents exchanged by GRSServer. Objects are read into LinkedHashMaps, arrays into
+ * ArrayLists, strings into Strings, numbers into Longs if they are integers and Doubles otherwise, and true, false and
+ * null into Boolean.TRUE, Boolean.FALSE and null. The same types, and any other Number, can be written.
+ *
+ * @author Arthur Vargas
+ */
+public class Json {
+	/** The deepest objects and arrays may be nested, so a hostile document cannot exhaust the stack */
+	public static final int MAX_DEPTH = 64;
+
+	/** The text being read */
+	private final String text;
+	/** The position of the next character to read */
+	private int pos;
+	/** The number of objects and arrays the current position is inside */
+	private int depth;
+
+	/**
+	 * Creates a reader of the text.
+	 * @param text the JSON text
+	 */
+	private Json(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * Reads a JSON document.
+	 * @param text the JSON text
+	 * @return the value of the document
+	 * @throws IllegalArgumentException if the text is null, is not a single JSON value, or nests objects and arrays
+	 * more than MAX_DEPTH deep
+	 */
+	public static Object parse(String text) {
+		if (text == null)
+			throw new IllegalArgumentException("Invalid JSON");
+		Json json = new Json(text);
+		Object value = json.readValue();
+		json.skipWhitespace();
+		if (json.pos != text.length())
+			throw json.error();
+		return value;
+	}
+
+	/**
+	 * Writes a value as JSON.
+	 * @param value a Map with String keys, a List, a String, a Number, a Boolean or null
+	 * @return the JSON text
+	 * @throws IllegalArgumentException if the value or a value it contains cannot be written
+	 */
+	public static String write(Object value) {
+		StringBuilder sb = new StringBuilder();
+		write(sb, value);
+		return sb.toString();
+	}
+
+	/**
+	 * Appends a value as JSON.
+	 * @param sb the text to append to
+	 * @param value the value
+	 */
+	private static void write(StringBuilder sb, Object value) {
+		if (value == null) {
+			sb.append("null");
+		} else if (value instanceof String) {
+			quote(sb, (String) value);
+		} else if (value instanceof Boolean) {
+			sb.append(value.toString());
+		} else if (value instanceof Double || value instanceof Float) {
+			double d = ((Number) value).doubleValue();
+			if (Double.isNaN(d) || Double.isInfinite(d))
+				sb.append("null");
+			else
+				sb.append(value.toString());
+		} else if (value instanceof Number) {
+			sb.append(value.toString());
+		} else if (value instanceof Map) {
+			sb.append('{');
+			boolean first = true;
+			for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+				if (!first)
+					sb.append(',');
+				quote(sb, String.valueOf(e.getKey()));
+				sb.append(':');
+				write(sb, e.getValue());
+				first = false;
+			}
+			sb.append('}');
+		} else if (value instanceof List) {
+			sb.append('[');
+			boolean first = true;
+			for (Object o : (List<?>) value) {
+				if (!first)
+					sb.append(',');
+				write(sb, o);
+				first = false;
+			}
+			sb.append(']');
+		} else {
+			throw new IllegalArgumentException("Cannot write " + value.getClass().getSimpleName() + " as JSON");
+		}
+	}
+
+	/**
+	 * Appends a string in quotes, escaping the characters JSON requires.
+	 * @param sb the text to append to
+	 * @param s the string
+	 */
+	private static void quote(StringBuilder sb, String s) {
+		sb.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+			case '"':
+				sb.append("\\\"");
+				break;
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					sb.append(String.format("\\u%04x", (int) c));
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+		sb.append('"');
+	}
+
+	/**
+	 * Reads the value at the current position.
+	 * @return the value
+	 */
+	private Object readValue() {
+		skipWhitespace();
+		if (pos >= text.length())
+			throw error();
+		char c = text.charAt(pos);
+		switch (c) {
+		case '{':
+			enter();
+			Map<String, Object> map = readObject();
+			depth--;
+			return map;
+		case '[':
+			enter();
+			List<Object> list = readArray();
+			depth--;
+			return list;
+		case '"':
+			return readString();
+		case 't':
+			return readWord("true", Boolean.TRUE);
+		case 'f':
+			return readWord("false", Boolean.FALSE);
+		case 'n':
+			return readWord("null", null);
+		default:
+			return readNumber();
+		}
+	}
+
+	/**
+	 * Reads an object.
+	 * @return the members of the object in the order they appear
+	 */
+	private Map<String, Object> readObject() {
+		Map<String, Object> map = new LinkedHashMap<String, Object>();
+		pos++;
+		skipWhitespace();
+		if (peek() == '}') {
+			pos++;
+			return map;
+		}
+		while (true) {
+			skipWhitespace();
+			if (peek() != '"')
+				throw error();
+			String name = readString();
+			skipWhitespace();
+			expect(':');
+			map.put(name, readValue());
+			skipWhitespace();
+			char c = next();
+			if (c == '}')
+				return map;
+			if (c != ',')
+				throw error();
+		}
+	}
+
+	/**
+	 * Reads an array.
+	 * @return the elements of the array
+	 */
+	private List<Object> readArray() {
+		List<Object> list = new ArrayList<Object>();
+		pos++;
+		skipWhitespace();
+		if (peek() == ']') {
+			pos++;
+			return list;
+		}
+		while (true) {
+			list.add(readValue());
+			skipWhitespace();
+			char c = next();
+			if (c == ']')
+				return list;
+			if (c != ',')
+				throw error();
+		}
+	}
+
+	/**
+	 * Reads a string.
+	 * @return the string without quotes and with escapes replaced
+	 */
+	private String readString() {
+		pos++;
+		StringBuilder sb = new StringBuilder();
+		while (true) {
+			char c = next();
+			if (c == '"')
+				return sb.toString();
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+			c = next();
+			switch (c) {
+			case 'b':
+				sb.append('\b');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 't':
+				sb.append('\t');
+				break;
+			case 'u':
+				if (pos + 4 > text.length())
+					throw error();
+				try {
+					sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+				} catch (NumberFormatException e) {
+					throw error();
+				}
+				pos += 4;
+				break;
+			case '"':
+			case '\\':
+			case '/':
+				sb.append(c);
+				break;
+			default:
+				throw error();
+			}
+		}
+	}
+
+	/**
+	 * Reads a number.
+	 * @return a Long if the number is an integer that fits in a long, a Double otherwise
+	 */
+	private Number readNumber() {
+		int start = pos;
+		while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+			pos++;
+		}
+		String s = text.substring(start, pos);
+		if (s.isEmpty())
+			throw error();
+		try {
+			if (s.indexOf('.') < 0 && s.indexOf('e') < 0 && s.indexOf('E') < 0)
+				return Long.valueOf(s);
+			return Double.valueOf(s);
+		} catch (NumberFormatException e) {
+			try {
+				return Double.valueOf(s);
+			} catch (NumberFormatException e2) {
+				throw error();
+			}
+		}
+	}
+
+	/**
+	 * Reads one of the words true, false and null.
+	 * @param word the word
+	 * @param value the value of the word
+	 * @return the value
+	 */
+	private Object readWord(String word, Object value) {
+		if (!text.startsWith(word, pos))
+			throw error();
+		pos += word.length();
+		return value;
+	}
+
+	/**
+	 * Skips whitespace.
+	 */
+	private void skipWhitespace() {
+		while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+			pos++;
+		}
+	}
+
+	/**
+	 * Returns the current character without reading it.
+	 * @return the character, or 0 at the end of the text
+	 */
+	private char peek() {
+		return pos < text.length() ? text.charAt(pos) : 0;
+	}
+
+	/**
+	 * Reads the current character.
+	 * @return the character
+	 */
+	private char next() {
+		if (pos >= text.length())
+			throw error();
+		return text.charAt(pos++);
+	}
+
+	/**
+	 * Reads the expected character.
+	 * @param c the character
+	 */
+	private void expect(char c) {
+		if (next() != c)
+			throw error();
+	}
+
+	/**
+	 * Moves into an object or array.
+	 * @throws IllegalArgumentException if objects and arrays are nested more than MAX_DEPTH deep
+	 */
+	private void enter() {
+		if (++depth > MAX_DEPTH)
+			throw new IllegalArgumentException("JSON nested too deeply at position " + pos);
+	}
+
+	/**
+	 * Returns the exception for text that is not valid JSON.
+	 * @return the exception
+	 */
+	private IllegalArgumentException error() {
+		return new IllegalArgumentException("Invalid JSON at position " + pos);
+	}
+}
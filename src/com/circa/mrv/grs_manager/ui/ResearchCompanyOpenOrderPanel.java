@@ -29,6 +29,8 @@ import com.circa.mrv.grs_manager.niox.Product;
 
 import com.circa.mrv.grs_manager.user.Employee;
 import com.circa.mrv.grs_manager.user.schedule.OrderSchedule;
+import com.circa.mrv.grs_manager.metrics.MetricsRegistry;
+import com.circa.mrv.grs_manager.metrics.Timer;
 
 /**
  * Displays a list of the orders with open status.
@@ -40,6 +42,8 @@ public class ResearchCompanyOpenOrderPanel extends JPanel implements ActionListe
 	/** Panel for displaying order details */
 	/** ID used for object serialization */
 	private static final long serialVersionUID = 1L;
+	/** Times the refreshes of the open order table */
+	private static final Timer REFRESH_TIMER = MetricsRegistry.getInstance().timer("ui.refresh.open.orders");
 	
 	/** JTable for displaying the open order schedule of orders */
 	private JTable tableOpenOrderSchedule;
@@ -286,9 +290,14 @@ public class ResearchCompanyOpenOrderPanel extends JPanel implements ActionListe
 		 * Updates the given model with {@link Product} information from the {@link CustomerSchedule}.
 		 */
 		public void updateData() {			
-			data = orderRecord.getOpenOrderArray();
-			ResearchCompanyOpenOrderPanel.this.repaint();
-			ResearchCompanyOpenOrderPanel.this.validate();
+			long start = REFRESH_TIMER.start();
+			try {
+				data = orderRecord.getOpenOrderArray();
+				ResearchCompanyOpenOrderPanel.this.repaint();
+				ResearchCompanyOpenOrderPanel.this.validate();
+			} finally {
+				REFRESH_TIMER.stop(start);
+			}
 		}	
 	}
 
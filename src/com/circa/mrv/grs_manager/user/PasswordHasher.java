@@ -0,0 +1,36 @@
+package com.circa.mrv.grs_manager.user;
+
+/**
+ * A PasswordHasher turns a password into the hash that is stored for a user, and checks a password against a stored
+ * hash. A hash should carry everything needed to check it, such as the salt and the work factor, so that hashes
+ * made with different settings can be checked by the same hasher.
+ *
+ * @author Arthur Vargas
+ */
+public interface PasswordHasher {
+
+	/**
+	 * Hashes the password with a new random salt.
+	 * @param password the password
+	 * @return the hash to store for the user
+	 * @throws IllegalArgumentException if the password is null or empty
+	 */
+	String hash(String password);
+
+	/**
+	 * Returns true if the password matches the stored hash. The comparison takes the same time however many
+	 * characters of the hashes match.
+	 * @param password the password
+	 * @param hash the stored hash
+	 * @return true if the password matches
+	 */
+	boolean verify(String password, String hash);
+
+	/**
+	 * Returns true if the stored hash was made with weaker settings than this hasher uses, so the password should be
+	 * hashed again the next time it is known.
+	 * @param hash the stored hash
+	 * @return true if the hash should be replaced
+	 */
+	boolean needsRehash(String hash);
+}
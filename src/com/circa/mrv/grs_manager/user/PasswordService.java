@@ -0,0 +1,202 @@
+package com.circa.mrv.grs_manager.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PasswordService hashes and checks user passwords with a PasswordHasher, and remembers recent successful checks so
+ * that a user who logs in again soon after does not pay the full cost of the hasher.
+ *
+ * The cache holds at most a fixed number of stored hashes, dropping the one used least recently when it is full, and
+ * forgets a successful check after a fixed time. For each stored hash it keeps a SHA-256 digest of the password that
+ * matched, keyed with a secret chosen when the service is created, never the password itself. A password is checked
+ * against the cache by comparing digests in constant time. A failed check is never cached, so a wrong password always
+ * costs the full hasher.
+ *
+ * The methods of a PasswordService may be called from several threads at once.
+ *
+ * @author Arthur Vargas
+ */
+public class PasswordService {
+	/** Algorithm of the cached password digests */
+	private static final String CACHE_ALGORITHM = "SHA-256";
+	/** Length of the cache secret in bytes */
+	private static final int SECRET_LENGTH = 32;
+	/** The hasher */
+	private PasswordHasher hasher;
+	/** The largest number of stored hashes in the cache, 0 if the cache is off */
+	private int cacheSize;
+	/** How long a successful check is remembered in nanoseconds */
+	private long timeToLive;
+	/** The secret mixed into cached digests */
+	private byte[] secret;
+	/** The cached checks by stored hash, least recently used first */
+	private LinkedHashMap<String, Verification> cache;
+	/** Number of checks answered from the cache */
+	private long hits;
+	/** Number of checks that used the hasher */
+	private long misses;
+
+	/**
+	 * Creates a service.
+	 * @param hasher the password hasher
+	 * @param cacheSize the largest number of users whose successful check is remembered, or 0 for no cache
+	 * @param timeToLiveMillis how long a successful check is remembered in milliseconds
+	 * @throws IllegalArgumentException if hasher is null or cacheSize or timeToLiveMillis is negative
+	 */
+	public PasswordService(PasswordHasher hasher, final int cacheSize, long timeToLiveMillis) {
+		if (hasher == null)
+			throw new IllegalArgumentException("Hasher is null");
+		if (cacheSize < 0 || timeToLiveMillis < 0)
+			throw new IllegalArgumentException("Invalid cache size");
+		this.hasher = hasher;
+		this.cacheSize = cacheSize;
+		this.timeToLive = timeToLiveMillis * 1000000L;
+		secret = new byte[SECRET_LENGTH];
+		new SecureRandom().nextBytes(secret);
+		cache = new LinkedHashMap<String, Verification>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Verification> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the hasher.
+	 * @return the hasher
+	 */
+	public PasswordHasher getHasher() {
+		return hasher;
+	}
+
+	/**
+	 * Hashes the password for storage.
+	 * @param password the password
+	 * @return the hash
+	 * @throws IllegalArgumentException if the password is null or empty
+	 */
+	public String hash(String password) {
+		return hasher.hash(password);
+	}
+
+	/**
+	 * Returns true if the password matches the stored hash, using a remembered successful check if there is one.
+	 * @param password the password
+	 * @param hash the stored hash
+	 * @return true if the password matches
+	 */
+	public boolean verify(String password, String hash) {
+		if (password == null || hash == null)
+			return false;
+		byte[] digest = null;
+		if (cacheSize > 0) {
+			digest = digest(password);
+			Verification v;
+			synchronized (cache) {
+				v = cache.get(hash);
+				if (v != null && System.nanoTime() - v.time >= timeToLive) {
+					cache.remove(hash);
+					v = null;
+				}
+			}
+			if (v != null && MessageDigest.isEqual(digest, v.digest)) {
+				synchronized (cache) {
+					hits++;
+				}
+				return true;
+			}
+		}
+		boolean match = hasher.verify(password, hash);
+		synchronized (cache) {
+			misses++;
+			if (match && digest != null)
+				cache.put(hash, new Verification(digest, System.nanoTime()));
+		}
+		return match;
+	}
+
+	/**
+	 * Returns true if the stored hash should be replaced with a new hash of the password.
+	 * @param hash the stored hash
+	 * @return true if the hash should be replaced
+	 */
+	public boolean needsRehash(String hash) {
+		return hasher.needsRehash(hash);
+	}
+
+	/**
+	 * Forgets the successful check of the stored hash, so that the next check uses the hasher. Should be called when
+	 * a user's password is changed.
+	 * @param hash the stored hash
+	 */
+	public void invalidate(String hash) {
+		synchronized (cache) {
+			cache.remove(hash);
+		}
+	}
+
+	/**
+	 * Returns the number of checks answered from the cache.
+	 * @return the number of cache hits
+	 */
+	public long getCacheHits() {
+		synchronized (cache) {
+			return hits;
+		}
+	}
+
+	/**
+	 * Returns the number of checks that used the hasher.
+	 * @return the number of cache misses
+	 */
+	public long getCacheMisses() {
+		synchronized (cache) {
+			return misses;
+		}
+	}
+
+	/**
+	 * Returns the keyed digest of the password that is kept in the cache.
+	 * @param password the password
+	 * @return the digest
+	 */
+	private byte[] digest(String password) {
+		try {
+			MessageDigest md = MessageDigest.getInstance(CACHE_ALGORITHM);
+			md.update(secret);
+			md.update(password.getBytes(StandardCharsets.UTF_8));
+			return md.digest();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Cannot hash password");
+		}
+	}
+
+	/**
+	 * A remembered successful check.
+	 *
+	 * @author Arthur Vargas
+	 */
+	private static class Verification {
+		/** The keyed digest of the password that matched */
+		private final byte[] digest;
+		/** When the check was made, from System.nanoTime() */
+		private final long time;
+
+		/**
+		 * Creates a remembered check.
+		 * @param digest the keyed digest of the password
+		 * @param time when the check was made
+		 */
+		private Verification(byte[] digest, long time) {
+			this.digest = digest;
+			this.time = time;
+		}
+	}
+}
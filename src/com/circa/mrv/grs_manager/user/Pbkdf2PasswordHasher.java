@@ -0,0 +1,151 @@
+package com.circa.mrv.grs_manager.user;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+
+/**
+ * Pbkdf2PasswordHasher hashes passwords with PBKDF2 and HMAC-SHA256 from the JDK, using a random 16 byte salt for
+ * every hash. The number of iterations is the work factor: each iteration makes hashing and checking a password
+ * slower by the same amount, so it can be raised as hardware gets faster. LoginBenchmark measures how many logins a
+ * second an iteration count allows.
+ *
+ * A hash is stored as "pbkdf2$iterations$salt$key" with the salt and key in Base64, so a hash keeps working after
+ * the iteration count is changed. Hashes made by earlier versions of GRS Manager, which were a single unsalted
+ * SHA-256 digest decoded as a String, are still accepted by verify() and are reported by needsRehash().
+ *
+ * @author Arthur Vargas
+ */
+public class Pbkdf2PasswordHasher implements PasswordHasher {
+	/** Iterations used by GRS Manager */
+	public static final int DEFAULT_ITERATIONS = 100000;
+	/** Key derivation algorithm */
+	private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+	/** Prefix of a PBKDF2 hash */
+	private static final String PREFIX = "pbkdf2";
+	/** Separator between the parts of a hash */
+	private static final char SEPARATOR = '$';
+	/** Length of a salt in bytes */
+	private static final int SALT_LENGTH = 16;
+	/** Length of a derived key in bits */
+	private static final int KEY_LENGTH = 256;
+	/** Algorithm of hashes made by earlier versions */
+	private static final String LEGACY_ALGORITHM = "SHA-256";
+	/** Source of salts */
+	private static final SecureRandom RANDOM = new SecureRandom();
+	/** Number of iterations of new hashes */
+	private int iterations;
+
+	/**
+	 * Creates a hasher that makes hashes with the number of iterations.
+	 * @param iterations the work factor
+	 * @throws IllegalArgumentException if iterations is less than 1
+	 */
+	public Pbkdf2PasswordHasher(int iterations) {
+		if (iterations < 1)
+			throw new IllegalArgumentException("Invalid iterations");
+		this.iterations = iterations;
+	}
+
+	/**
+	 * Returns the number of iterations of new hashes.
+	 * @return the iterations
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	@Override
+	public String hash(String password) {
+		if (password == null || password.isEmpty())
+			throw new IllegalArgumentException("Invalid password");
+		byte[] salt = new byte[SALT_LENGTH];
+		RANDOM.nextBytes(salt);
+		Base64.Encoder encoder = Base64.getEncoder();
+		return PREFIX + SEPARATOR + iterations + SEPARATOR + encoder.encodeToString(salt) + SEPARATOR
+				+ encoder.encodeToString(derive(password, salt, iterations));
+	}
+
+	@Override
+	public boolean verify(String password, String hash) {
+		if (password == null || hash == null)
+			return false;
+		String[] parts = split(hash);
+		if (parts == null)
+			return MessageDigest.isEqual(legacyHash(password).getBytes(StandardCharsets.UTF_8),
+					hash.getBytes(StandardCharsets.UTF_8));
+		try {
+			int n = Integer.parseInt(parts[1]);
+			byte[] salt = Base64.getDecoder().decode(parts[2]);
+			byte[] key = Base64.getDecoder().decode(parts[3]);
+			if (n < 1 || password.isEmpty())
+				return false;
+			return MessageDigest.isEqual(derive(password, salt, n), key);
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public boolean needsRehash(String hash) {
+		String[] parts = split(hash);
+		if (parts == null)
+			return true;
+		try {
+			return Integer.parseInt(parts[1]) < iterations;
+		} catch (NumberFormatException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Splits a PBKDF2 hash into its prefix, iterations, salt and key.
+	 * @param hash the hash
+	 * @return the four parts, or null if the hash is not a PBKDF2 hash
+	 */
+	private static String[] split(String hash) {
+		if (hash == null || !hash.startsWith(PREFIX + SEPARATOR))
+			return null;
+		String[] parts = hash.split("\\" + SEPARATOR, -1);
+		return parts.length == 4 ? parts : null;
+	}
+
+	/**
+	 * Derives the key for the password.
+	 * @param password the password
+	 * @param salt the salt
+	 * @param iterations the number of iterations
+	 * @return the key
+	 */
+	private static byte[] derive(String password, byte[] salt, int iterations) {
+		PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, KEY_LENGTH);
+		try {
+			return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalArgumentException("Cannot hash password");
+		} finally {
+			spec.clearPassword();
+		}
+	}
+
+	/**
+	 * Returns the password hashed the way earlier versions of GRS Manager did.
+	 * @param password the password
+	 * @return the unsalted SHA-256 digest of the password decoded as a String
+	 */
+	private static String legacyHash(String password) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance(LEGACY_ALGORITHM);
+			digest.update(password.getBytes());
+			return new String(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Cannot hash password");
+		}
+	}
+}
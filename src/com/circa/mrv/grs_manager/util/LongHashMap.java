@@ -0,0 +1,196 @@
+package com.circa.mrv.grs_manager.util;
+
+/**
+ * A hash map from primitive long keys to values. Keys are stored in a long array rather than as Long objects
+ * so no boxing is done on put or get. Collisions are resolved by open addressing with linear probing, and
+ * removed entries are filled by shifting later entries of the same probe run back so no tombstones are left
+ * behind. Null values are not allowed; a null value in the table marks an empty slot.
+ * @author Arthur Vargas
+ * @param <V> generic type parameter for the values
+ */
+public class LongHashMap<V> {
+	/** Default number of slots in the table */
+	private static final int INIT_CAPACITY = 16;
+	/** The keys of the map */
+	private long[] keys;
+	/** The values of the map; null marks an empty slot */
+	private Object[] values;
+	/** The number of entries in the map */
+	private int size;
+	/** Number of entries at which the table is grown */
+	private int threshold;
+
+	/**
+	 * Constructs an empty map with the default capacity.
+	 */
+	public LongHashMap() {
+		this(INIT_CAPACITY);
+	}
+
+	/**
+	 * Constructs an empty map large enough to hold the expected number of entries without growing.
+	 * @param expected the expected number of entries
+	 * @throws IllegalArgumentException if expected is less than 0
+	 */
+	public LongHashMap(int expected) {
+		if (expected < 0) {
+			throw new IllegalArgumentException("Invalid capacity");
+		}
+		int capacity = INIT_CAPACITY;
+		while (capacity * 2 / 3 < expected) {
+			capacity *= 2;
+		}
+		keys = new long[capacity];
+		values = new Object[capacity];
+		threshold = capacity * 2 / 3;
+		size = 0;
+	}
+
+	/**
+	 * Returns the value mapped to the key or null if the key is not in the map.
+	 * @param key the key to look up
+	 * @return the value for the key or null
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(long key) {
+		int mask = keys.length - 1;
+		for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+			if (keys[i] == key) {
+				return (V) values[i];
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns true if the key is in the map.
+	 * @param key the key to look for
+	 * @return true if the map contains the key
+	 */
+	public boolean containsKey(long key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Maps the key to the value, replacing any value already mapped to the key.
+	 * @param key the key
+	 * @param value the value
+	 * @return the value previously mapped to the key or null if there was none
+	 * @throws NullPointerException if value is null
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(long key, V value) {
+		if (value == null) {
+			throw new NullPointerException("Value is null");
+		}
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (values[i] != null) {
+			if (keys[i] == key) {
+				V old = (V) values[i];
+				values[i] = value;
+				return old;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		size++;
+		if (size > threshold) {
+			growTable();
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the key from the map.
+	 * @param key the key to remove
+	 * @return the value that was mapped to the key or null if the key was not in the map
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(long key) {
+		int mask = keys.length - 1;
+		int i = slot(key, mask);
+		while (values[i] != null && keys[i] != key) {
+			i = (i + 1) & mask;
+		}
+		if (values[i] == null) {
+			return null;
+		}
+		V old = (V) values[i];
+		values[i] = null;
+		size--;
+		// shift later entries of the probe run back into the empty slot
+		int empty = i;
+		for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+			int home = slot(keys[j], mask);
+			if (((j - home) & mask) >= ((j - empty) & mask)) {
+				keys[empty] = keys[j];
+				values[empty] = values[j];
+				values[j] = null;
+				empty = j;
+			}
+		}
+		return old;
+	}
+
+	/**
+	 * Returns the number of entries in the map.
+	 * @return the number of entries
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if the map has no entries.
+	 * @return true if the map is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes every entry from the map.
+	 */
+	public void clear() {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = null;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Doubles the number of slots in the table and puts every entry back into the larger table.
+	 */
+	private void growTable() {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new long[oldKeys.length * 2];
+		values = new Object[oldValues.length * 2];
+		threshold = keys.length * 2 / 3;
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldValues.length; j++) {
+			if (oldValues[j] != null) {
+				int i = slot(oldKeys[j], mask);
+				while (values[i] != null) {
+					i = (i + 1) & mask;
+				}
+				keys[i] = oldKeys[j];
+				values[i] = oldValues[j];
+			}
+		}
+	}
+
+	/**
+	 * Returns the home slot of the key. The bits of the key are mixed so that sequential keys, such as order
+	 * numbers, are spread over the table.
+	 * @param key the key
+	 * @param mask the table length minus one
+	 * @return the home slot of the key
+	 */
+	private static int slot(long key, int mask) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+}
@@ -78,9 +78,22 @@ public class NioxCatalogTest {
 		nc.addProductToCatalog(c2);
 		nc.addProductToCatalog(c3);
 		nc.addProductToCatalog(c4);
-		nc.removeProductFromCatalog("NIOX", "device", "12-1200");
+		assertTrue(nc.removeProductFromCatalog("NIOX", "device", "12-1200"));
 		if(nc.allProducts() != 3) fail();
+		assertNull(nc.getProductFromCatalog("NIOX", "device", "12-1200"));
+		assertNull(nc.getProductByPartNumber("12-1200"));
+		assertFalse(nc.removeProductFromCatalog("NIOX", "device", "12-1200"));
 		
+		assertFalse(nc.removeProductFromCatalog("MINO", "12-1250"));
+		assertTrue(nc.removeProductFromCatalog("NIOX", "12-1250"));
+		assertEquals(nc.allProducts(), 2);
+		assertNull(nc.getProductFromCatalog("NIOX", "12-1250"));
+		assertFalse(nc.catalogContainsProduct("NIOX", "VERO", "Battery"));
+		assertEquals(nc.getProductFromCatalog("NIOX", "12-1810-US"), c4);
+		
+		// the product can be added again after it is removed
+		assertTrue(nc.addProductToCatalog(c3));
+		assertEquals(nc.getProductByPartNumber("12-1250"), c3);
 	}
 
 	/**
@@ -88,7 +101,21 @@ public class NioxCatalogTest {
 	 */
 	@Test
 	public void testCatalogContainsProduct() {
-		//fail("Not yet implemented");
+		NioxCatalog nc = new NioxCatalog();
+		assertFalse(nc.catalogContainsProduct("NIOX", "VERO", "device"));
+		nc.loadProductsFromFile(allProducts);
+		assertTrue(nc.catalogContainsProduct("NIOX", "VERO", "device"));
+		assertTrue(nc.catalogContainsProduct("NIOX", "MINO", "QC Plug NIOX Mino Unit"));
+		assertFalse(nc.catalogContainsProduct("NIOX", "MINO", "device"));
+		assertEquals(nc.getProductByName("NIOX", "MINO", "Power Supply NIOX MINO 2009").getPartNumber(), "09-1005");
+		assertEquals(nc.getProductByPartNumber("09-1005").getDescription(), "Power Supply NIOX MINO 2009");
+		// several products have no part number; the first one in the catalog is returned
+		String[][] catalog = nc.getNioxCatalog();
+		int first = 0;
+		while(!catalog[first][0].equals("no value"))
+			first++;
+		assertEquals(nc.getProductByPartNumber("no value").getDescription(), catalog[first][3]);
+		assertNull(nc.getProductByPartNumber("99-9999"));
 	}
 
 	/**
@@ -123,6 +150,51 @@ public class NioxCatalogTest {
 		
 	}
 
+	/**
+	 * Tests that the catalog arrays are kept until the catalog changes and that callers are given copies
+	 */
+	@Test
+	public void testGetModCount() {
+		NioxCatalog nc = new NioxCatalog();
+		assertEquals(nc.getProductPartNumbers().length, 10);
+		assertEquals(nc.getProductNames().length, 0);
+		nc.loadProductsFromFile(allProducts);
+		int modCount = nc.getModCount();
+		String[][] catalog = nc.getNioxCatalog();
+		String[] numbers = nc.getProductPartNumbers();
+		String[] names = nc.getProductNames();
+		assertEquals(catalog.length, productCount);
+		assertNotSame(nc.getNioxCatalog(), catalog);
+		assertArrayEquals(nc.getNioxCatalog(), catalog);
+		assertArrayEquals(nc.getProductPartNumbers(), numbers);
+		assertArrayEquals(nc.getProductNames(), names);
+		
+		// changing a returned array does not change what the next caller is given
+		String first = catalog[0][0];
+		catalog[0][0] = "changed";
+		numbers[0] = "changed";
+		names[0] = "changed";
+		assertEquals(nc.getNioxCatalog()[0][0], first);
+		assertFalse(nc.getProductPartNumbers()[0].equals("changed"));
+		assertFalse(nc.getProductNames()[0].equals("changed"));
+		
+		// a duplicate is not added, so nothing changes
+		assertFalse(nc.addProductToCatalog(nc.getProductByPartNumber("12-1200")));
+		assertEquals(nc.getModCount(), modCount);
+		
+		Component c = new Component("992099","12-9999","NIOX","VERO","spare device","10.00","xxxx");
+		assertTrue(nc.addProductToCatalog(c));
+		assertTrue(nc.getModCount() != modCount);
+		assertEquals(nc.getNioxCatalog().length, productCount + 1);
+		assertEquals(nc.getProductPartNumbers()[productCount], "12-9999");
+		assertEquals(nc.getProductNames()[productCount], "NIOX VERO spare device");
+		
+		modCount = nc.getModCount();
+		assertTrue(nc.removeProductFromCatalog("NIOX", "12-9999"));
+		assertTrue(nc.getModCount() != modCount);
+		assertEquals(nc.getProductNames().length, productCount);
+	}
+
 	/**
 	 * Test method for {@link com.circa.mrv.grs_manager.catalog.NioxCatalog#saveProductCatalog(java.lang.String)}.
 	 */
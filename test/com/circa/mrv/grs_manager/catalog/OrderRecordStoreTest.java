@@ -0,0 +1,112 @@
+package com.circa.mrv.grs_manager.catalog;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests OrderRecordStore
+ * @author Arthur Vargas
+ */
+public class OrderRecordStoreTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecordStore#set(int, int, String)}.
+	 */
+	@Test
+	public void testSet() {
+		OrderRecordStore store = new OrderRecordStore();
+		assertEquals(store.size(), 0);
+		store.set(0, 0, "study");
+		store.set(0, 2, "Country");
+		assertEquals(store.getColumnCount(), 3);
+		assertEquals(store.addRow(), 1);
+		store.set(1, 0, "006155");
+		store.set(1, 53, "YES");
+		assertEquals(store.get(0, 0), "study");
+		assertNull(store.get(0, 1));
+		assertEquals(store.get(1, 0), "006155");
+		assertEquals(store.get(1, 53), "YES");
+		assertNull(store.get(1, 2));
+		assertNull(store.get(1, 100));
+		assertEquals(store.getColumnCount(), 54);
+		store.set(1, 0, null);
+		assertNull(store.get(1, 0));
+		
+		try {
+			store.get(2, 0);
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(store.size(), 1);
+		}
+		try {
+			store.set(2, 0, "006155");
+			fail();
+		} catch (IndexOutOfBoundsException e) {
+			assertEquals(store.size(), 1);
+		}
+		
+		store.clearRows();
+		assertEquals(store.size(), 0);
+		assertEquals(store.get(0, 2), "Country");
+	}
+
+	/**
+	 * Tests that the store grows past the size of the old order record array and that dictionary and sparse
+	 * columns return the values that were set
+	 */
+	@Test
+	public void testManyRows() {
+		OrderRecordStore store = new OrderRecordStore();
+		store.setSparseColumns(3, 24);
+		for (int i = 1; i <= 5000; i++) {
+			int row = store.addRow();
+			store.set(row, 0, "00" + (6150 + i % 4));
+			store.set(row, 48, String.valueOf(18000000 + i));
+			if (i % 100 == 0)
+				store.set(row, 17, String.valueOf(i / 100));
+		}
+		assertEquals(store.size(), 5000);
+		String[] values = store.getRow(4200, new String[54]);
+		assertEquals(values[0], "006150");
+		assertEquals(values[17], "42");
+		assertEquals(values[48], "18004200");
+		assertNull(store.get(4201, 17));
+		
+		// setting sparse values out of order and removing them
+		store.set(150, 17, "x");
+		store.set(50, 17, "y");
+		assertEquals(store.get(150, 17), "x");
+		assertEquals(store.get(50, 17), "y");
+		assertEquals(store.get(200, 17), "2");
+		store.set(150, 17, null);
+		assertNull(store.get(150, 17));
+		assertEquals(store.get(200, 17), "2");
+		
+		// values are kept when the product title columns change
+		store.setSparseColumns(40, 50);
+		assertEquals(store.get(4200, 17), "42");
+		assertEquals(store.get(4200, 48), "18004200");
+		assertEquals(store.get(50, 17), "y");
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecordStore#setSparseColumns(int, int)}.
+	 */
+	@Test
+	public void testSetSparseColumns() {
+		OrderRecordStore store = new OrderRecordStore();
+		try {
+			store.setSparseColumns(5, 4);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(store.size(), 0);
+		}
+		try {
+			store.setSparseColumns(-1, 4);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(store.size(), 0);
+		}
+	}
+}
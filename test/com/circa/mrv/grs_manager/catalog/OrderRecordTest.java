@@ -8,6 +8,9 @@ import static org.junit.Assert.*;
 import java.awt.BorderLayout;
 import java.awt.Container;
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -15,6 +18,7 @@ import javax.swing.JPanel;
 import org.junit.Test;
 
 import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.io.RecordExporter;
 import com.circa.mrv.grs_manager.ui.ResearchCompanyOrderEntryPanel;
 
 /**
@@ -71,8 +75,8 @@ public class OrderRecordTest {
 	 */
 	@Test
 	public void testOrderRecord() {
-
-		
+		// the debug exports are only written when asked for
+		assertEquals(new OrderRecord().getExportMode(), RecordExporter.OFF);
 	}
 
 	/**
@@ -91,7 +95,7 @@ public class OrderRecordTest {
 		}
 		assertEquals(or.getProductTitles().size(), ptCount);
 		try {
-		assertEquals(or.getShortOrderInfo().length, 800);
+		assertEquals(or.getShortOrderInfo().length, 6);
 		}catch(IOException ioe ) {
 			throw new IllegalArgumentException(ioe.getMessage());
 		}catch(NullPointerException npe ) {
@@ -131,8 +135,9 @@ public class OrderRecordTest {
 			fail();
 		if(!or2.getStudyList().get(2).equals(study006156))
 			fail();
-		if(!or2.getStudyList().get(7).equals("006186"))
+		if(!or2.getStudyList().get(3).equals("006186"))
 			fail();
+		assertEquals(or2.getStudyList().size(), 4);
 		if(!or2.getSiteList().get(0).equals("5002") || !or2.getSiteList().get(1).equals("5007") || !or2.getSiteList().get(2).equals("5008"))
 			fail();
 		if(!or2.getSiteList().get(10).equals("2352") || !or2.getSiteList().get(11).equals("2353") || !or2.getSiteList().get(12).equals("2354"))
@@ -252,7 +257,69 @@ public class OrderRecordTest {
 	 */
 	@Test
 	public void testGetOrderById() {
-		//fail("Not yet implemented");
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFile(moreOrderRecords);
+		assertEquals(or.getOrderById(1).getNumber(), 1);
+		assertEquals(or.getOrderById(552).getNumber(), 552);
+		assertEquals(or.getOrderById(529), or.getOrderRecordList().get(528));
+		assertNull(or.getOrderById(553));
+		assertEquals(or.getNextOrderNumber(), 553);
+	}
+	
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#addOrder(Order)}.
+	 */
+	@Test
+	public void testAddOrder() {
+		OrderRecord or = new OrderRecord();
+		assertNull(or.getLastOrder());
+		assertEquals(or.getNextOrderNumber(), 1);
+		Order o = new Order(or.getNextOrderNumber());
+		or.addOrder(o);
+		assertEquals(or.getOrderById(1), o);
+		assertEquals(or.getLastOrder(), o);
+		or.addOrder(new Order(10));
+		or.addOrder(new Order(5));
+		assertEquals(or.getLastOrder().getNumber(), 10);
+		assertEquals(or.getNextOrderNumber(), 11);
+		try {
+			or.addOrder(new Order(5));
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(or.getOrderRecordList().size(), 3);
+		}
+	}
+
+	/**
+	 * Tests that the study and site lists are updated as orders are added
+	 */
+	@Test
+	public void testStudyAndSiteListsOnAdd() {
+		OrderRecord or = new OrderRecord();
+		String[][] orders = {{"006155", "5002"}, {"", "5007"}, {"006155", "5007"}, {"006156 ", " 5002"},
+				{null, null}, {"107061", "2344 A"}};
+		for(String[] studySite : orders) {
+			Order o = new Order(or.getNextOrderNumber());
+			o.setStudy(studySite[0]);
+			o.setSite(studySite[1]);
+			or.addOrder(o);
+		}
+		// blank studies are skipped rather than ending the list and only the first word is kept
+		assertEquals(or.getStudyList().size(), 3);
+		assertEquals(or.getStudyList().get(0), "006155");
+		assertEquals(or.getStudyList().get(1), "006156");
+		assertEquals(or.getStudyList().get(2), "107061");
+		assertEquals(or.getSiteList().size(), 3);
+		assertEquals(or.getSiteList().get(0), "5002");
+		assertEquals(or.getSiteList().get(1), "5007");
+		assertEquals(or.getSiteList().get(2), "2344");
+		
+		or.getOrderRecordList().get(0).setStudy("145986");
+		or.updateStudyList();
+		assertEquals(or.getStudyList().size(), 4);
+		assertEquals(or.getStudyList().get(0), "145986");
+		assertEquals(or.getStudyList().get(1), "006155");
 	}
 
 	/**
@@ -260,7 +327,33 @@ public class OrderRecordTest {
 	 */
 	@Test
 	public void testGetShortOrderInfo() {
-		//fail("Not yet implemented");
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		String[][] record = new String[1001][54];
+		for(int row = 1; row < record.length; row++) {
+			record[row][0] = "006155";
+			record[row][1] = String.valueOf(5000 + row % 20);
+			record[row][4] = "1";
+			record[row][33] = "Raleigh";
+			record[row][48] = String.valueOf(18000000 + row);
+		}
+		or.setRecord(record);
+		or.updateOrdersAndSites();
+		assertEquals(or.getOrderRecordList().size(), 1000);
+		try {
+			String[][] info = or.getShortOrderInfo();
+			assertEquals(info.length, 1000);
+			assertEquals(info[999][0], "006155");
+			assertEquals(info[999][2], "Raleigh");
+			assertEquals(info[999][4], "18001000");
+		} catch(IOException ioe) {
+			fail();
+		}
+		String[][] data = or.getRecord();
+		assertEquals(data.length, 1001);
+		assertEquals(data[1000][48], "18001000");
+		// product title columns are left out
+		assertNull(data[1000][4]);
 	}
 
 	/**
@@ -268,7 +361,24 @@ public class OrderRecordTest {
 	 */
 	@Test
 	public void testGetOrderByPOAndStudy() {
-		//fail("Not yet implemented");
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFile(moreOrderRecords);
+		Order o = or.getOrderRecordList().get(528);
+		assertEquals(or.getOrderByPOAndStudy("17004101 OD", o.getStudy()), o);
+		assertNull(or.getOrderByPOAndStudy("17004101 OD", "no study"));
+		assertNull(or.getOrderByPOAndStudy("no po", o.getStudy()));
+		
+		Order added = new Order(or.getNextOrderNumber());
+		added.setStudy(o.getStudy());
+		added.setSite("99999");
+		added.setPo("19000001 OD");
+		added.setSiteName("New Clinic");
+		or.addOrder(added);
+		assertEquals(or.getOrderByPOAndStudy("19000001 OD", o.getStudy()), added);
+		assertEquals(or.getThisResearchSite(o.getStudy(), "99999")[0], "New Clinic");
+		Object[] sites = or.getTheseStudySites(o.getStudy());
+		assertEquals(sites[sites.length - 1], "99999");
 	}
 
 	/**
@@ -287,7 +397,7 @@ public class OrderRecordTest {
 			//System.out.println();
 		}
 		Order o = or.getLastOrder();
-		assertEquals(o.getNumber(),541);
+		assertEquals(o.getNumber(),552);
 		//System.out.println(o.getStudy());
 		//System.out.println(o.getSite());
 		//assertEquals(o.getStudy(),"006186");
@@ -296,6 +406,223 @@ public class OrderRecordTest {
 		//System.out.println(o.getCity() + " " + o.getCountry() + " " + o.getStatus());
 	}
 
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#loadOrdersFromFiles(String...)}.
+	 */
+	@Test
+	public void testLoadOrdersFromFiles() {
+		OrderRecord least = new OrderRecord();
+		least.loadTitlesFromFile(orderRecordTitles);
+		least.loadOrdersFromFile(orderRecordFile);
+		OrderRecord all = new OrderRecord();
+		all.loadTitlesFromFile(orderRecordTitles);
+		all.loadOrdersFromFile(moreOrderRecords);
+		
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFiles(orderRecordFile, moreOrderRecords);
+		assertEquals(or.getOrderRecordList().size(), 558);
+		for(int i = 0; i < or.getOrderRecordList().size(); i++) {
+			Order o = or.getOrderRecordList().get(i);
+			Order e = i < 6 ? least.getOrderRecordList().get(i) : all.getOrderRecordList().get(i - 6);
+			assertEquals(o.getNumber(), i + 1);
+			assertEquals(o.getPo(), e.getPo());
+			assertEquals(o.getStudy(), e.getStudy());
+			assertEquals(o.getSite(), e.getSite());
+		}
+		try {
+			assertEquals(or.getShortOrderInfo().length, 558);
+		} catch(IOException ioe) {
+			fail();
+		}
+		assertEquals(or.getStudyList().size(), 4);
+		
+		try {
+			or.loadOrdersFromFiles(orderRecordFile, "test-files/order-record-test/no-such-file");
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(iae.getMessage(), "Unable to read file test-files/order-record-test/no-such-file");
+		}
+		// nothing is added when a file cannot be read, and a second load adds the rows and orders to the first
+		assertEquals(or.getOrderRecordList().size(), 558);
+		assertEquals(or.getRecord().length, 559);
+		or.loadOrdersFromFiles(orderRecordFile);
+		assertEquals(or.getOrderRecordList().size(), 564);
+		assertEquals(or.getRecord().length, 565);
+		assertEquals(or.getOrderRecordList().get(563).getNumber(), 564);
+		
+		// orders loaded before the titles still have every column
+		OrderRecord untitled = new OrderRecord();
+		untitled.loadOrdersFromFile(orderRecordFile);
+		assertEquals(untitled.getOrderRecordList().size(), 6);
+		for(int i = 0; i < 6; i++) {
+			Order o = untitled.getOrderRecordList().get(i);
+			Order e = least.getOrderRecordList().get(i);
+			assertEquals(o.getPo(), e.getPo());
+			assertEquals(o.getSiteName(), e.getSiteName());
+			assertEquals(o.getCity(), e.getCity());
+			assertEquals(o.getZip(), e.getZip());
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#loadOrderHistory(String, Charset)}.
+	 */
+	@Test
+	public void testLoadOrderHistory() {
+		OrderRecord expected = new OrderRecord();
+		expected.loadTitlesFromFile(orderRecordTitles);
+		expected.loadOrdersFromFile(moreOrderRecords);
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		// loadOrdersFromFile() reads with the default character set
+		or.loadOrderHistory(moreOrderRecords, Charset.defaultCharset());
+		assertEquals(or.getOrderRecordList().size(), 552);
+		for(int i = 0; i < or.getOrderRecordList().size(); i++) {
+			Order o = or.getOrderRecordList().get(i);
+			Order e = expected.getOrderRecordList().get(i);
+			assertEquals(o.getNumber(), e.getNumber());
+			assertEquals(o.getPo(), e.getPo());
+			assertEquals(o.getStudy(), e.getStudy());
+			assertEquals(o.getSite(), e.getSite());
+			assertEquals(o.getSiteName(), e.getSiteName());
+		}
+		assertEquals(or.getStudyList().size(), expected.getStudyList().size());
+		assertEquals(or.getOpenOrderCount(), expected.getOpenOrderCount());
+		Order o = or.getOrderRecordList().get(528);
+		assertEquals(or.getOrderByPOAndStudy("17004101 OD", o.getStudy()), o);
+		try {
+			or.loadOrderHistory("test-files/order-record-test/no-such-file", Charset.forName("UTF-8"));
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(or.getOrderRecordList().size(), 552);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#addNewOrder(Order)}.
+	 */
+	@Test
+	public void testAddNewOrder() {
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFile(moreOrderRecords);
+		int open = or.getOpenOrderCount();
+		Order o = or.getOrderRecordList().get(528);
+		Order added = new Order(0);
+		added.setStudy(o.getStudy());
+		added.setSite(o.getSite());
+		added.setPo("19000001 OD");
+		added.setStatus(Order.getOpen());
+		assertEquals(or.addNewOrder(added), 553);
+		assertEquals(added.getNumber(), 553);
+		assertSame(or.getOrderById(553), added);
+		assertSame(or.getLastOrder(), added);
+		assertEquals(or.getOpenOrderCount(), open + 1);
+		assertEquals(or.getOpenOrders(o.getStudy()).get(or.getOpenOrders(o.getStudy()).size() - 1), added);
+		assertEquals(or.getOpenOrderArray().length, open + 1);
+
+		// a purchase order can only be submitted once for a study
+		Order again = new Order(0);
+		again.setStudy(o.getStudy());
+		again.setSite(o.getSite());
+		again.setPo("19000001 OD");
+		try {
+			or.addNewOrder(again);
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(iae.getMessage(), "Purchase order 19000001 OD already exists for study " + o.getStudy());
+		}
+		assertEquals(or.getNextOrderNumber(), 554);
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#setOrderStatus(long, String)}.
+	 */
+	@Test
+	public void testSetOrderStatus() {
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFile(moreOrderRecords);
+		int open = or.getOpenOrderCount();
+		assertTrue(or.setOrderStatus(1, Order.getOpen()));
+		assertEquals(or.getOrderById(1).getStatus(), Order.getOpen());
+		assertNotNull(or.getOrderById(1).getStatusDate());
+		assertEquals(or.getOpenOrderCount(), open + 1);
+		assertTrue(or.setOrderStatus(1, Order.getOpen()));
+		assertEquals(or.getOpenOrderCount(), open + 1);
+		assertTrue(or.setOrderStatus(1, Order.getProcessed()));
+		assertEquals(or.getOpenOrderCount(), open);
+		assertFalse(or.setOrderStatus(10000, Order.getShipped()));
+		try {
+			or.setOrderStatus(1, "lost");
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(iae.getMessage(), "Invalid status lost");
+		}
+	}
+
+	/**
+	 * Tests reading the record while orders are loaded, submitted and have their status changed on other threads.
+	 * @throws InterruptedException if the test is interrupted while waiting
+	 */
+	@Test
+	public void testConcurrentAccess() throws InterruptedException {
+		final OrderRecord or = new OrderRecord();
+		or.setExportMode(RecordExporter.OFF);
+		or.loadTitlesFromFile(orderRecordTitles);
+		final AtomicBoolean done = new AtomicBoolean();
+		final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+		Thread[] threads = new Thread[4];
+		for(int t = 0; t < threads.length; t++) {
+			final int id = t;
+			threads[t] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						int submitted = 0;
+						while(!done.get()) {
+							if(id < 2) {
+								// an order is never seen half added
+								or.getOpenOrderArray();
+								or.getShortOrderInfo();
+								or.getStudyList();
+								Order last = or.getLastOrder();
+								if(last != null)
+									assertSame(or.getOrderById(last.getNumber()), last);
+							} else if(submitted < 50) {
+								Order o = new Order(0);
+								o.setStudy("90000" + id);
+								o.setSite("1");
+								o.setPo("PO " + submitted++);
+								o.setStatus(Order.getOpen());
+								long number = or.addNewOrder(o);
+								assertTrue(or.setOrderStatus(number, Order.getShipped()));
+							} else {
+								Thread.yield();
+							}
+						}
+					} catch(Throwable e) {
+						error.compareAndSet(null, e);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for(int i = 0; i < 3; i++)
+			or.loadOrdersFromFile(moreOrderRecords);
+		while(or.getNextOrderNumber() < 3 * 552 + 101) {
+			Thread.sleep(10);
+		}
+		done.set(true);
+		for(Thread t : threads)
+			t.join();
+		assertNull(error.get());
+		assertEquals(or.getOrderRecordList().size(), 3 * 552 + 100);
+		assertEquals(or.getNextOrderNumber(), 3 * 552 + 101);
+		assertEquals(or.getOpenOrderCount(), or.getOpenOrderArray().length);
+	}
+
 	/**
 	 * Test method for {@link com.circa.mrv.grs_manager.catalog.OrderRecord#getCalendarFromString(java.lang.String)}.
 	 */
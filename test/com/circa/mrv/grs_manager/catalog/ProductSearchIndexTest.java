@@ -0,0 +1,114 @@
+package com.circa.mrv.grs_manager.catalog;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Tests ProductSearchIndex
+ * @author Arthur Vargas
+ */
+public class ProductSearchIndexTest {
+	/** the text file with all product records */
+	private final String allProducts = "test-files/product-record-test/all-products";
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.ProductSearchIndex#search(String, int)}.
+	 */
+	@Test
+	public void testSearch() {
+		NioxCatalog nc = new NioxCatalog();
+		nc.loadProductsFromFile(allProducts);
+		ProductSearchIndex index = nc.getSearchIndex();
+		assertEquals(index.size(), 22);
+		assertSame(nc.getSearchIndex(), index);
+
+		// part number prefix, then words
+		Product[] found = index.search("12-18", 10);
+		assertEquals(found.length, 2);
+		assertEquals(found[0].getPartNumber(), "12-1806-US");
+		assertEquals(found[1].getPartNumber(), "12-1810-US");
+		assertEquals(index.search("1810", 10)[0].getPartNumber(), "12-1810-US");
+
+		// every word of the query must match, in any order and case
+		found = index.search("KIT mino 10", 10);
+		assertEquals(found.length, 2);
+		assertEquals(found[0].getPartNumber(), "03-4000-US");
+		assertEquals(found[1].getDescription(), "test kit 100 expiration date");
+
+		// an exact name comes before names that begin with it
+		found = index.search("niox mino no scrubber 2009", 10);
+		assertEquals(found[0].getPartNumber(), "09-1300");
+		found = index.search("niox vero battery", 10);
+		assertEquals(found.length, 2);
+		assertEquals(found[0].getDescription(), "Battery");
+		assertEquals(found[1].getDescription(), "Battery Lid");
+
+		assertEquals(index.search("niox", 3).length, 3);
+		assertEquals(index.search("niox", 100).length, 22);
+		assertEquals(index.search("vero zzz", 10).length, 0);
+		assertEquals(index.search("  ", 10).length, 0);
+		assertEquals(index.search(null, 10).length, 0);
+		try {
+			index.search("niox", 0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid limit");
+		}
+
+		// the catalog builds a new index when it changes
+		nc.addProductToCatalog(new Component("992099","12-9999","NIOX","VERO","spare device","10.00","xxxx"));
+		assertNotSame(nc.getSearchIndex(), index);
+		assertEquals(nc.getSearchIndex().search("spare", 10)[0].getPartNumber(), "12-9999");
+		assertEquals(index.search("spare", 10).length, 0);
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.ProductSearchIndex#find(String)}.
+	 */
+	@Test
+	public void testFind() {
+		NioxCatalog nc = new NioxCatalog();
+		nc.loadProductsFromFile(allProducts);
+		ProductSearchIndex index = nc.getSearchIndex();
+		for (String name : nc.getProductNames()) {
+			assertEquals(ProductSearchIndex.getName(index.find(name)), name);
+		}
+		assertEquals(index.find("09-1015").getDescription(), "QC Plug NIOX Mino Unit");
+		assertEquals(index.find(" niox  MINO qc plug niox mino unit ").getPartNumber(), "09-1015");
+		assertNull(index.find("NIOX MINO QC"));
+		assertNull(index.find("09-10"));
+		assertNull(index.find(null));
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.catalog.ProductSearchIndex#complete(String, int)}.
+	 */
+	@Test
+	public void testComplete() {
+		LinkedListRecursive<Product> products = new LinkedListRecursive<Product>();
+		products.add(new Component("992040","12-1200","NIOX","VERO","device","1600.00","xxxx"));
+		products.add(new Component("707167","03-4002-US","NIOX","MINO","Test Kit 50","718.00","xxxx"));
+		ProductSearchIndex index = new ProductSearchIndex(products);
+
+		assertArrayEquals(index.complete("12", 10), new String[] {"12-1200"});
+		assertArrayEquals(index.complete("NIOX", 10), new String[] {"NIOX MINO Test Kit 50", "NIOX VERO device"});
+		// the DESCRIPTIONS vocabulary is included and duplicates are ignored
+		assertArrayEquals(index.complete("test kit", 10),
+				new String[] {"test kit 100", "test kit 50", "test kit 60"});
+		assertArrayEquals(index.complete("test kit", 2), new String[] {"test kit 100", "test kit 50"});
+		assertArrayEquals(index.complete("power", 10), new String[] {"power adapter", "power cord", "power supply"});
+		assertEquals(index.complete("zzz", 10).length, 0);
+		assertEquals(index.complete("", 10).length, 0);
+		try {
+			new ProductSearchIndex(null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Products are null");
+		}
+	}
+}
@@ -7,6 +7,8 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import com.circa.mrv.grs_manager.user.Employee;
+
 /**
  * @author ahvar
  *
@@ -141,4 +143,26 @@ public class CompanyDirectoryTest {
 		fail("Not yet implemented");
 	}
 
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.directory.CompanyDirectory#getEmployeeEntry(java.lang.String)}.
+	 */
+	@Test
+	public void testGetEmployeeEntry() {
+		CompanyDirectory cd = new CompanyDirectory();
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		rc.getBillTo().addEmployee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+		cd.addResearchCompany(rc);
+		assertSame(cd.getEmployeeEntry("ssmith").getCompany(), rc);
+		assertEquals(cd.getEmployeeById("ssmith").getLastName(), "Smith");
+
+		assertTrue(cd.addEmployeeToBillToLocation(new Employee("Pat", "Jones", "pjones", "pjones@ert.com", "pw"),
+				Company.ert, "1818 Market St"));
+		assertSame(cd.getEmployeeEntry("pjones").getLocation(), rc.getBillTo());
+
+		assertTrue(cd.removeCompany(Company.ert));
+		assertNull(cd.getEmployeeEntry("ssmith"));
+		assertNull(cd.getEmployeeById("pjones"));
+	}
+
 }
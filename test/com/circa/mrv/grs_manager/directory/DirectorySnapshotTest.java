@@ -0,0 +1,82 @@
+package com.circa.mrv.grs_manager.directory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.user.Employee;
+
+/**
+ * Tests DirectorySnapshot
+ * @author Arthur Vargas
+ */
+public class DirectorySnapshotTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.directory.CompanyDirectory#getSnapshot()}.
+	 */
+	@Test
+	public void testGetSnapshot() {
+		CompanyDirectory cd = new CompanyDirectory();
+		DirectorySnapshot empty = cd.getSnapshot();
+		assertEquals(empty.getCompanies().size(), 0);
+		assertEquals(empty.getResearchEmployeeData().length, 0);
+		assertSame(cd.getSnapshot(), empty);
+
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		rc.getBillTo().addEmployee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+		rc.getBillTo().addEmployee("Pat", "Jones", "pjones", "pjones@ert.com", "pw");
+		cd.addResearchCompany(rc);
+		cd.addVendorCompany(new VendorCompany(new BillTo("1 Cir Way", "", "Raleigh", "NC", "27601", "USA"),
+				Company.cir));
+
+		DirectorySnapshot s = cd.getSnapshot();
+		assertNotSame(s, empty);
+		assertEquals(empty.getCompanies().size(), 0);
+		assertEquals(s.getCompanies().size(), 2);
+		assertSame(s.getCompanies().get(0), rc);
+		assertEquals(s.getResearchEmployees().size(), 2);
+		assertEquals(s.getVendorEmployees().size(), 0);
+		assertEquals(s.getEmployeeCount(), 2);
+		assertSame(s.getEmployee("pjones").getCompany(), rc);
+		assertNull(s.getEmployee(null));
+
+		String[][] data = cd.getResearchEmployeeData();
+		assertEquals(data.length, 2);
+		assertArrayEquals(data[0], new String[] {"Sam", "Smith", "ssmith", "ssmith@ert.com"});
+		assertArrayEquals(data[1], new String[] {"Pat", "Jones", "pjones", "pjones@ert.com"});
+		assertEquals(cd.getVendorEmployeeData().length, 0);
+
+		// the rows handed out are copies
+		data[0][0] = "Changed";
+		assertEquals(cd.getResearchEmployeeData()[0][0], "Sam");
+
+		// the snapshot cannot be changed
+		try {
+			s.getCompanies().clear();
+			fail();
+		} catch (UnsupportedOperationException e) {
+			assertEquals(s.getCompanies().size(), 2);
+		}
+
+		// changes made directly at a location reach the index at once and the snapshot when published
+		Employee removed = rc.getBillTo().removeEmployee("ssmith");
+		assertNotNull(removed);
+		assertNull(cd.getEmployeeEntry("ssmith"));
+		assertNull(cd.getEmployeeById("ssmith"));
+		assertEquals(cd.getEmployeeCount(), 1);
+		assertSame(cd.getSnapshot(), s);
+		DirectorySnapshot after = cd.publish();
+		assertSame(cd.getSnapshot(), after);
+		assertNotSame(after, s);
+		assertNull(after.getEmployee("ssmith"));
+		assertNotNull(s.getEmployee("ssmith"));
+		assertEquals(cd.getResearchEmployeeData().length, 1);
+
+		assertTrue(cd.removeCompany(Company.ert));
+		assertEquals(cd.getSnapshot().getCompanies().size(), 1);
+		assertEquals(cd.getSnapshot().getEmployeeCount(), 0);
+	}
+}
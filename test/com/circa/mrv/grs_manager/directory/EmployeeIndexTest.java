@@ -0,0 +1,84 @@
+package com.circa.mrv.grs_manager.directory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.location.Location;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Tests EmployeeIndex
+ * @author Arthur Vargas
+ */
+public class EmployeeIndexTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.directory.EmployeeIndex#addCompany(Company)}.
+	 */
+	@Test
+	public void testAddCompany() {
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		Location billTo = rc.getBillTo();
+		billTo.addEmployee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+
+		EmployeeIndex index = new EmployeeIndex();
+		assertNull(index.get("ssmith"));
+		index.addCompany(rc);
+		assertEquals(index.size(), 1);
+		EmployeeIndex.Entry e = index.get("ssmith");
+		assertEquals(e.getEmployee().getFirstName(), "Sam");
+		assertSame(e.getCompany(), rc);
+		assertSame(e.getLocation(), billTo);
+
+		// the location is attached, so later changes are indexed
+		billTo.addEmployee("Pat", "Jones", "pjones", "pjones@ert.com", "pw");
+		assertSame(index.get("pjones").getLocation(), billTo);
+		assertEquals(billTo.removeEmployee("ssmith").getId(), "ssmith");
+		assertNull(index.get("ssmith"));
+		assertNull(billTo.removeEmployee("ssmith"));
+
+		LinkedListRecursive<Employee> employees = new LinkedListRecursive<Employee>();
+		employees.add(new Employee("Lee", "Brown", "lbrown", "lbrown@ert.com", "pw"));
+		billTo.setEmployees(employees);
+		assertNull(index.get("pjones"));
+		assertEquals(index.get("lbrown").getEmployee().getLastName(), "Brown");
+
+		// a removed company is detached
+		index.removeCompany(rc);
+		assertEquals(index.size(), 0);
+		billTo.addEmployee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+		assertNull(index.get("ssmith"));
+		assertNull(index.get(null));
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.directory.EmployeeIndex#add(Employee, Company, Location)}.
+	 */
+	@Test
+	public void testAdd() {
+		BillTo first = new BillTo("1 Main St", "Raleigh", "NC", "27601", "USA");
+		BillTo second = new BillTo("2 Main St", "Raleigh", "NC", "27601", "USA");
+		VendorCompany vc = new VendorCompany(first, Company.cir);
+		Employee a = new Employee("Sam", "Smith", "ssmith", "ssmith@circassia.com", "pw");
+		Employee b = new Employee("Sam", "Smith", "ssmith", "sam@circassia.com", "pw");
+
+		// the employee indexed first under an id is kept
+		EmployeeIndex index = new EmployeeIndex();
+		index.add(a, vc, first);
+		index.add(b, vc, second);
+		assertSame(index.get("ssmith").getEmployee(), a);
+		assertFalse(index.remove(b));
+		assertTrue(index.remove(a));
+		assertNull(index.get("ssmith"));
+		try {
+			index.add(a, null, first);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid employee");
+		}
+	}
+}
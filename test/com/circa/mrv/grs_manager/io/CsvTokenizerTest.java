@@ -0,0 +1,61 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Tests CsvTokenizer
+ * @author Arthur Vargas
+ */
+public class CsvTokenizerTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.CsvTokenizer#nextField()}.
+	 * @throws IOException if the input cannot be read
+	 */
+	@Test
+	public void testNextField() throws IOException {
+		CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(
+				"006155,5007,,Samson ,\"12321 E Carson Blvd\n, Suite 1\"\r\n" +
+				"\"Say \"\"hi\"\"\",  a \t b  ,\"\"\n" +
+				"last"));
+		assertEquals("006155", tokenizer.nextField());
+		assertFalse(tokenizer.isEndOfRecord());
+		assertEquals("5007", tokenizer.nextField());
+		assertNull(tokenizer.nextField());
+		assertEquals("Samson", tokenizer.nextField());
+		assertEquals("12321 E Carson Blvd , Suite 1", tokenizer.nextField());
+		assertTrue(tokenizer.isEndOfRecord());
+		
+		assertEquals("Say \"hi\"", tokenizer.nextField());
+		assertEquals("a b", tokenizer.nextField());
+		assertNull(tokenizer.nextField());
+		assertTrue(tokenizer.isEndOfRecord());
+		
+		assertTrue(tokenizer.hasNext());
+		assertEquals("last", tokenizer.nextField());
+		assertTrue(tokenizer.isEndOfRecord());
+		assertFalse(tokenizer.hasNext());
+		tokenizer.close();
+	}
+
+	/**
+	 * Tests that fields longer than the field buffer are read whole
+	 * @throws IOException if the input cannot be read
+	 */
+	@Test
+	public void testLongField() throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 20000; i++) {
+			sb.append((char) ('a' + i % 26));
+		}
+		CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(sb.toString() + ",x"));
+		assertEquals(sb.toString(), tokenizer.nextField());
+		assertEquals("x", tokenizer.nextField());
+		tokenizer.close();
+	}
+}
@@ -0,0 +1,241 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Tests MappedRecordReader
+ * @author Arthur Vargas
+ */
+public class MappedRecordReaderTest {
+	/** The filename for order records */
+	private static final String orderRecordFile = "test-files/order-record-test/order-record-all";
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.MappedRecordReader#getField(int)}.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testGetField() throws IOException {
+		File file = File.createTempFile("records", ".csv");
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(("006155,5007,,Samson ,\"12321 E Carson Blvd\n, Suite 1\"\r\n" +
+				"\r\n" +
+				"\"Say \"\"hi\"\"\",  a \t b  ,\"\"\n" +
+				"last").getBytes("UTF-8"));
+		out.close();
+		try {
+			MappedRecordReader reader = new MappedRecordReader(file.getPath(), Charset.forName("UTF-8"));
+			assertTrue(reader.nextRecord());
+			assertEquals(reader.getFieldCount(), 5);
+			assertEquals("006155", reader.getField(0));
+			assertEquals("5007", reader.getField(1));
+			assertNull(reader.getField(2));
+			assertEquals("Samson", reader.getField(3));
+			assertEquals("12321 E Carson Blvd , Suite 1", reader.getField(4));
+			assertNull(reader.getField(5));
+			
+			assertTrue(reader.nextRecord());
+			assertEquals(reader.getFieldCount(), 3);
+			assertEquals("Say \"hi\"", reader.getField(0));
+			assertEquals("a b", reader.getField(1));
+			assertNull(reader.getField(2));
+			
+			assertTrue(reader.nextRecord());
+			assertEquals("last", reader.getField(0));
+			assertFalse(reader.nextRecord());
+			reader.close();
+		} finally {
+			file.delete();
+		}
+		
+		try {
+			new MappedRecordReader(orderRecordFile, Charset.forName("UTF-16"));
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertTrue(iae.getMessage().contains("UTF-16"));
+		}
+	}
+
+	/**
+	 * Tests that the reader returns the same fields as CsvTokenizer for the order record file
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testSameAsCsvTokenizer() throws IOException {
+		Charset charset = Charset.forName("windows-1252");
+		CsvTokenizer tokenizer = new CsvTokenizer(new InputStreamReader(new FileInputStream(orderRecordFile), charset));
+		MappedRecordReader reader = new MappedRecordReader(orderRecordFile, charset);
+		int records = 0;
+		while (reader.nextRecord()) {
+			List<String> expected = nextRecord(tokenizer);
+			assertEquals(expected.size(), reader.getFieldCount());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(expected.get(i), reader.getField(i));
+			}
+			records++;
+		}
+		assertTrue(nextRecord(tokenizer).isEmpty());
+		reader.close();
+		tokenizer.close();
+		assertEquals(records, 552);
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.MappedRecordReader#split(int)}.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testSplit() throws IOException {
+		Charset charset = Charset.forName("windows-1252");
+		MappedRecordReader reader = new MappedRecordReader(orderRecordFile, charset);
+		MappedRecordReader whole = new MappedRecordReader(orderRecordFile, charset);
+		MappedRecordReader[] parts = reader.split(7);
+		assertEquals(parts.length, 7);
+		int records = 0;
+		for (MappedRecordReader part : parts) {
+			while (part.nextRecord()) {
+				assertTrue(whole.nextRecord());
+				assertEquals(whole.getFieldCount(), part.getFieldCount());
+				for (int i = 0; i < part.getFieldCount(); i++) {
+					assertEquals(whole.getField(i), part.getField(i));
+				}
+				records++;
+			}
+			part.close();
+		}
+		assertFalse(whole.nextRecord());
+		assertEquals(records, 552);
+		
+		// a file with fewer lines than parts
+		parts = reader.split(5000);
+		assertTrue(parts.length < 5000);
+		records = 0;
+		for (MappedRecordReader part : parts) {
+			while (part.nextRecord()) {
+				records++;
+			}
+		}
+		assertEquals(records, 552);
+		assertEquals(reader.split(1).length, 1);
+		try {
+			reader.split(0);
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(iae.getMessage(), "Invalid number of parts");
+		}
+		reader.close();
+		whole.close();
+	}
+
+	/**
+	 * Tests that records crossing the boundary between two windows are read the same as when the whole file is
+	 * mapped at once, whether the boundary falls inside a field, on a comma, or between a \r and a \n.
+	 * @throws IOException if the file cannot be read
+	 */
+	@Test
+	public void testWindows() throws IOException {
+		File file = File.createTempFile("records", ".csv");
+		FileOutputStream out = new FileOutputStream(file);
+		out.write(("006155,5007,,Samson ,\"12321 E Carson Blvd\n, Suite 1\"\r\n" +
+				"\r\n" +
+				"\"Say \"\"hi\"\"\",  a \t b  ,\"\"\r\n" +
+				"a,b,\n" +
+				"last").getBytes("UTF-8"));
+		out.close();
+		Charset charset = Charset.forName("UTF-8");
+		try {
+			for (int size = 56; size <= file.length(); size++) {
+				assertSameRecords(new MappedRecordReader(file.getPath(), charset),
+						new MappedRecordReader(file.getPath(), charset, size), 4);
+			}
+			MappedRecordReader reader = new MappedRecordReader(file.getPath(), charset, 20);
+			try {
+				reader.nextRecord();
+				fail();
+			} catch (IllegalArgumentException iae) {
+				assertEquals(iae.getMessage(), "Record at 0 is longer than the window");
+			}
+			reader.close();
+		} finally {
+			file.delete();
+		}
+		
+		charset = Charset.forName("windows-1252");
+		assertSameRecords(new MappedRecordReader(orderRecordFile, charset),
+				new MappedRecordReader(orderRecordFile, charset, 4096), 552);
+		
+		// parts that begin in a later window map their own windows
+		MappedRecordReader whole = new MappedRecordReader(orderRecordFile, charset);
+		MappedRecordReader reader = new MappedRecordReader(orderRecordFile, charset, 4096);
+		int records = 0;
+		for (MappedRecordReader part : reader.split(7)) {
+			while (part.nextRecord()) {
+				assertTrue(whole.nextRecord());
+				assertEquals(whole.getFieldCount(), part.getFieldCount());
+				for (int i = 0; i < part.getFieldCount(); i++) {
+					assertEquals(whole.getField(i), part.getField(i));
+				}
+				records++;
+			}
+			part.close();
+		}
+		assertFalse(whole.nextRecord());
+		assertEquals(records, 552);
+		reader.close();
+		whole.close();
+	}
+
+	/**
+	 * Asserts that two readers read the same records, then closes them.
+	 * @param expected the reader that maps the whole file
+	 * @param actual the reader that maps the file in windows
+	 * @param records the number of records in the file
+	 * @throws IOException if a reader cannot be closed
+	 */
+	private static void assertSameRecords(MappedRecordReader expected, MappedRecordReader actual, int records)
+			throws IOException {
+		int count = 0;
+		while (expected.nextRecord()) {
+			assertTrue(actual.nextRecord());
+			assertEquals(expected.getFieldCount(), actual.getFieldCount());
+			for (int i = 0; i < expected.getFieldCount(); i++) {
+				assertEquals(expected.getField(i), actual.getField(i));
+			}
+			count++;
+		}
+		assertFalse(actual.nextRecord());
+		assertEquals(count, records);
+		expected.close();
+		actual.close();
+	}
+
+	/**
+	 * Reads the next record that is not a blank line from the tokenizer.
+	 * @param tokenizer the tokenizer
+	 * @return the fields of the record, or an empty list at the end of the input
+	 * @throws IOException if the input cannot be read
+	 */
+	private static List<String> nextRecord(CsvTokenizer tokenizer) throws IOException {
+		List<String> fields = new ArrayList<String>();
+		while (tokenizer.hasNext()) {
+			do {
+				fields.add(tokenizer.nextField());
+			} while (!tokenizer.isEndOfRecord());
+			if (fields.size() > 1 || fields.get(0) != null)
+				return fields;
+			fields.clear();
+		}
+		return fields;
+	}
+}
@@ -0,0 +1,107 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.catalog.OrderRecordStore;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Tests OrderHistoryGenerator
+ * @author Arthur Vargas
+ */
+public class OrderHistoryGeneratorTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.OrderHistoryGenerator#writeOrders(java.io.Writer)}.
+	 * @throws IOException if the orders cannot be written
+	 */
+	@Test
+	public void testWriteOrders() throws IOException {
+		OrderHistoryGenerator generator = new OrderHistoryGenerator(42);
+		generator.setOrders(500);
+		generator.setStudies(2);
+		generator.setSitesPerStudy(20);
+		StringWriter first = new StringWriter();
+		generator.writeOrders(first);
+		StringWriter second = new StringWriter();
+		generator.writeOrders(second);
+		// the same seed and counts give the same file
+		assertEquals(first.toString(), second.toString());
+
+		StringWriter other = new StringWriter();
+		new OrderHistoryGenerator(43).writeOrders(other);
+		assertNotEquals(first.toString(), other.toString());
+
+		String orders = first.toString();
+		assertTrue(orders.contains(",\n Suite "));
+		assertTrue(orders.matches("(?s).*,\\d\\d/\\d\\d/20\\d\\d,.*"));
+		assertTrue(orders.matches("(?s).*,\\d{1,2}-[A-Z][a-z]{2}-\\d\\d,.*"));
+
+		try {
+			generator.setStudies(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid study count");
+		}
+		try {
+			generator.setSitesPerStudy(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid site count");
+		}
+		try {
+			generator.setOrders(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid order count");
+			assertEquals(generator.getOrders(), 500);
+		}
+	}
+
+	/**
+	 * Tests that the generated files are read by OrderRecordIO and loaded by OrderRecord.
+	 * @throws IOException if a file cannot be written
+	 */
+	@Test
+	public void testGeneratedFilesLoad() throws IOException {
+		File titles = File.createTempFile("titles", ".csv");
+		File orders = File.createTempFile("orders", ".csv");
+		try {
+			OrderHistoryGenerator generator = new OrderHistoryGenerator(7);
+			generator.setOrders(1000);
+			generator.setStudies(3);
+			generator.setSitesPerStudy(10);
+			generator.writeTitles(titles.getPath(), Charset.forName("UTF-8"));
+			generator.writeOrders(orders.getPath(), Charset.forName("UTF-8"));
+
+			OrderRecordStore store = new OrderRecordStore();
+			LinkedListRecursive<ProductTitle> productTitles = new LinkedListRecursive<ProductTitle>();
+			int lastCol = OrderRecordIO.readOrderTitles(titles.getPath(), store, productTitles);
+			assertEquals(lastCol, OrderHistoryGenerator.COLUMNS - 1);
+			assertEquals(productTitles.size(), 22);
+			OrderRecordIO.readOrderRecord(orders.getPath(), store, lastCol);
+			assertEquals(store.size(), 1000);
+
+			OrderRecord or = new OrderRecord();
+			or.setExportMode(RecordExporter.OFF);
+			or.loadTitlesFromFile(titles.getPath());
+			or.loadOrderHistory(orders.getPath(), Charset.forName("UTF-8"));
+			assertEquals(or.getOrderRecordList().size(), 1000);
+			assertEquals(or.getStudyList().size(), 3);
+			assertTrue(or.getSiteList().size() <= 30);
+			assertEquals(or.getOrderByPOAndStudy("15000000 OD", or.getOrderById(1).getStudy()).getNumber(), 1);
+			assertTrue(or.getOrderById(1).getProductCount() > 0);
+		} finally {
+			titles.delete();
+			orders.delete();
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.io.IOException;
 
 import org.junit.Test;
 
+import com.circa.mrv.grs_manager.catalog.OrderRecordStore;
 import com.circa.mrv.grs_manager.util.LinkedListRecursive;
 
 /**
@@ -134,7 +135,7 @@ public class OrderRecordIOTest {
 		if(!orders2[40][1].equals("5023") || !orders2[40][28].equals("Yarbrough") || !orders2[40][48].equals("15004338 OD") || !orders2[40][51].equals("Dec-15") ||
 				!orders2[40][46].equals("FedEx") )
 			fail();
-		if(!orders2[70][1].equals("2297") || !orders2[70][48].equals("no PO number needed -> warranty") || !orders2[70][51].equals("will not be charged (warranty)") || !orders2[70][53].equals("ES") ||
+		if(!orders2[70][1].equals("2297") || !orders2[70][48].equals("no PO number needed -> warranty") || !orders2[70][51].equals("will not be charged (warranty)") || !orders2[70][53].equals("YES") ||
 				!orders2[70][36].equals("004980313545726") )
 			fail();
 		if(!orders2[124][1].equals("5053") || !orders2[124][48].equals("18000647 OD") || !orders2[124][50].equals("Feb-18") || !orders2[124][43].equals("744532955281") ||
@@ -201,4 +202,29 @@ public class OrderRecordIOTest {
 		}
 	}
 
+	/**
+	 * Tests that readOrderRecord() into a store reads the same fields as readOrderRecord() into an array
+	 * @throws IOException if the order record cannot be read
+	 */
+	@Test
+	public void testReadOrderRecordStore() throws IOException {
+		String [][] orders = new String[800][orderRecordColumns];
+		OrderRecordIO.readOrderRecord(allOrderRecords, orders, new LinkedListRecursive<ProductTitle>(),
+				orderRecordColumns - 1);
+		OrderRecordStore store = new OrderRecordStore();
+		OrderRecordIO.readOrderRecord(allOrderRecords, store, orderRecordColumns - 1);
+		assertTrue(store.size() > orderRecordCount);
+		assertNull(orders[store.size() + 1][0]);
+		for(int row = 1; row <= store.size(); row++) {
+			for(int col = 0; col < orderRecordColumns; col++)
+				assertEquals("cell " + row + ", " + col, orders[row][col], store.get(row, col));
+		}
+
+		// only the columns up to lastCol are stored
+		store = new OrderRecordStore();
+		OrderRecordIO.readOrderRecord(orderRecordFileName, store, 30);
+		assertEquals(store.get(1, 30), siteName);
+		assertNull(store.get(1, 48));
+	}
+
 }
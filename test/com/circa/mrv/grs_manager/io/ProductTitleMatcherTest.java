@@ -0,0 +1,86 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+/**
+ * Tests ProductTitleMatcher
+ * @author Arthur Vargas
+ */
+public class ProductTitleMatcherTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.ProductTitleMatcher#match(String)}.
+	 */
+	@Test
+	public void testMatch() {
+		ProductTitleMatcher matcher = ProductTitleMatcher.getNioxMatcher();
+		ProductTitle pt = matcher.match("NIOX VERO Test Kit 100");
+		assertEquals(pt.getFam(), "niox");
+		assertEquals(pt.getGen(), "vero");
+		assertEquals(pt.getDescription(), "test kit 100 ");
+
+		// whitespace runs match a single space and overlapping descriptions are all listed in catalog order
+		pt = matcher.match("  NIOX   MINO\tNO scrubber\n2009 ");
+		assertEquals(pt.getGen(), "mino");
+		assertEquals(pt.getDescription(), "no scrubber no scrubber 2009 ");
+
+		// vero is preferred to mino and a title without a family or generation can still be a product
+		pt = matcher.match("mino vero device");
+		assertEquals(pt.getGen(), "vero");
+		pt = matcher.match("Training Device");
+		assertNull(pt.getFam());
+		assertNull(pt.getGen());
+		assertEquals(pt.getDescription(), "device training device ");
+
+		assertNull(matcher.match("NIOX VERO"));
+		assertNull(matcher.match("Study"));
+		assertNull(matcher.match(""));
+		assertNull(matcher.match(null));
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.ProductTitleMatcher#findMatches(String)}.
+	 */
+	@Test
+	public void testFindMatches() {
+		ProductTitleMatcher matcher = new ProductTitleMatcher(new String[] {"niox"}, new String[] {"vero", "mino"},
+				new String[] {"test kit 10", "test kit 100", "kit"});
+		assertEquals(matcher.getKeywordCount(), 6);
+		String title = " NIOX  Mino test\tkit  100";
+		ArrayList<ProductTitleMatcher.Match> matches = matcher.findMatches(title);
+		assertEquals(matches.size(), 5);
+		assertEquals(matches.get(0).getKeyword(), "niox");
+		assertEquals(matches.get(0).getKind(), ProductTitleMatcher.FAMILY);
+		assertEquals(title.substring(matches.get(0).getStart(), matches.get(0).getEnd()), "NIOX");
+		assertEquals(matches.get(1).getKind(), ProductTitleMatcher.GENERATION);
+		assertEquals(title.substring(matches.get(1).getStart(), matches.get(1).getEnd()), "Mino");
+		assertEquals(matches.get(2).getKeyword(), "kit");
+		assertEquals(title.substring(matches.get(2).getStart(), matches.get(2).getEnd()), "kit");
+		assertEquals(matches.get(3).getKeyword(), "test kit 10");
+		assertEquals(title.substring(matches.get(3).getStart(), matches.get(3).getEnd()), "test\tkit  10");
+		assertEquals(matches.get(4).getKeyword(), "test kit 100");
+		assertEquals(matches.get(4).getKind(), ProductTitleMatcher.DESCRIPTION);
+		assertEquals(matches.get(4).getEnd(), title.length());
+
+		assertEquals(matcher.findMatches("Study Number").size(), 0);
+		assertEquals(matcher.findMatches(null).size(), 0);
+		assertEquals(matcher.match(title).getDescription(), "test kit 10 test kit 100 kit ");
+
+		try {
+			new ProductTitleMatcher(new String[] {""}, new String[0], new String[0]);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid keyword");
+		}
+		try {
+			new ProductTitleMatcher(null, new String[0], new String[0]);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Keywords are null");
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.Test;
+
+/**
+ * Tests RecordExporter
+ * @author Arthur Vargas
+ */
+public class RecordExporterTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.RecordExporter#RecordExporter(int)}.
+	 */
+	@Test
+	public void testRecordExporter() {
+		RecordExporter exporter = new RecordExporter(RecordExporter.OFF);
+		assertEquals(exporter.getMode(), RecordExporter.OFF);
+		assertFalse(exporter.isEnabled());
+		exporter.setMode(RecordExporter.SYNC);
+		assertEquals(exporter.getMode(), RecordExporter.SYNC);
+		assertTrue(exporter.isEnabled());
+		try {
+			exporter.setMode(3);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid export mode");
+			assertEquals(exporter.getMode(), RecordExporter.SYNC);
+		}
+		try {
+			new RecordExporter(-1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid export mode");
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.RecordExporter#export(String, CharSequence)}.
+	 * @throws IOException if the file cannot be read or written
+	 * @throws InterruptedException if the test is interrupted while waiting for an export
+	 */
+	@Test
+	public void testExport() throws IOException, InterruptedException {
+		File file = File.createTempFile("export", ".txt");
+		try {
+			// a large export is written in several blocks
+			StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < 20000; i++) {
+				sb.append("006155,5007,Samson,").append(i).append(System.lineSeparator());
+			}
+			String contents = sb.toString();
+
+			RecordExporter exporter = new RecordExporter(RecordExporter.SYNC);
+			exporter.export(file.getPath(), contents);
+			assertEquals(read(file), contents);
+
+			// an existing file is replaced
+			exporter.export(file.getPath(), "short");
+			assertEquals(read(file), "short");
+
+			exporter.setMode(RecordExporter.OFF);
+			exporter.export(file.getPath(), contents);
+			exporter.awaitExports();
+			assertEquals(read(file), "short");
+
+			exporter.setMode(RecordExporter.ASYNC);
+			exporter.export(file.getPath(), contents);
+			exporter.export(file.getPath(), "last");
+			exporter.awaitExports();
+			assertEquals(read(file), "last");
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.RecordExporter#export(String, CharSequence)} when the
+	 * file cannot be written.
+	 * @throws IOException if the temporary directory cannot be created
+	 */
+	@Test
+	public void testExportInvalidFile() throws IOException {
+		File dir = Files.createTempDirectory("export").toFile();
+		try {
+			new RecordExporter(RecordExporter.SYNC).export(dir.getPath(), "contents");
+			fail();
+		} catch (IOException e) {
+			assertTrue(dir.isDirectory());
+		} finally {
+			dir.delete();
+		}
+	}
+
+	/**
+	 * Reads a file as text in the default character set.
+	 * @param file the file
+	 * @return the contents of the file
+	 * @throws IOException if the file cannot be read
+	 */
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset());
+	}
+}
@@ -0,0 +1,287 @@
+package com.circa.mrv.grs_manager.io;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.catalog.NioxCatalog;
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+import com.circa.mrv.grs_manager.directory.CompanyDirectory;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.directory.UserDirectory;
+import com.circa.mrv.grs_manager.directory.VendorCompany;
+import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.location.ResearchSite;
+import com.circa.mrv.grs_manager.niox.Accessory;
+import com.circa.mrv.grs_manager.niox.Component;
+import com.circa.mrv.grs_manager.niox.Kit;
+import com.circa.mrv.grs_manager.niox.Product;
+import com.circa.mrv.grs_manager.user.Employee;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Tests SnapshotIO, SnapshotWriter and SnapshotReader
+ * @author Arthur Vargas
+ */
+public class SnapshotIOTest {
+	/** The filename for products */
+	private static final String allProducts = "test-files/product-record-test/all-products";
+	/** The filename for order records */
+	private static final String orderRecordFile = "test-files/order-record-test/order-records-least";
+	/** The filename for order record titles */
+	private static final String orderRecordTitles = "test-files/order-record-test/titles";
+	/** The filename for users */
+	private static final String userFile = "test-files/vendor_employees.txt";
+	/** The snapshot file */
+	private File snapshot;
+
+	/**
+	 * Creates the snapshot file.
+	 * @throws IOException if the file cannot be created
+	 */
+	@Before
+	public void setUp() throws IOException {
+		snapshot = File.createTempFile("grs", ".snapshot");
+	}
+
+	/**
+	 * Deletes the snapshot file.
+	 */
+	@After
+	public void tearDown() {
+		snapshot.delete();
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.SnapshotIO#writeSnapshot(java.lang.String, NioxCatalog, OrderRecord, CompanyDirectory, UserDirectory)}
+	 * and {@link com.circa.mrv.grs_manager.io.SnapshotIO#readSnapshot(java.lang.String, NioxCatalog, OrderRecord, CompanyDirectory, UserDirectory)}.
+	 * @throws IOException if the snapshot cannot be written or read
+	 */
+	@Test
+	public void testRoundTrip() throws IOException {
+		NioxCatalog catalog = new NioxCatalog();
+		catalog.loadProductsFromFile(allProducts);
+		Calendar installed = Calendar.getInstance();
+		installed.setTimeInMillis(1500000000000L);
+		Accessory accessory = new Accessory("NIOX", "test kit 100", "ACC-1", 250.5, 77, installed, installed,
+				"VERO", 100);
+		accessory.setInstall(installed);
+		catalog.addProductToCatalog(accessory);
+
+		OrderRecord orders = new OrderRecord();
+		orders.loadTitlesFromFile(orderRecordTitles);
+		orders.loadOrdersFromFile(orderRecordFile);
+		Order last = orders.getLastOrder();
+		last.setStatus(Order.getShipped());
+		last.setTrackingNum(123456789L);
+		last.setStatusDate(installed);
+		LinkedListRecursive<Component> cmps = new LinkedListRecursive<Component>();
+		cmps.add(new Component("NIOX", "battery", "12-1250", 10, "VERO", 5, null));
+		last.addProduct(new Kit("NIOX", "starter kit", "KIT-1", cmps), 1);
+
+		CompanyDirectory companies = new CompanyDirectory();
+		BillTo billTo = new BillTo("5151 McKrimmon Parkway", "Suite 260", "Morrisville", "NC", "27560", "USA");
+		Employee vendor = new Employee("gil", "collins", "gcollins", "gil.collins@circassia.com", "hash");
+		vendor.setMaxOrders(2);
+		billTo.addEmployee(vendor);
+		companies.addVendorCompany(new VendorCompany(billTo, "Circassia"));
+		ResearchSite site = new ResearchSite("1 Main St", "Bldg 2", "Durham", "NC", "27701", "USA", 2344, "Dr. Smith", 3);
+		site.addEmployee(new Employee("ann", "lee", "alee", "ann.lee@ert.com", "hash2"));
+		companies.addResearchCompany(new ResearchCompany(site, "ERT"));
+
+		UserDirectory users = new UserDirectory();
+		users.loadUsersFromFile(userFile);
+
+		long bytes = SnapshotIO.writeSnapshot(snapshot.getPath(), catalog, orders, companies, users);
+		assertEquals(snapshot.length(), bytes);
+
+		NioxCatalog catalog2 = new NioxCatalog();
+		OrderRecord orders2 = new OrderRecord();
+		CompanyDirectory companies2 = new CompanyDirectory();
+		UserDirectory users2 = new UserDirectory();
+		SnapshotIO.readSnapshot(snapshot.getPath(), catalog2, orders2, companies2, users2);
+
+		// catalog
+		assertEquals(catalog.allProducts(), catalog2.allProducts());
+		assertArrayEquals(catalog.getNioxCatalog(), catalog2.getNioxCatalog());
+		Product p = catalog2.getProductByPartNumber("ACC-1");
+		assertTrue(p instanceof Accessory);
+		assertEquals(100, ((Accessory) p).getSize());
+		assertEquals(77, ((Accessory) p).getSerial());
+		assertEquals(installed.getTimeInMillis(), ((Accessory) p).getInstall().getTimeInMillis());
+		assertEquals(250.5, p.getPrice(), 0);
+
+		// order record
+		assertArrayEquals(orders.getRecord(), orders2.getRecord());
+		assertEquals(orders.getFirst(), orders2.getFirst());
+		assertEquals(orders.getLast(), orders2.getLast());
+		assertEquals(orders.getProductTitles().size(), orders2.getProductTitles().size());
+		assertEquals(orders.getOrderRecordList().size(), orders2.getOrderRecordList().size());
+		assertArrayEquals(orders.getShortOrderInfo(), orders2.getShortOrderInfo());
+		assertArrayEquals(orders.getOpenOrderArray(), orders2.getOpenOrderArray());
+		assertEquals(orders.getOpenOrderCount(), orders2.getOpenOrderCount());
+		assertEquals(orders.getStudyList(), orders2.getStudyList());
+		assertEquals(orders.getSiteList(), orders2.getSiteList());
+		assertEquals(orders.getNextOrderNumber(), orders2.getNextOrderNumber());
+		for (String study : orders.getStudyList()) {
+			assertArrayEquals(orders.getTheseStudySites(study), orders2.getTheseStudySites(study));
+			for (Object s : orders.getTheseStudySites(study))
+				assertArrayEquals(orders.getThisResearchSite(study, (String) s),
+						orders2.getThisResearchSite(study, (String) s));
+		}
+		Order last2 = orders2.getOrderById(last.getNumber());
+		assertEquals(Order.getShipped(), last2.getStatus());
+		assertEquals(123456789L, last2.getTrackingNum());
+		assertEquals(installed.getTimeInMillis(), last2.getStatusDate().getTimeInMillis());
+		assertEquals(last.getProductCount(), last2.getProductCount());
+		assertArrayEquals(last.getProductDisplay(), last2.getProductDisplay());
+		p = last2.getProduct()[last2.getProductCount() - 1];
+		assertTrue(p instanceof Kit);
+		assertEquals("KIT-1", p.getPartNumber());
+		assertEquals(1, ((Kit) p).getCmps().size());
+		assertEquals("battery", ((Kit) p).getCmps().get(0).getDescription());
+
+		// company directory
+		assertArrayEquals(companies.getCompanyDirectory(), companies2.getCompanyDirectory());
+		Employee e = companies2.getEmployeeById("gcollins");
+		assertEquals("gil.collins@circassia.com", e.getEmail());
+		assertEquals(2, e.getMaxOrders());
+		assertNotNull(companies2.getEmployeeById("alee"));
+		ResearchSite site2 = (ResearchSite) companies2.getCompanyByName("ERT").getLocations().get(0);
+		assertEquals(2344, site2.getNum());
+		assertEquals("Dr. Smith", site2.getName());
+		assertEquals("Bldg 2", site2.getAddress2());
+		assertEquals(3, site2.getDevices());
+
+		// user directory
+		assertArrayEquals(users.getEmployeeDirectory(), users2.getEmployeeDirectory());
+		assertEquals(users.getUserById("ranwar").getPassword(), users2.getUserById("ranwar").getPassword());
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.SnapshotWriter#writeString(java.lang.String)} and
+	 * {@link com.circa.mrv.grs_manager.io.SnapshotReader#nextRecord()}.
+	 * @throws IOException if the snapshot cannot be written or read
+	 */
+	@Test
+	public void testRecords() throws IOException {
+		FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.WRITE);
+		SnapshotWriter out = new SnapshotWriter(channel);
+		out.beginRecord(SnapshotIO.USERS);
+		out.writeString("repeated");
+		out.writeString(null);
+		out.writeInt(-1);
+		out.writeLong(Long.MIN_VALUE);
+		out.endRecord();
+		out.beginRecord(SnapshotIO.USER);
+		out.writeString("repeated");
+		out.writeString("new");
+		out.endRecord();
+		try {
+			out.endRecord();
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("No record begun", iae.getMessage());
+		}
+		out.finish();
+		channel.close();
+		// header, two STRINGS records, two records and END
+		assertEquals(8 + (2 + 10) + (2 + 13) + (2 + 5) + (2 + 2) + 2, out.getBytesWritten());
+
+		channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.READ);
+		SnapshotReader in = new SnapshotReader(channel);
+		assertEquals(SnapshotIO.VERSION, in.getVersion());
+		// the first record is skipped without being read, but its Strings are still numbered
+		assertEquals(SnapshotIO.USERS, in.nextRecord());
+		in.expect(SnapshotIO.USER);
+		assertEquals("repeated", in.readString());
+		assertEquals("new", in.readString());
+		assertFalse(in.hasRemaining());
+		try {
+			in.readInt();
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Snapshot record is corrupt", iae.getMessage());
+		}
+		assertEquals(SnapshotIO.END, in.nextRecord());
+		assertEquals(SnapshotIO.END, in.nextRecord());
+		channel.close();
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.io.SnapshotIO#readSnapshot(java.lang.String, NioxCatalog, OrderRecord, CompanyDirectory, UserDirectory)}
+	 * with files that are not snapshots of a supported version.
+	 * @throws IOException if the file cannot be written or read
+	 */
+	@Test
+	public void testReadInvalid() throws IOException {
+		NioxCatalog catalog = new NioxCatalog();
+		catalog.loadProductsFromFile(allProducts);
+		int products = catalog.allProducts();
+		try {
+			SnapshotIO.readSnapshot("test-files/no-such-snapshot", catalog, new OrderRecord(),
+					new CompanyDirectory(), new UserDirectory());
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Unable to read file test-files/no-such-snapshot", iae.getMessage());
+		}
+
+		writeBytes(ByteBuffer.allocate(8).putInt(SnapshotIO.MAGIC).putInt(SnapshotIO.VERSION + 1));
+		try {
+			SnapshotIO.readSnapshot(snapshot.getPath(), catalog, new OrderRecord(), new CompanyDirectory(),
+					new UserDirectory());
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Unsupported snapshot version " + (SnapshotIO.VERSION + 1), iae.getMessage());
+		}
+
+		writeBytes(ByteBuffer.wrap("Not a snapshot".getBytes("US-ASCII")));
+		try {
+			SnapshotIO.readSnapshot(snapshot.getPath(), catalog, new OrderRecord(), new CompanyDirectory(),
+					new UserDirectory());
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Not a snapshot", iae.getMessage());
+		}
+
+		// a snapshot cut short in the catalog section leaves the catalog unchanged
+		NioxCatalog other = new NioxCatalog();
+		other.addProductToCatalog("NIOX", "device", "12-1200", 100);
+		SnapshotIO.writeSnapshot(snapshot.getPath(), other, new OrderRecord(), new CompanyDirectory(),
+				new UserDirectory());
+		FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.WRITE);
+		channel.truncate(snapshot.length() - 30);
+		channel.close();
+		try {
+			SnapshotIO.readSnapshot(snapshot.getPath(), catalog, new OrderRecord(), new CompanyDirectory(),
+					new UserDirectory());
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Snapshot is truncated", iae.getMessage());
+		}
+		assertEquals(products, catalog.allProducts());
+	}
+
+	/**
+	 * Replaces the snapshot file with the bytes.
+	 * @param bytes the bytes, ready to be put
+	 * @throws IOException if the file cannot be written
+	 */
+	private void writeBytes(ByteBuffer bytes) throws IOException {
+		bytes.flip();
+		FileChannel channel = FileChannel.open(snapshot.toPath(), StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		channel.write(bytes);
+		channel.close();
+	}
+}
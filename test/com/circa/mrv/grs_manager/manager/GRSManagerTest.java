@@ -5,8 +5,21 @@ package com.circa.mrv.grs_manager.manager;
 
 import static org.junit.Assert.*;
 
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.security.NoSuchAlgorithmException;
+
 import org.junit.Test;
 
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.user.Employee;
+
 /**
  * Tests GRSManager
  * @author Arthur Vargas
@@ -32,7 +45,7 @@ public class GRSManagerTest {
 		gm.getOrderRecord().loadTitlesFromFile(titles);
 		assertEquals(gm.getOrderRecord().getProductTitles().size(),22);
 		gm.getOrderRecord().loadOrdersFromFile(orders);
-		assertEquals(gm.getOrderRecord().getOrderRecordList().size(),541);
+		assertEquals(gm.getOrderRecord().getOrderRecordList().size(),552);
 		gm.getNioxCatalog().loadProductsFromFile(products);
 		assertEquals(gm.getNioxCatalog().getProductPartNumbers().length,22);
 		
@@ -40,6 +53,133 @@ public class GRSManagerTest {
 		
 	}
 
+	/**
+	 * Tests login() for an employee found through the company directory's employee index.
+	 * @throws NoSuchAlgorithmException if SHA-256 is not available
+	 */
+	@Test
+	public void testLoginEmployee() throws NoSuchAlgorithmException {
+		GRSManager gm = GRSManager.getInstance();
+		String hashPW = gm.getPasswordService().hash("secret");
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		gm.getCompanyDirectory().addResearchCompany(rc);
+		try {
+			assertTrue(gm.login("administrator", "admin"));
+			assertTrue(gm.addEmployeeToCompany(rc, new Employee("Sam", "Smith", "ssmith", "ssmith@ert.com", hashPW), 0));
+			gm.logout();
+
+			try {
+				gm.login("ssmith", "wrong");
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertNull(gm.getCurrentUser());
+			}
+			assertTrue(gm.login("ssmith", "secret"));
+			assertEquals(gm.getCurrentUser().getId(), "ssmith");
+			assertSame(gm.getCompany(), rc);
+			gm.logout();
+
+			// a password hashed by an earlier version is replaced after a successful login
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update("secret".getBytes());
+			Employee sam = gm.getCompanyDirectory().getEmployeeById("ssmith");
+			sam.setPassword(new String(digest.digest()));
+			assertTrue(gm.login("ssmith", "secret"));
+			assertTrue(sam.getPassword().startsWith("pbkdf2$"));
+			assertTrue(gm.getPasswordService().verify("secret", sam.getPassword()));
+			gm.logout();
+
+			assertTrue(gm.login("administrator", "admin"));
+			assertTrue(gm.removeEmployeeFromCompany(rc, gm.getCompanyDirectory().getEmployeeById("ssmith")));
+			assertFalse(gm.removeEmployeeFromCompany(rc, new Employee("Sam", "Smith", "ssmith", "ssmith@ert.com", hashPW)));
+			gm.logout();
+			try {
+				gm.login("ssmith", "secret");
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertNull(gm.getCurrentUser());
+			}
+
+			// an unknown id still has its password checked with the hasher
+			long misses = gm.getPasswordService().getCacheMisses();
+			try {
+				gm.login("nobody", "secret");
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals(e.getMessage(), "Could not log this user in.");
+			}
+			assertEquals(gm.getPasswordService().getCacheMisses(), misses + 1);
+		} finally {
+			gm.logout();
+			gm.getCompanyDirectory().removeCompany(Company.ert);
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.manager.GRSManager#openSession(String, String)}.
+	 * @throws Exception if a session cannot be opened
+	 */
+	@Test
+	public void testOpenSession() throws Exception {
+		final GRSManager gm = GRSManager.getInstance();
+		String hashPW = gm.getPasswordService().hash("secret");
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		for (int i = 0; i < 4; i++) {
+			rc.getBillTo().addEmployee("First", "Last", "user" + i, "user" + i + "@ert.com", hashPW);
+		}
+		gm.getCompanyDirectory().addResearchCompany(rc);
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		ArrayList<Future<Session>> futures = new ArrayList<Future<Session>>();
+		try {
+			// many users have sessions at once, without logging in the desktop user
+			for (int i = 0; i < 40; i++) {
+				final String id = "user" + i % 4;
+				futures.add(pool.submit(new Callable<Session>() {
+					@Override
+					public Session call() {
+						return gm.openSession(id, "secret");
+					}
+				}));
+			}
+			HashSet<String> tokens = new HashSet<String>();
+			for (int i = 0; i < futures.size(); i++) {
+				Session s = futures.get(i).get();
+				assertEquals(s.getUser().getId(), "user" + i % 4);
+				assertSame(s.getCompany(), rc);
+				assertSame(gm.getSession(s.getToken()), s);
+				tokens.add(s.getToken());
+			}
+			assertEquals(tokens.size(), 40);
+			assertNull(gm.getCurrentUser());
+
+			Session admin = gm.openSession("administrator", "admin");
+			assertNull(admin.getCompany());
+			assertTrue(gm.closeSession(admin.getToken()));
+			assertNull(gm.getSession(admin.getToken()));
+			try {
+				gm.openSession("user0", "wrong");
+				fail();
+			} catch (IllegalArgumentException e) {
+				assertEquals(e.getMessage(), "Could not log this user in.");
+			}
+
+			// removing an employee closes the employee's sessions
+			assertTrue(gm.login("administrator", "admin"));
+			assertTrue(gm.removeEmployeeFromCompany(rc, gm.getCompanyDirectory().getEmployeeById("user0")));
+			assertNull(gm.getSession(futures.get(0).get().getToken()));
+			assertNotNull(gm.getSession(futures.get(1).get().getToken()));
+		} finally {
+			pool.shutdown();
+			gm.logout();
+			gm.getCompanyDirectory().removeCompany(Company.ert);
+			for (Future<Session> f : futures) {
+				gm.closeSession(f.get().getToken());
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link com.circa.mrv.grs_manager.manager.GRSManager#logout()}.
 	 */
@@ -0,0 +1,94 @@
+package com.circa.mrv.grs_manager.manager;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.user.Employee;
+
+/**
+ * Tests SessionManager
+ * @author Arthur Vargas
+ */
+public class SessionManagerTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.manager.SessionManager#open(com.circa.mrv.grs_manager.user.User, Company)}.
+	 */
+	@Test
+	public void testOpen() {
+		SessionManager sm = new SessionManager(60000);
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		Employee sam = new Employee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+		Employee pat = new Employee("Pat", "Jones", "pjones", "pjones@ert.com", "pw");
+
+		Session first = sm.open(sam, rc);
+		Session second = sm.open(sam, rc);
+		Session third = sm.open(pat, rc);
+		assertEquals(sm.size(), 3);
+		assertNotEquals(first.getToken(), second.getToken());
+		assertEquals(first.getToken().length(), 43);
+		assertSame(sm.get(first.getToken()), first);
+		assertSame(first.getUser(), sam);
+		assertSame(first.getCompany(), rc);
+
+		// each session has its own state
+		first.setAttribute("study", 6155L);
+		assertEquals(first.getAttribute("study"), 6155L);
+		assertNull(second.getAttribute("study"));
+		first.setAttribute("study", null);
+		assertNull(first.getAttribute("study"));
+
+		assertTrue(sm.close(second.getToken()));
+		assertFalse(sm.close(second.getToken()));
+		assertNull(sm.get(second.getToken()));
+		assertNull(sm.get(null));
+		assertEquals(sm.closeAll(sam), 1);
+		assertSame(sm.get(third.getToken()), third);
+		assertEquals(sm.size(), 1);
+
+		try {
+			sm.open(null, rc);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid session");
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.manager.SessionManager#expireSessions()}.
+	 * @throws InterruptedException if the test is interrupted while waiting
+	 */
+	@Test
+	public void testExpireSessions() throws InterruptedException {
+		SessionManager sm = new SessionManager(20);
+		Employee sam = new Employee("Sam", "Smith", "ssmith", "ssmith@ert.com", "pw");
+		Session first = sm.open(sam, null);
+		Session second = sm.open(sam, null);
+		Thread.sleep(50);
+		assertNull(sm.get(first.getToken()));
+		assertEquals(sm.size(), 1);
+		assertEquals(sm.expireSessions(), 1);
+		assertEquals(sm.size(), 0);
+		assertNull(sm.get(second.getToken()));
+
+		// sessions that are never looked up again are closed by a later open()
+		first = sm.open(sam, null);
+		second = sm.open(sam, null);
+		assertEquals(sm.size(), 2);
+		Thread.sleep(50);
+		Session third = sm.open(sam, null);
+		assertEquals(sm.size(), 1);
+		assertSame(sm.get(third.getToken()), third);
+
+		try {
+			new SessionManager(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid timeout");
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.catalog.OrderRecord;
+
+/**
+ * Tests EventRecorder and FlightEvent
+ * @author Arthur Vargas
+ */
+public class EventRecorderTest {
+	/** The filename for order records */
+	private static final String orderRecordFile = "test-files/order-record-test/order-records-least";
+	/** The filename for order record titles */
+	private static final String orderRecordTitles = "test-files/order-record-test/titles";
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.EventRecorder#begin(java.lang.String, java.lang.String)}.
+	 */
+	@Test
+	public void testBegin() {
+		EventRecorder recorder = new EventRecorder(true);
+		assertTrue(recorder.getEvents().isEmpty());
+		FlightEvent event = recorder.begin(EventRecorder.ORDER_IMPORT, "parse");
+		assertEquals(-1, event.getDurationNanos());
+		event.setRows(10);
+		event.addRows(5);
+		event.setBytes(100);
+		event.addBytes(20);
+		event.setDetail("two files");
+		event.commit();
+		// committing again does not record the event twice
+		event.commit();
+
+		List<FlightEvent> events = recorder.getEvents();
+		assertEquals(1, events.size());
+		FlightEvent e = events.get(0);
+		assertEquals(EventRecorder.ORDER_IMPORT, e.getType());
+		assertEquals("parse", e.getPhase());
+		assertEquals(15, e.getRows());
+		assertEquals(120, e.getBytes());
+		assertEquals("two files", e.getDetail());
+		assertEquals(Thread.currentThread().getName(), e.getThread());
+		assertTrue(e.getDurationNanos() >= 0);
+		assertTrue(e.getStartMillis() > 0);
+		assertTrue(e.toString().startsWith(EventRecorder.ORDER_IMPORT + " parse rows=15 bytes=120"));
+
+		// a disabled recorder hands out an event that records nothing
+		recorder.setEnabled(false);
+		assertFalse(recorder.isEnabled());
+		event = recorder.begin(EventRecorder.LOGIN, "login");
+		assertSame(FlightEvent.DISABLED, event);
+		event.commit();
+		assertEquals(1, recorder.getEvents().size());
+
+		// only the most recent events are kept, oldest first
+		recorder.setEnabled(true);
+		recorder.clear();
+		for (int i = 0; i < EventRecorder.CAPACITY + 5; i++) {
+			event = recorder.begin(EventRecorder.ORDER_STATUS, "Processed");
+			event.setRows(i);
+			event.commit();
+		}
+		events = recorder.getEvents();
+		assertEquals(EventRecorder.CAPACITY, events.size());
+		assertEquals(5, events.get(0).getRows());
+		assertEquals(EventRecorder.CAPACITY + 4, events.get(EventRecorder.CAPACITY - 1).getRows());
+
+		recorder.clear();
+		assertTrue(recorder.getEvents().isEmpty());
+	}
+
+	/**
+	 * Tests that loading titles and order records records an event for each phase.
+	 */
+	@Test
+	public void testImportEvents() {
+		EventRecorder recorder = EventRecorder.getInstance();
+		recorder.clear();
+		OrderRecord or = new OrderRecord();
+		or.loadTitlesFromFile(orderRecordTitles);
+		or.loadOrdersFromFile(orderRecordFile);
+
+		// exports are off by default, so there are no export events
+		List<FlightEvent> events = recorder.getEvents();
+		String[] types = {EventRecorder.TITLE_IMPORT, EventRecorder.ORDER_IMPORT, EventRecorder.ORDER_IMPORT,
+				EventRecorder.ORDER_IMPORT, EventRecorder.ORDER_IMPORT};
+		String[] phases = {"read", "split", "parse", "add", "count"};
+		assertEquals(phases.length, events.size());
+		for (int i = 0; i < phases.length; i++) {
+			assertEquals(types[i], events.get(i).getType());
+			assertEquals(phases[i], events.get(i).getPhase());
+		}
+		long length = new File(orderRecordFile).length();
+		assertEquals(new File(orderRecordTitles).length(), events.get(0).getBytes());
+		assertTrue(events.get(0).getRows() > 0);
+		assertEquals(length, events.get(1).getBytes());
+		assertEquals(length, events.get(2).getBytes());
+		assertTrue(events.get(2).getRows() > 0);
+		assertTrue(events.get(3).getRows() > 0);
+		assertEquals(events.get(3).getRows(), events.get(4).getRows());
+		recorder.clear();
+	}
+
+	/**
+	 * Tests that events are written to a flight recording when the Java runtime has JFR.
+	 * @throws Exception if the recording cannot be made or read
+	 */
+	@Test
+	public void testFlightRecording() throws Exception {
+		EventRecorder recorder = new EventRecorder(true);
+		if (!recorder.isJfrAvailable())
+			return;
+		// the jdk.jfr API is not part of Java 8, so the recording is made through reflection
+		Class<?> recording = Class.forName("jdk.jfr.Recording");
+		Object r = recording.getConstructor().newInstance();
+		recording.getMethod("enable", String.class).invoke(r, EventRecorder.LOGIN);
+		recording.getMethod("start").invoke(r);
+		FlightEvent event = recorder.begin(EventRecorder.LOGIN, "session");
+		event.setRows(42);
+		event.setDetail("vendor");
+		event.commit();
+		recording.getMethod("stop").invoke(r);
+		Path file = Files.createTempFile("grs", ".jfr");
+		try {
+			recording.getMethod("dump", Path.class).invoke(r, file);
+			recording.getMethod("close").invoke(r);
+			List<?> recorded = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+					.getMethod("readAllEvents", Path.class).invoke(null, file);
+			Object found = null;
+			for (Object e : recorded) {
+				Object type = e.getClass().getMethod("getEventType").invoke(e);
+				if (EventRecorder.LOGIN.equals(type.getClass().getMethod("getName").invoke(type)))
+					found = e;
+			}
+			assertNotNull(found);
+			assertEquals(42L, found.getClass().getMethod("getLong", String.class).invoke(found, "rows"));
+			assertEquals("session", found.getClass().getMethod("getString", String.class).invoke(found, "phase"));
+			assertEquals("vendor", found.getClass().getMethod("getString", String.class).invoke(found, "detail"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+}
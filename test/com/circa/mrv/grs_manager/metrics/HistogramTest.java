@@ -0,0 +1,76 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests Histogram
+ * @author Arthur Vargas
+ */
+public class HistogramTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.Histogram#bucket(long)}.
+	 */
+	@Test
+	public void testBucket() {
+		// small values have a bucket each
+		for (int i = 0; i < 64; i++) {
+			assertEquals(i, Histogram.bucket(i));
+			assertEquals(i, Histogram.lowestValue(i));
+			assertEquals(i, Histogram.highestValue(i));
+		}
+		// every value falls between the lowest and highest value of its bucket
+		long[] values = {64, 65, 127, 128, 1000, 123456789, 1L << 40, Long.MAX_VALUE};
+		for (long v : values) {
+			int b = Histogram.bucket(v);
+			assertTrue(Histogram.lowestValue(b) <= v);
+			assertTrue(Histogram.highestValue(b) >= v);
+			// a bucket is no wider than about 3 percent of its values
+			assertTrue(Histogram.highestValue(b) - Histogram.lowestValue(b) <= Histogram.lowestValue(b) / 32);
+		}
+		// buckets follow each other without gaps
+		for (int b = 0; b < Histogram.bucket(Long.MAX_VALUE); b++) {
+			assertEquals(Histogram.highestValue(b) + 1, Histogram.lowestValue(b + 1));
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.Histogram#getValueAtPercentile(double)}.
+	 */
+	@Test
+	public void testGetValueAtPercentile() {
+		Histogram h = new Histogram();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getValueAtPercentile(50));
+		for (int i = 1; i <= 10000; i++) {
+			h.record(i * 1000L);
+		}
+		assertEquals(10000, h.getCount());
+		assertEquals(5000000, h.getValueAtPercentile(50), 5000000 * 0.03);
+		assertEquals(9900000, h.getValueAtPercentile(99), 9900000 * 0.03);
+		assertEquals(10000000, h.getValueAtPercentile(100), 10000000 * 0.03);
+		assertEquals(1000, h.getValueAtPercentile(0), 1000 * 0.03);
+
+		h.record(-5);
+		assertEquals(10001, h.getCount());
+		assertEquals(0, h.getValueAtPercentile(0));
+
+		try {
+			h.getValueAtPercentile(101);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid percentile", e.getMessage());
+		}
+		try {
+			h.getValueAtPercentile(Double.NaN);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid percentile", e.getMessage());
+		}
+
+		h.reset();
+		assertEquals(0, h.getCount());
+	}
+}
@@ -0,0 +1,139 @@
+package com.circa.mrv.grs_manager.metrics;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+/**
+ * Tests MetricsRegistry, Counter and Timer
+ * @author Arthur Vargas
+ */
+public class MetricsRegistryTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.MetricsRegistry#counter(java.lang.String)}.
+	 */
+	@Test
+	public void testCounter() {
+		MetricsRegistry registry = new MetricsRegistry(true);
+		Counter c = registry.counter("logins");
+		assertSame(c, registry.counter("logins"));
+		c.increment();
+		c.add(4);
+		assertEquals(5, c.getCount());
+
+		registry.setEnabled(false);
+		assertFalse(registry.isEnabled());
+		c.increment();
+		assertEquals(5, c.getCount());
+
+		c.reset();
+		assertEquals(0, c.getCount());
+
+		try {
+			registry.timer("logins");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Metric logins is not a timer", e.getMessage());
+		}
+		try {
+			registry.counter("");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid metric name", e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.MetricsRegistry#timer(java.lang.String)}.
+	 */
+	@Test
+	public void testTimer() {
+		MetricsRegistry registry = new MetricsRegistry(true);
+		Timer t = registry.timer("load");
+		assertSame(t, registry.timer("load"));
+		t.record(1000000);
+		t.record(3000000);
+		long start = t.start();
+		assertNotEquals(Timer.OFF, start);
+		t.stop(start);
+		assertEquals(3, t.getCount());
+		assertEquals(3.0, t.getMaxMillis(), 0.1);
+		assertTrue(t.getTotalMillis() >= 4.0);
+		assertTrue(t.getMeanMillis() >= 4.0 / 3);
+		assertEquals(1.0, t.get50thPercentileMillis(), 0.05);
+		assertEquals(3.0, t.get99thPercentileMillis(), 0.1);
+
+		// a disabled timer does not read the clock or record
+		registry.setEnabled(false);
+		assertEquals(Timer.OFF, t.start());
+		t.stop(Timer.OFF);
+		t.record(5000000);
+		assertEquals(3, t.getCount());
+
+		// a call started while enabled is not recorded if the registry is disabled before it stops
+		registry.setEnabled(true);
+		start = t.start();
+		registry.setEnabled(false);
+		t.stop(start);
+		assertEquals(3, t.getCount());
+
+		registry.reset();
+		assertEquals(0, t.getCount());
+		assertEquals(0, t.getMaxMillis(), 0);
+		assertEquals(0, t.getHistogram().getCount());
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.MetricsRegistry#dump()}.
+	 */
+	@Test
+	public void testDump() {
+		MetricsRegistry registry = new MetricsRegistry(true);
+		assertEquals("", registry.dump());
+		registry.timer("orders.load").record(2000000);
+		registry.counter("login.failure").increment();
+		String[] lines = registry.dump().split(System.lineSeparator());
+		assertEquals(2, lines.length);
+		assertEquals("login.failure count=1", lines[0]);
+		assertTrue(lines[1].startsWith("orders.load count=1 mean="));
+		assertEquals(2, registry.getMetrics().size());
+		assertEquals("login.failure", registry.getMetrics().get(0).getName());
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.metrics.MetricsRegistry#registerMBeans()}.
+	 * @throws Exception if the MBeans cannot be read
+	 */
+	@Test
+	public void testRegisterMBeans() throws Exception {
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		MetricsRegistry registry = new MetricsRegistry(true);
+		Counter before = registry.counter("test.before");
+		before.add(7);
+		registry.registerMBeans();
+		try {
+			ObjectName name = MetricsRegistry.objectName(before);
+			assertTrue(mbs.isRegistered(name));
+			assertEquals(7L, mbs.getAttribute(name, "Count"));
+
+			// metrics created after the registry is registered are registered too
+			Timer after = registry.timer("test.after");
+			after.record(1000000);
+			assertEquals(1L, mbs.getAttribute(MetricsRegistry.objectName(after), "Count"));
+
+			ObjectName registryName = new ObjectName(MetricsRegistry.DOMAIN + ":type=MetricsRegistry");
+			assertEquals(Boolean.TRUE, mbs.getAttribute(registryName, "Enabled"));
+			mbs.invoke(registryName, "reset", null, null);
+			assertEquals(0, before.getCount());
+		} finally {
+			registry.unregisterMBeans();
+		}
+		assertFalse(mbs.isRegistered(MetricsRegistry.objectName(before)));
+	}
+}
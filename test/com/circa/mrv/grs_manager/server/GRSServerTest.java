@@ -0,0 +1,221 @@
+package com.circa.mrv.grs_manager.server;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.circa.mrv.grs_manager.directory.Company;
+import com.circa.mrv.grs_manager.directory.ResearchCompany;
+import com.circa.mrv.grs_manager.directory.VendorCompany;
+import com.circa.mrv.grs_manager.document.Order;
+import com.circa.mrv.grs_manager.location.BillTo;
+import com.circa.mrv.grs_manager.manager.GRSManager;
+import com.circa.mrv.grs_manager.util.LinkedListRecursive;
+
+/**
+ * Tests GRSServer
+ * @author Arthur Vargas
+ */
+public class GRSServerTest {
+	/** filename for product records */
+	private final String products = "test-files/grs-manager-test/products";
+	/** The name of a research company that does not place the orders in the test */
+	private static final String OTHER = "Durham Research";
+	/** The server under test */
+	private GRSServer server;
+	/** The HTTP status of the last response */
+	private int code;
+
+	/**
+	 * Tests logging in, looking up products, submitting an order, listing open orders and changing an order's status.
+	 * @throws IOException if a request fails
+	 */
+	@Test
+	public void testOrders() throws IOException {
+		GRSManager gm = GRSManager.getInstance();
+		String hashPW = gm.getPasswordService().hash("secret");
+		ResearchCompany rc = new ResearchCompany(Company.ert, "1818 Market St", "Suite 1000", "Philadelphia", "PA",
+				"19103", "USA");
+		rc.getBillTo().addEmployee("Sam", "Smith", "ssmith", "ssmith@ert.com", hashPW);
+		VendorCompany vc = new VendorCompany(new BillTo("1 Main St", "Raleigh", "NC", "27601", "USA"), Company.cir);
+		vc.getBillTo().addEmployee("Pat", "Jones", "pjones", "pjones@circassia.com", hashPW);
+		ResearchCompany other = new ResearchCompany(OTHER, "2 Main St", "", "Durham", "NC", "27701", "USA");
+		other.getBillTo().addEmployee("Lee", "Doe", "ldoe", "ldoe@other.com", hashPW);
+		gm.getCompanyDirectory().addResearchCompany(rc);
+		gm.getCompanyDirectory().addResearchCompany(other);
+		gm.getCompanyDirectory().addVendorCompany(vc);
+		gm.getNioxCatalog().loadProductsFromFile(products);
+		server = new GRSServer(gm, new InetSocketAddress("127.0.0.1", 0), 2);
+		server.start();
+		String research = null;
+		String vendor = null;
+		String outsider = null;
+		try {
+			request("POST", "/api/login", null, "{\"id\":\"ssmith\",\"password\":\"wrong\"}");
+			assertEquals(code, 401);
+			Map<String, Object> login = request("POST", "/api/login", null,
+					"{\"id\":\"ssmith\",\"password\":\"secret\"}");
+			assertEquals(code, 201);
+			assertEquals(login.get("company"), Company.ert);
+			research = (String) login.get("token");
+			vendor = (String) request("POST", "/api/login", null, "{\"id\":\"pjones\",\"password\":\"secret\"}")
+					.get("token");
+			outsider = (String) request("POST", "/api/login", null, "{\"id\":\"ldoe\",\"password\":\"secret\"}")
+					.get("token");
+
+			// catalog
+			request("GET", "/api/catalog?q=vero", null, null);
+			assertEquals(code, 401);
+			Map<String, Object> product = request("GET", "/api/catalog/12-1200", research, null);
+			assertEquals(code, 200);
+			assertEquals(product.get("description"), "device");
+			assertEquals(product.get("price"), 1600.0);
+			request("GET", "/api/catalog/00-0000", research, null);
+			assertEquals(code, 404);
+			List<?> found = (List<?>) request("GET", "/api/catalog?q=test%20kit&limit=5", research, null)
+					.get("products");
+			assertFalse(found.isEmpty());
+			assertTrue(found.size() <= 5);
+			request("GET", "/api/catalog?limit=0", research, null);
+			assertEquals(code, 400);
+
+			// submitting an order
+			String order = "{\"study\":\"6155\",\"site\":\"1001\",\"po\":\"PO-1\",\"delivery\":\"2026-11-02\","
+					+ "\"siteName\":\"Duke\",\"street\":\"40 Duke Medicine Cir\",\"city\":\"Durham\",\"state\":\"NC\","
+					+ "\"zip\":\"27710\",\"products\":[{\"partNumber\":\"12-1200\",\"quantity\":2},"
+					+ "{\"partNumber\":\"12-1806-US\"}]}";
+			int orders = gm.getOrderRecord().getOrderRecordList().size();
+			request("POST", "/api/orders", vendor, order);
+			assertEquals(code, 403);
+			request("POST", "/api/orders", research, "{\"study\":\"6155\",\"site\":\"1001\","
+					+ "\"products\":[{\"partNumber\":\"00-0000\"}]}");
+			assertEquals(code, 400);
+			StringBuilder lines = new StringBuilder("{\"study\":\"6155\",\"site\":\"1001\",\"products\":[");
+			for (int i = 0; i < 101; i++)
+				lines.append(i == 0 ? "" : ",").append("{\"partNumber\":\"12-1200\"}");
+			request("POST", "/api/orders", research, lines.append("]}").toString());
+			assertEquals(code, 400);
+			request("POST", "/api/orders", research, "{\"study\":\"6155\",\"site\":\"1001\",\"products\":["
+					+ "{\"partNumber\":\"12-1200\",\"quantity\":1000},{\"partNumber\":\"12-1200\"}]}");
+			assertEquals(code, 400);
+			request("POST", "/api/orders", research, "{\"study\":\"6155\",\"site\":\"1001\",\"products\":["
+					+ "{\"partNumber\":\"12-1200\",\"quantity\":5000000}]}");
+			assertEquals(code, 400);
+			request("POST", "/api/orders", research, "{\"study\":\"6155\",\"site\":\"1001\",\"products\":["
+					+ "{\"partNumber\":\"12-1200\",\"quantity\":0}]}");
+			assertEquals(code, 400);
+			assertEquals(gm.getOrderRecord().getOrderRecordList().size(), orders);
+			Map<String, Object> created = request("POST", "/api/orders", research, order);
+			assertEquals(created.get("status"), Order.getOpen());
+			assertEquals(created.get("userId"), "ssmith");
+			assertEquals(created.get("city"), "Durham");
+			assertEquals(created.get("delivery"), "2026-11-02");
+			assertEquals(created.get("amount"), 4010.0);
+			assertEquals(((List<?>) created.get("products")).size(), 3);
+			long number = (Long) created.get("number");
+			assertNotNull(gm.getOrderRecord().getOrderById(number));
+			request("GET", "/api/orders", research, null);
+			assertEquals(code, 405);
+
+			// a research company employee only sees the orders of their own company's studies
+			assertEquals(request("GET", "/api/orders/" + number, research, null).get("number"), number);
+			request("GET", "/api/orders/" + number, outsider, null);
+			assertEquals(code, 404);
+			request("GET", "/api/orders/" + (number + 1), outsider, null);
+			assertEquals(code, 404);
+			request("POST", "/api/orders/" + number + "/status", outsider,
+					"{\"status\":\"" + Order.getShipped() + "\"}");
+			assertEquals(code, 404);
+
+			// listing open orders
+			List<?> open = (List<?>) request("GET", "/api/orders/open", research, null).get("orders");
+			assertEquals(open.size(), 1);
+			assertEquals(((Map<?, ?>) open.get(0)).get("number"), number);
+			open = (List<?>) request("GET", "/api/orders/open?study=6155", vendor, null).get("orders");
+			assertFalse(open.isEmpty());
+
+			// changing the status
+			String shipped = "{\"status\":\"" + Order.getShipped() + "\"}";
+			request("POST", "/api/orders/" + number + "/status", research, shipped);
+			assertEquals(code, 403);
+			request("POST", "/api/orders/" + number + "/status", vendor, "{\"status\":\"lost\"}");
+			assertEquals(code, 400);
+			assertEquals(request("POST", "/api/orders/" + number + "/status", vendor, shipped).get("status"),
+					Order.getShipped());
+			assertEquals(request("GET", "/api/orders/" + number, vendor, null).get("status"), Order.getShipped());
+			assertTrue(((List<?>) request("GET", "/api/orders/open", research, null).get("orders")).isEmpty());
+			request("POST", "/api/orders/-1/status", vendor, shipped);
+			assertEquals(code, 404);
+
+			assertEquals(request("POST", "/api/logout", research, "{}").get("closed"), Boolean.TRUE);
+			request("GET", "/api/orders/open", research, null);
+			assertEquals(code, 401);
+			request("POST", "/api/orders", vendor, "[");
+			assertEquals(code, 400);
+			StringBuilder deep = new StringBuilder();
+			for (int i = 0; i < 200000; i++)
+				deep.append('[');
+			request("POST", "/api/login", null, deep.toString());
+			assertEquals(code, 400);
+		} finally {
+			server.stop(0);
+			gm.closeSession(research);
+			gm.closeSession(vendor);
+			gm.closeSession(outsider);
+			gm.getCompanyDirectory().removeCompany(Company.ert);
+			gm.getCompanyDirectory().removeCompany(OTHER);
+			gm.getCompanyDirectory().removeCompany(Company.cir);
+			gm.getNioxCatalog().newNioxCatalog();
+			gm.getOrderRecord().setOrderRecordList(new LinkedListRecursive<Order>(true));
+		}
+	}
+
+	/**
+	 * Sends a request to the server and records the HTTP status of the response.
+	 * @param method the request method
+	 * @param path the request path
+	 * @param token the session token, or null
+	 * @param body the request body, or null
+	 * @return the response
+	 * @throws IOException if the request fails
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> request(String method, String path, String token, String body) throws IOException {
+		HttpURLConnection c = (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path)
+				.openConnection();
+		c.setRequestMethod(method);
+		if (token != null)
+			c.setRequestProperty("Authorization", "Bearer " + token);
+		if (body != null) {
+			c.setDoOutput(true);
+			OutputStream out = c.getOutputStream();
+			out.write(body.getBytes(StandardCharsets.UTF_8));
+			out.close();
+		}
+		code = c.getResponseCode();
+		InputStream in = code < 400 ? c.getInputStream() : c.getErrorStream();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int n;
+		while ((n = in.read(buffer)) != -1) {
+			bytes.write(buffer, 0, n);
+		}
+		in.close();
+		Map<String, Object> response = (Map<String, Object>) Json.parse(new String(bytes.toByteArray(),
+				StandardCharsets.UTF_8));
+		if (code >= 400)
+			assertNotNull(response.get("error"));
+		return response;
+	}
+}
@@ -0,0 +1,95 @@
+package com.circa.mrv.grs_manager.server;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests Json
+ * @author Arthur Vargas
+ */
+public class JsonTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.server.Json#parse(java.lang.String)}.
+	 */
+	@Test
+	public void testParse() {
+		Object value = Json.parse(" {\"study\": \"6155\", \"site\":\"1001\", \"products\": [{\"partNumber\":\"12-1200\","
+				+ "\"quantity\":2}, {\"partNumber\":\"12-1806-US\"}], \"price\": 1600.5, \"rush\": true, \"po\": null,"
+				+ "\"note\": \"line\\none \\\"quoted\\\" \\u00e9\"} ");
+		assertTrue(value instanceof Map);
+		Map<?, ?> order = (Map<?, ?>) value;
+		assertEquals(order.get("study"), "6155");
+		assertEquals(order.get("price"), 1600.5);
+		assertEquals(order.get("rush"), Boolean.TRUE);
+		assertTrue(order.containsKey("po"));
+		assertNull(order.get("po"));
+		assertEquals(order.get("note"), "line\none \"quoted\" \u00e9");
+		List<?> products = (List<?>) order.get("products");
+		assertEquals(products.size(), 2);
+		assertEquals(((Map<?, ?>) products.get(0)).get("quantity"), 2L);
+		assertEquals(Json.parse("[]"), new ArrayList<Object>());
+		assertEquals(Json.parse("-12"), -12L);
+
+		String[] invalid = {null, "", "{", "{\"a\" 1}", "[1,]", "tru", "\"open", "{} {}", "{a:1}"};
+		for (String s : invalid) {
+			try {
+				Json.parse(s);
+				fail(s);
+			} catch (IllegalArgumentException e) {
+				assertTrue(e.getMessage().startsWith("Invalid JSON"));
+			}
+		}
+
+		// nesting up to the limit is read, deeper nesting is rejected before the stack runs out
+		StringBuilder nested = new StringBuilder();
+		for (int i = 0; i < Json.MAX_DEPTH; i++)
+			nested.append("[");
+		for (int i = 0; i < Json.MAX_DEPTH; i++)
+			nested.append("]");
+		assertTrue(Json.parse(nested.toString()) instanceof List);
+		StringBuilder deep = new StringBuilder();
+		for (int i = 0; i < 200000; i++)
+			deep.append('[');
+		try {
+			Json.parse(deep.toString());
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("JSON nested too deeply at position " + Json.MAX_DEPTH, e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.server.Json#write(java.lang.Object)}.
+	 */
+	@Test
+	public void testWrite() {
+		Map<String, Object> order = new LinkedHashMap<String, Object>();
+		order.put("number", 12L);
+		order.put("siteName", "St. Mary's \"North\"\n");
+		order.put("amount", Double.NaN);
+		order.put("userId", null);
+		List<Object> products = new ArrayList<Object>();
+		products.add("12-1200");
+		products.add(Boolean.FALSE);
+		order.put("products", products);
+		String json = Json.write(order);
+		assertEquals(json, "{\"number\":12,\"siteName\":\"St. Mary's \\\"North\\\"\\n\",\"amount\":null,"
+				+ "\"userId\":null,\"products\":[\"12-1200\",false]}");
+		order.put("amount", null);
+		assertEquals(Json.parse(json), order);
+
+		try {
+			Json.write(new Object());
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Cannot write Object as JSON");
+		}
+	}
+}
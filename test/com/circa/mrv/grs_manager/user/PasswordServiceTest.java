@@ -0,0 +1,81 @@
+package com.circa.mrv.grs_manager.user;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests PasswordService
+ * @author Arthur Vargas
+ */
+public class PasswordServiceTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.user.PasswordService#verify(String, String)}.
+	 */
+	@Test
+	public void testVerify() {
+		PasswordService service = new PasswordService(new Pbkdf2PasswordHasher(1000), 2, 60000);
+		String sam = service.hash("secret");
+		String pat = service.hash("other");
+		String lee = service.hash("third");
+
+		assertTrue(service.verify("secret", sam));
+		assertEquals(service.getCacheMisses(), 1);
+		assertTrue(service.verify("secret", sam));
+		assertEquals(service.getCacheHits(), 1);
+
+		// a wrong password is never answered from the cache, and failures are not cached
+		assertFalse(service.verify("Secret", sam));
+		assertFalse(service.verify("Secret", sam));
+		assertEquals(service.getCacheHits(), 1);
+		assertEquals(service.getCacheMisses(), 3);
+
+		// the cache keeps the two most recently used hashes
+		assertTrue(service.verify("other", pat));
+		assertTrue(service.verify("third", lee));
+		assertTrue(service.verify("secret", sam));
+		assertEquals(service.getCacheHits(), 1);
+		assertTrue(service.verify("third", lee));
+		assertEquals(service.getCacheHits(), 2);
+
+		service.invalidate(lee);
+		assertTrue(service.verify("third", lee));
+		assertEquals(service.getCacheHits(), 2);
+		assertFalse(service.verify(null, lee));
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.user.PasswordService#verify(String, String)} when a
+	 * successful check has expired or the cache is off.
+	 * @throws InterruptedException if the test is interrupted while waiting
+	 */
+	@Test
+	public void testVerifyExpired() throws InterruptedException {
+		PasswordService service = new PasswordService(new Pbkdf2PasswordHasher(1000), 10, 1);
+		String hash = service.hash("secret");
+		assertTrue(service.verify("secret", hash));
+		Thread.sleep(5);
+		assertTrue(service.verify("secret", hash));
+		assertEquals(service.getCacheHits(), 0);
+		assertEquals(service.getCacheMisses(), 2);
+
+		service = new PasswordService(new Pbkdf2PasswordHasher(1000), 0, 60000);
+		assertTrue(service.verify("secret", hash));
+		assertTrue(service.verify("secret", hash));
+		assertEquals(service.getCacheHits(), 0);
+
+		try {
+			new PasswordService(null, 10, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Hasher is null");
+		}
+		try {
+			new PasswordService(new Pbkdf2PasswordHasher(1000), -1, 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid cache size");
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.circa.mrv.grs_manager.user;
+
+import static org.junit.Assert.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.junit.Test;
+
+/**
+ * Tests Pbkdf2PasswordHasher
+ * @author Arthur Vargas
+ */
+public class Pbkdf2PasswordHasherTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.user.Pbkdf2PasswordHasher#hash(String)}.
+	 */
+	@Test
+	public void testHash() {
+		Pbkdf2PasswordHasher hasher = new Pbkdf2PasswordHasher(1000);
+		assertEquals(hasher.getIterations(), 1000);
+		String first = hasher.hash("secret");
+		String second = hasher.hash("secret");
+		assertTrue(first.startsWith("pbkdf2$1000$"));
+		// every hash has its own salt
+		assertNotEquals(first, second);
+		assertTrue(hasher.verify("secret", first));
+		assertTrue(hasher.verify("secret", second));
+		assertFalse(hasher.verify("Secret", first));
+		assertFalse(hasher.verify(null, first));
+		assertFalse(hasher.verify("secret", null));
+		assertFalse(hasher.verify("secret", "pbkdf2$1000$!!$!!"));
+
+		try {
+			hasher.hash("");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid password");
+		}
+		try {
+			new Pbkdf2PasswordHasher(0);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(e.getMessage(), "Invalid iterations");
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.user.Pbkdf2PasswordHasher#needsRehash(String)}.
+	 * @throws NoSuchAlgorithmException if SHA-256 is not available
+	 */
+	@Test
+	public void testNeedsRehash() throws NoSuchAlgorithmException {
+		Pbkdf2PasswordHasher weak = new Pbkdf2PasswordHasher(500);
+		Pbkdf2PasswordHasher strong = new Pbkdf2PasswordHasher(1000);
+		String hash = weak.hash("secret");
+		// a hash keeps its own iteration count
+		assertTrue(strong.verify("secret", hash));
+		assertTrue(strong.needsRehash(hash));
+		assertFalse(weak.needsRehash(hash));
+		assertFalse(weak.needsRehash(strong.hash("secret")));
+
+		// hashes from earlier versions are accepted and replaced
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update("secret".getBytes());
+		String legacy = new String(digest.digest());
+		assertTrue(strong.verify("secret", legacy));
+		assertFalse(strong.verify("other", legacy));
+		assertTrue(strong.needsRehash(legacy));
+	}
+}
@@ -61,4 +61,29 @@ public class ArrayListTest {
 		fail("Not yet implemented");
 	}
 
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.ArrayList#ArrayList(boolean)}.
+	 */
+	@Test
+	public void testArrayListIndexed() {
+		ArrayList<String> list = new ArrayList<String>(true);
+		list.add("apple");
+		list.add("banana");
+		list.add(0, "cherry");
+		assertTrue(list.contains("apple"));
+		try {
+			list.add("banana");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(3, list.size());
+		}
+		assertEquals("banana", list.set(2, "date"));
+		assertFalse(list.contains("banana"));
+		list.add("banana");
+		assertEquals("cherry", list.remove(0));
+		assertFalse(list.contains("cherry"));
+		list.add("cherry");
+		assertEquals(4, list.size());
+	}
+
 }
@@ -77,4 +77,31 @@ public class LinkedAbstractListTest {
 		fail("Not yet implemented");
 	}
 
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.LinkedAbstractList#LinkedAbstractList(int, boolean)}.
+	 */
+	@Test
+	public void testLinkedAbstractListIndexed() {
+		LinkedAbstractList<String> list = new LinkedAbstractList<String>(10, true);
+		list.add("apple");
+		list.add("banana");
+		list.add(2, "cherry");
+		assertEquals("cherry", list.get(2));
+		assertTrue(list.contains("apple"));
+		try {
+			list.add("banana");
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals(3, list.size());
+		}
+		assertEquals("apple", list.set(0, "date"));
+		assertFalse(list.contains("apple"));
+		list.add("apple");
+		assertEquals("cherry", list.remove(2));
+		assertFalse(list.contains("cherry"));
+		list.add("cherry");
+		assertEquals(4, list.size());
+		assertEquals("cherry", list.get(3));
+	}
+
 }
@@ -187,4 +187,85 @@ public class LinkedListRecursiveTest {
 		fail("Not yet implemented");
 	}
 
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.LinkedListRecursive#iterator()}.
+	 */
+	@Test
+	public void testIterator() {
+		LinkedListRecursive<String> sList = new LinkedListRecursive<String>();
+		sList.add(site);
+		sList.add(site1);
+		sList.add(site2);
+		java.util.Iterator<String> it = sList.iterator();
+		assertEquals(site, it.next());
+		assertEquals(site1, it.next());
+		it.remove();
+		assertEquals(site2, it.next());
+		assertFalse(it.hasNext());
+		it.remove();
+		assertEquals(1, sList.size());
+		assertEquals(site, sList.get(0));
+		// the back of the list must move when the last element is removed
+		sList.add(site1);
+		assertEquals(site1, sList.get(1));
+		try {
+			it.remove();
+			fail();
+		} catch (IllegalStateException ise) {
+			// success
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.LinkedListRecursive#LinkedListRecursive(boolean)}.
+	 */
+	@Test
+	public void testLinkedListRecursiveIndexed() {
+		LinkedListRecursive<String> sList = new LinkedListRecursive<String>(true);
+		assertTrue(sList.isIndexed());
+		sList.add(po);
+		sList.add(po1);
+		sList.add(0, po2);
+		assertTrue(sList.contains(po));
+		try {
+			sList.add(po1);
+			fail();
+		} catch (IllegalArgumentException iae) {
+			assertEquals(3, sList.size());
+		}
+		assertEquals(po2, sList.set(0, study));
+		assertFalse(sList.contains(po2));
+		assertTrue(sList.remove(po));
+		assertFalse(sList.remove(po));
+		assertFalse(sList.contains(po));
+		assertEquals(po1, sList.remove(1));
+		sList.add(po1);
+		sList.add(po);
+		assertEquals(3, sList.size());
+		assertEquals(po, sList.get(2));
+	}
+
+	/**
+	 * Tests that a large list can be built and traversed without running out of stack
+	 */
+	@Test
+	public void testLargeList() {
+		LinkedListRecursive<Integer> iList = new LinkedListRecursive<Integer>();
+		for (int i = 0; i < 20000; i++) {
+			iList.add(i);
+		}
+		assertEquals(20000, iList.size());
+		assertEquals(Integer.valueOf(19999), iList.get(19999));
+		assertTrue(iList.contains(19999));
+		assertEquals(Integer.valueOf(19999), iList.remove(19999));
+		iList.add(20000);
+		assertEquals(Integer.valueOf(20000), iList.get(19999));
+		int count = 0;
+		for (Integer i : iList) {
+			assertEquals(count == 19999 ? 20000 : count, i.intValue());
+			count++;
+		}
+		assertEquals(20000, count);
+	}
+
 }
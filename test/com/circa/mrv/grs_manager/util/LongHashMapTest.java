@@ -0,0 +1,57 @@
+package com.circa.mrv.grs_manager.util;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Tests LongHashMap
+ * @author Arthur Vargas
+ */
+public class LongHashMapTest {
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.LongHashMap#put(long, Object)}.
+	 */
+	@Test
+	public void testPut() {
+		LongHashMap<String> map = new LongHashMap<String>();
+		assertTrue(map.isEmpty());
+		assertNull(map.put(1800456L, "a"));
+		assertNull(map.put(-3L, "b"));
+		assertEquals("a", map.put(1800456L, "c"));
+		assertEquals(2, map.size());
+		assertEquals("c", map.get(1800456L));
+		assertEquals("b", map.get(-3L));
+		assertNull(map.get(5L));
+		try {
+			map.put(7L, null);
+			fail();
+		} catch (NullPointerException npe) {
+			assertEquals(2, map.size());
+		}
+	}
+
+	/**
+	 * Test method for {@link com.circa.mrv.grs_manager.util.LongHashMap#remove(long)}.
+	 */
+	@Test
+	public void testRemove() {
+		LongHashMap<Long> map = new LongHashMap<Long>();
+		for (long i = 0; i < 10000; i++) {
+			map.put(i * 64, i);
+		}
+		assertEquals(10000, map.size());
+		for (long i = 0; i < 10000; i += 2) {
+			assertEquals(Long.valueOf(i), map.remove(i * 64));
+		}
+		assertNull(map.remove(0));
+		assertEquals(5000, map.size());
+		for (long i = 0; i < 10000; i++) {
+			assertEquals(i % 2 == 1, map.containsKey(i * 64));
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertFalse(map.containsKey(64));
+	}
+}